@@ -0,0 +1,217 @@
+package io.github.rigsto.emailvalidator.virtual;
+
+import io.github.rigsto.emailvalidator.result.ValidationResult;
+import io.github.rigsto.emailvalidator.result.reason.UnableToGetDNSRecord;
+import io.github.rigsto.emailvalidator.validation.BulkDNSCheckValidation;
+import io.github.rigsto.emailvalidator.validation.DNSCheckValidation;
+import io.github.rigsto.emailvalidator.validation.DNSGetRecordWrapper;
+import io.github.rigsto.emailvalidator.validation.DNSRecords;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Checks the domains of large batches of email addresses with one virtual
+ * thread per distinct domain.
+ * <p>
+ * The lookups of {@link DNSGetRecordWrapper} block on JNDI calls. On the
+ * platform threads of {@link BulkDNSCheckValidation} or
+ * {@code AsyncDNSCheckValidation}, the number of threads caps the number of
+ * lookups in flight; on virtual threads, a blocked lookup only parks its
+ * thread, so every distinct domain of a batch gets its own thread and a
+ * {@link Semaphore} bounds the number of queries sent at the same time
+ * instead.
+ * </p>
+ * <p>
+ * Batches go through a {@link BulkDNSCheckValidation}: the domains are
+ * deduplicated before any thread starts, so the number of threads depends
+ * on the number of distinct domains, not on the number of addresses, and
+ * parent domains shared by several of them are looked up once per batch.
+ * Each query is bounded by a timeout, after which it counts as failed and
+ * the addresses of its domain are rejected with {@link UnableToGetDNSRecord}.
+ * A query that timed out keeps its permit until the wrapper returns, so that
+ * unresponsive servers cannot pile up queries beyond the limit; create the
+ * wrapper with {@link DNSGetRecordWrapper#DNSGetRecordWrapper(Duration, int)}
+ * so that it gives up too.
+ * </p>
+ * <p>
+ * Nothing on the path of a lookup holds a monitor while blocking, so the
+ * virtual threads never pin their carrier threads. Each address gets the
+ * same outcome as with {@link DNSCheckValidation}. Instances are
+ * thread-safe, and the limit on queries is shared by all the batches
+ * validated at the same time.
+ * </p>
+ *
+ * <pre>{@code
+ * VirtualThreadDNSCheckValidation dns = new VirtualThreadDNSCheckValidation(
+ *         new DNSGetRecordWrapper(Duration.ofSeconds(2), 1), 512, Duration.ofSeconds(5));
+ * List<ValidationResult> results = dns.validate(addresses);
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class VirtualThreadDNSCheckValidation {
+
+    /**
+     * Default maximum number of queries sent at the same time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_LOOKUPS = 256;
+
+    /**
+     * Default timeout of a single query.
+     */
+    public static final Duration DEFAULT_LOOKUP_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Outcome of a query that failed or timed out.
+     */
+    private static final DNSRecords FAILED = new DNSRecords(List.of(), true);
+
+    /**
+     * The wrapper performing the lookups.
+     */
+    private final DNSGetRecordWrapper wrapper;
+
+    /**
+     * Permits of the queries, one per query in flight.
+     */
+    private final Semaphore permits;
+
+    private final long lookupTimeoutNanos;
+
+    /**
+     * Creates the virtual threads of the domains and of the queries.
+     */
+    private final ThreadFactory threads = Thread.ofVirtual().name("email-validator-dns-", 0).factory();
+
+    /**
+     * Checks the batches, one virtual thread per distinct domain.
+     */
+    private final BulkDNSCheckValidation bulk;
+
+    /**
+     * Creates a virtual-thread DNS validation with the default limits.
+     *
+     * @param wrapper the wrapper performing the lookups
+     * @throws NullPointerException if the wrapper is null
+     */
+    public VirtualThreadDNSCheckValidation(DNSGetRecordWrapper wrapper) {
+        this(wrapper, DEFAULT_MAX_CONCURRENT_LOOKUPS, DEFAULT_LOOKUP_TIMEOUT);
+    }
+
+    /**
+     * Creates a virtual-thread DNS validation.
+     *
+     * @param wrapper the wrapper performing the lookups
+     * @param maxConcurrentLookups the maximum number of queries sent at the same time
+     * @param lookupTimeout the timeout of a single query
+     * @throws NullPointerException if the wrapper or the timeout is null
+     * @throws IllegalArgumentException if the maximum number of queries or the timeout is not positive
+     */
+    public VirtualThreadDNSCheckValidation(DNSGetRecordWrapper wrapper, int maxConcurrentLookups, Duration lookupTimeout) {
+        if (maxConcurrentLookups <= 0) {
+            throw new IllegalArgumentException("maxConcurrentLookups must be positive: " + maxConcurrentLookups);
+        }
+        if (lookupTimeout.isNegative() || lookupTimeout.isZero()) {
+            throw new IllegalArgumentException("lookupTimeout must be positive: " + lookupTimeout);
+        }
+
+        this.wrapper = Objects.requireNonNull(wrapper, "wrapper");
+        this.permits = new Semaphore(maxConcurrentLookups);
+        this.lookupTimeoutNanos = lookupTimeout.toNanos();
+        this.bulk = new BulkDNSCheckValidation(new Limited(), task -> this.threads.newThread(task).start(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Checks the domains of a list of email addresses.
+     *
+     * @param emails the addresses to validate
+     * @return the results, in the order of the addresses
+     */
+    public List<ValidationResult> validate(List<String> emails) {
+        return this.bulk.validate(emails);
+    }
+
+    /**
+     * Checks the domains of an array of email addresses.
+     *
+     * @param emails the addresses to validate
+     * @return the results, in the order of the addresses
+     */
+    public List<ValidationResult> validate(String[] emails) {
+        return this.bulk.validate(emails);
+    }
+
+    /**
+     * Checks the domains of a stream of email addresses.
+     * <p>
+     * The stream is drained before the first lookup, since all domains must
+     * be known to deduplicate them.
+     * </p>
+     *
+     * @param emails the addresses to validate
+     * @return the results, in the encounter order of the addresses
+     */
+    public List<ValidationResult> validate(Stream<String> emails) {
+        return this.bulk.validate(emails);
+    }
+
+    /**
+     * Runs each query of the wrapper on its own virtual thread, once a
+     * permit is available, and waits for it until the timeout.
+     */
+    private final class Limited extends DNSGetRecordWrapper {
+
+        @Override
+        public DNSRecords getRecords(String host, int type) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return FAILED;
+            }
+
+            FutureTask<DNSRecords> query = new FutureTask<>(() -> wrapper.getRecords(host, type));
+            try {
+                threads.newThread(() -> {
+                    try {
+                        query.run();
+                    } finally {
+                        permits.release();
+                    }
+                }).start();
+            } catch (RuntimeException | Error e) {
+                permits.release();
+                throw e;
+            }
+
+            try {
+                return query.get(lookupTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                query.cancel(true);
+                return FAILED;
+            } catch (InterruptedException e) {
+                query.cancel(true);
+                Thread.currentThread().interrupt();
+                return FAILED;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                return FAILED;
+            }
+        }
+    }
+}
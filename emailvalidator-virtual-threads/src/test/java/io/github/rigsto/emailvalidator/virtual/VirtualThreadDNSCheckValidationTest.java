@@ -0,0 +1,135 @@
+package io.github.rigsto.emailvalidator.virtual;
+
+import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.result.ValidationResult;
+import io.github.rigsto.emailvalidator.result.reason.LocalOrReservedDomain;
+import io.github.rigsto.emailvalidator.result.reason.NoDNSRecord;
+import io.github.rigsto.emailvalidator.result.reason.UnableToGetDNSRecord;
+import io.github.rigsto.emailvalidator.validation.DNSCheckValidation;
+import io.github.rigsto.emailvalidator.validation.DNSGetRecordWrapper;
+import io.github.rigsto.emailvalidator.validation.DNSRecords;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VirtualThreadDNSCheckValidationTest {
+
+    /**
+     * Answers by host prefix after a short delay, counting the lookups of
+     * each host and the most lookups running at the same time.
+     */
+    private static class SlowWrapper extends DNSGetRecordWrapper {
+        final Map<String, AtomicInteger> lookups = new ConcurrentHashMap<>();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        @Override
+        public DNSRecords getRecords(String host, int type) {
+            this.lookups.computeIfAbsent(host + "/" + type, k -> new AtomicInteger()).incrementAndGet();
+            this.maxRunning.accumulateAndGet(this.running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(host.startsWith("hang") ? 10_000 : 20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new DNSRecords(List.of(), true);
+            } finally {
+                this.running.decrementAndGet();
+            }
+
+            List<Map<String, Object>> records = new ArrayList<>();
+            if ((type & DNS_MX) != 0 && host.startsWith("mx")) {
+                records.add(Map.of("type", "MX", "target", "mail." + host, "pri", "10"));
+            }
+            if ((type & DNS_A) != 0 && (host.startsWith("mx") || host.startsWith("a"))) {
+                records.add(Map.of("type", "A", "ip", "192.0.2.1"));
+            }
+            return new DNSRecords(records, false);
+        }
+    }
+
+    private static final List<String> DOMAINS = List.of(
+            "mx.example.com", "a.example.com", "none.example.com", "sub.mx.example.com", "localhost"
+    );
+
+    @Test
+    void testSameOutcomeAsDNSCheckValidation() {
+        List<String> emails = DOMAINS.stream().map(domain -> "user@" + domain).toList();
+
+        List<ValidationResult> results = new VirtualThreadDNSCheckValidation(new SlowWrapper()).validate(emails);
+
+        assertEquals(emails.size(), results.size());
+        for (int i = 0; i < emails.size(); i++) {
+            String email = emails.get(i);
+            DNSCheckValidation expected = new DNSCheckValidation(new SlowWrapper());
+            boolean valid = expected.isValid(email, new EmailLexer());
+
+            ValidationResult result = results.get(i);
+            assertEquals(valid, result.valid(), email);
+            if (!valid) {
+                assertEquals(expected.getError().reason.getClass(), result.reason().getClass(), email);
+            }
+            assertEquals("user", result.localPart());
+            assertEquals(DOMAINS.get(i), result.domainPart());
+        }
+        assertInstanceOf(NoDNSRecord.class, results.get(2).reason());
+        assertInstanceOf(LocalOrReservedDomain.class, results.get(4).reason());
+    }
+
+    @Test
+    void testEachDomainIsResolvedOnceWithinTheLimit() {
+        SlowWrapper wrapper = new SlowWrapper();
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            emails.add("user" + i + "@mx" + (i % 100) + ".example.net");
+        }
+
+        List<ValidationResult> results = new VirtualThreadDNSCheckValidation(wrapper, 8, Duration.ofSeconds(5))
+                .validate(emails);
+
+        assertEquals(10_000, results.size());
+        assertTrue(results.stream().allMatch(ValidationResult::valid));
+        wrapper.lookups.forEach((lookup, count) -> assertEquals(1, count.get(), lookup));
+        assertTrue(wrapper.maxRunning.get() <= 8, "at most 8 lookups at a time: " + wrapper.maxRunning.get());
+    }
+
+    @Test
+    void testLookupTimeout() {
+        long start = System.nanoTime();
+        List<ValidationResult> results = new VirtualThreadDNSCheckValidation(new SlowWrapper(), 4, Duration.ofMillis(100))
+                .validate(new String[]{"user@hang.org", "user@mx.org"});
+
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+        assertFalse(results.get(0).valid());
+        assertInstanceOf(UnableToGetDNSRecord.class, results.get(0).reason());
+        assertTrue(results.get(1).valid());
+    }
+
+    @Test
+    void testAddressesWithoutDomainPartHaveEmptyDomainPart() {
+        List<ValidationResult> results = new VirtualThreadDNSCheckValidation(new SlowWrapper())
+                .validate(List.of("foo", "foo@"));
+
+        assertFalse(results.get(0).valid());
+        assertEquals("", results.get(0).localPart());
+        assertEquals("", results.get(0).domainPart());
+        assertFalse(results.get(1).valid());
+        assertEquals("foo", results.get(1).localPart());
+        assertEquals("", results.get(1).domainPart());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new VirtualThreadDNSCheckValidation(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new VirtualThreadDNSCheckValidation(new SlowWrapper(), 0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new VirtualThreadDNSCheckValidation(new SlowWrapper(), 1, Duration.ZERO));
+    }
+}
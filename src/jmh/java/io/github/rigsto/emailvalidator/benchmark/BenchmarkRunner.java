@@ -0,0 +1,53 @@
+package io.github.rigsto.emailvalidator.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point of {@code benchmarks.jar}.
+ * <p>
+ * Runs the selected benchmarks twice, once for throughput in ops/s and once
+ * for average time in ns/op, both with the GC profiler so that the
+ * allocation rate ({@code gc.alloc.rate}) and bytes per operation
+ * ({@code gc.alloc.rate.norm}) are reported next to each score. Any other
+ * JMH command line option, such as a benchmark regex or {@code -rf json},
+ * is passed through. Use {@code org.openjdk.jmh.Main} for full control.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args JMH command line options
+     * @throws Exception if the options are invalid or a benchmark fails
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions options = new CommandLineOptions(args);
+
+        new Runner(new OptionsBuilder()
+                .parent(options)
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.SECONDS)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+        new Runner(new OptionsBuilder()
+                .parent(options)
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.NANOSECONDS)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.rigsto.emailvalidator.benchmark;
+
+import io.github.rigsto.emailvalidator.BulkEmailValidator;
+import io.github.rigsto.emailvalidator.validation.RFCValidation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmarks {@link BulkEmailValidator} over a batch of addresses with an
+ * increasing number of workers, to check how validation scales with cores.
+ * <p>
+ * Scores are per address, so a perfectly scaling run shows throughput
+ * growing with the parallelism.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class BulkValidationBenchmark {
+
+    /**
+     * Number of addresses in the batch.
+     */
+    private static final int BATCH_SIZE = 100_000;
+
+    /**
+     * Number of workers validating the batch.
+     */
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private List<String> batch;
+    private ForkJoinPool pool;
+    private BulkEmailValidator validator;
+
+    /**
+     * Builds the batch from the corpus and starts the pool.
+     */
+    @Setup(Level.Trial)
+    public void createValidator() {
+        String[] corpus = EmailCorpus.addresses();
+        this.batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            this.batch.add(corpus[i % corpus.length]);
+        }
+
+        this.pool = new ForkJoinPool(this.parallelism);
+        this.validator = new BulkEmailValidator(RFCValidation::new, this.pool);
+    }
+
+    /**
+     * Stops the pool.
+     */
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Validates the whole batch, returning results in input order.
+     *
+     * @return the results
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Object validate() {
+        return this.validator.validate(this.batch);
+    }
+
+    /**
+     * Checks the whole batch without building results.
+     *
+     * @return the verdicts
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public boolean[] isValid() {
+        return this.validator.isValid(this.batch);
+    }
+}
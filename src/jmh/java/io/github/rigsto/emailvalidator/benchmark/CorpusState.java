@@ -0,0 +1,52 @@
+package io.github.rigsto.emailvalidator.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-thread benchmark state cycling through the {@link EmailCorpus}.
+ * <p>
+ * Each benchmark operation handles a single address, so scores are per
+ * address and averaged over the whole corpus.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+public class CorpusState {
+
+    /**
+     * The addresses to cycle through.
+     */
+    private String[] addresses;
+
+    /**
+     * Index of the next address to hand out.
+     */
+    private int index;
+
+    /**
+     * Loads the corpus once per trial.
+     */
+    @Setup(Level.Trial)
+    public void loadCorpus() {
+        this.addresses = EmailCorpus.addresses();
+        this.index = 0;
+    }
+
+    /**
+     * Returns the next address of the corpus, wrapping around at the end.
+     *
+     * @return the next address
+     */
+    public String next() {
+        String address = this.addresses[this.index];
+        if (++this.index == this.addresses.length) {
+            this.index = 0;
+        }
+        return address;
+    }
+}
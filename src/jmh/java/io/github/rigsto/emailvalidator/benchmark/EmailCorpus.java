@@ -0,0 +1,109 @@
+package io.github.rigsto.emailvalidator.benchmark;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Address corpus shared by the benchmarks.
+ * <p>
+ * The corpus mixes the kind of addresses seen in production lists, mostly
+ * plain valid ones plus the usual typos, with every address of the
+ * {@code is_email_tests.xml} suite so that comments, quoted strings, domain
+ * literals and invalid input are exercised as well.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public final class EmailCorpus {
+
+    /**
+     * Addresses resembling a real mailing list, valid and invalid.
+     */
+    private static final String[] REALISTIC = {
+            "john.doe@example.com",
+            "jane_smith@mail.example.org",
+            "first.last+newsletter@sub.example.co.uk",
+            "info@example.io",
+            "support-team@helpdesk.example.net",
+            "a.b.c.d.e@example.com",
+            "user1234@example123.com",
+            "x@example.com",
+            "very.common@example.com",
+            "disposable.style.email.with+symbol@example.com",
+            "other.email-with-hyphen@example.com",
+            "fully-qualified-domain@example.com",
+            "user.name+tag+sorting@example.com",
+            "example-indeed@strange-example.com",
+            "admin@mailserver1",
+            "mailhost!username@example.org",
+            "user%example.com@example.org",
+            "user-@example.org",
+            "\"john..doe\"@example.org",
+            "\" \"@example.org",
+            "postmaster@[123.123.123.123]",
+            "postmaster@[IPv6:2001:0db8:85a3:0000:0000:8a2e:0370:7334]",
+            "jörg@bücher.example",
+            "用户@例子.广告",
+            "инфо@пример.рф",
+            "user(comment)@example.com",
+            "john.doe@example..com",
+            "john.doe.@example.com",
+            ".john@example.com",
+            "john@@example.com",
+            "john.example.com",
+            "john@example,com",
+            "john doe@example.com",
+            "john@-example.com",
+            "john@example-.com",
+            "a\"b(c)d,e:f;g<h>i[j\\k]l@example.com",
+            "this is\"not\\allowed@example.com",
+            "i_like_underscore@but_its_not_allowed_in_this_part.example.com",
+            "1234567890123456789012345678901234567890123456789012345678901234+x@example.com",
+            "john@example.com\r\n"
+    };
+
+    private EmailCorpus() {
+    }
+
+    /**
+     * Returns the benchmark corpus.
+     *
+     * @return the addresses, realistic ones first followed by the is_email suite
+     */
+    public static String[] addresses() {
+        List<String> addresses = new ArrayList<>(List.of(REALISTIC));
+        addresses.addAll(isEmailTests());
+        return addresses.toArray(new String[0]);
+    }
+
+    private static List<String> isEmailTests() {
+        try (InputStream in = EmailCorpus.class.getResourceAsStream("/is_email_tests.xml")) {
+            if (in == null) {
+                throw new IllegalStateException("Resource not found: /is_email_tests.xml");
+            }
+
+            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+            dbf.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            Document doc = dbf.newDocumentBuilder().parse(in);
+
+            NodeList nodes = doc.getElementsByTagName("address");
+            List<String> addresses = new ArrayList<>(nodes.getLength());
+            for (int i = 0; i < nodes.getLength(); i++) {
+                Element address = (Element) nodes.item(i);
+                if (address.hasAttribute("value")) {
+                    addresses.add(address.getAttribute("value"));
+                }
+            }
+            return addresses;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to load is_email_tests.xml", e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.rigsto.emailvalidator.benchmark;
+
+import io.github.rigsto.emailvalidator.EmailLexer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link EmailLexer#setInput(String)} on its own.
+ * <p>
+ * The {@code scanner} parameter selects the lexer configuration: the
+ * default table scanner with token objects, the table scanner with
+ * primitive tokens only, or the original regex scanner.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LexerBenchmark extends CorpusState {
+
+    /**
+     * The lexer configuration to benchmark.
+     */
+    @Param({"table", "primitive", "regex"})
+    public String scanner;
+
+    /**
+     * The lexer, reused across operations.
+     */
+    private EmailLexer lexer;
+
+    /**
+     * Creates the lexer for the selected configuration.
+     */
+    @Setup
+    public void createLexer() {
+        this.lexer = switch (this.scanner) {
+            case "primitive" -> new EmailLexer(EmailLexer.PRIMITIVE_TOKENS);
+            case "regex" -> new EmailLexer(EmailLexer.REGEX_SCANNER);
+            default -> new EmailLexer();
+        };
+    }
+
+    /**
+     * Tokenizes the next address of the corpus.
+     *
+     * @return whether invalid tokens were found, to keep the work observable
+     */
+    @Benchmark
+    public boolean setInput() {
+        this.lexer.setInput(next());
+        return this.lexer.hasInvalidTokens();
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.rigsto.emailvalidator.benchmark;
+
+import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.EmailParser;
+import io.github.rigsto.emailvalidator.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link EmailParser#parse(String)} on its own.
+ * <p>
+ * The parser and its lexer are reused across operations, which is how
+ * {@code RFCValidation} drives them.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParserBenchmark extends CorpusState {
+
+    /**
+     * The parser, reused across operations.
+     */
+    private EmailParser parser;
+
+    /**
+     * Creates the parser over a primitive token lexer.
+     */
+    @Setup
+    public void createParser() {
+        this.parser = new EmailParser(new EmailLexer(EmailLexer.PRIMITIVE_TOKENS));
+    }
+
+    /**
+     * Parses the next address of the corpus.
+     *
+     * @return the parse result
+     */
+    @Benchmark
+    public Result parse() {
+        return this.parser.parse(next());
+    }
+}
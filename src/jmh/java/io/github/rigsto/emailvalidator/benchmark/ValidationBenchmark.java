@@ -0,0 +1,79 @@
+package io.github.rigsto.emailvalidator.benchmark;
+
+import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.exception.EmptyValidationList;
+import io.github.rigsto.emailvalidator.validation.EmailValidation;
+import io.github.rigsto.emailvalidator.validation.MessageIDValidation;
+import io.github.rigsto.emailvalidator.validation.MultipleValidationWithAnd;
+import io.github.rigsto.emailvalidator.validation.NoRFCWarningsValidation;
+import io.github.rigsto.emailvalidator.validation.RFCValidation;
+import io.github.rigsto.emailvalidator.validation.extra.SpoofCheckValidation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+
+/**
+ * Benchmarks {@link EmailValidation#isValid(String, EmailLexer)} for each
+ * validation that does not need network access.
+ * <p>
+ * {@code DNSCheckValidation} is left out on purpose: its cost is dominated
+ * by the resolver and would make the results depend on the network.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValidationBenchmark extends CorpusState {
+
+    /**
+     * The validation to benchmark.
+     */
+    @Param({"RFCValidation", "NoRFCWarningsValidation", "MessageIDValidation", "SpoofCheckValidation", "MultipleValidationWithAnd"})
+    public String validation;
+
+    /**
+     * The validation instance, reused across operations.
+     */
+    private EmailValidation emailValidation;
+
+    /**
+     * The lexer, reused across operations.
+     */
+    private EmailLexer lexer;
+
+    /**
+     * Creates the selected validation and its lexer.
+     *
+     * @throws EmptyValidationList never, the combined validation is not empty
+     */
+    @Setup
+    public void createValidation() throws EmptyValidationList {
+        this.lexer = new EmailLexer(EmailLexer.PRIMITIVE_TOKENS);
+        this.emailValidation = switch (this.validation) {
+            case "NoRFCWarningsValidation" -> new NoRFCWarningsValidation();
+            case "MessageIDValidation" -> new MessageIDValidation();
+            case "SpoofCheckValidation" -> new SpoofCheckValidation();
+            case "MultipleValidationWithAnd" -> new MultipleValidationWithAnd(
+                    List.of(new RFCValidation(), new SpoofCheckValidation()));
+            default -> new RFCValidation();
+        };
+    }
+
+    /**
+     * Validates the next address of the corpus.
+     *
+     * @return the validation verdict
+     */
+    @Benchmark
+    public boolean isValid() {
+        return this.emailValidation.isValid(next(), this.lexer);
+    }
+}
@@ -0,0 +1,257 @@
+package io.github.rigsto.emailvalidator;
+
+import io.github.rigsto.emailvalidator.result.ValidationResult;
+import io.github.rigsto.emailvalidator.validation.EmailValidation;
+import io.github.rigsto.emailvalidator.validation.RFCValidation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Validates large batches of email addresses in parallel.
+ * <p>
+ * A batch is split recursively into ranges that are validated by the workers
+ * of a {@link ForkJoinPool}, so idle workers steal ranges from busy ones and
+ * all cores stay used until the batch is done. Each worker validates with its
+ * own validation instance and reuses the lexer and parsers of its thread's
+ * {@link ValidationContext}, so the per-address cost is the same as a
+ * sequential loop over a reused {@link EmailValidator}.
+ * </p>
+ * <p>
+ * Results are either returned as a list in input order or handed to a
+ * callback together with the index of their address. Instances are
+ * thread-safe and meant to be reused across batches.
+ * </p>
+ *
+ * <pre>{@code
+ * BulkEmailValidator validator = new BulkEmailValidator(RFCValidation::new);
+ * List<ValidationResult> results = validator.validate(addresses);
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class BulkEmailValidator {
+
+    /**
+     * Smallest number of addresses validated by a single task.
+     */
+    private static final int MIN_SPLIT = 256;
+
+    /**
+     * Number of tasks created per worker, enough for work stealing to even
+     * out addresses that are slower to validate.
+     */
+    private static final int TASKS_PER_WORKER = 8;
+
+    /**
+     * The validator used by every worker.
+     */
+    private final StatelessEmailValidator validator;
+
+    /**
+     * The pool running the validations.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a bulk validator performing {@link RFCValidation} on the common pool.
+     */
+    public BulkEmailValidator() {
+        this(RFCValidation::new);
+    }
+
+    /**
+     * Creates a bulk validator running on the common pool.
+     *
+     * @param validationFactory creates a new validation for each worker thread
+     * @throws NullPointerException if the factory is null
+     */
+    public BulkEmailValidator(Supplier<? extends EmailValidation> validationFactory) {
+        this(validationFactory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a bulk validator running on the given pool.
+     *
+     * @param validationFactory creates a new validation for each worker thread
+     * @param pool the pool running the validations
+     * @throws NullPointerException if the factory or the pool is null
+     */
+    public BulkEmailValidator(Supplier<? extends EmailValidation> validationFactory, ForkJoinPool pool) {
+        this.validator = new StatelessEmailValidator(validationFactory);
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    /**
+     * Validates a list of email addresses.
+     *
+     * @param emails the addresses to validate
+     * @return the results, in the order of the addresses
+     */
+    public List<ValidationResult> validate(List<String> emails) {
+        ValidationResult[] results = new ValidationResult[emails.size()];
+        this.run(emails, (result, index) -> results[index] = result);
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    /**
+     * Validates an array of email addresses.
+     *
+     * @param emails the addresses to validate
+     * @return the results, in the order of the addresses
+     */
+    public List<ValidationResult> validate(String[] emails) {
+        return this.validate(Arrays.asList(emails));
+    }
+
+    /**
+     * Validates a stream of email addresses.
+     * <p>
+     * The stream is drained before validation starts, since splitting the work
+     * needs random access to the addresses.
+     * </p>
+     *
+     * @param emails the addresses to validate
+     * @return the results, in the encounter order of the addresses
+     */
+    public List<ValidationResult> validate(Stream<String> emails) {
+        return this.validate(emails.toArray(String[]::new));
+    }
+
+    /**
+     * Validates a list of email addresses, handing each result to a callback.
+     * <p>
+     * The callback receives the result and the index of its address. It is
+     * called from the worker threads, concurrently and in no particular order,
+     * and must therefore be thread-safe. This method returns once every
+     * address has been validated and its callback has returned.
+     * </p>
+     *
+     * @param emails the addresses to validate
+     * @param callback receives each result with the index of its address
+     */
+    public void validate(List<String> emails, ObjIntConsumer<ValidationResult> callback) {
+        Objects.requireNonNull(callback, "callback");
+        this.run(emails, callback);
+    }
+
+    /**
+     * Validates an array of email addresses, handing each result to a callback.
+     *
+     * @param emails the addresses to validate
+     * @param callback receives each result with the index of its address
+     * @see #validate(List, ObjIntConsumer)
+     */
+    public void validate(String[] emails, ObjIntConsumer<ValidationResult> callback) {
+        this.validate(Arrays.asList(emails), callback);
+    }
+
+    /**
+     * Checks a list of email addresses, without building results.
+     *
+     * @param emails the addresses to validate
+     * @return whether each address is valid, in the order of the addresses
+     */
+    public boolean[] isValid(List<String> emails) {
+        boolean[] valid = new boolean[emails.size()];
+        if (!emails.isEmpty()) {
+            this.pool.invoke(new CheckTask(randomAccess(emails), valid, 0, emails.size(), this.splitSize(emails.size())));
+        }
+        return valid;
+    }
+
+    private void run(List<String> emails, ObjIntConsumer<ValidationResult> callback) {
+        if (!emails.isEmpty()) {
+            this.pool.invoke(new ValidateTask(randomAccess(emails), callback, 0, emails.size(), this.splitSize(emails.size())));
+        }
+    }
+
+    private static List<String> randomAccess(List<String> emails) {
+        return (emails instanceof RandomAccess) ? emails : Arrays.asList(emails.toArray(new String[0]));
+    }
+
+    private int splitSize(int size) {
+        return Math.max(MIN_SPLIT, size / (this.pool.getParallelism() * TASKS_PER_WORKER));
+    }
+
+    /**
+     * Validates a range of addresses, splitting it while it is larger than the split size.
+     */
+    private final class ValidateTask extends RecursiveAction {
+
+        private final List<String> emails;
+        private final ObjIntConsumer<ValidationResult> callback;
+        private final int from;
+        private final int to;
+        private final int splitSize;
+
+        ValidateTask(List<String> emails, ObjIntConsumer<ValidationResult> callback, int from, int to, int splitSize) {
+            this.emails = emails;
+            this.callback = callback;
+            this.from = from;
+            this.to = to;
+            this.splitSize = splitSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > this.splitSize) {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(
+                        new ValidateTask(this.emails, this.callback, this.from, middle, this.splitSize),
+                        new ValidateTask(this.emails, this.callback, middle, this.to, this.splitSize)
+                );
+                return;
+            }
+
+            for (int i = this.from; i < this.to; i++) {
+                this.callback.accept(validator.validate(this.emails.get(i)), i);
+            }
+        }
+    }
+
+    /**
+     * Checks a range of addresses, splitting it while it is larger than the split size.
+     */
+    private final class CheckTask extends RecursiveAction {
+
+        private final List<String> emails;
+        private final boolean[] valid;
+        private final int from;
+        private final int to;
+        private final int splitSize;
+
+        CheckTask(List<String> emails, boolean[] valid, int from, int to, int splitSize) {
+            this.emails = emails;
+            this.valid = valid;
+            this.from = from;
+            this.to = to;
+            this.splitSize = splitSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > this.splitSize) {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(
+                        new CheckTask(this.emails, this.valid, this.from, middle, this.splitSize),
+                        new CheckTask(this.emails, this.valid, middle, this.to, this.splitSize)
+                );
+                return;
+            }
+
+            for (int i = this.from; i < this.to; i++) {
+                this.valid[i] = validator.isValid(this.emails.get(i));
+            }
+        }
+    }
+}
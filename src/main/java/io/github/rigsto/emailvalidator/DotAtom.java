@@ -0,0 +1,365 @@
+package io.github.rigsto.emailvalidator;
+
+import io.github.rigsto.emailvalidator.constant.Constant;
+
+/**
+ * Recognizer for plain dot-atom addresses.
+ * <p>
+ * Most addresses seen in practice, such as {@code john.doe+tag@example.co.uk},
+ * are an unquoted local part made of atoms separated by dots, an {@code @},
+ * and a host name made of letters, digits and hyphens. For these the full
+ * grammar of {@link EmailParser}, with its comment, quoted string and
+ * folding white space parsers, always reaches the same outcome: the address
+ * is valid and the only possible warnings depend on lengths and on the
+ * presence of a dot in the domain.
+ * </p>
+ * <p>
+ * {@link #scan(String)} checks this shape with a single pass over the input
+ * and a lookup table per character. It only accepts inputs that the full
+ * parser accepts with the warnings described above; everything else,
+ * including every invalid address, is left to the full parser, so the
+ * fast path never changes a verdict. The accepted subset is deliberately
+ * conservative: labels starting or ending with a hyphen, labels longer than
+ * 62 characters, domains over {@value #DOMAIN_MAX_LENGTH} characters and
+ * the {@code IPv6} keyword all go through the full parser.
+ * </p>
+ * <p>
+ * The same scan is available on UTF-8 bytes. As the accepted shape is pure
+ * ASCII, bytes are classified as they are and never decoded.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+final class DotAtom {
+
+    /**
+     * Longest domain accepted by the fast path.
+     */
+    static final int DOMAIN_MAX_LENGTH = 253;
+
+    /**
+     * Longest label accepted by the fast path.
+     */
+    static final int LABEL_MAX_LENGTH = 62;
+
+    /**
+     * Character class bit of the atext characters of a local part.
+     */
+    private static final byte ATEXT = 1;
+
+    /**
+     * Character class bit of the letters and digits of a host name.
+     */
+    private static final byte LET_DIG = 2;
+
+    /**
+     * Character classes of the ASCII range, indexed by character.
+     */
+    private static final byte[] CLASSES = new byte[0x80];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CLASSES[c] = ATEXT | LET_DIG;
+            CLASSES[Character.toUpperCase(c)] = ATEXT | LET_DIG;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CLASSES[c] = ATEXT | LET_DIG;
+        }
+        for (char c : "!#$%&'*+-/=?^_`{|}~".toCharArray()) {
+            CLASSES[c] = ATEXT;
+        }
+    }
+
+    private DotAtom() {
+    }
+
+    /**
+     * Checks if an address is a plain dot-atom address.
+     *
+     * @param email the address to check
+     * @return the index of the {@code @} if the address is a plain dot-atom
+     *         address, or -1 if it needs the full parser
+     */
+    static int scan(String email) {
+        int length = email.length();
+
+        int i = 0;
+        boolean atomStart = true;
+        for (; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (atomStart) {
+                    return -1;
+                }
+                atomStart = true;
+            } else if (c < 0x80 && (CLASSES[c] & ATEXT) != 0) {
+                atomStart = false;
+            } else {
+                break;
+            }
+        }
+
+        if (atomStart || i == length || email.charAt(i) != '@') {
+            return -1;
+        }
+        int at = i;
+
+        if (length - at - 1 > DOMAIN_MAX_LENGTH) {
+            return -1;
+        }
+
+        int labelStart = at + 1;
+        for (i = labelStart; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (!isLabel(email, labelStart, i)) {
+                    return -1;
+                }
+                labelStart = i + 1;
+            } else if (c >= 0x80 || ((CLASSES[c] & LET_DIG) == 0 && c != '-')) {
+                return -1;
+            }
+        }
+
+        if (!isLabel(email, labelStart, length)) {
+            return -1;
+        }
+
+        // the lexer turns IPv6 into a keyword token that is not allowed in a domain
+        if (email.indexOf("IPv6", at + 1) >= 0) {
+            return -1;
+        }
+
+        return at;
+    }
+
+    /**
+     * Checks if a range of UTF-8 bytes is a plain dot-atom address.
+     *
+     * @param bytes the encoded address
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the index of the {@code @} relative to the offset if the address
+     *         is a plain dot-atom address, or -1 if it needs the full parser
+     */
+    static int scan(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+
+        int i = offset;
+        boolean atomStart = true;
+        for (; i < end; i++) {
+            byte b = bytes[i];
+            if (b == '.') {
+                if (atomStart) {
+                    return -1;
+                }
+                atomStart = true;
+            } else if (b >= 0 && (CLASSES[b] & ATEXT) != 0) {
+                atomStart = false;
+            } else {
+                break;
+            }
+        }
+
+        if (atomStart || i == end || bytes[i] != '@') {
+            return -1;
+        }
+        int at = i;
+
+        if (end - at - 1 > DOMAIN_MAX_LENGTH) {
+            return -1;
+        }
+
+        int labelStart = at + 1;
+        for (i = labelStart; i < end; i++) {
+            byte b = bytes[i];
+            if (b == '.') {
+                if (!isLabel(bytes, labelStart, i)) {
+                    return -1;
+                }
+                labelStart = i + 1;
+            } else if (b < 0 || ((CLASSES[b] & LET_DIG) == 0 && b != '-')) {
+                return -1;
+            } else if (b == 'I' && i + 4 <= end && bytes[i + 1] == 'P' && bytes[i + 2] == 'v' && bytes[i + 3] == '6') {
+                return -1;
+            }
+        }
+
+        if (!isLabel(bytes, labelStart, end)) {
+            return -1;
+        }
+
+        return at - offset;
+    }
+
+    private static boolean isLabel(byte[] bytes, int start, int end) {
+        return end > start
+                && end - start <= LABEL_MAX_LENGTH
+                && bytes[start] != '-'
+                && bytes[end - 1] != '-';
+    }
+
+    private static boolean isLabel(String email, int start, int end) {
+        return end > start
+                && end - start <= LABEL_MAX_LENGTH
+                && email.charAt(start) != '-'
+                && email.charAt(end - 1) != '-';
+    }
+
+    /**
+     * Checks if the domain of a plain dot-atom address has no dot, in which
+     * case the full parser reports a missing top level domain.
+     *
+     * @param email the address
+     * @param at the index of the {@code @}
+     * @return true if the domain has no dot
+     */
+    static boolean isTLDMissing(String email, int at) {
+        return email.indexOf('.', at + 1) < 0;
+    }
+
+    /**
+     * Checks if the domain of a plain dot-atom address has no dot.
+     *
+     * @param bytes the encoded address
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @param at the index of the {@code @} relative to the offset
+     * @return true if the domain has no dot
+     */
+    static boolean isTLDMissing(byte[] bytes, int offset, int length, int at) {
+        for (int i = offset + at + 1, end = offset + length; i < end; i++) {
+            if (bytes[i] == '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the local part of a plain dot-atom address is too long.
+     *
+     * @param at the index of the {@code @}
+     * @return true if the local part exceeds the maximum length
+     */
+    static boolean isLocalTooLong(int at) {
+        return at > Constant.LOCAL_PART_LENGTH;
+    }
+
+    /**
+     * Checks if a plain dot-atom address is too long as a whole.
+     *
+     * @param length the length of the address
+     * @return true if the address exceeds the maximum length
+     */
+    static boolean isTooLong(int length) {
+        return length > Constant.EMAIL_MAX_LENGTH;
+    }
+
+    /**
+     * Incremental form of {@link #scan(String)} for an input edited in place.
+     * <p>
+     * The scan keeps its state after the characters it has read: whether an
+     * atom is starting, the index of the {@code @}, the start of the current
+     * label, and the index of the first character that rules out a plain
+     * dot-atom address. After an edit, {@link #rewind(String, int)} moves
+     * the state back to the end of the unchanged prefix, which only looks at
+     * the current label, and {@link #advance(String)} reads the rest, so
+     * typing a character costs a few steps whatever the length of the input.
+     * </p>
+     */
+    static final class Scan {
+
+        /**
+         * Number of characters read.
+         */
+        private int position;
+
+        private boolean atomStart = true;
+        private int at = -1;
+        private int labelStart;
+
+        /**
+         * Index of the first character that rules out a dot-atom address, -1 if none.
+         */
+        private int failedAt = -1;
+
+        /**
+         * Moves the scan back to the end of a prefix of the input.
+         *
+         * @param email the edited input
+         * @param unchanged the length of the prefix the edit did not change
+         */
+        void rewind(String email, int unchanged) {
+            int p = Math.min(Math.min(unchanged, this.position), email.length());
+            if (this.failedAt >= p) {
+                this.failedAt = -1;
+            }
+            if (this.at >= p) {
+                this.at = -1;
+            }
+            this.position = p;
+
+            if (this.at == -1) {
+                this.atomStart = p == 0 || email.charAt(p - 1) == '.';
+                return;
+            }
+
+            // a label over the maximum length only needs a start far enough back
+            int limit = Math.max(this.at, p - LABEL_MAX_LENGTH - 2);
+            int i = p - 1;
+            while (i > limit && email.charAt(i) != '.') {
+                i--;
+            }
+            this.labelStart = (i > this.at && email.charAt(i) == '.') ? i + 1 : Math.max(i, this.at + 1);
+        }
+
+        /**
+         * Reads the input up to its end.
+         *
+         * @param email the input, starting with the characters already read
+         * @return the same as {@link DotAtom#scan(String)} for the input
+         */
+        int advance(String email) {
+            int length = email.length();
+
+            for (int i = this.position; i < length && this.failedAt == -1; i++) {
+                char c = email.charAt(i);
+                if (this.at == -1) {
+                    if (c == '.') {
+                        if (this.atomStart) {
+                            this.failedAt = i;
+                        }
+                        this.atomStart = true;
+                    } else if (c < 0x80 && (CLASSES[c] & ATEXT) != 0) {
+                        this.atomStart = false;
+                    } else if (c == '@' && !this.atomStart) {
+                        this.at = i;
+                        this.labelStart = i + 1;
+                    } else {
+                        this.failedAt = i;
+                    }
+                } else if (c == '.') {
+                    if (!isLabel(email, this.labelStart, i)) {
+                        this.failedAt = i;
+                    }
+                    this.labelStart = i + 1;
+                } else if (c >= 0x80 || ((CLASSES[c] & LET_DIG) == 0 && c != '-')) {
+                    this.failedAt = i;
+                } else if (c == '6' && i - 3 > this.at && email.startsWith("IPv", i - 3)) {
+                    // the lexer turns IPv6 into a keyword token that is not allowed in a domain
+                    this.failedAt = i;
+                }
+            }
+            this.position = length;
+
+            if (this.failedAt != -1 || this.at == -1
+                    || length - this.at - 1 > DOMAIN_MAX_LENGTH
+                    || !isLabel(email, this.labelStart, length)) {
+                return -1;
+            }
+            return this.at;
+        }
+    }
+}
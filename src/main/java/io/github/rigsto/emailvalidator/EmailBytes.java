@@ -0,0 +1,76 @@
+package io.github.rigsto.emailvalidator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Conversion of UTF-8 encoded email addresses to strings.
+ * <p>
+ * Addresses are almost always ASCII. Such input is copied into the string
+ * without any decoding; UTF-8 decoding only runs when a byte outside the
+ * ASCII range is found. Malformed sequences are replaced by U+FFFD, as
+ * {@code new String(bytes, StandardCharsets.UTF_8)} does, so validating the
+ * bytes gives the same outcome as validating the string a caller would
+ * have decoded.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public final class EmailBytes {
+
+    private EmailBytes() {
+    }
+
+    /**
+     * Decodes a range of UTF-8 bytes.
+     *
+     * @param bytes the encoded address
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the decoded address
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     */
+    public static String decode(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+
+        if (isAscii(bytes, offset, length)) {
+            // every byte is a char, ISO-8859-1 copies them as they are
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        return new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes the remaining UTF-8 bytes of a buffer, without changing its position.
+     *
+     * @param buffer the encoded address
+     * @return the decoded address
+     */
+    public static String decode(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return decode(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(buffer.position(), bytes);
+        return decode(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Checks if a range of bytes only contains ASCII characters.
+     *
+     * @param bytes the bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return true if no byte has its high bit set
+     */
+    static boolean isAscii(byte[] bytes, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (bytes[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,8 +1,12 @@
 package io.github.rigsto.emailvalidator;
 
+import io.github.rigsto.emailvalidator.constant.LexerConstant;
 import io.github.rigsto.emailvalidator.lexer.AbstractLexer;
 import io.github.rigsto.emailvalidator.lexer.Token;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.regex.Pattern;
 
@@ -16,8 +20,20 @@ import static io.github.rigsto.emailvalidator.constant.LexerConstant.*;
  * characters used in email addresses.
  * </p>
  * <p>
- * The lexer uses regex patterns to identify different types of tokens and provides
- * functionality for recording token sequences and detecting invalid characters.
+ * By default the input is tokenized by a single-pass scanner driven by a
+ * character-class table, which produces exactly the same token stream as the
+ * regex patterns below. The regex path can still be selected with
+ * {@link #REGEX_SCANNER}, e.g. to compare both scanners for equivalence.
+ * The lexer also provides functionality for recording token sequences and
+ * detecting invalid characters.
+ * </p>
+ * <p>
+ * Tokens are always stored as parallel primitive arrays of types and offsets
+ * over the input, and the int accessors such as {@link #isCurrentToken(int)}
+ * and {@link #isNextToken(int)} work on those arrays. With
+ * {@link #PRIMITIVE_TOKENS} no {@link Token} objects are built at all: token
+ * values are materialized only on demand and the public {@link #current},
+ * {@link #previous} and {@link #lookahead} fields are not maintained.
  * </p>
  * 
  * @author EmailValidator Team
@@ -66,6 +82,85 @@ public class EmailLexer extends AbstractLexer<Integer, String> {
      */
     public static final String MODIFIERS = "iu";
 
+    /**
+     * Flag selecting the regex-driven scanner of {@link AbstractLexer} instead
+     * of the default character-class table scanner.
+     */
+    public static final int REGEX_SCANNER = 1;
+
+    /**
+     * Flag selecting primitive token storage only, without {@link Token} objects.
+     */
+    public static final int PRIMITIVE_TOKENS = 2;
+
+    /**
+     * Index value used when there is no token.
+     */
+    private static final int NO_TOKEN = -1;
+
+    /**
+     * Initial capacity of the token buffers.
+     */
+    private static final int INITIAL_CAPACITY = 32;
+
+    /**
+     * Character class for characters that form a single-character token.
+     */
+    private static final byte CLASS_SINGLE = 0;
+
+    /**
+     * Character class for letters, matched by {@code [a-zA-Z]+[46]?}.
+     */
+    private static final byte CLASS_LETTER = 1;
+
+    /**
+     * Character class for digits, matched by {@code [0-9]+}.
+     */
+    private static final byte CLASS_DIGIT = 2;
+
+    /**
+     * Character class for carriage return, which may start a CRLF token.
+     */
+    private static final byte CLASS_CR = 3;
+
+    /**
+     * Character class for colon, which may start a double colon token.
+     */
+    private static final byte CLASS_COLON = 4;
+
+    /**
+     * Character classes of the ASCII range, indexed by character.
+     */
+    private static final byte[] ASCII_CLASSES = new byte[0x80];
+
+    /**
+     * Shared token values of single-character tokens in the Latin-1 range, indexed by character.
+     */
+    private static final String[] LATIN1_VALUES = new String[0x100];
+
+    static {
+        for (char c = 0; c < 0x100; c++) {
+            LATIN1_VALUES[c] = String.valueOf(c);
+        }
+
+        for (char c = 'a'; c <= 'z'; c++) {
+            ASCII_CLASSES[c] = CLASS_LETTER;
+            ASCII_CLASSES[Character.toUpperCase(c)] = CLASS_LETTER;
+        }
+
+        for (char c = '0'; c <= '9'; c++) {
+            ASCII_CLASSES[c] = CLASS_DIGIT;
+        }
+
+        ASCII_CLASSES['\r'] = CLASS_CR;
+        ASCII_CLASSES[':'] = CLASS_COLON;
+    }
+
+    /**
+     * Flags this lexer was created with.
+     */
+    private final int flags;
+
     /**
      * Flag indicating whether invalid tokens have been encountered.
      */
@@ -87,9 +182,85 @@ public class EmailLexer extends AbstractLexer<Integer, String> {
     private final Token<Integer, String> nullToken;
 
     /**
-     * Accumulator for recording token values.
+     * Token types, indexed by token.
+     */
+    private int[] tokenTypes = new int[INITIAL_CAPACITY];
+
+    /**
+     * Start offsets in the input, indexed by token.
+     */
+    private int[] tokenStarts = new int[INITIAL_CAPACITY];
+
+    /**
+     * End offsets (exclusive) in the input, indexed by token.
+     */
+    private int[] tokenEnds = new int[INITIAL_CAPACITY];
+
+    /**
+     * Number of tokens in the buffers.
+     */
+    private int tokenCount = 0;
+
+    /**
+     * Token objects, indexed by token. Empty with {@link #PRIMITIVE_TOKENS}.
+     */
+    private final List<Token<Integer, String>> tokenObjects = new ArrayList<>();
+
+    /**
+     * Index of the current token, or {@link #NO_TOKEN}.
+     */
+    private int currentIndex = NO_TOKEN;
+
+    /**
+     * Index of the previous token, or {@link #NO_TOKEN}.
+     */
+    private int previousIndex = NO_TOKEN;
+
+    /**
+     * Index of the lookahead token, or {@link #NO_TOKEN}.
+     */
+    private int lookaheadIndex = NO_TOKEN;
+
+    /**
+     * Index of the next token to become the lookahead.
+     */
+    private int nextIndex = 0;
+
+    /**
+     * Peek offset from {@link #nextIndex} for lookahead operations.
+     */
+    private int peekOffset = 0;
+
+    /**
+     * Index of the first invalid token, or {@link #NO_TOKEN}.
+     */
+    private int firstInvalidIndex = NO_TOKEN;
+
+    /**
+     * Offset the next scan starts from, the end of the tokens kept by
+     * {@link #setInput(String, int)}.
+     */
+    private int scanFrom = 0;
+
+    /**
+     * Accumulator for recorded values that are not contiguous with the recorded range.
      */
     private String accumulator = "";
+
+    /**
+     * The input the recorded range refers to.
+     */
+    private String recordInput = "";
+
+    /**
+     * Start offset of the recorded range in the input, or -1 if nothing is recorded.
+     */
+    private int recordStart = -1;
+
+    /**
+     * End offset (exclusive) of the recorded range in the input.
+     */
+    private int recordEnd = -1;
     
     /**
      * Flag indicating whether token recording is active.
@@ -103,11 +274,95 @@ public class EmailLexer extends AbstractLexer<Integer, String> {
      * </p>
      */
     public EmailLexer() {
+        this(0);
+    }
+
+    /**
+     * Creates a new EmailLexer instance with the specified flags.
+     * 
+     * @param flags bitwise combination of lexer flags, {@link #REGEX_SCANNER} and {@link #PRIMITIVE_TOKENS}
+     */
+    public EmailLexer(int flags) {
+        this.flags = flags;
         this.nullToken = new Token<>("", S_EMPTY, 0);
         this.current = this.previous = this.nullToken;
         this.lookahead = null;
     }
 
+    /**
+     * Sets the input string and performs initial tokenization.
+     * <p>
+     * The token buffers are reused across inputs and only grow when an
+     * input has more tokens than any previous one.
+     * </p>
+     * 
+     * @param input the input string to tokenize
+     */
+    @Override
+    public void setInput(String input) {
+        this.tokenCount = 0;
+        this.tokenObjects.clear();
+        this.scanFrom = 0;
+        super.setInput(input);
+    }
+
+    /**
+     * Sets an input that starts like the previous one, only scanning what
+     * may have changed.
+     * <p>
+     * The first {@code unchanged} characters of the input must be those of
+     * the previous input. Tokens ending before that prefix does, whose value
+     * and lookahead character did not change, are kept and scanning resumes
+     * after them, so the cost is proportional to the changed tail rather
+     * than to the input. The resulting tokens are those of
+     * {@link #setInput(String)}. The regex scanner always rescans the whole
+     * input.
+     * </p>
+     *
+     * @param input the input string to tokenize
+     * @param unchanged the length of the prefix shared with the previous input
+     * @since 1.1.0
+     */
+    public void setInput(String input, int unchanged) {
+        if ((this.flags & REGEX_SCANNER) != 0 || input == null || unchanged <= 0) {
+            this.setInput(input);
+            return;
+        }
+
+        int kept = this.tokensEndingBefore(Math.min(unchanged, input.length()));
+        this.tokenCount = kept;
+        if ((this.flags & PRIMITIVE_TOKENS) == 0) {
+            this.tokenObjects.subList(kept, this.tokenObjects.size()).clear();
+        }
+        if (this.firstInvalidIndex >= kept) {
+            this.firstInvalidIndex = NO_TOKEN;
+        }
+
+        this.scanFrom = (kept == 0) ? 0 : this.tokenEnds[kept - 1];
+        super.setInput(input);
+    }
+
+    /**
+     * Counts the tokens ending before an offset, with their lookahead
+     * character.
+     *
+     * @param offset an offset in the input
+     * @return the number of leading tokens whose end is below the offset
+     */
+    private int tokensEndingBefore(int offset) {
+        int low = 0;
+        int high = this.tokenCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.tokenEnds[middle] < offset) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
     /**
      * Resets the lexer to its initial state.
      * <p>
@@ -119,6 +374,18 @@ public class EmailLexer extends AbstractLexer<Integer, String> {
         this.hasInvalidTokens = false;
         super.reset();
         this.current = this.previous = this.nullToken;
+        this.currentIndex = this.previousIndex = this.lookaheadIndex = NO_TOKEN;
+        this.nextIndex = 0;
+        this.peekOffset = 0;
+    }
+
+    /**
+     * Resets the peek position to zero.
+     */
+    @Override
+    public void resetPeek() {
+        super.resetPeek();
+        this.peekOffset = 0;
     }
 
     /**
@@ -154,20 +421,510 @@ public class EmailLexer extends AbstractLexer<Integer, String> {
      */
     @Override
     public boolean moveNext() {
-        this.previous = this.current;
+        this.previousIndex = this.currentIndex;
+        this.currentIndex = this.lookaheadIndex;
+        this.lookaheadIndex = (this.nextIndex < this.tokenCount) ? this.nextIndex++ : NO_TOKEN;
+        this.peekOffset = 0;
+
+        if (this.hasToRecord && this.currentIndex != NO_TOKEN) {
+            record(this.tokenStarts[this.currentIndex], this.tokenEnds[this.currentIndex]);
+        }
+
+        if ((this.flags & PRIMITIVE_TOKENS) == 0) {
+            this.previous = this.current;
+            this.token = tokenObject(this.currentIndex);
+            this.current = this.token;
+            this.lookahead = (this.lookaheadIndex != NO_TOKEN) ? this.tokenObjects.get(this.lookaheadIndex) : null;
+        }
+
+        return this.lookaheadIndex != NO_TOKEN;
+    }
+
+    /**
+     * Checks if the next token matches the specified type.
+     * 
+     * @param type the token type to check
+     * @return true if the next token matches the type, false otherwise
+     */
+    public boolean isNextToken(int type) {
+        return this.lookaheadIndex != NO_TOKEN && this.tokenTypes[this.lookaheadIndex] == type;
+    }
+
+    /**
+     * Checks if the next token matches the specified type.
+     * 
+     * @param type the token type to check
+     * @return true if the next token matches the type, false otherwise
+     */
+    @Override
+    public boolean isNextToken(Integer type) {
+        return type != null && isNextToken(type.intValue());
+    }
+
+    /**
+     * Checks if the next token matches any of the specified types.
+     * 
+     * @param types the list of token types to check against
+     * @return true if the next token matches any of the types, false otherwise
+     */
+    @Override
+    public boolean isNextTokenAny(List<Integer> types) {
+        if (this.lookaheadIndex == NO_TOKEN || types == null || types.isEmpty()) {
+            return false;
+        }
 
-        if (this.lookahead == null) {
-            this.lookahead = this.nullToken;
+        for (Integer type : types) {
+            if (isNextToken(type)) {
+                return true;
+            }
         }
 
-        boolean hasNext = super.moveNext();
-        this.current = (this.token != null) ? this.token : this.nullToken;
+        return false;
+    }
+
+    /**
+     * Skips tokens until finding one of the specified type.
+     * 
+     * @param type the token type to stop at
+     */
+    public void skipUntil(int type) {
+        while (this.lookaheadIndex != NO_TOKEN && this.tokenTypes[this.lookaheadIndex] != type) {
+            moveNext();
+        }
+    }
 
-        if (this.hasToRecord) {
-            this.accumulator += this.current.value;
+    /**
+     * Skips tokens until finding one of the specified type.
+     * 
+     * @param type the token type to stop at
+     */
+    @Override
+    public void skipUntil(Integer type) {
+        while (this.lookaheadIndex != NO_TOKEN && !isNextToken(type)) {
+            moveNext();
         }
+    }
 
-        return hasNext;
+    /**
+     * Peeks at the next token without advancing the position.
+     * <p>
+     * With {@link #PRIMITIVE_TOKENS} the returned token is materialized on
+     * demand; prefer {@link #peekType()} on hot paths.
+     * </p>
+     * 
+     * @return the next token, or null if at the end
+     */
+    @Override
+    public Token<Integer, String> peek() {
+        int idx = this.nextIndex + this.peekOffset;
+
+        if (idx < this.tokenCount) {
+            this.peekOffset++;
+            return materialize(idx);
+        }
+
+        return null;
+    }
+
+    /**
+     * Peeks at the type of the next token without advancing the position.
+     * 
+     * @return the type of the next token, or {@code S_EMPTY} if at the end
+     */
+    public int peekType() {
+        int idx = this.nextIndex + this.peekOffset;
+
+        if (idx < this.tokenCount) {
+            this.peekOffset++;
+            return this.tokenTypes[idx];
+        }
+
+        return S_EMPTY;
+    }
+
+    /**
+     * Takes a single glimpse at the next token and resets peek position.
+     * 
+     * @return the next token, or null if at the end
+     */
+    @Override
+    public Token<Integer, String> glimpse() {
+        Token<Integer, String> p = peek();
+        this.peekOffset = 0;
+        return p;
+    }
+
+    /**
+     * Returns the type of the current token.
+     * 
+     * @return the current token type, or {@code S_EMPTY} if there is none
+     */
+    public int currentType() {
+        return typeAt(this.currentIndex);
+    }
+
+    /**
+     * Checks if the current token matches the specified type.
+     * 
+     * @param type the token type to check
+     * @return true if the current token matches the type, false otherwise
+     */
+    public boolean isCurrentToken(int type) {
+        return typeAt(this.currentIndex) == type;
+    }
+
+    /**
+     * Returns the value of the current token, materializing it if needed.
+     * 
+     * @return the current token value, or an empty string if there is none
+     */
+    public String currentValue() {
+        return valueAt(this.currentIndex);
+    }
+
+    /**
+     * Returns the length of the current token in the input.
+     * 
+     * @return the current token length, or 0 if there is none
+     */
+    public int currentLength() {
+        return this.currentIndex == NO_TOKEN ? 0 : this.tokenEnds[this.currentIndex] - this.tokenStarts[this.currentIndex];
+    }
+
+    /**
+     * Returns the offset of the current token in the input.
+     * <p>
+     * Together with {@link #currentLength()}, this locates the token
+     * without materializing its value.
+     * </p>
+     *
+     * @return the start offset of the current token, or -1 if there is none
+     * @since 1.1.0
+     */
+    public int currentOffset() {
+        return this.currentIndex == NO_TOKEN ? -1 : this.tokenStarts[this.currentIndex];
+    }
+
+    /**
+     * Returns the first character of the current token.
+     * 
+     * @return the first character of the current token, or {@code '\0'} if there is none
+     */
+    public char currentChar() {
+        return this.currentIndex == NO_TOKEN ? '\0' : getInput().charAt(this.tokenStarts[this.currentIndex]);
+    }
+
+    /**
+     * Appends the current token to the given builder without materializing its value.
+     *
+     * @param builder the builder to append to
+     */
+    public void appendCurrentValue(StringBuilder builder) {
+        if (this.currentIndex != NO_TOKEN) {
+            builder.append(getInput(), this.tokenStarts[this.currentIndex], this.tokenEnds[this.currentIndex]);
+        }
+    }
+
+    /**
+     * Returns the type of the previous token.
+     * 
+     * @return the previous token type, or {@code S_EMPTY} if there is none
+     */
+    public int previousType() {
+        return typeAt(this.previousIndex);
+    }
+
+    /**
+     * Checks if the previous token matches the specified type.
+     * 
+     * @param type the token type to check
+     * @return true if the previous token matches the type, false otherwise
+     */
+    public boolean isPreviousToken(int type) {
+        return typeAt(this.previousIndex) == type;
+    }
+
+    /**
+     * Returns the value of the previous token, materializing it if needed.
+     * 
+     * @return the previous token value, or an empty string if there is none
+     */
+    public String previousValue() {
+        return valueAt(this.previousIndex);
+    }
+
+    /**
+     * Returns the offset of the previous token in the input.
+     *
+     * @return the start offset of the previous token, or -1 if there is none
+     * @since 1.1.0
+     */
+    public int previousOffset() {
+        return this.previousIndex == NO_TOKEN ? -1 : this.tokenStarts[this.previousIndex];
+    }
+
+    /**
+     * Returns the length of the previous token in the input.
+     *
+     * @return the previous token length, or 0 if there is none
+     * @since 1.1.0
+     */
+    public int previousLength() {
+        return this.previousIndex == NO_TOKEN ? 0 : this.tokenEnds[this.previousIndex] - this.tokenStarts[this.previousIndex];
+    }
+
+    private int typeAt(int index) {
+        return index == NO_TOKEN ? S_EMPTY : this.tokenTypes[index];
+    }
+
+    private String valueAt(int index) {
+        if (index == NO_TOKEN) {
+            return "";
+        }
+
+        if ((this.flags & PRIMITIVE_TOKENS) == 0) {
+            return this.tokenObjects.get(index).value;
+        }
+
+        return materializeValue(this.tokenTypes[index], this.tokenStarts[index], this.tokenEnds[index]);
+    }
+
+    private Token<Integer, String> tokenObject(int index) {
+        return index == NO_TOKEN ? this.nullToken : this.tokenObjects.get(index);
+    }
+
+    private Token<Integer, String> materialize(int index) {
+        if ((this.flags & PRIMITIVE_TOKENS) == 0) {
+            return this.tokenObjects.get(index);
+        }
+
+        return new Token<>(valueAt(index), this.tokenTypes[index], this.tokenStarts[index]);
+    }
+
+    /**
+     * Materializes the value of a token from the input.
+     * <p>
+     * Single Latin-1 characters and fixed tokens use shared strings, so only
+     * multi-character tokens allocate.
+     * </p>
+     * 
+     * @param type the token type
+     * @param start the start offset of the token
+     * @param end the end offset (exclusive) of the token
+     * @return the token value
+     */
+    private String materializeValue(int type, int start, int end) {
+        if (type == CRLF) {
+            return "\r\n";
+        }
+
+        if (type == S_DOUBLECOLON) {
+            return "::";
+        }
+
+        String input = getInput();
+        if (end - start == 1 && input.charAt(start) < 0x100) {
+            return LATIN1_VALUES[input.charAt(start)];
+        }
+
+        return input.substring(start, end);
+    }
+
+    /**
+     * Extends the recorded range with a token.
+     * <p>
+     * Recorded tokens are normally contiguous, so the range is kept as offsets
+     * and only materialized when read. If a token does not continue the range,
+     * for instance after recording was paused, the range recorded so far is
+     * folded into the accumulator.
+     * </p>
+     * 
+     * @param start the start offset of the token
+     * @param end the end offset (exclusive) of the token
+     */
+    private void record(int start, int end) {
+        String input = getInput();
+
+        if (this.recordStart >= 0 && (start != this.recordEnd || this.recordInput != input)) {
+            this.accumulator += this.recordInput.substring(this.recordStart, this.recordEnd);
+            this.recordStart = -1;
+        }
+
+        if (this.recordStart < 0) {
+            this.recordInput = input;
+            this.recordStart = start;
+        }
+
+        this.recordEnd = end;
+    }
+
+    /**
+     * Scans the input string and generates tokens.
+     * <p>
+     * Unless {@link #REGEX_SCANNER} is set, the input is walked once by code
+     * point and each character is classified through a lookup table, without
+     * running any regex or map lookup. The resulting tokens, types and
+     * positions are identical to those of the regex scanner.
+     * </p>
+     * 
+     * @param input the input string to scan
+     */
+    @Override
+    protected void scan(String input) {
+        if ((this.flags & REGEX_SCANNER) != 0) {
+            super.scan(input);
+            return;
+        }
+
+        int length = input.length();
+        int i = this.scanFrom;
+        if (i == 0) {
+            this.firstInvalidIndex = NO_TOKEN;
+        } else {
+            this.hasInvalidTokens = this.firstInvalidIndex != NO_TOKEN;
+            this.scanFrom = 0;
+        }
+
+        while (i < length) {
+            int start = i;
+            char c = input.charAt(i);
+            byte charClass = c < 0x80 ? ASCII_CLASSES[c] : (isCaseFoldedLetter(c) ? CLASS_LETTER : CLASS_SINGLE);
+
+            if (charClass == CLASS_LETTER) {
+                i = skipLetters(input, i + 1, length);
+
+                if (i < length && (input.charAt(i) == '4' || input.charAt(i) == '6')) {
+                    i++;
+                }
+
+                boolean ipv6Tag = i - start == 4 && input.startsWith("IPv6", start);
+                addToken(ipv6Tag ? S_IPV6TAG : GENERIC, start, i);
+                continue;
+            }
+
+            if (charClass == CLASS_DIGIT) {
+                do {
+                    i++;
+                } while (i < length && input.charAt(i) >= '0' && input.charAt(i) <= '9');
+
+                addToken(GENERIC, start, i);
+                continue;
+            }
+
+            if (charClass == CLASS_CR && i + 1 < length && input.charAt(i + 1) == '\n') {
+                i += 2;
+                addToken(CRLF, start, i);
+                continue;
+            }
+
+            if (charClass == CLASS_COLON && i + 1 < length && input.charAt(i + 1) == ':') {
+                i += 2;
+                addToken(S_DOUBLECOLON, start, i);
+                continue;
+            }
+
+            int cp = input.codePointAt(i);
+            i += Character.charCount(cp);
+            int type = LexerConstant.typeOf(cp);
+
+            if (type == INVALID) {
+                this.hasInvalidTokens = true;
+                if (this.firstInvalidIndex == NO_TOKEN) {
+                    this.firstInvalidIndex = this.tokenCount;
+                }
+            }
+
+            addToken(type, start, i);
+        }
+    }
+
+    /**
+     * Appends a token produced by the regex scanner.
+     * 
+     * @param value the token value
+     * @param type the token type
+     * @param position the position of the token in the input
+     */
+    @Override
+    protected void addToken(String value, Integer type, int position) {
+        int end = position + value.length();
+        storeToken(type, position, end);
+
+        if ((this.flags & PRIMITIVE_TOKENS) == 0) {
+            this.tokenObjects.add(new Token<>(value, type, position));
+        }
+    }
+
+    /**
+     * Appends a token produced by the table scanner.
+     * <p>
+     * The token value is only materialized when token objects are kept.
+     * </p>
+     * 
+     * @param type the token type
+     * @param start the start offset of the token
+     * @param end the end offset (exclusive) of the token
+     */
+    private void addToken(int type, int start, int end) {
+        storeToken(type, start, end);
+
+        if ((this.flags & PRIMITIVE_TOKENS) == 0) {
+            this.tokenObjects.add(new Token<>(materializeValue(type, start, end), type, start));
+        }
+    }
+
+    private void storeToken(int type, int start, int end) {
+        if (this.tokenCount == this.tokenTypes.length) {
+            int capacity = this.tokenCount * 2;
+            this.tokenTypes = Arrays.copyOf(this.tokenTypes, capacity);
+            this.tokenStarts = Arrays.copyOf(this.tokenStarts, capacity);
+            this.tokenEnds = Arrays.copyOf(this.tokenEnds, capacity);
+        }
+
+        this.tokenTypes[this.tokenCount] = type;
+        this.tokenStarts[this.tokenCount] = start;
+        this.tokenEnds[this.tokenCount] = end;
+        this.tokenCount++;
+    }
+
+    /**
+     * Skips the remaining characters of a letter run.
+     * 
+     * @param input the input string
+     * @param from the index to start skipping from
+     * @param length the length of the input
+     * @return the index of the first character after the run
+     */
+    private static int skipLetters(String input, int from, int length) {
+        int i = from;
+
+        while (i < length) {
+            char c = input.charAt(i);
+            boolean letter = c < 0x80 ? ASCII_CLASSES[c] == CLASS_LETTER : isCaseFoldedLetter(c);
+
+            if (!letter) {
+                break;
+            }
+
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * Checks if a non-ASCII character is matched by {@code [a-zA-Z]} under
+     * case-insensitive Unicode matching.
+     * <p>
+     * These are the characters whose simple case mapping falls in the ASCII
+     * letter range: dotted capital I, dotless small i, long s and Kelvin sign.
+     * </p>
+     * 
+     * @param c the character to check
+     * @return true if the character is treated as an ASCII letter, false otherwise
+     */
+    private static boolean isCaseFoldedLetter(char c) {
+        return c == '\u0130' || c == '\u0131' || c == '\u017F' || c == '\u212A';
     }
 
     /**
@@ -205,6 +962,8 @@ public class EmailLexer extends AbstractLexer<Integer, String> {
      * <p>
      * Analyzes the input value and returns the appropriate token type
      * based on character validity and special character detection.
+     * Single code points are typed through the tables of
+     * {@link LexerConstant#typeOf(int)}, without any map lookup or regex.
      * </p>
      * 
      * @param value the input value to analyze
@@ -212,6 +971,15 @@ public class EmailLexer extends AbstractLexer<Integer, String> {
      */
     @Override
     protected Integer getType(String value) {
+        int length = value.length();
+        if (length == 1 || (length == 2 && Character.isSurrogatePair(value.charAt(0), value.charAt(1)))) {
+            int type = LexerConstant.typeOf(value.codePointAt(0));
+            if (type == INVALID) {
+                this.hasInvalidTokens = true;
+            }
+            return type;
+        }
+
         if (charValue.containsKey(value)) {
             return charValue.get(value);
         }
@@ -358,7 +1126,11 @@ public class EmailLexer extends AbstractLexer<Integer, String> {
      * @return the previous token
      */
     public Token<Integer, String> getPrevious() {
-        return this.previous;
+        if ((this.flags & PRIMITIVE_TOKENS) == 0) {
+            return this.previous;
+        }
+
+        return this.previousIndex == NO_TOKEN ? this.nullToken : materialize(this.previousIndex);
     }
 
     /**
@@ -367,7 +1139,40 @@ public class EmailLexer extends AbstractLexer<Integer, String> {
      * @return the accumulated string of recorded values
      */
     public String getAccumulatedValues() {
-        return this.accumulator;
+        if (this.recordStart < 0) {
+            return this.accumulator;
+        }
+
+        String recorded = this.recordInput.substring(this.recordStart, this.recordEnd);
+        return this.accumulator.isEmpty() ? recorded : this.accumulator + recorded;
+    }
+
+    /**
+     * Returns the start offset of the recorded values in the current input.
+     * <p>
+     * Recorded values can be read as a range of the input only while they
+     * are contiguous. This method returns -1 when nothing was recorded or
+     * when the recorded values had to be folded into a string.
+     * </p>
+     *
+     * @return the start offset of the recorded range, or -1 if there is none
+     */
+    public int getRecordedStart() {
+        return isRecordedRange() ? this.recordStart : -1;
+    }
+
+    /**
+     * Returns the end offset (exclusive) of the recorded values in the current input.
+     *
+     * @return the end offset of the recorded range, or -1 if there is none
+     * @see #getRecordedStart()
+     */
+    public int getRecordedEnd() {
+        return isRecordedRange() ? this.recordEnd : -1;
+    }
+
+    private boolean isRecordedRange() {
+        return this.recordStart >= 0 && this.accumulator.isEmpty() && this.recordInput == getInput();
     }
 
     /**
@@ -392,5 +1197,7 @@ public class EmailLexer extends AbstractLexer<Integer, String> {
      */
     public void clearRecorded() {
         this.accumulator = "";
+        this.recordStart = -1;
+        this.recordEnd = -1;
     }
 }
@@ -1,13 +1,21 @@
 package io.github.rigsto.emailvalidator;
 
 import io.github.rigsto.emailvalidator.constant.Constant;
+import io.github.rigsto.emailvalidator.metrics.Instrumentation;
+import io.github.rigsto.emailvalidator.metrics.ValidationListener;
 import io.github.rigsto.emailvalidator.parser.DomainPart;
 import io.github.rigsto.emailvalidator.parser.LocalPart;
-import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.Failure;
 import io.github.rigsto.emailvalidator.result.Result;
 import io.github.rigsto.emailvalidator.result.ValidEmail;
 import io.github.rigsto.emailvalidator.result.reason.NoLocalPart;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
 import io.github.rigsto.emailvalidator.warning.EmailTooLong;
+import io.github.rigsto.emailvalidator.warning.LocalTooLong;
+import io.github.rigsto.emailvalidator.warning.TLD;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 /**
  * Parser for standard email addresses.
@@ -17,6 +25,12 @@ import io.github.rigsto.emailvalidator.warning.EmailTooLong;
  * parts, and includes validation for email length limits.
  * </p>
  * <p>
+ * Plain dot-atom addresses, without quotes, comments, domain literals or
+ * white space, are recognized by a single scan of the input and do not go
+ * through the lexer and part parsers. They get the same result and warnings
+ * as they would from the full grammar.
+ * </p>
+ * <p>
  * The parser uses specialized LocalPart and DomainPart parsers to handle
  * the specific syntax rules for each part of an email address.
  * </p>
@@ -25,42 +39,194 @@ import io.github.rigsto.emailvalidator.warning.EmailTooLong;
  * @since 0.0.1
  */
 public class EmailParser extends Parser {
+    private static final Reason NO_LOCAL_PART = new NoLocalPart();
+
+    /**
+     * Parser for the local part of the email address, reused across inputs.
+     */
+    protected final LocalPart localParser;
+
+    /**
+     * Parser for the domain part of the email address, reused across inputs.
+     */
+    protected final DomainPart domainParser;
+
+    /**
+     * The input of the last completed parse.
+     */
+    private String parsedInput;
+
+    /**
+     * Index of the {@code @} of the last input if it was accepted by the
+     * dot-atom fast path, -1 if it went through the full grammar.
+     */
+    private int dotAtomAt = -1;
 
     /**
-     * The parsed domain part of the email address.
+     * The bytes of the last input if it was accepted by the dot-atom fast
+     * path without being decoded, null otherwise.
      */
-    protected String domainPart = "";
-    
+    private byte[] parsedBytes;
+    private int parsedOffset;
+    private int parsedLength;
+
     /**
-     * The parsed local part of the email address.
+     * Whether plain dot-atom addresses skip the full grammar.
      */
-    protected String localPart = "";
+    private final boolean dotAtomFastPath;
 
     /**
      * Creates a new EmailParser instance with the specified lexer.
+     * <p>
+     * The local and domain part parsers are bound to the lexer and reused
+     * by every call to {@link #parse(String)}.
+     * </p>
      * 
      * @param lexer the lexer to use for tokenization
      */
     public EmailParser(EmailLexer lexer) {
+        this(lexer, true);
+    }
+
+    EmailParser(EmailLexer lexer, boolean dotAtomFastPath) {
         super(lexer);
+        this.localParser = new LocalPart(lexer);
+        this.domainParser = new DomainPart(lexer);
+        this.dotAtomFastPath = dotAtomFastPath;
     }
 
     /**
      * Parses the input string as an email address.
      * <p>
      * Extends the base parsing to include email length validation
-     * after successful parsing.
+     * after successful parsing. Plain dot-atom addresses are validated
+     * without running the full grammar.
      * </p>
      * 
      * @param str the email address string to parse
      * @return the parsing result
      */
-    public Result parse(String str) {
-        Result result = super.parse(str);
-        addLongEmailWarning(this.localPart, this.domainPart);
+    @Override
+    public Result parseCompact(String str) {
+        if (!this.dotAtomFastPath || str == null) {
+            return this.parseCompact(str, -1, 0);
+        }
+
+        ValidationListener listener = Instrumentation.listener();
+        long start = (listener != null) ? System.nanoTime() : 0;
+        int dotAtomAt = DotAtom.scan(str);
+        if (listener != null && dotAtomAt >= 0) {
+            // the scan stands in for lexing and parsing the address
+            listener.onStage(ValidationListener.STAGE_LEXING, System.nanoTime() - start);
+        }
+        return this.parseCompact(str, dotAtomAt, 0);
+    }
+
+    /**
+     * Parses an email address whose dot-atom scan is already known.
+     * <p>
+     * Lets a caller that scans its input incrementally, such as a
+     * {@link ValidationSession}, skip the scan, and the lexer rescan only
+     * what changed since its last input.
+     * </p>
+     * 
+     * @param str the email address string to parse
+     * @param dotAtomAt the result of {@link DotAtom#scan(String)} for the input
+     * @param unchanged the length of the prefix shared with the last input of the lexer
+     * @return the parsing result
+     */
+    Result parseCompact(String str, int dotAtomAt, int unchanged) {
+        this.localParser.reset();
+        this.domainParser.reset();
+
+        this.parsedInput = null;
+        this.parsedBytes = null;
+        this.dotAtomAt = this.dotAtomFastPath ? dotAtomAt : -1;
+
+        if (this.dotAtomAt >= 0) {
+            this.addDotAtomWarnings(str.length(), DotAtom.isTLDMissing(str, this.dotAtomAt));
+            this.parsedInput = str;
+            return ValidEmail.INSTANCE;
+        }
+
+        Result result = super.parseCompact(str, unchanged);
+        addLongEmailWarning(this.localParser.localPartLength(), this.domainParser.domainPartLength());
+
+        this.parsedInput = str;
         return result;
     }
 
+    /**
+     * Parses a UTF-8 encoded email address.
+     * <p>
+     * Plain dot-atom addresses are validated on the bytes themselves,
+     * without decoding them; any other input is decoded and parsed as a
+     * string, with the same result as {@link #parse(String)}. The parts of
+     * an address validated on its bytes are only converted to strings when
+     * requested, so the bytes must not change until then.
+     * </p>
+     *
+     * @param bytes the encoded address
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the parsing result
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     * @since 1.1.0
+     */
+    public Result parse(byte[] bytes, int offset, int length) {
+        return Failure.materialize(this.parseCompact(bytes, offset, length));
+    }
+
+    /**
+     * Parses a UTF-8 encoded email address, leaving a failure in its
+     * compact form as {@link #parseCompact(String)} does.
+     *
+     * @param bytes the encoded address
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the parsing result (ValidEmail or a Failure)
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     * @since 1.1.0
+     */
+    public Result parseCompact(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+
+        ValidationListener listener = this.dotAtomFastPath ? Instrumentation.listener() : null;
+        long start = (listener != null) ? System.nanoTime() : 0;
+        int at = this.dotAtomFastPath ? DotAtom.scan(bytes, offset, length) : -1;
+        if (at < 0) {
+            return this.parseCompact(EmailBytes.decode(bytes, offset, length));
+        }
+        if (listener != null) {
+            listener.onStage(ValidationListener.STAGE_LEXING, System.nanoTime() - start);
+        }
+
+        this.localParser.reset();
+        this.domainParser.reset();
+
+        this.parsedInput = null;
+        this.dotAtomAt = at;
+        this.addDotAtomWarnings(length, DotAtom.isTLDMissing(bytes, offset, length, at));
+
+        this.parsedBytes = bytes;
+        this.parsedOffset = offset;
+        this.parsedLength = length;
+        return ValidEmail.INSTANCE;
+    }
+
+    private void addDotAtomWarnings(int length, boolean tldMissing) {
+        this.warnings.clear();
+        if (DotAtom.isLocalTooLong(this.dotAtomAt)) {
+            this.warnings.add(new LocalTooLong());
+        }
+        if (tldMissing) {
+            this.warnings.add(new TLD());
+        }
+        if (DotAtom.isTooLong(length)) {
+            this.warnings.add(new EmailTooLong());
+        }
+    }
+
     /**
      * Performs pre-parsing validation for email addresses.
      * <p>
@@ -73,10 +239,10 @@ public class EmailParser extends Parser {
     @Override
     protected Result preLeftParsing() {
         if (!hasAtToken()) {
-            return new InvalidEmail(new NoLocalPart(), this.lexer.current.value);
+            return fail(NO_LOCAL_PART);
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     /**
@@ -109,11 +275,16 @@ public class EmailParser extends Parser {
      * @return the parsing result for the local part
      */
     private Result processLocalPart() {
-        LocalPart localParser = new LocalPart(this.lexer);
-        Result result = localParser.parse();
+        ValidationListener listener = Instrumentation.listener();
+        long start = (listener != null) ? System.nanoTime() : 0;
+        Result result = this.localParser.parse();
+        if (listener != null) {
+            listener.onStage(ValidationListener.STAGE_LOCAL_PART, System.nanoTime() - start);
+        }
 
-        this.localPart = localParser.localPart();
-        this.warnings.addAll(localParser.getWarnings());
+        if (!this.localParser.getWarnings().isEmpty()) {
+            this.warnings.addAll(this.localParser.getWarnings());
+        }
 
         return result;
     }
@@ -128,22 +299,48 @@ public class EmailParser extends Parser {
      * @return the parsing result for the domain part
      */
     private Result processDomainPart() {
-        DomainPart domainParser = new DomainPart(this.lexer);
-        Result result = domainParser.parse();
+        ValidationListener listener = Instrumentation.listener();
+        long start = (listener != null) ? System.nanoTime() : 0;
+        Result result = this.domainParser.parse();
+        if (listener != null) {
+            listener.onStage(ValidationListener.STAGE_DOMAIN_PART, System.nanoTime() - start);
+        }
 
-        this.domainPart = domainParser.domainPart();
-        this.warnings.addAll(domainParser.getWarnings());
+        if (!this.domainParser.getWarnings().isEmpty()) {
+            this.warnings.addAll(this.domainParser.getWarnings());
+        }
 
         return result;
     }
 
+    /**
+     * Checks if the last completed parse was for the given input.
+     * <p>
+     * Lets callers sharing this parser read the parts of an address that
+     * another validation already parsed instead of parsing it again.
+     * </p>
+     * 
+     * @param str the input to check
+     * @return true if the parts held by this parser belong to the input
+     */
+    boolean hasParsed(String str) {
+        return this.parsedInput == str;
+    }
+
     /**
      * Returns the parsed domain part of the email address.
      * 
      * @return the domain part string
      */
     public String getDomainPart() {
-        return this.domainPart;
+        if (this.parsedBytes != null) {
+            int start = this.parsedOffset + this.dotAtomAt + 1;
+            return new String(this.parsedBytes, start, this.parsedLength - this.dotAtomAt - 1, StandardCharsets.ISO_8859_1);
+        }
+        if (this.dotAtomAt >= 0) {
+            return this.parsedInput.substring(this.dotAtomAt + 1);
+        }
+        return this.domainParser.domainPart();
     }
 
     /**
@@ -152,7 +349,13 @@ public class EmailParser extends Parser {
      * @return the local part string
      */
     public String getLocalPart() {
-        return this.localPart;
+        if (this.parsedBytes != null) {
+            return new String(this.parsedBytes, this.parsedOffset, this.dotAtomAt, StandardCharsets.ISO_8859_1);
+        }
+        if (this.dotAtomAt >= 0) {
+            return this.parsedInput.substring(0, this.dotAtomAt);
+        }
+        return this.localParser.localPart();
     }
 
     /**
@@ -162,13 +365,11 @@ public class EmailParser extends Parser {
      * the maximum email length constant.
      * </p>
      * 
-     * @param localPart the local part of the email
-     * @param parsedDomainPart the domain part of the email
+     * @param localPartLength the length of the local part of the email
+     * @param domainPartLength the length of the domain part of the email
      */
-    private void addLongEmailWarning(String localPart, String parsedDomainPart) {
-        String text = localPart + "@" + parsedDomainPart;
-
-        if (text.length() > Constant.EMAIL_MAX_LENGTH) {
+    private void addLongEmailWarning(int localPartLength, int domainPartLength) {
+        if (localPartLength + 1 + domainPartLength > Constant.EMAIL_MAX_LENGTH) {
             this.warnings.add(new EmailTooLong());
         }
     }
@@ -1,9 +1,12 @@
 package io.github.rigsto.emailvalidator;
 
+import io.github.rigsto.emailvalidator.metrics.Instrumentation;
+import io.github.rigsto.emailvalidator.metrics.ValidationListener;
 import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.validation.EmailValidation;
 import io.github.rigsto.emailvalidator.warning.Warning;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -46,7 +49,22 @@ public class EmailValidator {
      * </p>
      */
     public EmailValidator() {
-        this.lexer = new EmailLexer();
+        this(0);
+    }
+
+    /**
+     * Creates a new EmailValidator instance whose lexer uses the specified flags.
+     * <p>
+     * With {@link EmailLexer#PRIMITIVE_TOKENS}, plain addresses are validated
+     * without allocating, but validations given the lexer can no longer read
+     * its {@code token}, {@code current} or {@code lookahead} fields.
+     * </p>
+     *
+     * @param lexerFlags bitwise combination of {@link EmailLexer} flags
+     * @since 1.1.0
+     */
+    public EmailValidator(int lexerFlags) {
+        this.lexer = new EmailLexer(lexerFlags);
     }
 
     /**
@@ -62,13 +80,75 @@ public class EmailValidator {
      * @return true if the email is valid, false otherwise
      */
     public boolean isValid(String email, EmailValidation validation) {
+        ValidationListener listener = Instrumentation.listener();
+        long start = (listener != null) ? System.nanoTime() : 0;
+        boolean isValid = validation.isValid(email, this.lexer);
+        this.collect(validation);
+        if (listener != null) {
+            this.report(listener, start, isValid);
+        }
+        return isValid;
+    }
+
+    /**
+     * Validates a UTF-8 encoded email address using the specified validation strategy.
+     * <p>
+     * Gives the same outcome as validating the decoded string, but lets
+     * validations such as {@link io.github.rigsto.emailvalidator.validation.RFCValidation}
+     * check plain ASCII addresses without decoding them.
+     * </p>
+     *
+     * @param email the encoded email address
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @param validation the validation strategy to use
+     * @return true if the email is valid, false otherwise
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     * @since 1.1.0
+     */
+    public boolean isValid(byte[] email, int offset, int length, EmailValidation validation) {
+        ValidationListener listener = Instrumentation.listener();
+        long start = (listener != null) ? System.nanoTime() : 0;
+        boolean isValid = validation.isValid(email, offset, length, this.lexer);
+        this.collect(validation);
+        if (listener != null) {
+            this.report(listener, start, isValid);
+        }
+        return isValid;
+    }
+
+    /**
+     * Validates the remaining UTF-8 bytes of a buffer using the specified validation strategy.
+     * <p>
+     * The position of the buffer is left unchanged.
+     * </p>
+     *
+     * @param email the encoded email address
+     * @param validation the validation strategy to use
+     * @return true if the email is valid, false otherwise
+     * @since 1.1.0
+     */
+    public boolean isValid(ByteBuffer email, EmailValidation validation) {
+        ValidationListener listener = Instrumentation.listener();
+        long start = (listener != null) ? System.nanoTime() : 0;
         boolean isValid = validation.isValid(email, this.lexer);
+        this.collect(validation);
+        if (listener != null) {
+            this.report(listener, start, isValid);
+        }
+        return isValid;
+    }
+
+    private void collect(EmailValidation validation) {
         this.warnings.clear();
 
         this.warnings.addAll(validation.getWarnings());
         this.error = validation.getError();
+    }
 
-        return isValid;
+    private void report(ValidationListener listener, long start, boolean isValid) {
+        listener.onStage(ValidationListener.STAGE_VALIDATION, System.nanoTime() - start);
+        listener.onResult(isValid, isValid ? null : this.error, this.warnings);
     }
 
     /**
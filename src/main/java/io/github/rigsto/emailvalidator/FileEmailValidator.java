@@ -0,0 +1,326 @@
+package io.github.rigsto.emailvalidator;
+
+import io.github.rigsto.emailvalidator.result.FileValidationSummary;
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.reason.InputTooLong;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
+import io.github.rigsto.emailvalidator.validation.EmailValidation;
+import io.github.rigsto.emailvalidator.validation.RFCValidation;
+import io.github.rigsto.emailvalidator.warning.Warning;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validates newline-delimited files of email addresses in constant memory.
+ * <p>
+ * The input is either memory-mapped, one window at a time, or read from a
+ * channel into a fixed buffer. Lines are located directly in those buffers
+ * and validated one by one, on their bytes, with a single reused lexer and
+ * validation, so the memory used does not depend on the size of the input.
+ * </p>
+ * <p>
+ * Lines are assembled in a buffer of {@link #MAX_LINE_LENGTH} bytes, enough
+ * for any address of {@link Prefilter#DEFAULT_MAX_LENGTH} chars. The bytes of
+ * a longer line are skipped up to the next {@code LF} and the line is
+ * reported as invalid with the {@link InputTooLong} reason, so a corrupt
+ * file without line breaks cannot exhaust the memory.
+ * </p>
+ * <p>
+ * For every input line one output line is written, in the same order, made
+ * of three tab-separated fields:
+ * </p>
+ * <pre>
+ * verdict TAB reason TAB warnings LF
+ * </pre>
+ * <p>
+ * where {@code verdict} is {@code 1} for a valid address and {@code 0} for
+ * an invalid one, {@code reason} is the {@link io.github.rigsto.emailvalidator.result.reason.Reason#code() reason code}
+ * of an invalid address, or {@code 0}, and {@code warnings} is the
+ * comma-separated list of {@link Warning#code() warning codes}, empty if
+ * there are none.
+ * </p>
+ * <p>
+ * Lines are decoded as UTF-8. A {@code CR} right before the {@code LF} is
+ * not part of the address, so files with either line ending can be used. A
+ * last line without a terminating {@code LF} is validated as well.
+ * </p>
+ * <p>
+ * Instances are not thread-safe; use one per file.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class FileEmailValidator {
+
+    /**
+     * Size of the windows used to memory-map the input.
+     */
+    static final int MAP_WINDOW_SIZE = 1 << 28;
+
+    /**
+     * Size of the buffers used to read the input and write the output.
+     */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Longest line validated, in bytes: the UTF-8 encoding of an address of
+     * {@link Prefilter#DEFAULT_MAX_LENGTH} chars, each taking at most three bytes.
+     */
+    public static final int MAX_LINE_LENGTH = 3 * Prefilter.DEFAULT_MAX_LENGTH;
+
+    private static final Reason INPUT_TOO_LONG = new InputTooLong();
+
+    /**
+     * Longest output line, beyond the warning codes.
+     */
+    private static final int MAX_LINE_PREFIX = 16;
+
+    /**
+     * Longest encoding of a single warning code with its separator.
+     */
+    private static final int MAX_WARNING_LENGTH = 12;
+
+    /**
+     * The validation applied to every line.
+     */
+    private final EmailValidation validation;
+
+    /**
+     * The lexer reused for every line.
+     */
+    private final EmailLexer lexer = new EmailLexer(EmailLexer.PRIMITIVE_TOKENS);
+
+    /**
+     * Bytes of the line being assembled, with room for a trailing CR.
+     */
+    private final byte[] line = new byte[MAX_LINE_LENGTH + 1];
+
+    /**
+     * Number of bytes of the line being assembled.
+     */
+    private int lineLength;
+
+    /**
+     * Whether the line being assembled is over the maximum length and its bytes are skipped.
+     */
+    private boolean tooLong;
+
+    /**
+     * Buffered output, flushed to the output channel when full.
+     */
+    private final ByteBuffer out = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * The channel receiving the output of the current run.
+     */
+    private WritableByteChannel output;
+
+    private long lines;
+    private long valid;
+
+    /**
+     * Creates a file validator performing {@link RFCValidation}.
+     */
+    public FileEmailValidator() {
+        this(new RFCValidation());
+    }
+
+    /**
+     * Creates a file validator performing the given validation.
+     *
+     * @param validation the validation applied to every line
+     * @throws NullPointerException if the validation is null
+     */
+    public FileEmailValidator(EmailValidation validation) {
+        this.validation = Objects.requireNonNull(validation, "validation");
+    }
+
+    /**
+     * Validates a file, writing the verdicts to another file.
+     * <p>
+     * The output file is created, or truncated if it already exists.
+     * </p>
+     *
+     * @param input the file of addresses, one per line
+     * @param output the file receiving one verdict per line
+     * @return the number of lines and valid addresses
+     * @throws IOException if reading or writing fails
+     */
+    public FileValidationSummary validate(Path input, Path output) throws IOException {
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            return this.validate(input, out);
+        }
+    }
+
+    /**
+     * Validates a file by memory-mapping it, writing the verdicts to a channel.
+     * <p>
+     * The file is mapped in windows of 256 MiB, so files of any size can be
+     * validated. The output channel is left open.
+     * </p>
+     *
+     * @param input the file of addresses, one per line
+     * @param output the channel receiving one verdict per line
+     * @return the number of lines and valid addresses
+     * @throws IOException if reading or writing fails
+     */
+    public FileValidationSummary validate(Path input, WritableByteChannel output) throws IOException {
+        this.start(output);
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = in.size();
+            for (long position = 0; position < size; position += MAP_WINDOW_SIZE) {
+                this.consume(in.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_WINDOW_SIZE, size - position)));
+            }
+        }
+        return this.finish();
+    }
+
+    /**
+     * Validates the addresses read from a channel, writing the verdicts to another channel.
+     * <p>
+     * The input is read through a 64 KiB buffer until the end of the stream.
+     * Neither channel is closed.
+     * </p>
+     *
+     * @param input the channel of addresses, one per line
+     * @param output the channel receiving one verdict per line
+     * @return the number of lines and valid addresses
+     * @throws IOException if reading or writing fails
+     */
+    public FileValidationSummary validate(ReadableByteChannel input, WritableByteChannel output) throws IOException {
+        this.start(output);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        while (input.read(buffer) >= 0) {
+            buffer.flip();
+            this.consume(buffer);
+            buffer.clear();
+        }
+        return this.finish();
+    }
+
+    private void start(WritableByteChannel output) {
+        this.output = Objects.requireNonNull(output, "output");
+        this.out.clear();
+        this.lineLength = 0;
+        this.tooLong = false;
+        this.lines = 0;
+        this.valid = 0;
+    }
+
+    private FileValidationSummary finish() throws IOException {
+        if (this.lineLength > 0 || this.tooLong) {
+            this.validateLine();
+        }
+        this.flush();
+        this.output = null;
+        return new FileValidationSummary(this.lines, this.valid);
+    }
+
+    /**
+     * Validates every line ending in the buffer, keeping the trailing partial
+     * line for the next buffer.
+     */
+    private void consume(ByteBuffer buffer) throws IOException {
+        int position = buffer.position();
+        int limit = buffer.limit();
+        int start = position;
+
+        for (int i = position; i < limit; i++) {
+            if (buffer.get(i) == '\n') {
+                this.append(buffer, start, i);
+                this.validateLine();
+                start = i + 1;
+            }
+        }
+        this.append(buffer, start, limit);
+        buffer.position(limit);
+    }
+
+    private void append(ByteBuffer buffer, int from, int to) {
+        int length = to - from;
+        if (length == 0 || this.tooLong) {
+            return;
+        }
+        if (this.lineLength + length > this.line.length) {
+            this.tooLong = true;
+            return;
+        }
+        buffer.get(from, this.line, this.lineLength, length);
+        this.lineLength += length;
+    }
+
+    private void validateLine() throws IOException {
+        int length = this.lineLength;
+        if (length > 0 && this.line[length - 1] == '\r') {
+            length--;
+        }
+        this.lineLength = 0;
+        this.lines++;
+
+        if (this.tooLong) {
+            this.tooLong = false;
+            this.ensureOutput(MAX_LINE_PREFIX);
+            this.out.put((byte) '0').put((byte) '\t');
+            this.putInt(INPUT_TOO_LONG.code());
+            this.out.put((byte) '\t').put((byte) '\n');
+            return;
+        }
+
+        boolean isValid = this.validation.isValid(this.line, 0, length, this.lexer);
+        List<Warning> warnings = this.validation.getWarnings();
+        this.ensureOutput(MAX_LINE_PREFIX + warnings.size() * MAX_WARNING_LENGTH);
+
+        if (isValid) {
+            this.valid++;
+            this.out.put((byte) '1').put((byte) '\t').put((byte) '0');
+        } else {
+            InvalidEmail error = this.validation.getError();
+            this.out.put((byte) '0').put((byte) '\t');
+            this.putInt(error == null ? 0 : error.code());
+        }
+        this.out.put((byte) '\t');
+
+        for (int i = 0; i < warnings.size(); i++) {
+            if (i > 0) {
+                this.out.put((byte) ',');
+            }
+            this.putInt(warnings.get(i).code());
+        }
+        this.out.put((byte) '\n');
+    }
+
+    private void putInt(int value) {
+        if (value < 0) {
+            this.out.put((byte) '-');
+            value = -value;
+        }
+        if (value >= 10) {
+            this.putInt(value / 10);
+        }
+        this.out.put((byte) ('0' + value % 10));
+    }
+
+    private void ensureOutput(int length) throws IOException {
+        if (this.out.remaining() < length) {
+            this.flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        this.out.flip();
+        while (this.out.hasRemaining()) {
+            this.output.write(this.out);
+        }
+        this.out.clear();
+    }
+}
@@ -3,10 +3,10 @@ package io.github.rigsto.emailvalidator;
 import io.github.rigsto.emailvalidator.constant.Constant;
 import io.github.rigsto.emailvalidator.parser.IDLeftPart;
 import io.github.rigsto.emailvalidator.parser.IDRightPart;
-import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.result.Result;
 import io.github.rigsto.emailvalidator.result.ValidEmail;
 import io.github.rigsto.emailvalidator.result.reason.NoLocalPart;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
 import io.github.rigsto.emailvalidator.warning.EmailTooLong;
 
 /**
@@ -25,6 +25,7 @@ import io.github.rigsto.emailvalidator.warning.EmailTooLong;
  * @since 0.0.1
  */
 public class MessageIDParser extends Parser {
+    private static final Reason NO_LOCAL_PART = new NoLocalPart();
 
     /**
      * The parsed left part of the Message-ID.
@@ -56,8 +57,8 @@ public class MessageIDParser extends Parser {
      * @return the parsing result
      */
     @Override
-    public Result parse(String str) {
-        Result result = super.parse(str);
+    public Result parseCompact(String str) {
+        Result result = super.parseCompact(str);
         addLongEmailWarning(this.idLeft, this.idRight);
         return result;
     }
@@ -74,10 +75,10 @@ public class MessageIDParser extends Parser {
     @Override
     protected Result preLeftParsing() {
         if (!hasAtToken()) {
-            return new InvalidEmail(new NoLocalPart(), this.lexer.current.value);
+            return fail(NO_LOCAL_PART);
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     /**
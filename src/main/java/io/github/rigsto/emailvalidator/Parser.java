@@ -1,13 +1,16 @@
 package io.github.rigsto.emailvalidator;
 
 import io.github.rigsto.emailvalidator.constant.LexerConstant;
-import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.metrics.Instrumentation;
+import io.github.rigsto.emailvalidator.metrics.ValidationListener;
+import io.github.rigsto.emailvalidator.result.Failure;
 import io.github.rigsto.emailvalidator.result.Result;
 import io.github.rigsto.emailvalidator.result.ValidEmail;
 import io.github.rigsto.emailvalidator.result.reason.ExpectingATEXT;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
 import io.github.rigsto.emailvalidator.warning.Warning;
+import io.github.rigsto.emailvalidator.warning.WarningSet;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -26,16 +29,24 @@ import java.util.Set;
  * @since 0.0.1
  */
 abstract class Parser {
+    private static final Reason INVALID_TOKENS = new ExpectingATEXT("Invalid tokens found");
+
     /**
-     * Set of warnings collected during parsing.
+     * Set of warnings collected during parsing, a {@link WarningSet} holding
+     * them as a bit mask of warning types.
      */
-    protected Set<Warning> warnings = new HashSet<>();
+    protected Set<Warning> warnings = new WarningSet();
     
     /**
      * The lexer used for tokenizing the input.
      */
     protected EmailLexer lexer;
 
+    /**
+     * The failure returned by this parser, overwritten by its next failure.
+     */
+    private final Failure failure = new Failure();
+
     /**
      * Parses the right part of the email (domain part).
      * <p>
@@ -81,22 +92,62 @@ abstract class Parser {
     /**
      * Parses the input string according to email syntax rules.
      * <p>
+     * A failure is returned as an InvalidEmail that the caller may keep. See {@link #parseCompact(String)} for the
+     * steps of the parsing.
+     * </p>
+     * 
+     * @param str the input string to parse
+     * @return the parsing result (ValidEmail or InvalidEmail)
+     */
+    public Result parse(String str) {
+        return Failure.materialize(this.parseCompact(str));
+    }
+
+    /**
+     * Parses the input string, leaving a failure in its compact form.
+     * <p>
      * This method orchestrates the parsing process by:
-     * 1. Setting the input on the lexer
+     * 1. Clearing the warnings of a previous parse and setting the input on the lexer
      * 2. Checking for invalid tokens
      * 3. Performing pre-parsing validation
      * 4. Parsing the left part (local part)
      * 5. Parsing the right part (domain part)
      * </p>
+     * <p>
+     * A failure is returned as a {@link Failure} owned by one of the
+     * parsers, which records the reason and the offset of the token without
+     * building the description. It is overwritten by the next parse, so
+     * callers keeping it must copy it or call {@link Failure#toInvalidEmail()}.
+     * </p>
      * 
      * @param str the input string to parse
-     * @return the parsing result (ValidEmail or InvalidEmail)
+     * @return the parsing result (ValidEmail or a Failure)
+     * @since 1.1.0
      */
-    public Result parse(String str) {
-        this.lexer.setInput(str);
+    public Result parseCompact(String str) {
+        return this.parseCompact(str, 0);
+    }
+
+    /**
+     * Parses an input that starts like the one the lexer last scanned.
+     * 
+     * @param str the input string to parse
+     * @param unchanged the length of the prefix shared with the last input of the lexer
+     * @return the parsing result (ValidEmail or a Failure)
+     * @see EmailLexer#setInput(String, int)
+     */
+    Result parseCompact(String str, int unchanged) {
+        this.warnings.clear();
+
+        ValidationListener listener = Instrumentation.listener();
+        long start = (listener != null) ? System.nanoTime() : 0;
+        this.lexer.setInput(str, unchanged);
+        if (listener != null) {
+            listener.onStage(ValidationListener.STAGE_LEXING, System.nanoTime() - start);
+        }
 
         if (this.lexer.hasInvalidTokens()) {
-            return new InvalidEmail(new ExpectingATEXT("Invalid tokens found"), this.lexer.current.value);
+            return fail(INVALID_TOKENS);
         }
 
         Result preParsingResult = preLeftParsing();
@@ -117,7 +168,7 @@ abstract class Parser {
             return domainPartResult;
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     /**
@@ -129,6 +180,16 @@ abstract class Parser {
         return this.warnings;
     }
 
+    /**
+     * Reports a failure caused by the current token.
+     * 
+     * @param reason the reason for the failure
+     * @return the failure of this parser
+     */
+    protected Result fail(Reason reason) {
+        return this.failure.set(reason, this.lexer.getInput(), this.lexer.currentOffset(), this.lexer.currentLength());
+    }
+
     /**
      * Checks if the input contains an @ symbol.
      * <p>
@@ -0,0 +1,209 @@
+package io.github.rigsto.emailvalidator;
+
+import io.github.rigsto.emailvalidator.constant.Constant;
+import io.github.rigsto.emailvalidator.parser.DomainPart;
+import io.github.rigsto.emailvalidator.result.Failure;
+import io.github.rigsto.emailvalidator.result.Result;
+import io.github.rigsto.emailvalidator.result.ValidEmail;
+import io.github.rigsto.emailvalidator.result.reason.CharNotAllowed;
+import io.github.rigsto.emailvalidator.result.reason.DomainTooLong;
+import io.github.rigsto.emailvalidator.result.reason.InputTooLong;
+import io.github.rigsto.emailvalidator.result.reason.LocalPartTooLong;
+import io.github.rigsto.emailvalidator.result.reason.NoDomainPart;
+import io.github.rigsto.emailvalidator.result.reason.NoLocalPart;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
+
+import java.util.Objects;
+
+/**
+ * Structural checks run on an input before it reaches the lexer.
+ * <p>
+ * The parser only measures an address once it has tokenized and parsed
+ * all of it, and reports long addresses as warnings. A prefilter rejects
+ * inputs that cannot be acceptable addresses with a single pass over the
+ * characters, without building tokens:
+ * </p>
+ * <ul>
+ *   <li>inputs longer than the maximum length, rejected before any character is read;</li>
+ *   <li>inputs without an {@code @}, or with nothing before or after the last one;</li>
+ *   <li>optionally, local parts over {@link Constant#LOCAL_PART_LENGTH} and domains
+ *       over {@link DomainPart#DOMAIN_MAX_LENGTH} characters;</li>
+ *   <li>optionally, control characters other than the tab, CR and LF used by
+ *       folding white space.</li>
+ * </ul>
+ * <p>
+ * The cost of a check is bounded by the maximum length whatever the size of
+ * the input, which makes a prefilter a guard against clients sending huge
+ * strings. Length limits that the parser treats as warnings become errors,
+ * so a prefilter is opt-in, for instance through
+ * {@link io.github.rigsto.emailvalidator.validation.RFCValidation#RFCValidation(Prefilter)}.
+ * Instances are immutable and can be shared between threads.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public final class Prefilter {
+
+    /**
+     * Default maximum length, the longest local part, an {@code @} and the
+     * longest domain.
+     */
+    public static final int DEFAULT_MAX_LENGTH = Constant.LOCAL_PART_LENGTH + 1 + DotAtom.DOMAIN_MAX_LENGTH;
+
+    /**
+     * Number of UTF-8 bytes that may encode a single UTF-16 char.
+     */
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    private static final Reason INPUT_TOO_LONG = new InputTooLong();
+    private static final Reason NO_LOCAL_PART = new NoLocalPart();
+    private static final Reason NO_DOMAIN_PART = new NoDomainPart();
+    private static final Reason LOCAL_PART_TOO_LONG = new LocalPartTooLong();
+    private static final Reason DOMAIN_TOO_LONG = new DomainTooLong();
+    private static final Reason CHAR_NOT_ALLOWED = new CharNotAllowed();
+
+    private final int maxLength;
+    private final boolean checkPartLengths;
+    private final boolean rejectControlChars;
+
+    /**
+     * Creates a prefilter with the default maximum length, checking part
+     * lengths and rejecting control characters.
+     */
+    public Prefilter() {
+        this(DEFAULT_MAX_LENGTH, true, true);
+    }
+
+    /**
+     * Creates a prefilter.
+     *
+     * @param maxLength the longest input accepted, in chars
+     * @param checkPartLengths whether local parts and domains over their maximum length are rejected
+     * @param rejectControlChars whether control characters other than tab, CR and LF are rejected
+     * @throws IllegalArgumentException if maxLength is not positive
+     */
+    public Prefilter(int maxLength, boolean checkPartLengths, boolean rejectControlChars) {
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("maxLength must be positive: " + maxLength);
+        }
+        this.maxLength = maxLength;
+        this.checkPartLengths = checkPartLengths;
+        this.rejectControlChars = rejectControlChars;
+    }
+
+    /**
+     * Returns the longest input accepted.
+     *
+     * @return the maximum length, in chars
+     */
+    public int maxLength() {
+        return this.maxLength;
+    }
+
+    /**
+     * Checks an input.
+     *
+     * @param input the input to check
+     * @return ValidEmail if the input may be an address, InvalidEmail otherwise
+     */
+    public Result check(String input) {
+        return Failure.materialize(this.check(input, new Failure()));
+    }
+
+    /**
+     * Checks an input, recording a rejection in the given failure.
+     *
+     * @param input the input to check, null being treated as empty
+     * @param failure the failure to record a rejection in
+     * @return ValidEmail if the input may be an address, the failure otherwise
+     */
+    public Result check(String input, Failure failure) {
+        String str = (input != null) ? input : "";
+        int length = str.length();
+        if (length > this.maxLength) {
+            return failure.set(INPUT_TOO_LONG, str, -1, 0);
+        }
+
+        int at = -1;
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+            if (c == '@') {
+                at = i;
+            } else if (this.rejectControlChars && isControl(c)) {
+                return failure.set(CHAR_NOT_ALLOWED, str, i, 1);
+            }
+        }
+
+        return this.checkParts(str, at, length, failure);
+    }
+
+    /**
+     * Checks a UTF-8 encoded input, recording a rejection in the given failure.
+     * <p>
+     * Lengths are counted in UTF-16 chars, with the same outcome as for the
+     * decoded string. ASCII input is checked on its bytes; other input is
+     * decoded first, which stays bounded as inputs over three bytes per
+     * allowed char are rejected before being read.
+     * </p>
+     *
+     * @param bytes the encoded input
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @param failure the failure to record a rejection in
+     * @return ValidEmail if the input may be an address, the failure otherwise
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     */
+    public Result check(byte[] bytes, int offset, int length, Failure failure) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if ((long) length > (long) MAX_BYTES_PER_CHAR * this.maxLength) {
+            return failure.set(INPUT_TOO_LONG, "", -1, 0);
+        }
+
+        int at = -1;
+        int control = -1;
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[offset + i];
+            if (b < 0) {
+                return this.check(EmailBytes.decode(bytes, offset, length), failure);
+            }
+            if (b == '@') {
+                at = i;
+            } else if (control == -1 && this.rejectControlChars && isControl((char) b)) {
+                control = i;
+            }
+        }
+
+        if (length > this.maxLength) {
+            return failure.set(INPUT_TOO_LONG, "", -1, 0);
+        }
+        if (control != -1) {
+            return failure.set(CHAR_NOT_ALLOWED, String.valueOf((char) bytes[offset + control]), 0, 1);
+        }
+        return this.checkParts("", at, length, failure);
+    }
+
+    private Result checkParts(String input, int at, int length, Failure failure) {
+        if (at <= 0) {
+            return failure.set(NO_LOCAL_PART, input, -1, 0);
+        }
+        if (at == length - 1) {
+            return failure.set(NO_DOMAIN_PART, input, -1, 0);
+        }
+
+        if (this.checkPartLengths) {
+            if (at > Constant.LOCAL_PART_LENGTH) {
+                return failure.set(LOCAL_PART_TOO_LONG, input, -1, 0);
+            }
+            if (length - at - 1 > DomainPart.DOMAIN_MAX_LENGTH) {
+                return failure.set(DOMAIN_TOO_LONG, input, -1, 0);
+            }
+        }
+
+        return ValidEmail.INSTANCE;
+    }
+
+    private static boolean isControl(char c) {
+        return (c < 0x20 && c != '\t' && c != '\r' && c != '\n') || c == 0x7F;
+    }
+}
@@ -0,0 +1,251 @@
+package io.github.rigsto.emailvalidator;
+
+import io.github.rigsto.emailvalidator.metrics.Instrumentation;
+import io.github.rigsto.emailvalidator.metrics.ValidationListener;
+import io.github.rigsto.emailvalidator.result.Failure;
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.Result;
+import io.github.rigsto.emailvalidator.result.ValidationResult;
+import io.github.rigsto.emailvalidator.result.reason.ExceptionFound;
+import io.github.rigsto.emailvalidator.validation.EmailValidation;
+import io.github.rigsto.emailvalidator.validation.RFCValidation;
+
+import io.github.rigsto.emailvalidator.warning.Warning;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe email validator returning immutable results.
+ * <p>
+ * {@link EmailValidator} and the {@link EmailValidation} implementations keep
+ * the outcome of the last call in mutable fields, so they cannot be shared
+ * between threads. This class can: a single instance may be used by any
+ * number of threads at the same time, without locking, and every call
+ * returns its own {@link ValidationResult}.
+ * </p>
+ * <p>
+ * A validator created without factory performs {@link RFCValidation} without
+ * any validation instance: it reads the outcome, the error and the warnings
+ * straight from the parser of the calling thread's {@link ValidationContext}
+ * into the returned result, and holds no state of its own.
+ * </p>
+ * <p>
+ * A validator created from a factory cannot do so, since the validations it
+ * builds report their outcome through their own fields. It creates one
+ * validation per thread that uses it, on first use, and keeps it for the
+ * following calls on that thread; the factory must therefore return a new
+ * instance on every call. These validations are held by a map shared by all
+ * the validators of the thread and weakly referencing them, so a validator
+ * that is no longer used does not pin its validations in every thread it
+ * ran on, but a validator that stays in use keeps one validation per thread
+ * of the pools calling it. The parts of the results are those parsed by the
+ * validation when it parsed the address, as RFC-based validations do, and
+ * otherwise the text around the last {@code @}, without parsing the address
+ * again.
+ * </p>
+ *
+ * <pre>{@code
+ * StatelessEmailValidator validator = new StatelessEmailValidator(NoRFCWarningsValidation::new);
+ * ValidationResult result = validator.validate("example@example.com");
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class StatelessEmailValidator {
+
+    /**
+     * The validations of the calling thread, by the validator that created them.
+     */
+    private static final ThreadLocal<Map<StatelessEmailValidator, EmailValidation>> VALIDATIONS =
+            ThreadLocal.withInitial(WeakHashMap::new);
+
+    /**
+     * Creates the validation of each thread, null to parse without validation instance.
+     */
+    private final Supplier<? extends EmailValidation> validationFactory;
+
+    /**
+     * Creates a validator performing {@link RFCValidation}.
+     */
+    public StatelessEmailValidator() {
+        this.validationFactory = null;
+    }
+
+    /**
+     * Creates a validator performing the validations built by the given factory.
+     *
+     * @param validationFactory creates a new validation for each thread
+     * @throws NullPointerException if the factory is null
+     */
+    public StatelessEmailValidator(Supplier<? extends EmailValidation> validationFactory) {
+        this.validationFactory = Objects.requireNonNull(validationFactory, "validationFactory");
+    }
+
+    /**
+     * Validates an email address.
+     *
+     * @param email the email address to validate
+     * @return the outcome of the validation
+     */
+    public ValidationResult validate(String email) {
+        ValidationContext context = ValidationContext.current();
+        EmailLexer lexer = context.lexer();
+        EmailParser parser = context.emailParser(lexer);
+        ValidationListener listener = Instrumentation.listener();
+        long start = (listener != null) ? System.nanoTime() : 0;
+
+        if (this.validationFactory == null) {
+            Result result = parse(parser, email);
+            boolean valid = result.isValid();
+            InvalidEmail error = valid ? null : (InvalidEmail) Failure.materialize(result);
+            List<Warning> warnings = List.copyOf(parser.getWarnings());
+            if (listener != null) {
+                listener.onStage(ValidationListener.STAGE_VALIDATION, System.nanoTime() - start);
+                listener.onResult(valid, error, warnings);
+            }
+            return new ValidationResult(valid, error, warnings, parser.getLocalPart(), parser.getDomainPart());
+        }
+
+        EmailValidation validation = this.validation();
+        boolean valid = validation.isValid(email, lexer);
+        if (listener != null) {
+            report(listener, start, valid, validation);
+        }
+
+        if (!parser.hasParsed(email)) {
+            // parsing again only for the parts would undo caching and non-RFC validations
+            return ValidationResult.ofUnparsed(email, valid, validation.getError(), validation.getWarnings());
+        }
+
+        return new ValidationResult(
+                valid,
+                valid ? null : validation.getError(),
+                validation.getWarnings(),
+                parser.getLocalPart(),
+                parser.getDomainPart()
+        );
+    }
+
+    /**
+     * Checks if an email address is valid.
+     *
+     * @param email the email address to validate
+     * @return true if the email is valid, false otherwise
+     */
+    public boolean isValid(String email) {
+        if (this.validationFactory == null) {
+            ValidationContext context = ValidationContext.current();
+            EmailParser parser = context.emailParser(context.lexer());
+            ValidationListener listener = Instrumentation.listener();
+            long start = (listener != null) ? System.nanoTime() : 0;
+            Result result = parse(parser, email);
+            if (listener != null) {
+                report(listener, start, result, parser);
+            }
+            return result.isValid();
+        }
+        EmailValidation validation = this.validation();
+        ValidationListener listener = Instrumentation.listener();
+        long start = (listener != null) ? System.nanoTime() : 0;
+        boolean valid = validation.isValid(email, ValidationContext.current().lexer());
+        if (listener != null) {
+            report(listener, start, valid, validation);
+        }
+        return valid;
+    }
+
+    /**
+     * Checks if a UTF-8 encoded email address is valid.
+     *
+     * @param email the encoded email address
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return true if the email is valid, false otherwise
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     */
+    public boolean isValid(byte[] email, int offset, int length) {
+        if (this.validationFactory == null) {
+            Objects.checkFromIndexSize(offset, length, email.length);
+            ValidationContext context = ValidationContext.current();
+            EmailParser parser = context.emailParser(context.lexer());
+            ValidationListener listener = Instrumentation.listener();
+            long start = (listener != null) ? System.nanoTime() : 0;
+            Result result;
+            try {
+                result = parser.parseCompact(email, offset, length);
+            } catch (Exception e) {
+                result = new InvalidEmail(new ExceptionFound(e), "");
+            }
+            if (listener != null) {
+                report(listener, start, result, parser);
+            }
+            return result.isValid();
+        }
+        EmailValidation validation = this.validation();
+        ValidationListener listener = Instrumentation.listener();
+        long start = (listener != null) ? System.nanoTime() : 0;
+        boolean valid = validation.isValid(email, offset, length, ValidationContext.current().lexer());
+        if (listener != null) {
+            report(listener, start, valid, validation);
+        }
+        return valid;
+    }
+
+    /**
+     * Checks if the remaining UTF-8 bytes of a buffer are a valid email
+     * address, without changing the position of the buffer.
+     *
+     * @param email the encoded email address
+     * @return true if the email is valid, false otherwise
+     */
+    public boolean isValid(ByteBuffer email) {
+        if (this.validationFactory == null) {
+            if (email.hasArray()) {
+                return this.isValid(email.array(), email.arrayOffset() + email.position(), email.remaining());
+            }
+            byte[] bytes = new byte[email.remaining()];
+            email.get(email.position(), bytes);
+            return this.isValid(bytes, 0, bytes.length);
+        }
+        EmailValidation validation = this.validation();
+        ValidationListener listener = Instrumentation.listener();
+        long start = (listener != null) ? System.nanoTime() : 0;
+        boolean valid = validation.isValid(email, ValidationContext.current().lexer());
+        if (listener != null) {
+            report(listener, start, valid, validation);
+        }
+        return valid;
+    }
+
+    /**
+     * Returns the validation of the calling thread, creating it on first use.
+     */
+    private EmailValidation validation() {
+        return VALIDATIONS.get().computeIfAbsent(this, validator -> validator.validationFactory.get());
+    }
+
+    private static Result parse(EmailParser parser, String email) {
+        try {
+            return parser.parseCompact(email);
+        } catch (Exception e) {
+            return new InvalidEmail(new ExceptionFound(e), "");
+        }
+    }
+
+    private static void report(ValidationListener listener, long start, boolean valid, EmailValidation validation) {
+        listener.onStage(ValidationListener.STAGE_VALIDATION, System.nanoTime() - start);
+        listener.onResult(valid, valid ? null : validation.getError(), validation.getWarnings());
+    }
+
+    private static void report(ValidationListener listener, long start, Result result, EmailParser parser) {
+        listener.onStage(ValidationListener.STAGE_VALIDATION, System.nanoTime() - start);
+        listener.onResult(result.isValid(), result.isValid() ? null : (InvalidEmail) Failure.materialize(result),
+                List.copyOf(parser.getWarnings()));
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.rigsto.emailvalidator;
+
+/**
+ * Per-thread holder of reusable validation state.
+ * <p>
+ * Parsers and lexers keep growable buffers and nested parsers that can be
+ * reused from one input to the next. This class keeps one such set per
+ * thread so that validations running on the same thread do not rebuild
+ * them for every call. Once the buffers have grown to fit the inputs seen,
+ * validating a plain address allocates nothing.
+ * </p>
+ * <p>
+ * The state held here is not thread-safe and must not be shared: use
+ * {@link #current()} on the thread that performs the validation.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public final class ValidationContext {
+
+    /**
+     * The context of each thread, created on first use.
+     */
+    private static final ThreadLocal<ValidationContext> CURRENT = ThreadLocal.withInitial(ValidationContext::new);
+
+    /**
+     * Lexer owned by this context, storing tokens in primitive form.
+     */
+    private final EmailLexer lexer = new EmailLexer(EmailLexer.PRIMITIVE_TOKENS);
+
+    /**
+     * Email parser bound to the lexer it was last requested for.
+     */
+    private EmailParser emailParser;
+
+    private ValidationContext() {
+    }
+
+    /**
+     * Returns the validation context of the calling thread.
+     *
+     * @return the context of the current thread
+     */
+    public static ValidationContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns the lexer owned by this context.
+     * <p>
+     * The lexer does not create token objects, so callers only have access
+     * to the int based accessors of {@link EmailLexer}.
+     * </p>
+     *
+     * @return the reusable lexer
+     */
+    public EmailLexer lexer() {
+        return this.lexer;
+    }
+
+    /**
+     * Returns a reusable email parser bound to the given lexer.
+     * <p>
+     * The parser is kept between calls and only rebuilt when a different
+     * lexer is passed in. The returned parser resets itself at the start
+     * of every parse, so results and warnings must be read before the
+     * next validation on this thread.
+     * </p>
+     *
+     * @param lexer the lexer the parser should read from
+     * @return the email parser for the lexer
+     */
+    public EmailParser emailParser(EmailLexer lexer) {
+        if (this.emailParser == null || this.emailParser.lexer != lexer) {
+            this.emailParser = new EmailParser(lexer);
+        }
+        return this.emailParser;
+    }
+
+    /**
+     * Drops the parsers held by this context.
+     * <p>
+     * The next request builds them again. This releases the references to
+     * the last lexer and input that were validated on this thread.
+     * </p>
+     */
+    public void reset() {
+        this.emailParser = null;
+    }
+}
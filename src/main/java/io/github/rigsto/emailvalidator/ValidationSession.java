@@ -0,0 +1,175 @@
+package io.github.rigsto.emailvalidator;
+
+import io.github.rigsto.emailvalidator.result.Failure;
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.Result;
+import io.github.rigsto.emailvalidator.result.reason.ExceptionFound;
+import io.github.rigsto.emailvalidator.warning.Warning;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validates an address while it is being typed.
+ * <p>
+ * A session keeps the text of a single input field and revalidates it after
+ * every edit, with the same outcome as
+ * {@link io.github.rigsto.emailvalidator.validation.RFCValidation} on the
+ * whole text. Only the part of the text after the edit is read again:
+ * </p>
+ * <ul>
+ *   <li>plain dot-atom addresses are checked by a scan that resumes from the
+ *       end of the unchanged prefix, so typing a character costs a few steps
+ *       whatever the length of the text;</li>
+ *   <li>other inputs are parsed again over tokens that the lexer only rebuilds
+ *       from the first token the edit touched.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * ValidationSession session = new ValidationSession();
+ * session.append("user@exa");     // false
+ * session.append("mple.com");     // true
+ * session.edit(0, 4, "admin");    // true, text is now admin@example.com
+ * }</pre>
+ * <p>
+ * A session owns its lexer and parser and is not thread-safe; use one per
+ * input field.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public final class ValidationSession {
+
+    private final EmailLexer lexer = new EmailLexer(EmailLexer.PRIMITIVE_TOKENS);
+    private final EmailParser parser = new EmailParser(this.lexer);
+    private final DotAtom.Scan scan = new DotAtom.Scan();
+
+    /**
+     * The current text.
+     */
+    private String text = "";
+
+    /**
+     * Length of the prefix shared by the current text and the last input
+     * of the lexer, {@link Integer#MAX_VALUE} if they are the same.
+     */
+    private int lexerUnchanged = 0;
+
+    /**
+     * Outcome of the last validation.
+     */
+    private Result result;
+
+    /**
+     * Creates a session with an empty text.
+     */
+    public ValidationSession() {
+        this.validate("", 0);
+    }
+
+    /**
+     * Returns the current text.
+     *
+     * @return the text validated last
+     */
+    public String text() {
+        return this.text;
+    }
+
+    /**
+     * Replaces the whole text, revalidating it from the first character
+     * that differs from the current text.
+     *
+     * @param text the new text
+     * @return whether the new text is a valid address
+     * @throws NullPointerException if the text is null
+     */
+    public boolean update(String text) {
+        Objects.requireNonNull(text, "text");
+        int limit = Math.min(text.length(), this.text.length());
+        int unchanged = 0;
+        while (unchanged < limit && text.charAt(unchanged) == this.text.charAt(unchanged)) {
+            unchanged++;
+        }
+        return this.validate(text, unchanged);
+    }
+
+    /**
+     * Appends characters to the text.
+     *
+     * @param chars the characters to append
+     * @return whether the new text is a valid address
+     */
+    public boolean append(CharSequence chars) {
+        return this.edit(this.text.length(), this.text.length(), chars);
+    }
+
+    /**
+     * Replaces a range of the text, deleting it when the replacement is empty.
+     *
+     * @param start the index of the first char replaced
+     * @param end the index after the last char replaced
+     * @param replacement the characters inserted at start
+     * @return whether the new text is a valid address
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds
+     */
+    public boolean edit(int start, int end, CharSequence replacement) {
+        Objects.checkFromToIndex(start, end, this.text.length());
+        String edited = new StringBuilder(this.text.length() - (end - start) + replacement.length())
+                .append(this.text, 0, start)
+                .append(replacement)
+                .append(this.text, end, this.text.length())
+                .toString();
+        return this.validate(edited, start);
+    }
+
+    /**
+     * Returns whether the current text is a valid address.
+     *
+     * @return true if the text is valid
+     */
+    public boolean isValid() {
+        return this.result.isValid();
+    }
+
+    /**
+     * Returns the error found in the current text.
+     *
+     * @return the error, or null if the text is valid
+     */
+    public InvalidEmail getError() {
+        return this.result.isInvalid() ? (InvalidEmail) Failure.materialize(this.result) : null;
+    }
+
+    /**
+     * Returns the warnings found in the current text.
+     *
+     * @return a copy of the warnings
+     */
+    public List<Warning> getWarnings() {
+        return new ArrayList<>(this.parser.getWarnings());
+    }
+
+    private boolean validate(String text, int unchanged) {
+        this.text = text;
+        this.scan.rewind(text, unchanged);
+        int at = this.scan.advance(text);
+        this.lexerUnchanged = Math.min(this.lexerUnchanged, unchanged);
+
+        try {
+            if (at >= 0) {
+                // the lexer is not used, its input falls further behind the text
+                this.result = this.parser.parseCompact(text, at, 0);
+            } else {
+                this.result = this.parser.parseCompact(text, -1, this.lexerUnchanged);
+                this.lexerUnchanged = Integer.MAX_VALUE;
+            }
+        } catch (Exception e) {
+            this.result = new InvalidEmail(new ExceptionFound(e), "");
+            this.lexerUnchanged = 0;
+        }
+        return this.result.isValid();
+    }
+}
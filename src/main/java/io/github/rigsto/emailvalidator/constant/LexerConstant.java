@@ -1,5 +1,6 @@
 package io.github.rigsto.emailvalidator.constant;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -15,6 +16,12 @@ import java.util.Map;
  * The class also provides a mapping from character strings to their
  * corresponding token type codes for efficient lexer operations.
  * </p>
+ * <p>
+ * {@link #typeOf(int)} gives the token type of a single code point from
+ * precomputed tables: a 128-entry array for ASCII and a small range table
+ * beyond it. It is what the lexer uses to type single-character tokens, and
+ * custom validations can use it to classify characters the same way.
+ * </p>
  * 
  * @author EmailValidator Team
  * @since 0.0.1
@@ -182,4 +189,104 @@ public class LexerConstant {
             Map.entry("#", NUMBER_SIGN),
             Map.entry("¡", INVERT_EXCLAMATION)
     ));
+
+    /**
+     * Pseudo token type of the range table for code points typed by their
+     * Unicode category, outside of the Basic Multilingual Plane.
+     */
+    private static final int BY_CATEGORY = Integer.MIN_VALUE;
+
+    /**
+     * Token types of the ASCII characters, indexed by character.
+     */
+    private static final int[] ASCII_TYPES = new int[0x80];
+
+    /**
+     * First code point of each range beyond ASCII, in increasing order.
+     */
+    private static final int[] RANGE_STARTS = {
+            0x80,       // C1 controls
+            0xA0,
+            0xA1,       // inverted exclamation mark
+            0xA2,
+            0xBF,       // inverted question mark
+            0xC0,
+            0x10000     // supplementary planes
+    };
+
+    /**
+     * Token type of each range of {@link #RANGE_STARTS}.
+     */
+    private static final int[] RANGE_TYPES = {
+            INVALID,
+            GENERIC,
+            INVERT_EXCLAMATION,
+            GENERIC,
+            INVERT_QUESTIONMARK,
+            GENERIC,
+            BY_CATEGORY
+    };
+
+    static {
+        for (char c = 0; c < 0x80; c++) {
+            Integer type = charValue.get(String.valueOf(c));
+            if (type == null) {
+                type = Character.getType(c) == Character.CONTROL ? INVALID : GENERIC;
+            }
+            ASCII_TYPES[c] = type;
+        }
+    }
+
+    /**
+     * Returns the token type of a single code point.
+     * <p>
+     * This is the type the lexer gives to a token made of this code point
+     * alone: the special character types of {@link #charValue},
+     * {@link #INVALID} for control characters and for supplementary
+     * symbols, control, format, private use and unassigned code points,
+     * and {@link #GENERIC} for everything else. Letters and digits are
+     * {@link #GENERIC}, although the lexer groups runs of them into a
+     * single token.
+     * </p>
+     *
+     * @param codePoint the code point to classify
+     * @return the token type of the code point
+     * @since 1.1.0
+     */
+    public static int typeOf(int codePoint) {
+        if (codePoint >= 0 && codePoint < 0x80) {
+            return ASCII_TYPES[codePoint];
+        }
+
+        int range = Arrays.binarySearch(RANGE_STARTS, codePoint);
+        if (range < 0) {
+            range = -range - 2;
+        }
+        if (range < 0 || codePoint > Character.MAX_CODE_POINT) {
+            return INVALID;
+        }
+
+        int type = RANGE_TYPES[range];
+        return (type == BY_CATEGORY) ? typeOfSupplementary(codePoint) : type;
+    }
+
+    /**
+     * Checks if a code point is an invalid character in email addresses.
+     *
+     * @param codePoint the code point to check
+     * @return true if a token made of this code point is {@link #INVALID}
+     * @since 1.1.0
+     */
+    public static boolean isInvalid(int codePoint) {
+        return typeOf(codePoint) == INVALID;
+    }
+
+    private static int typeOfSupplementary(int codePoint) {
+        return switch (Character.getType(codePoint)) {
+            case Character.MATH_SYMBOL, Character.CURRENCY_SYMBOL, Character.MODIFIER_SYMBOL,
+                 Character.OTHER_SYMBOL, Character.CONTROL, Character.FORMAT, Character.SURROGATE,
+                 Character.PRIVATE_USE, Character.UNASSIGNED -> INVALID;
+            default -> GENERIC;
+        };
+    }
 }
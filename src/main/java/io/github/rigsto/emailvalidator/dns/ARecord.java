@@ -0,0 +1,20 @@
+package io.github.rigsto.emailvalidator.dns;
+
+import java.net.Inet4Address;
+
+/**
+ * IPv4 address record.
+ *
+ * @param address the address
+ * @param ttl the time to live, in seconds
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public record ARecord(Inet4Address address, long ttl) implements DNSRecord {
+
+    @Override
+    public int type() {
+        return TYPE_A;
+    }
+}
@@ -0,0 +1,282 @@
+package io.github.rigsto.emailvalidator.dns;
+
+import io.github.rigsto.emailvalidator.exception.DNSException;
+
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encoding of DNS queries and decoding of their responses (RFC 1035).
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+final class DNSMessage {
+
+    /**
+     * Size of the fixed message header.
+     */
+    static final int HEADER_SIZE = 12;
+
+    /**
+     * Largest message carried over UDP without EDNS.
+     */
+    static final int MAX_UDP_SIZE = 512;
+
+    private static final int FLAG_RESPONSE = 0x8000;
+    private static final int FLAG_TRUNCATED = 0x0200;
+    private static final int FLAG_RECURSION_DESIRED = 0x0100;
+    private static final int CLASS_IN = 1;
+
+    /**
+     * Longest chain of compression pointers followed in a name.
+     */
+    private static final int MAX_POINTERS = 32;
+
+    private DNSMessage() {
+    }
+
+    /**
+     * Encodes a recursive query for one name and record type.
+     *
+     * @param id the transaction ID
+     * @param name the queried name, in ASCII
+     * @param type the queried record type
+     * @return the encoded query
+     * @throws IllegalArgumentException if the name is not a valid DNS name
+     */
+    static byte[] encodeQuery(int id, String name, int type) {
+        if (name.endsWith(".")) {
+            name = name.substring(0, name.length() - 1);
+        }
+
+        // length octet of the first label, labels and dots, root octet, then QTYPE and QCLASS
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + (name.isEmpty() ? 1 : name.length() + 2) + 4);
+        buffer.putShort((short) id)
+                .putShort((short) FLAG_RECURSION_DESIRED)
+                .putShort((short) 1)
+                .putShort((short) 0)
+                .putShort((short) 0)
+                .putShort((short) 0);
+        putName(buffer, name);
+        buffer.putShort((short) type).putShort((short) CLASS_IN);
+        return buffer.array();
+    }
+
+    private static void putName(ByteBuffer buffer, String name) {
+        if (name.length() > 253) {
+            throw new IllegalArgumentException("Name too long: " + name);
+        }
+
+        if (!name.isEmpty()) {
+            for (String label : name.split("\\.", -1)) {
+                byte[] bytes = label.getBytes(StandardCharsets.US_ASCII);
+                if (bytes.length == 0 || bytes.length > 63) {
+                    throw new IllegalArgumentException("Invalid label in name: " + name);
+                }
+                buffer.put((byte) bytes.length).put(bytes);
+            }
+        }
+        buffer.put((byte) 0);
+    }
+
+    /**
+     * Returns the transaction ID of a message.
+     *
+     * @param message the message, from position 0
+     * @return the transaction ID
+     */
+    static int id(ByteBuffer message) {
+        return message.getShort(0) & 0xFFFF;
+    }
+
+    /**
+     * Checks if a response was truncated and must be retried over TCP.
+     *
+     * @param message the response, from position 0
+     * @return true if the TC flag is set
+     */
+    static boolean isTruncated(ByteBuffer message) {
+        return (message.getShort(2) & FLAG_TRUNCATED) != 0;
+    }
+
+    /**
+     * Checks if a message is a response carrying the question of a query.
+     * <p>
+     * Lets a resolver tell the answer to a query from a stray datagram that
+     * only shares its transaction ID, before relying on any other field.
+     * </p>
+     *
+     * @param message the message, from position 0 to its limit
+     * @param name the queried name
+     * @param type the queried record type
+     * @return true if the message is a response to the query
+     */
+    static boolean isResponseTo(ByteBuffer message, String name, int type) {
+        try {
+            int flags = message.getShort(2) & 0xFFFF;
+            int questions = message.getShort(4) & 0xFFFF;
+            if ((flags & FLAG_RESPONSE) == 0 || questions != 1) {
+                return false;
+            }
+
+            message.position(HEADER_SIZE);
+            String questionName = readName(message);
+            int questionType = message.getShort() & 0xFFFF;
+            return questionType == type && questionName.equalsIgnoreCase(stripDot(name));
+        } catch (DNSException | BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            return false;
+        } finally {
+            message.position(0);
+        }
+    }
+
+    /**
+     * Decodes the response to a query.
+     * <p>
+     * The question of the response must match the query. Only answer records
+     * of the queried type are returned, so the records of a name reached
+     * through a CNAME are included while the CNAME itself is not.
+     * </p>
+     *
+     * @param message the response, from position 0 to its limit
+     * @param name the queried name
+     * @param type the queried record type
+     * @return the decoded response
+     * @throws DNSException if the message is malformed or does not answer the query
+     */
+    static DNSResponse decode(ByteBuffer message, String name, int type) throws DNSException {
+        try {
+            message.position(0);
+            message.getShort();
+            int flags = message.getShort() & 0xFFFF;
+            int questions = message.getShort() & 0xFFFF;
+            int answers = message.getShort() & 0xFFFF;
+            message.getShort();
+            message.getShort();
+
+            if ((flags & FLAG_RESPONSE) == 0) {
+                throw new DNSException("Message is not a response");
+            }
+            if (questions != 1) {
+                throw new DNSException("Expected 1 question, got " + questions);
+            }
+
+            String questionName = readName(message);
+            int questionType = message.getShort() & 0xFFFF;
+            message.getShort();
+            if (questionType != type || !questionName.equalsIgnoreCase(stripDot(name))) {
+                throw new DNSException("Response does not match the query for " + name);
+            }
+
+            List<DNSRecord> records = new ArrayList<>(answers);
+            for (int i = 0; i < answers; i++) {
+                readName(message);
+                int recordType = message.getShort() & 0xFFFF;
+                message.getShort();
+                long ttl = message.getInt() & 0xFFFFFFFFL;
+                int length = message.getShort() & 0xFFFF;
+                int end = message.position() + length;
+                if (end > message.limit()) {
+                    throw new DNSException("Record data exceeds the message");
+                }
+
+                if (recordType == type) {
+                    records.add(readRecord(message, recordType, length, ttl));
+                }
+                message.position(end);
+            }
+
+            return new DNSResponse(flags & 0xF, records);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new DNSException("Malformed response for " + name, e);
+        }
+    }
+
+    private static DNSRecord readRecord(ByteBuffer message, int type, int length, long ttl) throws DNSException {
+        switch (type) {
+            case DNSRecord.TYPE_A -> {
+                return new ARecord((Inet4Address) readAddress(message, length, 4), ttl);
+            }
+            case DNSRecord.TYPE_AAAA -> {
+                return new AAAARecord((Inet6Address) readAddress(message, length, 16), ttl);
+            }
+            default -> {
+                int preference = message.getShort() & 0xFFFF;
+                return new MXRecord(preference, readName(message), ttl);
+            }
+        }
+    }
+
+    private static InetAddress readAddress(ByteBuffer message, int length, int expected) throws DNSException {
+        if (length != expected) {
+            throw new DNSException("Invalid address length " + length);
+        }
+        byte[] bytes = new byte[length];
+        message.get(bytes);
+        try {
+            // Inet6Address.getByAddress keeps IPv4-mapped addresses as IPv6
+            return (length == 4) ? InetAddress.getByAddress(bytes) : Inet6Address.getByAddress(null, bytes, -1);
+        } catch (UnknownHostException e) {
+            throw new DNSException("Invalid address", e);
+        }
+    }
+
+    /**
+     * Reads a possibly compressed name, leaving the buffer after its encoding.
+     *
+     * @param message the message
+     * @return the name without trailing dot, empty for the root
+     * @throws DNSException if the name is malformed
+     */
+    static String readName(ByteBuffer message) throws DNSException {
+        StringBuilder name = new StringBuilder();
+        int position = message.position();
+        int resume = -1;
+        int pointers = 0;
+
+        while (true) {
+            int length = message.get(position) & 0xFF;
+            if (length == 0) {
+                position++;
+                break;
+            }
+
+            if ((length & 0xC0) == 0xC0) {
+                if (++pointers > MAX_POINTERS) {
+                    throw new DNSException("Too many compression pointers");
+                }
+                if (resume == -1) {
+                    resume = position + 2;
+                }
+                position = ((length & 0x3F) << 8) | (message.get(position + 1) & 0xFF);
+                continue;
+            }
+            if ((length & 0xC0) != 0) {
+                throw new DNSException("Unsupported label type " + length);
+            }
+
+            if (name.length() > 0) {
+                name.append('.');
+            }
+            for (int i = 1; i <= length; i++) {
+                name.append((char) (message.get(position + i) & 0xFF));
+            }
+            position += length + 1;
+        }
+
+        message.position(resume == -1 ? position : resume);
+        return name.toString();
+    }
+
+    private static String stripDot(String name) {
+        return name.endsWith(".") ? name.substring(0, name.length() - 1) : name;
+    }
+}
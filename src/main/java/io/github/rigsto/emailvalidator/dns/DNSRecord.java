@@ -0,0 +1,43 @@
+package io.github.rigsto.emailvalidator.dns;
+
+/**
+ * Resource record of a DNS answer.
+ * <p>
+ * Only the record types needed to check mail domains are decoded: A, AAAA
+ * and MX. Each record keeps the time to live announced by the server.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public sealed interface DNSRecord permits ARecord, AAAARecord, MXRecord {
+
+    /**
+     * Record type of IPv4 address records.
+     */
+    int TYPE_A = 1;
+
+    /**
+     * Record type of mail exchange records.
+     */
+    int TYPE_MX = 15;
+
+    /**
+     * Record type of IPv6 address records.
+     */
+    int TYPE_AAAA = 28;
+
+    /**
+     * Returns the record type, one of the {@code TYPE_} constants.
+     *
+     * @return the record type
+     */
+    int type();
+
+    /**
+     * Returns the time to live of the record.
+     *
+     * @return the time to live, in seconds
+     */
+    long ttl();
+}
@@ -0,0 +1,384 @@
+package io.github.rigsto.emailvalidator.dns;
+
+import io.github.rigsto.emailvalidator.exception.DNSException;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.PortUnreachableException;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Minimal stub resolver sending queries to a recursive name server.
+ * <p>
+ * Queries are sent over a single UDP socket and any number of them can be in
+ * flight at the same time: each one gets a random transaction ID and a
+ * receiver thread hands every response to the query with the same ID and
+ * question. Queries that get no response are sent again after the timeout,
+ * up to the configured number of attempts. Truncated responses are retried
+ * over TCP.
+ * </p>
+ * <p>
+ * Answers are decoded straight into {@link ARecord}, {@link AAAARecord} and
+ * {@link MXRecord} objects. Instances are thread-safe and should be shared;
+ * {@link #close()} releases the socket and the receiver thread.
+ * </p>
+ *
+ * <pre>{@code
+ * try (DNSResolver resolver = DNSResolver.system()) {
+ *     DNSResponse response = resolver.resolve("example.com", DNSRecord.TYPE_MX);
+ * }
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class DNSResolver implements AutoCloseable {
+
+    /**
+     * Default time waited for a response before sending the query again.
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(2);
+
+    /**
+     * Default number of times a query is sent before giving up.
+     */
+    public static final int DEFAULT_ATTEMPTS = 2;
+
+    /**
+     * Port of DNS servers.
+     */
+    public static final int DNS_PORT = 53;
+
+    /**
+     * Maximum tries to find a transaction ID not used by a pending query.
+     */
+    private static final int MAX_ID_TRIES = 64;
+
+    private final InetSocketAddress server;
+    private final long timeoutNanos;
+    private final int attempts;
+
+    /**
+     * The UDP socket, connected to the server so that only its datagrams are received.
+     */
+    private final DatagramChannel channel;
+
+    /**
+     * Queries waiting for a response, by transaction ID.
+     */
+    private final ConcurrentHashMap<Integer, Query> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the TCP retries of truncated responses.
+     */
+    private final ExecutorService tcpExecutor;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a resolver for the given name server with the default timeout and attempts.
+     *
+     * @param server the address of a recursive name server
+     * @throws IOException if the socket cannot be opened
+     */
+    public DNSResolver(InetSocketAddress server) throws IOException {
+        this(server, DEFAULT_TIMEOUT, DEFAULT_ATTEMPTS);
+    }
+
+    /**
+     * Creates a resolver for the given name server.
+     *
+     * @param server the address of a recursive name server
+     * @param timeout the time waited for a response before sending a query again
+     * @param attempts the number of times a query is sent before giving up
+     * @throws IOException if the socket cannot be opened
+     * @throws IllegalArgumentException if the number of attempts is not positive
+     */
+    public DNSResolver(InetSocketAddress server, Duration timeout, int attempts) throws IOException {
+        if (attempts <= 0) {
+            throw new IllegalArgumentException("attempts must be positive: " + attempts);
+        }
+
+        this.server = Objects.requireNonNull(server, "server");
+        this.timeoutNanos = timeout.toNanos();
+        this.attempts = attempts;
+        this.channel = DatagramChannel.open();
+        this.channel.connect(server);
+        this.tcpExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "email-validator-dns-tcp");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Thread receiver = new Thread(this::receive, "email-validator-dns-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    /**
+     * Creates a resolver for the first name server of {@code /etc/resolv.conf}.
+     *
+     * @return the resolver
+     * @throws IOException if no name server is configured or the socket cannot be opened
+     */
+    public static DNSResolver system() throws IOException {
+        Path resolvConf = Path.of("/etc/resolv.conf");
+        if (Files.isReadable(resolvConf)) {
+            List<String> lines = Files.readAllLines(resolvConf);
+            for (String line : lines) {
+                String[] fields = line.trim().split("\\s+");
+                if (fields.length >= 2 && fields[0].equals("nameserver")) {
+                    return new DNSResolver(new InetSocketAddress(fields[1], DNS_PORT));
+                }
+            }
+        }
+        throw new DNSException("No name server found in " + resolvConf);
+    }
+
+    /**
+     * Sends a query without waiting for its response.
+     * <p>
+     * The future fails with a {@link DNSException} if no valid response is
+     * received after all attempts.
+     * </p>
+     *
+     * @param name the name to look up, in ASCII
+     * @param type the record type, one of the {@code DNSRecord.TYPE_} constants
+     * @return a future completed with the response
+     */
+    public CompletableFuture<DNSResponse> query(String name, int type) {
+        CompletableFuture<DNSResponse> future = new CompletableFuture<>();
+        if (this.closed) {
+            future.completeExceptionally(new DNSException("Resolver is closed"));
+            return future;
+        }
+
+        byte[] message;
+        try {
+            message = DNSMessage.encodeQuery(0, name, type);
+        } catch (IllegalArgumentException e) {
+            future.completeExceptionally(new DNSException("Invalid name " + name, e));
+            return future;
+        }
+
+        Query query = null;
+        for (int i = 0; i < MAX_ID_TRIES && query == null; i++) {
+            int id = this.random.nextInt(1 << 16);
+            if (!this.pending.containsKey(id)) {
+                byte[] withId = message.clone();
+                withId[0] = (byte) (id >>> 8);
+                withId[1] = (byte) id;
+                Query candidate = new Query(id, name, type, withId, future);
+                if (this.pending.putIfAbsent(id, candidate) == null) {
+                    query = candidate;
+                }
+            }
+        }
+        if (query == null) {
+            future.completeExceptionally(new DNSException("Too many queries in flight"));
+            return future;
+        }
+
+        this.send(query);
+        return future;
+    }
+
+    /**
+     * Sends a query and waits for its response.
+     *
+     * @param name the name to look up, in ASCII
+     * @param type the record type, one of the {@code DNSRecord.TYPE_} constants
+     * @return the response
+     * @throws DNSException if no valid response is received
+     */
+    public DNSResponse resolve(String name, int type) throws DNSException {
+        try {
+            return this.query(name, type).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DNSException cause) {
+                throw cause;
+            }
+            throw new DNSException("Query failed for " + name, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DNSException("Interrupted while resolving " + name, e);
+        }
+    }
+
+    /**
+     * Returns the number of queries waiting for a response.
+     *
+     * @return the number of pending queries
+     */
+    public int getPendingQueryCount() {
+        return this.pending.size();
+    }
+
+    /**
+     * Closes the socket, failing the pending queries.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        try {
+            this.channel.close();
+        } catch (IOException ignored) {}
+        this.tcpExecutor.shutdownNow();
+
+        for (Query query : this.pending.values()) {
+            this.fail(query, new DNSException("Resolver is closed"));
+        }
+    }
+
+    private void send(Query query) {
+        query.attempt++;
+        try {
+            this.channel.write(ByteBuffer.wrap(query.message));
+        } catch (IOException e) {
+            this.fail(query, new DNSException("Failed to send query for " + query.name, e));
+            return;
+        }
+
+        CompletableFuture.delayedExecutor(this.timeoutNanos, TimeUnit.NANOSECONDS).execute(() -> {
+            if (query.future.isDone() || this.pending.get(query.id) != query || query.tcp) {
+                return;
+            }
+            if (query.attempt < this.attempts) {
+                this.send(query);
+            } else {
+                this.fail(query, new DNSException("Timed out resolving " + query.name));
+            }
+        });
+    }
+
+    /**
+     * Receiver loop, matching every datagram to its pending query.
+     */
+    private void receive() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+        while (!this.closed) {
+            buffer.clear();
+            try {
+                this.channel.read(buffer);
+            } catch (PortUnreachableException e) {
+                continue;
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                if (this.closed) {
+                    return;
+                }
+                continue;
+            }
+            buffer.flip();
+
+            if (buffer.remaining() < DNSMessage.HEADER_SIZE) {
+                continue;
+            }
+
+            Query query = this.pending.get(DNSMessage.id(buffer));
+            if (query == null || query.tcp) {
+                // late answer to a query already completed
+                continue;
+            }
+            if (!DNSMessage.isResponseTo(buffer, query.name, query.type)) {
+                // stray or spoofed datagram reusing the ID: the query keeps waiting for its answer
+                continue;
+            }
+
+            if (DNSMessage.isTruncated(buffer)) {
+                query.tcp = true;
+                this.tcpExecutor.execute(() -> this.queryOverTcp(query));
+                continue;
+            }
+
+            DNSResponse response;
+            try {
+                response = DNSMessage.decode(buffer, query.name, query.type);
+            } catch (DNSException e) {
+                // corrupt datagram: wait for a retry or the timeout rather than failing the query
+                continue;
+            }
+            this.complete(query, response);
+        }
+    }
+
+    private void queryOverTcp(Query query) {
+        int timeoutMillis = (int) Math.max(1, TimeUnit.NANOSECONDS.toMillis(this.timeoutNanos));
+        try (Socket socket = new Socket()) {
+            socket.connect(this.server, timeoutMillis);
+            socket.setSoTimeout(timeoutMillis);
+
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeShort(query.message.length);
+            out.write(query.message);
+            out.flush();
+
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            byte[] response = new byte[in.readUnsignedShort()];
+            in.readFully(response);
+
+            ByteBuffer buffer = ByteBuffer.wrap(response);
+            if (response.length < DNSMessage.HEADER_SIZE || DNSMessage.id(buffer) != query.id) {
+                throw new DNSException("Mismatched TCP response for " + query.name);
+            }
+            this.complete(query, DNSMessage.decode(buffer, query.name, query.type));
+        } catch (IOException e) {
+            this.fail(query, (e instanceof DNSException dns) ? dns
+                    : new DNSException("TCP query failed for " + query.name, e));
+        }
+    }
+
+    private void complete(Query query, DNSResponse response) {
+        if (this.pending.remove(query.id, query)) {
+            query.future.complete(response);
+        }
+    }
+
+    private void fail(Query query, DNSException e) {
+        if (this.pending.remove(query.id, query)) {
+            query.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * A query waiting for its response.
+     */
+    private static final class Query {
+
+        final int id;
+        final String name;
+        final int type;
+        final byte[] message;
+        final CompletableFuture<DNSResponse> future;
+        volatile int attempt;
+        volatile boolean tcp;
+
+        Query(int id, String name, int type, byte[] message, CompletableFuture<DNSResponse> future) {
+            this.id = id;
+            this.name = name;
+            this.type = type;
+            this.message = message;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.rigsto.emailvalidator.dns;
+
+import java.util.List;
+
+/**
+ * Decoded answer to a DNS query.
+ *
+ * @param responseCode the response code (RCODE) of the answer
+ * @param records the records of the queried type found in the answer section
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public record DNSResponse(int responseCode, List<DNSRecord> records) {
+
+    /**
+     * Response code of a successful query.
+     */
+    public static final int NO_ERROR = 0;
+
+    /**
+     * Response code of a query for a domain that does not exist.
+     */
+    public static final int NAME_ERROR = 3;
+
+    /**
+     * Creates a response, taking an unmodifiable copy of the records.
+     *
+     * @param responseCode the response code of the answer
+     * @param records the records of the answer
+     */
+    public DNSResponse {
+        records = List.copyOf(records);
+    }
+
+    /**
+     * Checks if the queried domain does not exist (NXDOMAIN).
+     *
+     * @return true if the response code is {@link #NAME_ERROR}
+     */
+    public boolean isNameError() {
+        return this.responseCode == NAME_ERROR;
+    }
+
+    /**
+     * Checks if the server answered the query, with or without records.
+     *
+     * @return true if the response code is {@link #NO_ERROR} or {@link #NAME_ERROR}
+     */
+    public boolean isAnswered() {
+        return this.responseCode == NO_ERROR || this.responseCode == NAME_ERROR;
+    }
+}
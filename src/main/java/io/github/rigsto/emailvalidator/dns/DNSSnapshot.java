@@ -0,0 +1,269 @@
+package io.github.rigsto.emailvalidator.dns;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only snapshot of the mail records of many domains, answering lookups
+ * without any network access.
+ * <p>
+ * A snapshot is built by {@link DNSSnapshotBuilder} and usually memory-mapped
+ * from a file with {@link #open(Path)}, so opening it costs nothing whatever
+ * its size and its pages are shared by all processes using it. For each
+ * domain it records whether it has A and AAAA records, and its MX records
+ * with their preference and target.
+ * </p>
+ * <p>
+ * The file starts with a 16-byte header, followed by one 12-byte entry per
+ * domain sorted by name, then by the names and MX records the entries point
+ * to. All numbers are big-endian:
+ * </p>
+ * <pre>
+ * header: int magic "EVDS", short version, short unused, int domain count, int data offset
+ * entry:  int name offset, byte name length, byte flags, byte MX count, byte unused, int MX offset
+ * MX:     short preference, byte target length, target bytes
+ * </pre>
+ * <p>
+ * Names are stored in lowercase ASCII without trailing dot. {@link #find}
+ * binary searches the entries, comparing the queried name with the stored
+ * bytes in place, and neither it nor the other accessors taking an entry
+ * index allocate, except {@link #mxExchange} which builds a string.
+ * Instances are immutable and thread-safe.
+ * </p>
+ *
+ * <pre>{@code
+ * DNSSnapshot snapshot = DNSSnapshot.open(Path.of("mx.snapshot"));
+ * int entry = snapshot.find("example.com");
+ * boolean acceptsMail = entry != -1 && snapshot.mxCount(entry) > 0;
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public final class DNSSnapshot {
+
+    /**
+     * Flag of domains having A records.
+     */
+    public static final int FLAG_A = 1;
+
+    /**
+     * Flag of domains having AAAA records.
+     */
+    public static final int FLAG_AAAA = 2;
+
+    /**
+     * Flag of domains having MX records, null MX included.
+     */
+    public static final int FLAG_MX = 4;
+
+    static final int MAGIC = 0x45564453;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int ENTRY_SIZE = 12;
+
+    /**
+     * The snapshot, positioned at zero, only read with absolute gets.
+     */
+    private final ByteBuffer buffer;
+
+    private final int count;
+    private final int dataOffset;
+
+    private DNSSnapshot(ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("not a DNS snapshot");
+        }
+        if (buffer.getShort(4) != VERSION) {
+            throw new IllegalArgumentException("unsupported DNS snapshot version: " + buffer.getShort(4));
+        }
+
+        this.count = buffer.getInt(8);
+        this.dataOffset = buffer.getInt(12);
+        if (this.count < 0 || this.dataOffset != HEADER_SIZE + (long) this.count * ENTRY_SIZE
+                || this.dataOffset > buffer.capacity()) {
+            throw new IllegalArgumentException("corrupted DNS snapshot");
+        }
+    }
+
+    /**
+     * Maps a snapshot file into memory.
+     *
+     * @param path the snapshot file
+     * @return the snapshot
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a snapshot
+     */
+    public static DNSSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping stays valid once the channel is closed
+            return wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads a snapshot from the remaining bytes of a buffer, without copying them.
+     *
+     * @param buffer the bytes of the snapshot
+     * @return the snapshot
+     * @throws IllegalArgumentException if the bytes are not a snapshot
+     */
+    public static DNSSnapshot wrap(ByteBuffer buffer) {
+        return new DNSSnapshot(buffer.slice().order(ByteOrder.BIG_ENDIAN).asReadOnlyBuffer());
+    }
+
+    /**
+     * Returns the number of domains in the snapshot.
+     *
+     * @return the number of domains
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Finds a domain, ignoring ASCII case and a trailing dot.
+     *
+     * @param host the domain, in ASCII
+     * @return the index of its entry, or -1 if the snapshot does not have it
+     */
+    public int find(CharSequence host) {
+        int length = host.length();
+        if (length > 0 && host.charAt(length - 1) == '.') {
+            length--;
+        }
+
+        int low = 0;
+        int high = this.count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int cmp = this.compare(middle, host, length);
+            if (cmp < 0) {
+                low = middle + 1;
+            } else if (cmp > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares the name of an entry with the first characters of a host.
+     */
+    private int compare(int entry, CharSequence host, int length) {
+        int base = HEADER_SIZE + entry * ENTRY_SIZE;
+        int offset = this.dataOffset + this.buffer.getInt(base);
+        int nameLength = this.buffer.get(base + 4) & 0xFF;
+
+        int common = Math.min(nameLength, length);
+        for (int i = 0; i < common; i++) {
+            int c = host.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            }
+            int diff = (this.buffer.get(offset + i) & 0xFF) - c;
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return nameLength - length;
+    }
+
+    /**
+     * Returns the flags of an entry.
+     *
+     * @param entry the index of the entry
+     * @return a combination of {@link #FLAG_A}, {@link #FLAG_AAAA} and {@link #FLAG_MX}
+     */
+    public int flags(int entry) {
+        return this.buffer.get(this.checkEntry(entry) + 5) & 0xFF;
+    }
+
+    /**
+     * Returns the name of an entry.
+     *
+     * @param entry the index of the entry
+     * @return the domain, in lowercase ASCII
+     */
+    public String name(int entry) {
+        int base = this.checkEntry(entry);
+        byte[] name = new byte[this.buffer.get(base + 4) & 0xFF];
+        this.buffer.get(this.dataOffset + this.buffer.getInt(base), name);
+        return new String(name, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns the number of MX records of an entry.
+     *
+     * @param entry the index of the entry
+     * @return the number of MX records
+     */
+    public int mxCount(int entry) {
+        return this.buffer.get(this.checkEntry(entry) + 6) & 0xFF;
+    }
+
+    /**
+     * Returns the preference of an MX record.
+     *
+     * @param entry the index of the entry
+     * @param index the index of the MX record
+     * @return the preference
+     */
+    public int mxPreference(int entry, int index) {
+        return this.buffer.getShort(this.mxOffset(entry, index)) & 0xFFFF;
+    }
+
+    /**
+     * Returns the length of the target of an MX record, 0 for a null MX.
+     *
+     * @param entry the index of the entry
+     * @param index the index of the MX record
+     * @return the length of the target
+     */
+    public int mxExchangeLength(int entry, int index) {
+        return this.buffer.get(this.mxOffset(entry, index) + 2) & 0xFF;
+    }
+
+    /**
+     * Returns the target of an MX record.
+     *
+     * @param entry the index of the entry
+     * @param index the index of the MX record
+     * @return the target without trailing dot, empty for a null MX
+     */
+    public String mxExchange(int entry, int index) {
+        int offset = this.mxOffset(entry, index);
+        byte[] exchange = new byte[this.buffer.get(offset + 2) & 0xFF];
+        this.buffer.get(offset + 3, exchange);
+        return new String(exchange, StandardCharsets.ISO_8859_1);
+    }
+
+    private int mxOffset(int entry, int index) {
+        int base = this.checkEntry(entry);
+        if (index < 0 || index >= (this.buffer.get(base + 6) & 0xFF)) {
+            throw new IndexOutOfBoundsException("MX index " + index);
+        }
+
+        int offset = this.dataOffset + this.buffer.getInt(base + 8);
+        for (int i = 0; i < index; i++) {
+            offset += 3 + (this.buffer.get(offset + 2) & 0xFF);
+        }
+        return offset;
+    }
+
+    private int checkEntry(int entry) {
+        if (entry < 0 || entry >= this.count) {
+            throw new IndexOutOfBoundsException("entry " + entry);
+        }
+        return HEADER_SIZE + entry * ENTRY_SIZE;
+    }
+}
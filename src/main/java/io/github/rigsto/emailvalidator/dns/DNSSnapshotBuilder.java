@@ -0,0 +1,420 @@
+package io.github.rigsto.emailvalidator.dns;
+
+import io.github.rigsto.emailvalidator.validation.DomainNormalizer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Builds {@link DNSSnapshot} files.
+ * <p>
+ * Records can be added one by one, from the answers of a
+ * {@link DNSResolver}, or from a zone-style text dump with
+ * {@link #readZone(Reader)}. Domain names are converted to lowercase ASCII
+ * by the shared {@link DomainNormalizer}, the UTS #46 nontransitional
+ * conversion {@code DNSCheckValidation} queries them with, so that
+ * {@code straße.de} is stored as {@code xn--strae-oqa.de} and not
+ * {@code strasse.de}. A domain added without any record is kept, and answers lookups with
+ * no records. Builders are not thread-safe.
+ * </p>
+ *
+ * <pre>{@code
+ * DNSSnapshotBuilder builder = new DNSSnapshotBuilder();
+ * try (Reader zone = Files.newBufferedReader(Path.of("mx.zone"))) {
+ *     builder.readZone(zone);
+ * }
+ * builder.write(Path.of("mx.snapshot"));
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class DNSSnapshotBuilder {
+
+    /**
+     * Number of domains resolved at the same time by {@link #resolve}.
+     */
+    private static final int RESOLVE_WINDOW = 64;
+
+    /**
+     * The domains added so far, sorted as in the snapshot.
+     */
+    private final TreeMap<String, Domain> domains = new TreeMap<>();
+
+    /**
+     * Adds a domain without records, or does nothing if it was already added.
+     *
+     * @param domain the domain
+     * @return this builder
+     * @throws IllegalArgumentException if the domain is not a valid name
+     */
+    public DNSSnapshotBuilder addDomain(String domain) {
+        this.domain(domain);
+        return this;
+    }
+
+    /**
+     * Records that a domain has A records.
+     *
+     * @param domain the domain
+     * @return this builder
+     * @throws IllegalArgumentException if the domain is not a valid name
+     */
+    public DNSSnapshotBuilder addA(String domain) {
+        this.domain(domain).flags |= DNSSnapshot.FLAG_A;
+        return this;
+    }
+
+    /**
+     * Records that a domain has AAAA records.
+     *
+     * @param domain the domain
+     * @return this builder
+     * @throws IllegalArgumentException if the domain is not a valid name
+     */
+    public DNSSnapshotBuilder addAAAA(String domain) {
+        this.domain(domain).flags |= DNSSnapshot.FLAG_AAAA;
+        return this;
+    }
+
+    /**
+     * Adds an MX record to a domain.
+     *
+     * @param domain the domain
+     * @param preference the preference, between 0 and 65535
+     * @param exchange the target, empty or "." for a null MX
+     * @return this builder
+     * @throws IllegalArgumentException if a name or the preference is not valid, or the domain has 255 MX records
+     */
+    public DNSSnapshotBuilder addMX(String domain, int preference, String exchange) {
+        if (preference < 0 || preference > 0xFFFF) {
+            throw new IllegalArgumentException("Invalid MX preference " + preference);
+        }
+
+        Domain entry = this.domain(domain);
+        String target = (exchange.isEmpty() || ".".equals(exchange)) ? "" : normalize(exchange);
+        if (entry.mx.size() == 0xFF && !entry.mx.contains(new MX(preference, target))) {
+            throw new IllegalArgumentException("Too many MX records for " + domain);
+        }
+
+        entry.flags |= DNSSnapshot.FLAG_MX;
+        entry.mx.add(new MX(preference, target));
+        return this;
+    }
+
+    /**
+     * Adds the records answered for a domain.
+     *
+     * @param domain the domain
+     * @param records the A, AAAA and MX records of the domain
+     * @return this builder
+     * @throws IllegalArgumentException if the domain is not a valid name
+     */
+    public DNSSnapshotBuilder add(String domain, List<? extends DNSRecord> records) {
+        this.domain(domain);
+        for (DNSRecord record : records) {
+            if (record instanceof MXRecord mx) {
+                this.addMX(domain, mx.preference(), mx.exchange());
+            } else if (record instanceof ARecord) {
+                this.addA(domain);
+            } else if (record instanceof AAAARecord) {
+                this.addAAAA(domain);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Resolves the MX, A and AAAA records of domains and adds them.
+     * <p>
+     * Domains whose lookups fail or are not answered are not added, and are
+     * returned so that they can be retried. A non-existent domain is added
+     * without records.
+     * </p>
+     *
+     * @param resolver the resolver performing the queries
+     * @param domains the domains to resolve, in ASCII
+     * @return the domains that could not be resolved
+     * @throws InterruptedException if interrupted while waiting for answers
+     */
+    public List<String> resolve(DNSResolver resolver, Collection<String> domains) throws InterruptedException {
+        List<String> failed = new ArrayList<>();
+        List<String> window = new ArrayList<>(RESOLVE_WINDOW);
+        List<CompletableFuture<DNSResponse>> queries = new ArrayList<>(RESOLVE_WINDOW * 3);
+
+        for (String domain : domains) {
+            window.add(domain);
+            queries.add(resolver.query(domain, DNSRecord.TYPE_MX));
+            queries.add(resolver.query(domain, DNSRecord.TYPE_A));
+            queries.add(resolver.query(domain, DNSRecord.TYPE_AAAA));
+
+            if (window.size() == RESOLVE_WINDOW) {
+                this.collect(window, queries, failed);
+            }
+        }
+        this.collect(window, queries, failed);
+
+        return failed;
+    }
+
+    private void collect(List<String> window, List<CompletableFuture<DNSResponse>> queries, List<String> failed)
+            throws InterruptedException {
+        for (int i = 0; i < window.size(); i++) {
+            List<DNSRecord> records = new ArrayList<>();
+            boolean answered = true;
+            for (int type = 0; type < 3; type++) {
+                DNSResponse response = await(queries.get(i * 3 + type));
+                if (response == null || !response.isAnswered()) {
+                    answered = false;
+                    break;
+                }
+                records.addAll(response.records());
+            }
+
+            if (answered) {
+                this.add(window.get(i), records);
+            } else {
+                failed.add(window.get(i));
+            }
+        }
+
+        window.clear();
+        queries.clear();
+    }
+
+    private static DNSResponse await(CompletableFuture<DNSResponse> query) throws InterruptedException {
+        try {
+            return query.get();
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the A, AAAA and MX records of a zone-style text dump.
+     * <p>
+     * Each line holds a record as {@code name [ttl] [class] type data}, such
+     * as {@code example.com. 3600 IN MX 10 mail.example.com.}. A line
+     * starting with a blank reuses the previous name, {@code $ORIGIN} sets
+     * the domain appended to relative names and {@code @} stands for it, and
+     * everything after a semicolon is a comment. Records of other types and
+     * other directives are ignored.
+     * </p>
+     *
+     * @param zone the text dump
+     * @return this builder
+     * @throws IOException if the dump cannot be read
+     * @throws IllegalArgumentException if a line is malformed, with its number in the message
+     */
+    public DNSSnapshotBuilder readZone(Reader zone) throws IOException {
+        BufferedReader reader = (zone instanceof BufferedReader buffered) ? buffered : new BufferedReader(zone);
+        String origin = "";
+        String previous = null;
+        int number = 0;
+
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            number++;
+            int comment = line.indexOf(';');
+            if (comment != -1) {
+                line = line.substring(0, comment);
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+
+            String[] fields = line.trim().split("\\s+");
+            try {
+                if (fields[0].startsWith("$")) {
+                    if ("$ORIGIN".equalsIgnoreCase(fields[0])) {
+                        origin = absolute(fields[1], "");
+                    }
+                    continue;
+                }
+
+                int field = 0;
+                if (!Character.isWhitespace(line.charAt(0))) {
+                    previous = absolute(fields[field++], origin);
+                }
+                if (previous == null) {
+                    throw new IllegalArgumentException("missing name");
+                }
+
+                while (field < fields.length && (isTtl(fields[field]) || isClass(fields[field]))) {
+                    field++;
+                }
+                String type = fields[field++].toUpperCase(Locale.ROOT);
+
+                switch (type) {
+                    case "A" -> this.addA(previous);
+                    case "AAAA" -> this.addAAAA(previous);
+                    case "MX" -> this.addMX(previous, Integer.parseInt(fields[field]), absolute(fields[field + 1], origin));
+                    default -> this.addDomain(previous);
+                }
+            } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+                throw new IllegalArgumentException("Malformed zone line " + number + ": " + line.trim(), e);
+            }
+        }
+        return this;
+    }
+
+    private static String absolute(String name, String origin) {
+        if ("@".equals(name)) {
+            return origin;
+        }
+        if (name.endsWith(".") || origin.isEmpty()) {
+            return name;
+        }
+        return name + "." + origin;
+    }
+
+    private static boolean isTtl(String field) {
+        return Character.isDigit(field.charAt(0));
+    }
+
+    private static boolean isClass(String field) {
+        return "IN".equalsIgnoreCase(field) || "CH".equalsIgnoreCase(field) || "HS".equalsIgnoreCase(field);
+    }
+
+    /**
+     * Returns the number of domains added so far.
+     *
+     * @return the number of domains
+     */
+    public int size() {
+        return this.domains.size();
+    }
+
+    /**
+     * Builds a snapshot in memory.
+     *
+     * @return the snapshot
+     */
+    public DNSSnapshot build() {
+        return DNSSnapshot.wrap(ByteBuffer.wrap(this.toByteArray()));
+    }
+
+    /**
+     * Writes the snapshot to a stream.
+     *
+     * @param out the stream, left open
+     * @throws IOException if the stream cannot be written
+     */
+    public void write(OutputStream out) throws IOException {
+        out.write(this.toByteArray());
+    }
+
+    /**
+     * Writes the snapshot to a file, replacing it if it exists.
+     *
+     * @param path the snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path path) throws IOException {
+        Files.write(path, this.toByteArray());
+    }
+
+    /**
+     * Encodes the snapshot in the format described by {@link DNSSnapshot}.
+     */
+    byte[] toByteArray() {
+        int count = this.domains.size();
+        long size = DNSSnapshot.HEADER_SIZE + (long) count * DNSSnapshot.ENTRY_SIZE;
+        for (Map.Entry<String, Domain> entry : this.domains.entrySet()) {
+            size += entry.getKey().length();
+            for (MX mx : entry.getValue().mx) {
+                size += 3 + mx.exchange().length();
+            }
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Snapshot too large: " + size + " bytes");
+        }
+
+        int dataOffset = DNSSnapshot.HEADER_SIZE + count * DNSSnapshot.ENTRY_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        buffer.putInt(DNSSnapshot.MAGIC)
+                .putShort((short) DNSSnapshot.VERSION)
+                .putShort((short) 0)
+                .putInt(count)
+                .putInt(dataOffset);
+
+        int entryPosition = DNSSnapshot.HEADER_SIZE;
+        int dataPosition = dataOffset;
+        for (Map.Entry<String, Domain> entry : this.domains.entrySet()) {
+            byte[] name = entry.getKey().getBytes(StandardCharsets.US_ASCII);
+            Domain domain = entry.getValue();
+
+            buffer.put(dataPosition, name);
+            int nameOffset = dataPosition - dataOffset;
+            dataPosition += name.length;
+
+            int mxOffset = dataPosition - dataOffset;
+            List<MX> mxs = new ArrayList<>(domain.mx);
+            // stable, so records of the same preference keep their order
+            mxs.sort(Comparator.comparingInt(MX::preference));
+            for (MX mx : mxs) {
+                byte[] exchange = mx.exchange().getBytes(StandardCharsets.US_ASCII);
+                buffer.putShort(dataPosition, (short) mx.preference());
+                buffer.put(dataPosition + 2, (byte) exchange.length);
+                buffer.put(dataPosition + 3, exchange);
+                dataPosition += 3 + exchange.length;
+            }
+
+            buffer.putInt(entryPosition, nameOffset)
+                    .put(entryPosition + 4, (byte) name.length)
+                    .put(entryPosition + 5, (byte) domain.flags)
+                    .put(entryPosition + 6, (byte) mxs.size())
+                    .put(entryPosition + 7, (byte) 0)
+                    .putInt(entryPosition + 8, mxOffset);
+            entryPosition += DNSSnapshot.ENTRY_SIZE;
+        }
+
+        return buffer.array();
+    }
+
+    private Domain domain(String domain) {
+        return this.domains.computeIfAbsent(normalize(domain), name -> new Domain());
+    }
+
+    /**
+     * Converts a name to lowercase ASCII without trailing dot, as
+     * {@code DNSCheckValidation} does before querying it.
+     */
+    private static String normalize(String name) {
+        String ascii = DomainNormalizer.shared().toAscii(name);
+        if (ascii == null || ascii.length() > 253) {
+            throw new IllegalArgumentException("Invalid name " + name);
+        }
+        return ascii;
+    }
+
+    /**
+     * An MX record, the exchange being empty for a null MX.
+     */
+    private record MX(int preference, String exchange) {
+    }
+
+    /**
+     * The records of one domain.
+     */
+    private static final class Domain {
+        int flags;
+        final Set<MX> mx = new LinkedHashSet<>();
+    }
+}
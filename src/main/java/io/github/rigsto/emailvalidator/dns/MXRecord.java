@@ -0,0 +1,32 @@
+package io.github.rigsto.emailvalidator.dns;
+
+/**
+ * Mail exchange record.
+ * <p>
+ * A null MX, announcing that the domain accepts no mail (RFC 7505), has an
+ * empty exchange.
+ * </p>
+ *
+ * @param preference the preference, lower values are tried first
+ * @param exchange the host name of the mail server, without trailing dot
+ * @param ttl the time to live, in seconds
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public record MXRecord(int preference, String exchange, long ttl) implements DNSRecord {
+
+    @Override
+    public int type() {
+        return TYPE_MX;
+    }
+
+    /**
+     * Checks if this is a null MX, announcing that the domain accepts no mail.
+     *
+     * @return true if the exchange is empty
+     */
+    public boolean isNullMX() {
+        return this.exchange.isEmpty();
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.rigsto.emailvalidator.exception;
+
+import java.io.IOException;
+
+/**
+ * Exception thrown when a DNS query cannot be answered.
+ * <p>
+ * This exception is used by the built-in resolver for malformed or
+ * mismatched responses and for queries that time out.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class DNSException extends IOException {
+
+    /**
+     * Creates a new DNSException with the given message.
+     *
+     * @param message the detail message
+     */
+    public DNSException(String message) {
+        super(message);
+    }
+
+    /**
+     * Creates a new DNSException with the given message and cause.
+     *
+     * @param message the detail message
+     * @param cause the cause of the failure
+     */
+    public DNSException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -271,10 +271,26 @@ public abstract class AbstractLexer<T, V> {
             T type = getType(firstMatch);
             V value = transformValue(firstMatch, type);
 
-            this.tokens.add(new Token<>(value, type, offset));
+            addToken(value, type, offset);
         }
     }
 
+    /**
+     * Appends a token to the token list.
+     * <p>
+     * This is the single entry point through which scanners publish tokens,
+     * so subclasses that replace {@link #scan(String)} produce tokens that
+     * the navigation methods can consume exactly like regex-scanned ones.
+     * </p>
+     * 
+     * @param value the token value
+     * @param type the token type
+     * @param position the position of the token in the input
+     */
+    protected void addToken(V value, T type, int position) {
+        this.tokens.add(new Token<>(value, type, position));
+    }
+
     /**
      * Returns a string representation of a token type for debugging purposes.
      * <p>
@@ -0,0 +1,213 @@
+package io.github.rigsto.emailvalidator.metrics;
+
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.MultipleErrors;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
+import io.github.rigsto.emailvalidator.result.reason.ReasonType;
+import io.github.rigsto.emailvalidator.validation.DNSGetRecordWrapper;
+import io.github.rigsto.emailvalidator.warning.Warning;
+import io.github.rigsto.emailvalidator.warning.WarningType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listener exporting the reports of the library as Micrometer meters.
+ * <p>
+ * The following meters are registered:
+ * </p>
+ * <ul>
+ *     <li>{@code emailvalidator.stage}, a timer per stage, tagged
+ *     {@code stage} with {@code validation}, {@code lexing},
+ *     {@code local_part}, {@code domain_part}, {@code dns} or
+ *     {@code spoof};</li>
+ *     <li>{@code emailvalidator.results}, a counter tagged {@code valid};</li>
+ *     <li>{@code emailvalidator.reasons}, a counter per reason of invalid
+ *     addresses, tagged {@code code} and {@code reason};</li>
+ *     <li>{@code emailvalidator.warnings}, a counter per warning, tagged
+ *     {@code code} and {@code warning};</li>
+ *     <li>{@code emailvalidator.dns.lookups}, a timer publishing a
+ *     percentile histogram, tagged {@code type} with the queried record
+ *     types and {@code outcome} with {@code success} or {@code error}.</li>
+ * </ul>
+ * <p>
+ * Meters are created once and looked up without allocating on the hot path.
+ * Micrometer is an optional dependency of the library and must be on the
+ * class path to use this class.
+ * </p>
+ *
+ * <pre>{@code
+ * Instrumentation.register(new MicrometerValidationListener(meterRegistry));
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class MicrometerValidationListener implements ValidationListener {
+
+    private static final String[] STAGE_NAMES = {
+            "validation", "lexing", "local_part", "domain_part", "dns", "spoof"
+    };
+
+    private static final int ALL_TYPES = DNSGetRecordWrapper.DNS_A | DNSGetRecordWrapper.DNS_AAAA | DNSGetRecordWrapper.DNS_MX;
+
+    private final MeterRegistry registry;
+    private final Timer[] stages = new Timer[STAGE_COUNT];
+    private final Counter validResults;
+    private final Counter invalidResults;
+
+    /**
+     * Counters of the reasons and warnings of the library, indexed by
+     * {@link ReasonType} and {@link WarningType}.
+     */
+    private final Counter[] reasons = new Counter[ReasonType.COUNT];
+    private final Counter[] warnings = new Counter[WarningType.COUNT];
+
+    /**
+     * Counters of other reasons and warnings, by class.
+     */
+    private final Map<Class<?>, Counter> otherReasons = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Counter> otherWarnings = new ConcurrentHashMap<>();
+
+    /**
+     * DNS lookup timers, indexed by record types and then by error.
+     */
+    private final Timer[][] lookups = new Timer[ALL_TYPES + 1][2];
+
+    /**
+     * Creates a listener registering its meters in the given registry.
+     *
+     * @param registry the registry of the meters
+     * @throws NullPointerException if the registry is null
+     */
+    public MicrometerValidationListener(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "registry");
+
+        for (int stage = 0; stage < STAGE_COUNT; stage++) {
+            this.stages[stage] = Timer.builder("emailvalidator.stage")
+                    .description("Time spent in each stage of the validation")
+                    .tag("stage", STAGE_NAMES[stage])
+                    .register(registry);
+        }
+        this.validResults = results(registry, true);
+        this.invalidResults = results(registry, false);
+    }
+
+    private static Counter results(MeterRegistry registry, boolean valid) {
+        return Counter.builder("emailvalidator.results")
+                .description("Validated addresses")
+                .tag("valid", String.valueOf(valid))
+                .register(registry);
+    }
+
+    @Override
+    public void onStage(int stage, long nanos) {
+        if (stage >= 0 && stage < STAGE_COUNT) {
+            this.stages[stage].record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void onResult(boolean valid, InvalidEmail error, List<Warning> warnings) {
+        (valid ? this.validResults : this.invalidResults).increment();
+
+        if (error instanceof MultipleErrors multiple) {
+            for (Reason reason : multiple.getReasons()) {
+                this.reason(reason);
+            }
+        } else if (error != null && error.reason != null) {
+            this.reason(error.reason);
+        }
+
+        for (Warning warning : warnings) {
+            this.warning(warning);
+        }
+    }
+
+    private void reason(Reason reason) {
+        int index = ReasonType.indexOf(reason);
+        if (index == -1) {
+            this.otherReasons.computeIfAbsent(reason.getClass(), type -> this.reasonCounter(reason.code(), type)).increment();
+            return;
+        }
+
+        Counter counter = this.reasons[index];
+        if (counter == null) {
+            // benign race: the registry returns the same counter for the same tags
+            counter = this.reasonCounter(reason.code(), reason.getClass());
+            this.reasons[index] = counter;
+        }
+        counter.increment();
+    }
+
+    private Counter reasonCounter(int code, Class<?> type) {
+        return Counter.builder("emailvalidator.reasons")
+                .description("Reasons of invalid addresses")
+                .tag("code", String.valueOf(code))
+                .tag("reason", type.getSimpleName())
+                .register(this.registry);
+    }
+
+    private void warning(Warning warning) {
+        int code = warning.code();
+        int index = WarningType.indexOf(code);
+        if (index == -1) {
+            this.otherWarnings.computeIfAbsent(warning.getClass(), type -> this.warningCounter(code, type)).increment();
+            return;
+        }
+
+        Counter counter = this.warnings[index];
+        if (counter == null) {
+            counter = this.warningCounter(code, WarningType.of(code).type());
+            this.warnings[index] = counter;
+        }
+        counter.increment();
+    }
+
+    private Counter warningCounter(int code, Class<?> type) {
+        return Counter.builder("emailvalidator.warnings")
+                .description("Warnings raised")
+                .tag("code", String.valueOf(code))
+                .tag("warning", type.getSimpleName())
+                .register(this.registry);
+    }
+
+    @Override
+    public void onDnsLookup(int type, long nanos, boolean error) {
+        int types = type & ALL_TYPES;
+        int outcome = error ? 1 : 0;
+
+        Timer timer = this.lookups[types][outcome];
+        if (timer == null) {
+            // benign race: the registry returns the same timer for the same tags
+            timer = Timer.builder("emailvalidator.dns.lookups")
+                    .description("Latency of DNS lookups")
+                    .tag("type", typeName(types))
+                    .tag("outcome", error ? "error" : "success")
+                    .publishPercentileHistogram()
+                    .register(this.registry);
+            this.lookups[types][outcome] = timer;
+        }
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String typeName(int types) {
+        StringBuilder name = new StringBuilder();
+        if ((types & DNSGetRecordWrapper.DNS_MX) != 0) {
+            name.append("MX");
+        }
+        if ((types & DNSGetRecordWrapper.DNS_A) != 0) {
+            name.append(name.isEmpty() ? "" : "+").append('A');
+        }
+        if ((types & DNSGetRecordWrapper.DNS_AAAA) != 0) {
+            name.append(name.isEmpty() ? "" : "+").append("AAAA");
+        }
+        return name.isEmpty() ? "none" : name.toString();
+    }
+}
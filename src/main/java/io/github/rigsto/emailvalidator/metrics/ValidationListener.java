@@ -0,0 +1,96 @@
+package io.github.rigsto.emailvalidator.metrics;
+
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.warning.Warning;
+
+import java.util.List;
+
+/**
+ * Receives timings and outcomes from the validation hot path.
+ * <p>
+ * Listeners are registered with {@link Instrumentation#register}. The lexer,
+ * the parsers, the validators and the DNS and spoof validations then report
+ * how long each stage took, the outcome of each address and the latency of
+ * each DNS lookup. All methods do nothing by default, so implementations
+ * override only what they need.
+ * </p>
+ * <p>
+ * Methods are called synchronously on the validating thread, possibly from
+ * many threads at once, and must therefore be thread-safe and fast.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public interface ValidationListener {
+
+    /**
+     * Stage of a whole validation, by {@code EmailValidator} or {@code StatelessEmailValidator}.
+     */
+    int STAGE_VALIDATION = 0;
+
+    /**
+     * Stage of the tokenization of an address by the lexer.
+     * <p>
+     * A plain dot-atom address accepted by the parser's fast path is never
+     * tokenized: the scan that accepted it is reported as this stage, and
+     * {@link #STAGE_LOCAL_PART} and {@link #STAGE_DOMAIN_PART} are not
+     * reported for it.
+     * </p>
+     */
+    int STAGE_LEXING = 1;
+
+    /**
+     * Stage of the parsing of the local part.
+     */
+    int STAGE_LOCAL_PART = 2;
+
+    /**
+     * Stage of the parsing of the domain part.
+     */
+    int STAGE_DOMAIN_PART = 3;
+
+    /**
+     * Stage of a DNS check, all its lookups included.
+     */
+    int STAGE_DNS = 4;
+
+    /**
+     * Stage of a spoof or lookalike check.
+     */
+    int STAGE_SPOOF = 5;
+
+    /**
+     * Number of stages, one more than the highest stage.
+     */
+    int STAGE_COUNT = 6;
+
+    /**
+     * Called when a stage of the validation of an address is over.
+     *
+     * @param stage one of the {@code STAGE_} constants
+     * @param nanos how long the stage took, in nanoseconds
+     */
+    default void onStage(int stage, long nanos) {
+    }
+
+    /**
+     * Called with the outcome of each address validated by a validator.
+     *
+     * @param valid whether the address is valid
+     * @param error the error of an invalid address, or null if it is valid
+     * @param warnings the warnings raised, never null
+     */
+    default void onResult(boolean valid, InvalidEmail error, List<Warning> warnings) {
+    }
+
+    /**
+     * Called when a DNS lookup completes.
+     *
+     * @param type the queried record types, a combination of the {@code DNSGetRecordWrapper.DNS_} constants
+     * @param nanos how long the lookup took, in nanoseconds
+     * @param error whether the lookup failed
+     */
+    default void onDnsLookup(int type, long nanos, boolean error) {
+    }
+}
@@ -2,14 +2,12 @@ package io.github.rigsto.emailvalidator.parser;
 
 import io.github.rigsto.emailvalidator.EmailLexer;
 import io.github.rigsto.emailvalidator.parser.strategy.CommentStrategy;
-import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.result.Result;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
 import io.github.rigsto.emailvalidator.result.reason.UnopenedComment;
 import io.github.rigsto.emailvalidator.result.reason.UnclosedComment;
 import io.github.rigsto.emailvalidator.warning.QuotedPart;
 
-import java.util.Arrays;
-
 import static io.github.rigsto.emailvalidator.constant.LexerConstant.*;
 
 /**
@@ -24,6 +22,9 @@ import static io.github.rigsto.emailvalidator.constant.LexerConstant.*;
  * @since 0.0.1
  */
 public class Comment extends PartParser {
+    private static final Reason UNCLOSED_COMMENT = new UnclosedComment();
+    private static final Reason UNOPENED_COMMENT = new UnopenedComment();
+
     /**
      * Counter for opened parentheses in nested comments.
      */
@@ -56,16 +57,16 @@ public class Comment extends PartParser {
      */
     @Override
     public Result parse() {
-        if (this.lexer.current.isA(S_OPENPARENTHESIS)) {
+        if (this.lexer.isCurrentToken(S_OPENPARENTHESIS)) {
             this.openedParenthesis++;
 
             if (this.noClosingParenthesis()) {
-                return new InvalidEmail(new UnclosedComment(), this.lexer.current.value);
+                return fail(UNCLOSED_COMMENT);
             }
         }
 
-        if (this.lexer.current.isA(S_CLOSEPARENTHESIS)) {
-            return new InvalidEmail(new UnopenedComment(), this.lexer.current.value);
+        if (this.lexer.isCurrentToken(S_CLOSEPARENTHESIS)) {
+            return fail(UNOPENED_COMMENT);
         }
 
         this.warnings.add(new io.github.rigsto.emailvalidator.warning.Comment());
@@ -84,11 +85,11 @@ public class Comment extends PartParser {
         }
 
         if (this.openedParenthesis >= 1) {
-            return new InvalidEmail(new UnopenedComment(), this.lexer.current.value);
+            return fail(UNOPENED_COMMENT);
         }
 
         if (this.openedParenthesis < 0) {
-            return new InvalidEmail(new UnopenedComment(), this.lexer.current.value);
+            return fail(UNOPENED_COMMENT);
         }
 
         Result finalValidations = this.commentStrategy.endOfLoopValidations(this.lexer);
@@ -98,15 +99,15 @@ public class Comment extends PartParser {
     }
 
     private void warnEscaping() {
-        if (!this.lexer.current.isA(S_BACKSLASH)) {
+        if (!this.lexer.isCurrentToken(S_BACKSLASH)) {
             return;
         }
 
-        if (!this.lexer.isNextTokenAny(Arrays.asList(S_SP, S_HTAB, C_DEL))) {
+        if (!(this.lexer.isNextToken(S_SP) || this.lexer.isNextToken(S_HTAB) || this.lexer.isNextToken(C_DEL))) {
             return;
         }
 
-        this.warnings.add(new QuotedPart(this.lexer.getPrevious().type, this.lexer.current.type));
+        this.warnings.add(new QuotedPart(this.lexer.previousType(), this.lexer.currentType()));
     }
 
     private boolean noClosingParenthesis() {
@@ -1,12 +1,11 @@
 package io.github.rigsto.emailvalidator.parser;
 
 import io.github.rigsto.emailvalidator.EmailLexer;
-import io.github.rigsto.emailvalidator.lexer.Token;
-import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.result.Result;
 import io.github.rigsto.emailvalidator.result.ValidEmail;
 import io.github.rigsto.emailvalidator.result.reason.CRNoLF;
 import io.github.rigsto.emailvalidator.result.reason.ExpectingDTEXT;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
 import io.github.rigsto.emailvalidator.result.reason.UnusualElements;
 import io.github.rigsto.emailvalidator.warning.*;
 
@@ -30,6 +29,9 @@ import static io.github.rigsto.emailvalidator.constant.LexerConstant.*;
  * @since 0.0.1
  */
 public class DomainLiteral extends PartParser {
+    private static final Reason EXPECTING_DTEXT = new ExpectingDTEXT();
+    private static final Reason CR_NO_LF = new CRNoLF();
+
     /**
      * Regular expression pattern for validating IPv4 addresses.
      */
@@ -63,64 +65,66 @@ public class DomainLiteral extends PartParser {
      */
     @Override
     public Result parse() {
+        reset();
+
         addTagWarnings();
 
         boolean ipv6Tag = false;
         StringBuilder addressLiteral = new StringBuilder();
 
         do {
-            if (this.lexer.current.isA(C_NUL)) {
-                return new InvalidEmail(new ExpectingDTEXT(), this.lexer.current.value);
+            if (this.lexer.isCurrentToken(C_NUL)) {
+                return fail(EXPECTING_DTEXT);
             }
 
             addObsoleteWarnings();
 
             if (this.lexer.isNextToken(S_OPENBRACKET)) {
-                return new InvalidEmail(new ExpectingDTEXT(), this.lexer.current.value);
+                return fail(EXPECTING_DTEXT);
             }
 
-            if (this.lexer.isNextTokenAny(Arrays.asList(S_HTAB, S_SP, CRLF))) {
+            if (this.lexer.isNextToken(S_HTAB) || this.lexer.isNextToken(S_SP) || this.lexer.isNextToken(CRLF)) {
                 this.warnings.add(new CFWSWithFWS());
                 parseFWS();
             }
 
             if (this.lexer.isNextToken(S_CR)) {
-                return new InvalidEmail(new CRNoLF(), this.lexer.current.value);
+                return fail(CR_NO_LF);
             }
 
-            if (this.lexer.current.isA(S_BACKSLASH)) {
-                return new InvalidEmail(new UnusualElements(this.lexer.current.value), this.lexer.current.value);
+            if (this.lexer.isCurrentToken(S_BACKSLASH)) {
+                return fail(new UnusualElements(this.lexer.currentValue()));
             }
 
-            if (this.lexer.current.isA(S_IPV6TAG)) {
+            if (this.lexer.isCurrentToken(S_IPV6TAG)) {
                 ipv6Tag = true;
             }
 
-            if (this.lexer.current.isA(S_CLOSEBRACKET)) {
+            if (this.lexer.isCurrentToken(S_CLOSEBRACKET)) {
                 break;
             }
 
-            addressLiteral.append(this.lexer.current.value);
+            addressLiteral.append(this.lexer.currentValue());
         } while (this.lexer.moveNext());
 
         String addr = addressLiteral.toString().replace("[", "");
 
         boolean continueParsing = checkIPv4Tag(addr);
         if (!continueParsing) {
-            return new ValidEmail();
+            return ValidEmail.INSTANCE;
         }
 
         addr = convertIPv4ToIPv6(addr);
 
         if (!ipv6Tag) {
             this.warnings.add(new io.github.rigsto.emailvalidator.warning.DomainLiteral());
-            return new ValidEmail();
+            return ValidEmail.INSTANCE;
         }
 
         this.warnings.add(new AddressLiteral());
 
         checkIPv6Tag(addr, 8);
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     /**
@@ -159,8 +163,7 @@ public class DomainLiteral extends PartParser {
      * @param maxGroups the maximum number of groups allowed
      */
     public void checkIPv6Tag(String addressLiteral, int maxGroups) {
-        Token<Integer, String> prev = this.lexer.getPrevious();
-        if (prev.isA(S_COLON)) {
+        if (this.lexer.isPreviousToken(S_COLON)) {
             this.warnings.add(new IPV6ColonEnd());
         }
 
@@ -227,7 +230,12 @@ public class DomainLiteral extends PartParser {
     }
 
     private void addObsoleteWarnings() {
-        if (OBSOLETE_WARNINGS.contains(this.lexer.current.type)) {
+        boolean obsolete = switch (this.lexer.currentType()) {
+            case INVALID, C_DEL, S_LF, S_BACKSLASH -> true;
+            default -> false;
+        };
+
+        if (obsolete) {
             this.warnings.add(new ObsoleteDTEXT());
         }
     }
@@ -238,10 +246,10 @@ public class DomainLiteral extends PartParser {
         }
 
         if (this.lexer.isNextToken(S_IPV6TAG)) {
-            Token<Integer, String> token = lexer.peek();
+            int type = lexer.peekType();
             lexer.resetPeek();
 
-            if (token != null && token.isA(S_DOUBLECOLON)) {
+            if (type == S_DOUBLECOLON) {
                 this.warnings.add(new IPV6ColonStart());
             }
         }
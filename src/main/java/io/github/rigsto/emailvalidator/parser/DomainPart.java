@@ -1,19 +1,13 @@
 package io.github.rigsto.emailvalidator.parser;
 
 import io.github.rigsto.emailvalidator.EmailLexer;
-import io.github.rigsto.emailvalidator.lexer.Token;
 import io.github.rigsto.emailvalidator.parser.strategy.DomainComment;
-import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.result.Result;
 import io.github.rigsto.emailvalidator.result.ValidEmail;
 import io.github.rigsto.emailvalidator.result.reason.*;
 import io.github.rigsto.emailvalidator.warning.DeprecatedComment;
 import io.github.rigsto.emailvalidator.warning.TLD;
 
-import java.net.IDN;
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.github.rigsto.emailvalidator.constant.LexerConstant.*;
 
 /**
@@ -28,6 +22,23 @@ import static io.github.rigsto.emailvalidator.constant.LexerConstant.*;
  * @since 0.0.1
  */
 public class DomainPart extends PartParser {
+    private static final Reason CONSECUTIVE_AT = new ConsecutiveAt();
+    private static final Reason DOMAIN_TOO_LONG = new DomainTooLong();
+    private static final Reason DOT_AT_END = new DotAtEnd();
+    private static final Reason HYPHEN_AT_END = new DomainHyphened("Hypen found at the end of the domain");
+    private static final Reason CRLF_AT_THE_END = new CRLFAtTheEnd();
+    private static final Reason NO_DOMAIN_PART = new NoDomainPart();
+    private static final Reason DOT_AT_START = new DotAtStart();
+    private static final Reason HYPHEN_AFTER_AT = new DomainHyphened("After AT");
+    private static final Reason CHAR_NOT_ALLOWED = new CharNotAllowed();
+    private static final Reason EXPECTING_DOMAIN_LITERAL_CLOSE = new ExpectingDomainLiteralClose();
+    private static final Reason OPENBRACKET_NOT_AFTER_AT = new ExpectingATEXT("OPENBRACKET not after AT");
+    private static final Reason HYPHEN_NEAR_DOT = new DomainHyphened("Hypen found near DOT");
+    private static final Reason ESCAPING_FOLLOWING_ATOM = new ExpectingATEXT("Escaping following 'ATOM'");
+    private static final Reason INVALID_CHARACTER = new ExpectingATEXT("Invalid character in domain address");
+    private static final Reason CRLF_NOT_ALLOWED = new ExpectingATEXT("CR/LF characters not allowed in domain");
+    private static final Reason LABEL_TOO_LONG = new LabelTooLong();
+
     /**
      * Maximum allowed length for domain names (253 characters).
      */
@@ -39,14 +50,39 @@ public class DomainPart extends PartParser {
     public static int LABEL_MAX_LENGTH = 63;
 
     /**
-     * The parsed domain part string.
+     * The parsed domain part string, or null until it is first requested.
      */
     private String domainPart = "";
+
+    /**
+     * The text the domain part was recorded from.
+     */
+    private CharSequence source = "";
+
+    /**
+     * Start offset of the domain part in {@link #source}.
+     */
+    private int domainPartStart = 0;
+
+    /**
+     * Length of the parsed domain part.
+     */
+    private int domainPartLength = 0;
+
+    /**
+     * Buffer holding the domain tokens seen by {@link #doParseDomainPart()}.
+     */
+    private final StringBuilder domain = new StringBuilder();
+
+    /**
+     * Domain literal parser, created on first use and reused afterwards.
+     */
+    private DomainLiteral domainLiteral;
     
     /**
-     * The current domain label being processed.
+     * The length of the current domain label being processed.
      */
-    private String label = "";
+    private int labelLength = 0;
 
     /**
      * Creates a new DomainPart parser with the specified lexer.
@@ -68,6 +104,8 @@ public class DomainPart extends PartParser {
      */
     @Override
     public Result parse() {
+        reset();
+
         this.lexer.clearRecorded();
         this.lexer.startRecording();
 
@@ -78,8 +116,8 @@ public class DomainPart extends PartParser {
             return domainStartChecks;
         }
 
-        if (this.lexer.current.isA(S_AT)) {
-            return new InvalidEmail(new ConsecutiveAt(), this.lexer.current.value);
+        if (this.lexer.isCurrentToken(S_AT)) {
+            return fail(CONSECUTIVE_AT);
         }
 
         Result r = doParseDomainPart();
@@ -93,32 +131,35 @@ public class DomainPart extends PartParser {
         }
 
         this.lexer.stopRecording();
-        this.domainPart = this.lexer.getAccumulatedValues();
+        int start = this.lexer.getRecordedStart();
+        if (start >= 0) {
+            setDomainPart(this.lexer.getInput(), start, this.lexer.getRecordedEnd());
+        } else {
+            String recorded = this.lexer.getAccumulatedValues();
+            setDomainPart(recorded, 0, recorded.length());
+        }
 
-        int length = this.domainPart.length();
-        if (length > DOMAIN_MAX_LENGTH) {
-            return new InvalidEmail(new DomainTooLong(), this.lexer.current.value);
+        if (this.domainPartLength > DOMAIN_MAX_LENGTH) {
+            return fail(DOMAIN_TOO_LONG);
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     private Result checkEndOfDomain() {
-        Token<Integer, String> prev = this.lexer.getPrevious();
-
-        if (prev.isA(S_DOT)) {
-            return new InvalidEmail(new DotAtEnd(), this.lexer.current.value);
+        if (this.lexer.isPreviousToken(S_DOT)) {
+            return fail(DOT_AT_END);
         }
 
-        if (prev.isA(S_HYPHEN)) {
-            return new InvalidEmail(new DomainHyphened("Hypen found at the end of the domain"), prev.value);
+        if (this.lexer.isPreviousToken(S_HYPHEN)) {
+            return failAtPrevious(HYPHEN_AT_END);
         }
 
-        if (this.lexer.current.isA(S_SP)) {
-            return new InvalidEmail(new CRLFAtTheEnd(), prev.value);
+        if (this.lexer.isCurrentToken(S_SP)) {
+            return failAtPrevious(CRLF_AT_THE_END);
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     private Result performDomainStartChecks() {
@@ -132,34 +173,34 @@ public class DomainPart extends PartParser {
             return missingDomain;
         }
 
-        if (lexer.current.isA(S_OPENPARENTHESIS)) {
+        if (lexer.isCurrentToken(S_OPENPARENTHESIS)) {
             this.warnings.add(new DeprecatedComment());
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     private Result checkEmptyDomain() {
-        boolean thereIsNoDomain = this.lexer.current.isA(S_EMPTY) ||
-                (this.lexer.current.isA(S_SP) && !this.lexer.isNextToken(GENERIC));
+        boolean thereIsNoDomain = this.lexer.isCurrentToken(S_EMPTY) ||
+                (this.lexer.isCurrentToken(S_SP) && !this.lexer.isNextToken(GENERIC));
 
         if (thereIsNoDomain) {
-            return new InvalidEmail(new NoDomainPart(), this.lexer.current.value);
+            return fail(NO_DOMAIN_PART);
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     private Result checkInvalidTokensAfterAT() {
-        if (this.lexer.current.isA(S_DOT)) {
-            return new InvalidEmail(new DotAtStart(), this.lexer.current.value);
+        if (this.lexer.isCurrentToken(S_DOT)) {
+            return fail(DOT_AT_START);
         }
 
-        if (this.lexer.current.isA(S_HYPHEN)) {
-            return new InvalidEmail(new DomainHyphened("After AT"), this.lexer.current.value);
+        if (this.lexer.isCurrentToken(S_HYPHEN)) {
+            return fail(HYPHEN_AFTER_AT);
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     /**
@@ -171,7 +212,7 @@ public class DomainPart extends PartParser {
         Comment commentParser = new Comment(this.lexer, new DomainComment());
         Result res = commentParser.parse();
 
-        this.warnings.addAll(commentParser.getWarnings());
+        addWarningsFrom(commentParser);
         return res;
     }
 
@@ -183,17 +224,18 @@ public class DomainPart extends PartParser {
     protected Result doParseDomainPart() {
         boolean tldMissing = true;
         boolean hasComments = false;
-        StringBuilder domain = new StringBuilder();
+        StringBuilder domain = this.domain;
+        domain.setLength(0);
 
         do {
-            Token<Integer, String> prev = this.lexer.getPrevious();
+            int prevType = this.lexer.previousType();
 
-            Result notAllowed = checkNotAllowedChars(this.lexer.current);
+            Result notAllowed = checkNotAllowedChars();
             if (notAllowed.isInvalid()) {
                 return notAllowed;
             }
 
-            if (this.lexer.current.isA(S_OPENPARENTHESIS) || this.lexer.current.isA(S_CLOSEPARENTHESIS)) {
+            if (this.lexer.isCurrentToken(S_OPENPARENTHESIS) || this.lexer.isCurrentToken(S_CLOSEPARENTHESIS)) {
                 hasComments = true;
                 Result commentsResult = parseComments();
 
@@ -207,7 +249,7 @@ public class DomainPart extends PartParser {
                 return dots;
             }
 
-            if (this.lexer.current.isA(S_OPENBRACKET)) {
+            if (this.lexer.isCurrentToken(S_OPENBRACKET)) {
                 Result literalResult = parseDomainLiteral();
                 addTLDWarnings(tldMissing);
                 return literalResult;
@@ -223,19 +265,19 @@ public class DomainPart extends PartParser {
                 return fws;
             }
 
-            domain.append(this.lexer.current.value);
+            this.lexer.appendCurrentValue(domain);
 
-            if (this.lexer.current.isA(S_DOT) && this.lexer.isNextToken(GENERIC)) {
+            if (this.lexer.isCurrentToken(S_DOT) && this.lexer.isNextToken(GENERIC)) {
                 tldMissing = false;
             }
 
-            Result ex = checkDomainPartExceptions(prev, hasComments);
+            Result ex = checkDomainPartExceptions(prevType, hasComments);
             if (ex.isInvalid()) {
                 return ex;
             }
 
             lexer.moveNext();
-        } while (!this.lexer.current.isA(S_EMPTY));
+        } while (!this.lexer.isCurrentToken(S_EMPTY));
 
         Result labelEnd = checkLabelLength(true);
         if (labelEnd.isInvalid()) {
@@ -244,21 +286,20 @@ public class DomainPart extends PartParser {
 
         addTLDWarnings(tldMissing);
 
-        this.domainPart = domain.toString();
-        return new ValidEmail();
+        setDomainPart(domain, 0, domain.length());
+        return ValidEmail.INSTANCE;
     }
 
-    private Result checkNotAllowedChars(Token<Integer, String> token) {
-        Map<Integer, Boolean> notAllowed = new HashMap<>();
-        notAllowed.put(S_BACKSLASH, true);
-        notAllowed.put(S_SLASH, true);
-        notAllowed.put(S_CR, true);
-        notAllowed.put(S_LF, true);
+    private Result checkNotAllowedChars() {
+        boolean notAllowed = switch (this.lexer.currentType()) {
+            case S_BACKSLASH, S_SLASH, S_CR, S_LF -> true;
+            default -> false;
+        };
 
-        if (notAllowed.containsKey(token.type)) {
-            return new InvalidEmail(new CharNotAllowed(), token.value);
+        if (notAllowed) {
+            return fail(CHAR_NOT_ALLOWED);
         }
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     /**
@@ -270,34 +311,38 @@ public class DomainPart extends PartParser {
         try {
             this.lexer.find(S_CLOSEBRACKET);
         } catch (RuntimeException e) {
-            return new InvalidEmail(new ExpectingDomainLiteralClose(), this.lexer.current.value);
+            return fail(EXPECTING_DOMAIN_LITERAL_CLOSE);
         }
 
-        DomainLiteral domainLiteralParser = new DomainLiteral(this.lexer);
+        if (this.domainLiteral == null) {
+            this.domainLiteral = new DomainLiteral(this.lexer);
+        }
+
+        DomainLiteral domainLiteralParser = this.domainLiteral;
         Result res = domainLiteralParser.parse();
 
-        this.warnings.addAll(domainLiteralParser.getWarnings());
+        addWarningsFrom(domainLiteralParser);
         return res;
     }
 
     /**
      * Checks for domain part specific exceptions and validation rules.
      * 
-     * @param prev the previous token
+     * @param prevType the type of the previous token
      * @param hasComments whether comments are present in the domain
      * @return ValidEmail if no exceptions found, InvalidEmail otherwise
      */
-    protected Result checkDomainPartExceptions(Token<Integer, String> prev, boolean hasComments) {
-        if (this.lexer.current.isA(S_OPENBRACKET) && prev.type != S_AT) {
-            return new InvalidEmail(new ExpectingATEXT("OPENBRACKET not after AT"), this.lexer.current.value);
+    protected Result checkDomainPartExceptions(int prevType, boolean hasComments) {
+        if (this.lexer.isCurrentToken(S_OPENBRACKET) && prevType != S_AT) {
+            return fail(OPENBRACKET_NOT_AFTER_AT);
         }
 
-        if (this.lexer.current.isA(S_HYPHEN) && this.lexer.isNextToken(S_DOT)) {
-            return new InvalidEmail(new DomainHyphened("Hypen found near DOT"), this.lexer.current.value);
+        if (this.lexer.isCurrentToken(S_HYPHEN) && this.lexer.isNextToken(S_DOT)) {
+            return fail(HYPHEN_NEAR_DOT);
         }
 
-        if (this.lexer.current.isA(S_BACKSLASH) && this.lexer.isNextToken(GENERIC)) {
-            return new InvalidEmail(new ExpectingATEXT("Escaping following 'ATOM'"), this.lexer.current.value);
+        if (this.lexer.isCurrentToken(S_BACKSLASH) && this.lexer.isNextToken(GENERIC)) {
+            return fail(ESCAPING_FOLLOWING_ATOM);
         }
 
         return validateTokens(hasComments);
@@ -310,39 +355,31 @@ public class DomainPart extends PartParser {
      * @return ValidEmail if tokens are valid, InvalidEmail otherwise
      */
     protected Result validateTokens(boolean hasComments) {
-        Map<Integer, Boolean> validDomainTokens = new HashMap<>();
-        validDomainTokens.put(GENERIC, true);
-        validDomainTokens.put(UTF8_CHAR, true);
-        validDomainTokens.put(S_HYPHEN, true);
-        validDomainTokens.put(S_DOT, true);
-
-        if (hasComments) {
-            validDomainTokens.put(S_OPENPARENTHESIS, true);
-            validDomainTokens.put(S_CLOSEPARENTHESIS, true);
-        }
-
-        if (!validDomainTokens.containsKey(this.lexer.current.type)) {
-            return new InvalidEmail(
-                    new ExpectingATEXT("Invalid token in domain: " + this.lexer.current.value),
-                    this.lexer.current.value
-            );
+        boolean validDomainToken = switch (this.lexer.currentType()) {
+            case GENERIC, UTF8_CHAR, S_HYPHEN, S_DOT -> true;
+            case S_OPENPARENTHESIS, S_CLOSEPARENTHESIS -> hasComments;
+            default -> false;
+        };
+
+        if (!validDomainToken) {
+            return fail(new ExpectingATEXT("Invalid token in domain: " + this.lexer.currentValue()));
         }
 
         // Check for specific invalid characters that should be rejected in domain addresses
-        if (this.lexer.current.type == GENERIC && this.lexer.current.value.length() == 1) {
-            char c = this.lexer.current.value.charAt(0);
+        if (this.lexer.currentType() == GENERIC && this.lexer.currentLength() == 1) {
+            char c = this.lexer.currentChar();
             // Character 226 and ║ (0x2551) should be invalid for email addresses
             if (c == 226 || c == 0x2551) {
-                return new InvalidEmail(new ExpectingATEXT("Invalid character in domain address"), this.lexer.current.value);
+                return fail(INVALID_CHARACTER);
             }
         }
         
         // Check for CR/LF characters which should be invalid in domain parts
-        if (this.lexer.current.type == S_CR || this.lexer.current.type == S_LF) {
-            return new InvalidEmail(new ExpectingATEXT("CR/LF characters not allowed in domain"), this.lexer.current.value);
+        if (this.lexer.currentType() == S_CR || this.lexer.currentType() == S_LF) {
+            return fail(CRLF_NOT_ALLOWED);
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     private Result checkLabelLength() {
@@ -350,21 +387,21 @@ public class DomainPart extends PartParser {
     }
 
     private Result checkLabelLength(boolean isEndOfDomain) {
-        if (this.lexer.current.isA(S_DOT) || isEndOfDomain) {
-            if (isLabelTooLong(this.label)) {
-                return new InvalidEmail(new LabelTooLong(), this.lexer.current.value);
+        if (this.lexer.isCurrentToken(S_DOT) || isEndOfDomain) {
+            if (isLabelTooLong(this.labelLength)) {
+                return fail(LABEL_TOO_LONG);
             }
-            this.label = "";
+            this.labelLength = 0;
         }
 
-        this.label += this.lexer.current.value;
-        return new ValidEmail();
+        this.labelLength += this.lexer.currentLength();
+        return ValidEmail.INSTANCE;
     }
 
-    private boolean isLabelTooLong(String label) {
+    private boolean isLabelTooLong(int labelLength) {
         // Check the original label length, not the ASCII conversion
         // The ASCII conversion is only needed for DNS lookups, not for length validation
-        return label.length() > LABEL_MAX_LENGTH;
+        return labelLength > LABEL_MAX_LENGTH;
     }
 
     private void addTLDWarnings(boolean isTLDMissing) {
@@ -373,12 +410,47 @@ public class DomainPart extends PartParser {
         }
     }
 
+    /**
+     * Clears the domain part left by a previous parse.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        this.domainPart = "";
+        this.source = "";
+        this.domainPartStart = 0;
+        this.domainPartLength = 0;
+        this.labelLength = 0;
+    }
+
     /**
      * Returns the parsed domain part string.
+     * <p>
+     * The string is only created on the first call after a parse.
+     * </p>
      * 
      * @return the domain part string
      */
     public String domainPart() {
+        if (this.domainPart == null) {
+            this.domainPart = this.source.subSequence(this.domainPartStart, this.domainPartStart + this.domainPartLength).toString();
+        }
         return this.domainPart;
     }
+
+    /**
+     * Returns the length of the parsed domain part without creating the string.
+     * 
+     * @return the domain part length
+     */
+    public int domainPartLength() {
+        return this.domainPartLength;
+    }
+
+    private void setDomainPart(CharSequence source, int start, int end) {
+        this.domainPart = null;
+        this.source = source;
+        this.domainPartStart = start;
+        this.domainPartLength = end - start;
+    }
 }
@@ -1,18 +1,14 @@
 package io.github.rigsto.emailvalidator.parser;
 
 import io.github.rigsto.emailvalidator.EmailLexer;
-import io.github.rigsto.emailvalidator.lexer.Token;
-import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.result.Result;
 import io.github.rigsto.emailvalidator.result.ValidEmail;
 import io.github.rigsto.emailvalidator.result.reason.ExpectingATEXT;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
 import io.github.rigsto.emailvalidator.result.reason.UnclosedQuotedString;
 import io.github.rigsto.emailvalidator.warning.CFWSWithFWS;
 import io.github.rigsto.emailvalidator.warning.QuotedString;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.github.rigsto.emailvalidator.constant.LexerConstant.*;
 
 /**
@@ -27,6 +23,10 @@ import static io.github.rigsto.emailvalidator.constant.LexerConstant.*;
  * @since 0.0.1
  */
 public class DoubleQuote extends PartParser {
+    private static final Reason ATEXT_BETWEEN_DQUOTE = new ExpectingATEXT("Expecting ATEXT between DQUOTE");
+    private static final Reason QUOTED_STRING_NOT_A_UNIT = new ExpectingATEXT(
+            "https://tools.ietf.org/html/rfc5322#section-3.2.4 - quoted string should be a unit");
+    private static final Reason UNCLOSED_QUOTED_STRING = new UnclosedQuotedString();
 
     /**
      * Creates a new DoubleQuote parser with the specified lexer.
@@ -48,57 +48,62 @@ public class DoubleQuote extends PartParser {
      */
     @Override
     public Result parse() {
+        reset();
+
         Result validQuotedString = checkDQuote();
         if (validQuotedString.isInvalid()) {
             return validQuotedString;
         }
 
-        Map<Integer, Boolean> special = new HashMap<>();
-        special.put(S_CR, true);
-        special.put(S_HTAB, true);
-        special.put(S_LF, true);
-
-        Map<Integer, Boolean> invalid = new HashMap<>();
-        invalid.put(C_NUL, true);
-        invalid.put(S_HTAB, true);
-        invalid.put(S_CR, true);
-        invalid.put(S_LF, true);
-
         boolean setSpecialWarning = true;
 
         this.lexer.moveNext();
 
-        while (!this.lexer.current.isA(S_DQUOTE) && !this.lexer.current.isA(S_EMPTY)) {
-            if (special.containsKey(this.lexer.current.type) && setSpecialWarning) {
+        while (!this.lexer.isCurrentToken(S_DQUOTE) && !this.lexer.isCurrentToken(S_EMPTY)) {
+            if (isSpecial(this.lexer.currentType()) && setSpecialWarning) {
                 this.warnings.add(new CFWSWithFWS());
                 setSpecialWarning = false;
             }
 
-            if (this.lexer.current.isA(S_BACKSLASH) && this.lexer.isNextToken(S_DQUOTE)) {
+            if (this.lexer.isCurrentToken(S_BACKSLASH) && this.lexer.isNextToken(S_DQUOTE)) {
                 this.lexer.moveNext();
             }
 
             this.lexer.moveNext();
 
-            if (!this.escaped() && invalid.containsKey(this.lexer.current.type)) {
-                return new InvalidEmail(new ExpectingATEXT("Expecting ATEXT between DQUOTE"), this.lexer.current.value);
+            if (!this.escaped() && isInvalid(this.lexer.currentType())) {
+                return fail(ATEXT_BETWEEN_DQUOTE);
             }
         }
 
-        Token<Integer, String> prev = this.lexer.getPrevious();
+        boolean escapedQuote = this.lexer.isPreviousToken(S_BACKSLASH);
 
-        if (prev.isA(S_BACKSLASH)) {
+        if (escapedQuote) {
             validQuotedString = checkDQuote();
             if (validQuotedString.isInvalid()) {
                 return validQuotedString;
             }
         }
 
-        if (!this.lexer.isNextToken(S_AT) && !prev.isA(S_BACKSLASH)) {
-            return new InvalidEmail(new ExpectingATEXT("Expecting ATEXT between DQUOTE"), this.lexer.current.value);
+        if (!this.lexer.isNextToken(S_AT) && !escapedQuote) {
+            return fail(ATEXT_BETWEEN_DQUOTE);
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
+    }
+
+    private static boolean isSpecial(int type) {
+        return switch (type) {
+            case S_CR, S_HTAB, S_LF -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isInvalid(int type) {
+        return switch (type) {
+            case C_NUL, S_HTAB, S_CR, S_LF -> true;
+            default -> false;
+        };
     }
 
     /**
@@ -107,20 +112,17 @@ public class DoubleQuote extends PartParser {
      * @return ValidEmail if double quote is valid, InvalidEmail otherwise
      */
     protected Result checkDQuote() {
-        Token<Integer, String> prev = this.lexer.getPrevious();
-
-        if (this.lexer.isNextToken(GENERIC) && prev.isA(GENERIC)) {
-            String description = "https://tools.ietf.org/html/rfc5322#section-3.2.4 - quoted string should be a unit";
-            return new InvalidEmail(new ExpectingATEXT(description), this.lexer.current.value);
+        if (this.lexer.isNextToken(GENERIC) && this.lexer.isPreviousToken(GENERIC)) {
+            return fail(QUOTED_STRING_NOT_A_UNIT);
         }
 
         try {
             this.lexer.find(S_DQUOTE);
         } catch (Exception e) {
-            return new InvalidEmail(new UnclosedQuotedString(), this.lexer.current.value);
+            return fail(UNCLOSED_QUOTED_STRING);
         }
 
-        this.warnings.add(new QuotedString(prev.value, this.lexer.current.value));
-        return new ValidEmail();
+        this.warnings.add(new QuotedString(this.lexer.previousValue(), this.lexer.currentValue()));
+        return ValidEmail.INSTANCE;
     }
 }
@@ -1,8 +1,6 @@
 package io.github.rigsto.emailvalidator.parser;
 
 import io.github.rigsto.emailvalidator.EmailLexer;
-import io.github.rigsto.emailvalidator.lexer.Token;
-import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.result.Result;
 import io.github.rigsto.emailvalidator.result.ValidEmail;
 import io.github.rigsto.emailvalidator.result.reason.*;
@@ -26,6 +24,11 @@ import static io.github.rigsto.emailvalidator.constant.LexerConstant.*;
  * @since 0.0.1
  */
 public class FoldingWhiteSpace extends PartParser {
+    private static final Reason CR_NO_LF = new CRNoLF();
+    private static final Reason ATEXT_AFTER_CFWS = new AtextAfterCFWS();
+    private static final Reason EXPECTING_CTEXT = new ExpectingCTEXT();
+    private static final Reason CRLF_X2 = new CRLFX2();
+    private static final Reason CRLF_AT_THE_END = new CRLFAtTheEnd();
 
     /**
      * List of token types that constitute folding whitespace.
@@ -52,36 +55,36 @@ public class FoldingWhiteSpace extends PartParser {
      */
     @Override
     public Result parse() {
+        reset();
+
         if (!this.isFWS()) {
-            return new ValidEmail();
+            return ValidEmail.INSTANCE;
         }
 
-        Token<Integer, String> previous = this.lexer.getPrevious();
-
         Result resultCRLF = this.checkCRLFInFWS();
         if (resultCRLF.isInvalid()) {
             return resultCRLF;
         }
 
-        if (this.lexer.current.isA(S_CR)) {
-            return new InvalidEmail(new CRNoLF(), this.lexer.current.value);
+        if (this.lexer.isCurrentToken(S_CR)) {
+            return fail(CR_NO_LF);
         }
 
-        if (this.lexer.isNextToken(GENERIC) && !previous.isA(S_AT)) {
-            return new InvalidEmail(new AtextAfterCFWS(), this.lexer.current.value);
+        if (this.lexer.isNextToken(GENERIC) && !this.lexer.isPreviousToken(S_AT)) {
+            return fail(ATEXT_AFTER_CFWS);
         }
 
-        if (this.lexer.current.isA(S_LF) || this.lexer.current.isA(C_NUL)) {
-            return new InvalidEmail(new ExpectingCTEXT(), this.lexer.current.value);
+        if (this.lexer.isCurrentToken(S_LF) || this.lexer.isCurrentToken(C_NUL)) {
+            return fail(EXPECTING_CTEXT);
         }
 
-        if (this.lexer.isNextToken(S_AT) || previous.isA(S_AT)) {
+        if (this.lexer.isNextToken(S_AT) || this.lexer.isPreviousToken(S_AT)) {
             this.warnings.add(new CFWSNearAt());
         } else {
             this.warnings.add(new CFWSWithFWS());
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     /**
@@ -94,19 +97,19 @@ public class FoldingWhiteSpace extends PartParser {
      * @return ValidEmail if CRLF is valid, InvalidEmail otherwise
      */
     protected Result checkCRLFInFWS() {
-        if (!this.lexer.current.isA(CRLF)) {
-            return new ValidEmail();
+        if (!this.lexer.isCurrentToken(CRLF)) {
+            return ValidEmail.INSTANCE;
         }
 
-        if (!this.lexer.isNextTokenAny(Arrays.asList(S_SP, S_HTAB))) {
-            return new InvalidEmail(new CRLFX2(), this.lexer.current.value);
+        if (!(this.lexer.isNextToken(S_SP) || this.lexer.isNextToken(S_HTAB))) {
+            return fail(CRLF_X2);
         }
 
-        if (!this.lexer.isNextTokenAny(Arrays.asList(S_SP, S_HTAB))) {
-            return new InvalidEmail(new CRLFAtTheEnd(), this.lexer.current.value);
+        if (!(this.lexer.isNextToken(S_SP) || this.lexer.isNextToken(S_HTAB))) {
+            return fail(CRLF_AT_THE_END);
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     /**
@@ -119,6 +122,9 @@ public class FoldingWhiteSpace extends PartParser {
             return false;
         }
 
-        return FWS_TYPES.contains(this.lexer.current.type);
+        return switch (this.lexer.currentType()) {
+            case S_SP, S_HTAB, S_CR, S_LF, CRLF -> true;
+            default -> false;
+        };
     }
 }
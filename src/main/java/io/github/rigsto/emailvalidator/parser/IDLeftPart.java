@@ -1,9 +1,9 @@
 package io.github.rigsto.emailvalidator.parser;
 
 import io.github.rigsto.emailvalidator.EmailLexer;
-import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.result.Result;
 import io.github.rigsto.emailvalidator.result.reason.CommentsInIDRight;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
 
 /**
  * Parser for the left part of Message-ID headers.
@@ -17,6 +17,7 @@ import io.github.rigsto.emailvalidator.result.reason.CommentsInIDRight;
  * @since 0.0.1
  */
 public class IDLeftPart extends LocalPart {
+    private static final Reason COMMENTS_IN_ID_RIGHT = new CommentsInIDRight();
 
     /**
      * Creates a new IDLeftPart parser with the specified lexer.
@@ -38,6 +39,6 @@ public class IDLeftPart extends LocalPart {
      */
     @Override
     protected Result parseComments() {
-        return new InvalidEmail(new CommentsInIDRight(), this.lexer.current.value);
+        return fail(COMMENTS_IN_ID_RIGHT);
     }
 }
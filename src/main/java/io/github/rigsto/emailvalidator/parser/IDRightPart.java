@@ -1,14 +1,10 @@
 package io.github.rigsto.emailvalidator.parser;
 
 import io.github.rigsto.emailvalidator.EmailLexer;
-import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.result.Result;
 import io.github.rigsto.emailvalidator.result.ValidEmail;
 import io.github.rigsto.emailvalidator.result.reason.ExpectingATEXT;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.github.rigsto.emailvalidator.constant.LexerConstant.*;
 
 /**
@@ -46,18 +42,15 @@ public class IDRightPart extends DomainPart {
      */
     @Override
     protected Result validateTokens(boolean hasComments) {
-        Map<Integer, Boolean> invalidDomainTokens = new HashMap<>();
-        invalidDomainTokens.put(S_DQUOTE, true);
-        invalidDomainTokens.put(S_SQUOTE, true);
-        invalidDomainTokens.put(S_BACKTICK, true);
-        invalidDomainTokens.put(S_SEMICOLON, true);
-        invalidDomainTokens.put(S_GREATERTHAN, true);
-        invalidDomainTokens.put(S_LOWERTHAN, true);
+        boolean invalidDomainToken = switch (this.lexer.currentType()) {
+            case S_DQUOTE, S_SQUOTE, S_BACKTICK, S_SEMICOLON, S_GREATERTHAN, S_LOWERTHAN -> true;
+            default -> false;
+        };
 
-        if (invalidDomainTokens.containsKey(this.lexer.current.type)) {
-            return new InvalidEmail(new ExpectingATEXT("Invalid token in domain: " + this.lexer.current.value), this.lexer.current.value);
+        if (invalidDomainToken) {
+            return fail(new ExpectingATEXT("Invalid token in domain: " + this.lexer.currentValue()));
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 }
@@ -3,13 +3,13 @@ package io.github.rigsto.emailvalidator.parser;
 import io.github.rigsto.emailvalidator.EmailLexer;
 import io.github.rigsto.emailvalidator.constant.Constant;
 import io.github.rigsto.emailvalidator.parser.strategy.LocalComment;
-import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.result.Result;
 import io.github.rigsto.emailvalidator.result.ValidEmail;
 import io.github.rigsto.emailvalidator.result.reason.ConsecutiveDot;
 import io.github.rigsto.emailvalidator.result.reason.DotAtEnd;
 import io.github.rigsto.emailvalidator.result.reason.DotAtStart;
 import io.github.rigsto.emailvalidator.result.reason.ExpectingATEXT;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
 import io.github.rigsto.emailvalidator.warning.LocalTooLong;
 
 import java.util.HashMap;
@@ -29,10 +29,20 @@ import static io.github.rigsto.emailvalidator.constant.LexerConstant.*;
  * @since 0.0.1
  */
 public class LocalPart extends PartParser {
+    private static final Reason DOT_AT_START = new DotAtStart();
+    private static final Reason CONSECUTIVE_DOT = new ConsecutiveDot();
+    private static final Reason DOT_AT_END = new DotAtEnd();
+    private static final Reason INVALID_TOKEN = new ExpectingATEXT("Invalid token found");
+    private static final Reason INVALID_CHARACTER = new ExpectingATEXT("Invalid character in email address");
+    private static final Reason ATOM_AFTER_ESCAPING = new ExpectingATEXT("Found ATOM after escaping");
 
     /**
      * Map of token types that are invalid in local parts.
+     *
+     * @deprecated no longer consulted: the parser checks these token types
+     * directly, so changing this map has no effect
      */
+    @Deprecated(since = "1.1.0")
     public static Map<Integer, Integer> INVALID_TOKENS = new HashMap<>(Map.ofEntries(
             Map.entry(S_COMMA, S_COMMA),
             Map.entry(S_CLOSEBRACKET, S_CLOSEBRACKET),
@@ -45,10 +55,30 @@ public class LocalPart extends PartParser {
     ));
 
     /**
-     * The parsed local part string.
+     * The parsed local part string, or null until it is first requested.
      */
     private String localPart = "";
 
+    /**
+     * The text the local part was recorded from.
+     */
+    private String source = "";
+
+    /**
+     * Start offset of the local part in {@link #source}.
+     */
+    private int localPartStart = 0;
+
+    /**
+     * Length of the parsed local part.
+     */
+    private int localPartLength = 0;
+
+    /**
+     * Quoted string parser, created on first use and reused afterwards.
+     */
+    private DoubleQuote doubleQuote;
+
     /**
      * Creates a new LocalPart parser with the specified lexer.
      * 
@@ -69,37 +99,39 @@ public class LocalPart extends PartParser {
      */
     @Override
     public Result parse() {
+        reset();
+
         this.lexer.clearRecorded();
         this.lexer.startRecording();
         
         // Move to the first real token
         this.lexer.moveNext();
 
-        while (!this.lexer.current.isA(S_AT) && !this.lexer.current.isA(S_EMPTY)) {
+        while (!this.lexer.isCurrentToken(S_AT) && !this.lexer.isCurrentToken(S_EMPTY)) {
             if (this.hasDotAtStart()) {
-                return new InvalidEmail(new DotAtStart(), this.lexer.current.value);
+                return fail(DOT_AT_START);
             }
 
-            if (this.lexer.current.isA(S_DQUOTE)) {
+            if (this.lexer.isCurrentToken(S_DQUOTE)) {
                 Result dQuoteParsingResult = parseDoubleQuote();
                 if (dQuoteParsingResult.isInvalid()) {
                     return dQuoteParsingResult;
                 }
             }
 
-            if (this.lexer.current.isA(S_OPENPARENTHESIS) || this.lexer.current.isA(S_CLOSEPARENTHESIS)) {
+            if (this.lexer.isCurrentToken(S_OPENPARENTHESIS) || this.lexer.isCurrentToken(S_CLOSEPARENTHESIS)) {
                 Result commentResult = parseComments();
                 if (commentResult.isInvalid()) {
                     return commentResult;
                 }
             }
 
-            if (this.lexer.current.isA(S_DOT) && this.lexer.isNextToken(S_DOT)) {
-                return new InvalidEmail(new ConsecutiveDot(), this.lexer.current.value);
+            if (this.lexer.isCurrentToken(S_DOT) && this.lexer.isNextToken(S_DOT)) {
+                return fail(CONSECUTIVE_DOT);
             }
 
-            if (this.lexer.current.isA(S_DOT) && this.lexer.isNextToken(S_AT)) {
-                return new InvalidEmail(new DotAtEnd(), this.lexer.current.value);
+            if (this.lexer.isCurrentToken(S_DOT) && this.lexer.isNextToken(S_AT)) {
+                return fail(DOT_AT_END);
             }
 
             Result escaping = validateEscaping();
@@ -121,13 +153,13 @@ public class LocalPart extends PartParser {
         }
 
         this.lexer.stopRecording();
-        this.localPart = this.lexer.getAccumulatedValues().replaceAll("@+$", "");
+        recordLocalPart();
 
-        if (this.localPart.length() > Constant.LOCAL_PART_LENGTH) {
+        if (this.localPartLength > Constant.LOCAL_PART_LENGTH) {
             this.warnings.add(new LocalTooLong());
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     /**
@@ -137,51 +169,110 @@ public class LocalPart extends PartParser {
      * @return ValidEmail if tokens are valid, InvalidEmail otherwise
      */
     protected Result validateTokens(boolean hasComments) {
-        if (INVALID_TOKENS.containsKey(this.lexer.current.type)) {
-            return new InvalidEmail(new ExpectingATEXT("Invalid token found"), this.lexer.current.value);
+        boolean invalidToken = switch (this.lexer.currentType()) {
+            case S_COMMA, S_CLOSEBRACKET, S_OPENBRACKET, S_GREATERTHAN, S_LOWERTHAN, S_COLON, S_SEMICOLON, INVALID -> true;
+            default -> false;
+        };
+
+        if (invalidToken) {
+            return fail(INVALID_TOKEN);
         }
 
         // Check for specific invalid characters that should be rejected in email addresses
-        if (this.lexer.current.type == GENERIC && this.lexer.current.value.length() == 1) {
-            char c = this.lexer.current.value.charAt(0);
+        if (this.lexer.currentType() == GENERIC && this.lexer.currentLength() == 1) {
+            char c = this.lexer.currentChar();
             // Character 226 and ║ (0x2551) should be invalid for email addresses
             if (c == 226 || c == 0x2551) {
-                return new InvalidEmail(new ExpectingATEXT("Invalid character in email address"), this.lexer.current.value);
+                return fail(INVALID_CHARACTER);
             }
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
+    }
+
+    /**
+     * Clears the local part left by a previous parse.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        this.localPart = "";
+        this.source = "";
+        this.localPartStart = 0;
+        this.localPartLength = 0;
     }
 
     /**
      * Returns the parsed local part string.
+     * <p>
+     * The string is only created on the first call after a parse.
+     * </p>
      * 
      * @return the local part string
      */
     public String localPart() {
+        if (this.localPart == null) {
+            this.localPart = this.source.substring(this.localPartStart, this.localPartStart + this.localPartLength);
+        }
         return this.localPart;
     }
 
+    /**
+     * Returns the length of the parsed local part without creating the string.
+     * 
+     * @return the local part length
+     */
+    public int localPartLength() {
+        return this.localPartLength;
+    }
+
+    private void recordLocalPart() {
+        int start = this.lexer.getRecordedStart();
+        int end;
+
+        if (start >= 0) {
+            this.source = this.lexer.getInput();
+            end = this.lexer.getRecordedEnd();
+        } else {
+            this.source = this.lexer.getAccumulatedValues();
+            start = 0;
+            end = this.source.length();
+        }
+
+        // The recording stops on the AT token, which is not part of the local part
+        while (end > start && this.source.charAt(end - 1) == '@') {
+            end--;
+        }
+
+        this.localPart = null;
+        this.localPartStart = start;
+        this.localPartLength = end - start;
+    }
+
     private Result parseLocalFWS() {
-        FoldingWhiteSpace foldingWhiteSpace = new FoldingWhiteSpace(this.lexer);
+        FoldingWhiteSpace foldingWhiteSpace = foldingWhiteSpace();
         Result result = foldingWhiteSpace.parse();
 
         if (result.isValid()) {
-            this.warnings.addAll(foldingWhiteSpace.getWarnings());
+            addWarningsFrom(foldingWhiteSpace);
         }
 
         return result;
     }
 
     private boolean hasDotAtStart() {
-        return this.lexer.current.isA(S_DOT) && this.lexer.getPrevious().isA(S_EMPTY);
+        return this.lexer.isCurrentToken(S_DOT) && this.lexer.isPreviousToken(S_EMPTY);
     }
 
     private Result parseDoubleQuote() {
-        DoubleQuote dQuoteParser = new DoubleQuote(this.lexer);
+        if (this.doubleQuote == null) {
+            this.doubleQuote = new DoubleQuote(this.lexer);
+        }
+
+        DoubleQuote dQuoteParser = this.doubleQuote;
         Result result = dQuoteParser.parse();
 
-        this.warnings.addAll(dQuoteParser.getWarnings());
+        addWarningsFrom(dQuoteParser);
         return result;
     }
 
@@ -194,19 +285,19 @@ public class LocalPart extends PartParser {
         Comment commentParser = new Comment(this.lexer, new LocalComment());
         Result result = commentParser.parse();
 
-        this.warnings.addAll(commentParser.getWarnings());
+        addWarningsFrom(commentParser);
         return result;
     }
 
     private Result validateEscaping() {
-        if (!this.lexer.current.isA(S_BACKSLASH)) {
-            return new ValidEmail();
+        if (!this.lexer.isCurrentToken(S_BACKSLASH)) {
+            return ValidEmail.INSTANCE;
         }
 
         if (this.lexer.isNextToken(GENERIC) || this.lexer.isNextToken(UTF8_CHAR)) {
-            return new InvalidEmail(new ExpectingATEXT("Found ATOM after escaping"), this.lexer.current.value);
+            return fail(ATOM_AFTER_ESCAPING);
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 }
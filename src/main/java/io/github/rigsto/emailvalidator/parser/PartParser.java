@@ -2,14 +2,14 @@ package io.github.rigsto.emailvalidator.parser;
 
 import io.github.rigsto.emailvalidator.EmailLexer;
 import io.github.rigsto.emailvalidator.constant.LexerConstant;
-import io.github.rigsto.emailvalidator.lexer.Token;
-import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.Failure;
 import io.github.rigsto.emailvalidator.result.Result;
 import io.github.rigsto.emailvalidator.result.ValidEmail;
 import io.github.rigsto.emailvalidator.result.reason.ConsecutiveDot;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
 import io.github.rigsto.emailvalidator.warning.Warning;
+import io.github.rigsto.emailvalidator.warning.WarningSet;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -29,16 +29,29 @@ import java.util.Set;
  * @since 0.0.1
  */
 abstract class PartParser {
+    private static final Reason CONSECUTIVE_DOT = new ConsecutiveDot();
+
     /**
-     * Set of warnings collected during parsing.
+     * Set of warnings collected during parsing, a {@link WarningSet} holding
+     * them as a bit mask of warning types.
      */
-    protected Set<Warning> warnings = new HashSet<>();
+    protected Set<Warning> warnings = new WarningSet();
     
     /**
      * The lexer used for tokenizing the input.
      */
     protected EmailLexer lexer;
 
+    /**
+     * Folding whitespace parser, created on first use and reused afterwards.
+     */
+    private FoldingWhiteSpace foldingWhiteSpace;
+
+    /**
+     * The failure returned by this parser, overwritten by its next failure.
+     */
+    private final Failure failure = new Failure();
+
     /**
      * Creates a new PartParser with the specified lexer.
      * 
@@ -68,6 +81,69 @@ abstract class PartParser {
         return this.warnings;
     }
 
+    /**
+     * Clears the state left by a previous parse.
+     * <p>
+     * Parsers are reused across inputs, so every {@link #parse()} starts
+     * from a reset state. Subclasses holding parsed values override this
+     * method and call {@code super.reset()}.
+     * </p>
+     */
+    public void reset() {
+        this.warnings.clear();
+    }
+
+    /**
+     * Adds the warnings collected by a nested parser to this parser, an OR
+     * of their masks.
+     * 
+     * @param parser the nested parser
+     */
+    protected void addWarningsFrom(PartParser parser) {
+        if (this.warnings instanceof WarningSet own && parser.warnings instanceof WarningSet nested) {
+            own.addAll(nested);
+        } else {
+            this.warnings.addAll(parser.warnings);
+        }
+    }
+
+    /**
+     * Reports a failure caused by the current token.
+     * <p>
+     * The {@link Failure} only records the reason and the offset of the
+     * token; the token value and the description are built if someone asks
+     * for them. Reasons without state are shared constants of the parsers.
+     * </p>
+     *
+     * @param reason the reason for the failure
+     * @return the failure of this parser
+     */
+    protected Result fail(Reason reason) {
+        return this.failure.set(reason, this.lexer.getInput(), this.lexer.currentOffset(), this.lexer.currentLength());
+    }
+
+    /**
+     * Reports a failure caused by the previous token.
+     *
+     * @param reason the reason for the failure
+     * @return the failure of this parser
+     */
+    protected Result failAtPrevious(Reason reason) {
+        return this.failure.set(reason, this.lexer.getInput(), this.lexer.previousOffset(), this.lexer.previousLength());
+    }
+
+    /**
+     * Returns the folding whitespace parser bound to this parser's lexer.
+     * 
+     * @return the reusable FoldingWhiteSpace parser
+     */
+    protected FoldingWhiteSpace foldingWhiteSpace() {
+        if (this.foldingWhiteSpace == null) {
+            this.foldingWhiteSpace = new FoldingWhiteSpace(this.lexer);
+        }
+        return this.foldingWhiteSpace;
+    }
+
     /**
      * Parses folding whitespace (FWS) in the input.
      * <p>
@@ -78,24 +154,24 @@ abstract class PartParser {
      * @return the parsing result for FWS
      */
     protected Result parseFWS() {
-        PartParser foldingWS = new FoldingWhiteSpace(this.lexer);
+        PartParser foldingWS = foldingWhiteSpace();
         Result resultFWS = foldingWS.parse();
 
-        this.warnings.addAll(foldingWS.getWarnings());
+        addWarningsFrom(foldingWS);
         return resultFWS;
     }
 
     /**
      * Checks for consecutive dot characters, which are invalid in email addresses.
      * 
-     * @return InvalidEmail if consecutive dots are found, ValidEmail otherwise
+     * @return a failure if consecutive dots are found, ValidEmail otherwise
      */
     protected Result checkConsecutiveDots() {
-        if (this.lexer.current.isA(LexerConstant.S_DOT) && this.lexer.isNextToken(LexerConstant.S_DOT)) {
-            return new InvalidEmail(new ConsecutiveDot(), this.lexer.current.value);
+        if (this.lexer.isCurrentToken(LexerConstant.S_DOT) && this.lexer.isNextToken(LexerConstant.S_DOT)) {
+            return fail(CONSECUTIVE_DOT);
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     /**
@@ -104,9 +180,7 @@ abstract class PartParser {
      * @return true if the current token is escaped, false otherwise
      */
     protected boolean escaped() {
-        Token<Integer, String> previous = this.lexer.getPrevious();
-
-        return previous.isA(LexerConstant.S_BACKSLASH)
-                && !this.lexer.current.isA(LexerConstant.GENERIC);
+        return this.lexer.isPreviousToken(LexerConstant.S_BACKSLASH)
+                && !this.lexer.isCurrentToken(LexerConstant.GENERIC);
     }
 }
@@ -51,10 +51,10 @@ public class DomainComment implements CommentStrategy {
     @Override
     public Result endOfLoopValidations(EmailLexer lexer) {
         if (!lexer.isNextToken(LexerConstant.S_DOT)) {
-            return new InvalidEmail(new ExpectingATEXT("Dot not found near CLOSEPARENTHESIS"), lexer.current.value);
+            return new InvalidEmail(new ExpectingATEXT("Dot not found near CLOSEPARENTHESIS"), lexer.currentValue());
         }
 
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     /**
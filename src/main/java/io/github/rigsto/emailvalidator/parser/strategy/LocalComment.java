@@ -58,11 +58,11 @@ public class LocalComment implements CommentStrategy {
     @Override
     public Result endOfLoopValidations(EmailLexer lexer) {
         if (!lexer.isNextToken(LexerConstant.S_AT)) {
-            return new InvalidEmail(new ExpectingATEXT("ATEXT is not expected after closing comments"), lexer.current.value);
+            return new InvalidEmail(new ExpectingATEXT("ATEXT is not expected after closing comments"), lexer.currentValue());
         }
 
         this.warningList.add(new CFWSNearAt());
-        return new ValidEmail();
+        return ValidEmail.INSTANCE;
     }
 
     /**
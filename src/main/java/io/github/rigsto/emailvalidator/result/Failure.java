@@ -0,0 +1,187 @@
+package io.github.rigsto.emailvalidator.result;
+
+import io.github.rigsto.emailvalidator.result.reason.Reason;
+
+/**
+ * Compact, reusable form of a failed validation result.
+ * <p>
+ * A failure is a reason and the offset of the offending token in the
+ * input. The token value, the {@link #description()} and the
+ * {@link InvalidEmail} are only built when requested, so reporting a
+ * failure that nobody looks at allocates nothing when the reason is a
+ * shared instance.
+ * </p>
+ * <p>
+ * Instances are owned by a parser or a validation and overwritten by its
+ * next failure: use {@link #toInvalidEmail()} to keep one. They are not
+ * thread-safe.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public final class Failure implements Result {
+
+    /**
+     * The reason of the failure, null if none was recorded.
+     */
+    private Reason reason;
+
+    /**
+     * The input the token offsets refer to.
+     */
+    private String input;
+
+    /**
+     * Offsets of the token in the input, -1 if there is no token.
+     */
+    private int tokenStart = -1;
+    private int tokenEnd;
+
+    /**
+     * The materialized result, built on first request.
+     */
+    private InvalidEmail error;
+
+    /**
+     * Creates an empty failure.
+     */
+    public Failure() {
+    }
+
+    /**
+     * Records a failure caused by a token of the input.
+     *
+     * @param reason the reason for the failure
+     * @param input the input being validated
+     * @param offset the offset of the token, or -1 if there is none
+     * @param length the length of the token
+     * @return this failure
+     */
+    public Failure set(Reason reason, String input, int offset, int length) {
+        this.reason = reason;
+        this.input = input;
+        this.tokenStart = offset;
+        this.tokenEnd = offset + length;
+        this.error = null;
+        return this;
+    }
+
+    /**
+     * Records a failure that is already materialized.
+     *
+     * @param error the failed result
+     * @return this failure
+     */
+    public Failure set(InvalidEmail error) {
+        this.reason = error.getReason();
+        this.input = null;
+        this.tokenStart = -1;
+        this.error = error;
+        return this;
+    }
+
+    /**
+     * Records the same failure as another one.
+     * <p>
+     * Only the reason and offsets are copied, so that the other failure can
+     * be overwritten afterwards.
+     * </p>
+     *
+     * @param other the failure to copy
+     * @return this failure
+     */
+    public Failure copyFrom(Failure other) {
+        this.reason = other.reason;
+        this.input = other.input;
+        this.tokenStart = other.tokenStart;
+        this.tokenEnd = other.tokenEnd;
+        this.error = other.error;
+        return this;
+    }
+
+    /**
+     * Checks whether a failure is recorded.
+     *
+     * @return true if a reason was recorded
+     */
+    public boolean isSet() {
+        return this.reason != null;
+    }
+
+    @Override
+    public boolean isValid() {
+        return false;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return true;
+    }
+
+    /**
+     * Returns the reason for the failure.
+     *
+     * @return the reason, or null if no failure is recorded
+     */
+    public Reason reason() {
+        return this.reason;
+    }
+
+    @Override
+    public int code() {
+        return this.reason.code();
+    }
+
+    /**
+     * Returns the offset of the token that caused the failure.
+     *
+     * @return the offset of the token in the input, or -1 if unknown
+     */
+    public int tokenOffset() {
+        return this.tokenStart;
+    }
+
+    /**
+     * Returns the token that caused the failure, materializing it.
+     *
+     * @return the token, or an empty string if there is none
+     */
+    public String token() {
+        if (this.error != null) {
+            return this.error.getToken();
+        }
+        return this.tokenStart < 0 ? "" : this.input.substring(this.tokenStart, this.tokenEnd);
+    }
+
+    @Override
+    public String description() {
+        return this.toInvalidEmail().description();
+    }
+
+    /**
+     * Returns the failure as an {@link InvalidEmail}.
+     * <p>
+     * The result is built on the first call and returned by the following
+     * ones until the failure is overwritten.
+     * </p>
+     *
+     * @return the failed result
+     */
+    public InvalidEmail toInvalidEmail() {
+        if (this.error == null) {
+            this.error = new InvalidEmail(this.reason, this.token());
+        }
+        return this.error;
+    }
+
+    /**
+     * Returns a result that does not depend on a reusable failure.
+     *
+     * @param result a parsing result
+     * @return the result itself, or the {@link InvalidEmail} of a failure
+     */
+    public static Result materialize(Result result) {
+        return (result instanceof Failure failure) ? failure.toInvalidEmail() : result;
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.rigsto.emailvalidator.result;
+
+/**
+ * Totals of a file validated by {@code FileEmailValidator}.
+ *
+ * @param lines the number of lines validated
+ * @param valid the number of lines holding a valid address
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public record FileValidationSummary(long lines, long valid) {
+
+    /**
+     * Returns the number of lines holding an invalid address.
+     *
+     * @return the number of invalid lines
+     */
+    public long invalid() {
+        return this.lines - this.valid;
+    }
+}
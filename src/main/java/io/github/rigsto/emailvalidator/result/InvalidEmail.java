@@ -71,4 +71,14 @@ public class InvalidEmail implements Result {
     public Reason getReason() {
         return this.reason;
     }
+
+    /**
+     * Returns the token that caused the failure.
+     *
+     * @return the token, or an empty string if there is none
+     * @since 1.1.0
+     */
+    public String getToken() {
+        return this.token;
+    }
 }
@@ -12,6 +12,15 @@ package io.github.rigsto.emailvalidator.result;
  */
 public class ValidEmail implements Result {
 
+    /**
+     * Shared instance returned by parsers and validations.
+     * <p>
+     * A valid result carries no state, so a single instance can be returned
+     * from every successful check instead of allocating a new one.
+     * </p>
+     */
+    public static final ValidEmail INSTANCE = new ValidEmail();
+
     /**
      * Returns true indicating the email is valid.
      * 
@@ -0,0 +1,82 @@
+package io.github.rigsto.emailvalidator.result;
+
+import io.github.rigsto.emailvalidator.result.reason.Reason;
+import io.github.rigsto.emailvalidator.warning.Warning;
+
+import java.util.List;
+
+/**
+ * Immutable outcome of validating a single email address.
+ * <p>
+ * Unlike the stateful {@code EmailValidator} and {@code EmailValidation}
+ * getters, a result captures everything about one validation in a single
+ * value that can be handed to other threads or stored freely.
+ * </p>
+ *
+ * @param valid whether the address passed the validation
+ * @param error the error of an invalid address, or null if it is valid
+ * @param warnings the warnings raised during validation, never null
+ * @param localPart the parsed local part, empty if parsing stopped before it
+ * @param domainPart the parsed domain part, empty if parsing stopped before it
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public record ValidationResult(boolean valid, InvalidEmail error, List<Warning> warnings,
+                               String localPart, String domainPart) {
+
+    /**
+     * Creates a result, taking an unmodifiable copy of the warnings.
+     *
+     * @param valid whether the address passed the validation
+     * @param error the error of an invalid address, or null if it is valid
+     * @param warnings the warnings raised during validation
+     * @param localPart the parsed local part
+     * @param domainPart the parsed domain part
+     */
+    public ValidationResult {
+        warnings = (warnings == null) ? List.of() : List.copyOf(warnings);
+        localPart = (localPart == null) ? "" : localPart;
+        domainPart = (domainPart == null) ? "" : domainPart;
+    }
+
+    /**
+     * Creates the result of a validation that checked the address without
+     * parsing it, taking its parts from around its last {@code @}.
+     * <p>
+     * The local part is empty if the address has no {@code @}, and the
+     * domain part if it has no {@code @} or nothing after it, as if parsing
+     * had stopped before them.
+     * </p>
+     *
+     * @param email the validated email address
+     * @param valid whether the address passed the validation
+     * @param error the error of the validation, dropped if the address is valid
+     * @param warnings the warnings raised during validation
+     * @return the result of the validation
+     */
+    public static ValidationResult ofUnparsed(String email, boolean valid, InvalidEmail error, List<Warning> warnings) {
+        int at = email.lastIndexOf('@');
+        String localPart = (at == -1) ? "" : email.substring(0, at);
+        String domainPart = (at == -1) ? "" : email.substring(at + 1);
+        return new ValidationResult(valid, valid ? null : error, warnings, localPart, domainPart);
+    }
+
+    /**
+     * Returns the reason why the address is invalid.
+     *
+     * @return the reason of the error, or null if the address is valid
+     */
+    public Reason reason() {
+        return (this.error == null) ? null : this.error.getReason();
+    }
+
+    /**
+     * Checks if the validation raised any warnings.
+     *
+     * @return true if warnings were raised, false otherwise
+     */
+    public boolean hasWarnings() {
+        return !this.warnings.isEmpty();
+    }
+}
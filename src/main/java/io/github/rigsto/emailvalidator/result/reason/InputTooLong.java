@@ -0,0 +1,35 @@
+package io.github.rigsto.emailvalidator.result.reason;
+
+/**
+ * Reason for inputs rejected by their length before being parsed.
+ * <p>
+ * This reason is generated by a {@link io.github.rigsto.emailvalidator.Prefilter}
+ * when the input is longer than its maximum length. No valid address is
+ * that long, so the input is rejected without being scanned.
+ * </p>
+ * 
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class InputTooLong implements Reason {
+
+    /**
+     * Returns the unique code for input too long reasons.
+     * 
+     * @return the reason code 246
+     */
+    @Override
+    public int code() {
+        return 246;
+    }
+
+    /**
+     * Returns a description of the input too long reason.
+     * 
+     * @return the reason description
+     */
+    @Override
+    public String description() {
+        return "Input is longer than the maximum length";
+    }
+}
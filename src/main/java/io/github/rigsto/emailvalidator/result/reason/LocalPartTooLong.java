@@ -0,0 +1,35 @@
+package io.github.rigsto.emailvalidator.result.reason;
+
+/**
+ * Reason for local parts that exceed the maximum allowed length.
+ * <p>
+ * This reason is generated by a {@link io.github.rigsto.emailvalidator.Prefilter}
+ * enforcing part lengths when the local part of an email address exceeds
+ * 64 characters. The parser itself only reports this as a warning.
+ * </p>
+ * 
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class LocalPartTooLong implements Reason {
+
+    /**
+     * Returns the unique code for local part too long reasons.
+     * 
+     * @return the reason code 247
+     */
+    @Override
+    public int code() {
+        return 247;
+    }
+
+    /**
+     * Returns a description of the local part too long reason.
+     * 
+     * @return the reason description
+     */
+    @Override
+    public String description() {
+        return "Local part is longer than 64 characters";
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.rigsto.emailvalidator.result.reason;
+
+/**
+ * Registry of the reasons of the library.
+ * <p>
+ * Each reason type gets a compact index, its ordinal, from 0 to
+ * {@link #COUNT} - 1 in increasing order of code, so that per-reason data
+ * such as counters is an array rather than a map. Unlike warning codes,
+ * reason codes are not unique, {@link ExpectingATEXT} and
+ * {@link ExpectingDomainLiteralClose} sharing 137, so reasons are mapped to
+ * their type by class, once per class and without reflection.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public enum ReasonType {
+    EMPTY_REASON(0, EmptyReason.class),
+    CHAR_NOT_ALLOWED(1, CharNotAllowed.class),
+    UNABLE_TO_GET_DNS_RECORD(3, UnableToGetDNSRecord.class),
+    NO_DNS_RECORD(5, NoDNSRecord.class),
+    EXPECTING_DTEXT(127, ExpectingDTEXT.class),
+    CONSECUTIVE_AT(128, ConsecutiveAt.class),
+    NO_LOCAL_PART(130, NoLocalPart.class),
+    NO_DOMAIN_PART(131, NoDomainPart.class),
+    CONSECUTIVE_DOT(132, ConsecutiveDot.class),
+    ATEXT_AFTER_CFWS(133, AtextAfterCFWS.class),
+    EXPECTING_ATEXT(137, ExpectingATEXT.class),
+    EXPECTING_DOMAIN_LITERAL_CLOSE(137, ExpectingDomainLiteralClose.class),
+    EXPECTING_CTEXT(139, ExpectingCTEXT.class),
+    DOT_AT_START(141, DotAtStart.class),
+    DOT_AT_END(142, DotAtEnd.class),
+    DOMAIN_HYPHENED(144, DomainHyphened.class),
+    UNCLOSED_QUOTED_STRING(145, UnclosedQuotedString.class),
+    UNCLOSED_COMMENT(146, UnclosedComment.class),
+    CRLF_X2(148, CRLFX2.class),
+    CRLF_AT_THE_END(149, CRLFAtTheEnd.class),
+    CR_NO_LF(150, CRNoLF.class),
+    UNOPENED_COMMENT(152, UnopenedComment.class),
+    LOCAL_OR_RESERVED_DOMAIN(153, LocalOrReservedDomain.class),
+    DOMAIN_ACCEPTS_NO_MAIL(154, DomainAcceptsNoMail.class),
+    COMMA_IN_DOMAIN(200, CommaInDomain.class),
+    UNUSUAL_ELEMENTS(201, UnusualElements.class),
+    DOMAIN_TOO_LONG(244, DomainTooLong.class),
+    LABEL_TOO_LONG(245, LabelTooLong.class),
+    INPUT_TOO_LONG(246, InputTooLong.class),
+    LOCAL_PART_TOO_LONG(247, LocalPartTooLong.class),
+    SPOOF_EMAIL(298, SpoofEmail.class),
+    COMMENTS_IN_ID_RIGHT(400, CommentsInIDRight.class),
+    RFC_WARNINGS(997, RFCWarnings.class),
+    EXCEPTION_FOUND(999, ExceptionFound.class);
+
+    /**
+     * Number of reason types.
+     */
+    public static final int COUNT = values().length;
+
+    private static final ReasonType[] VALUES = values();
+
+    /**
+     * Index of the type of each reason class, -1 for classes of no type.
+     */
+    private static final ClassValue<Integer> INDEXES = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            for (ReasonType reason : VALUES) {
+                if (reason.type == type) {
+                    return reason.ordinal();
+                }
+            }
+            return -1;
+        }
+    };
+
+    private final int code;
+    private final Class<? extends Reason> type;
+
+    ReasonType(int code, Class<? extends Reason> type) {
+        this.code = code;
+        this.type = type;
+    }
+
+    /**
+     * Returns the code of the reasons of this type.
+     *
+     * @return the value returned by {@link Reason#code()}
+     */
+    public int code() {
+        return this.code;
+    }
+
+    /**
+     * Returns the class of the reasons of this type.
+     *
+     * @return the reason class
+     */
+    public Class<? extends Reason> type() {
+        return this.type;
+    }
+
+    /**
+     * Returns the index of the type of a reason.
+     *
+     * @param reason a reason
+     * @return the index of its type, or -1 if its class is not a reason of the library
+     */
+    public static int indexOf(Reason reason) {
+        return INDEXES.get(reason.getClass());
+    }
+
+    /**
+     * Returns the type of a reason.
+     *
+     * @param reason a reason
+     * @return its type, or null if its class is not a reason of the library
+     */
+    public static ReasonType of(Reason reason) {
+        int index = indexOf(reason);
+        return (index == -1) ? null : VALUES[index];
+    }
+}
@@ -0,0 +1,439 @@
+package io.github.rigsto.emailvalidator.validation;
+
+import io.github.rigsto.emailvalidator.metrics.Instrumentation;
+import io.github.rigsto.emailvalidator.metrics.ValidationListener;
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.ValidationResult;
+import io.github.rigsto.emailvalidator.result.reason.UnableToGetDNSRecord;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking variant of {@link DNSCheckValidation}.
+ * <p>
+ * {@link #validate(String)} returns immediately with a future completed once
+ * the domain of the address has been checked. The checks are the same as
+ * {@link DNSCheckValidation}'s and lead to the same verdict, error and
+ * warnings, but for each host level the A, MX and AAAA queries are issued
+ * concurrently instead of one after another.
+ * </p>
+ * <p>
+ * Lookups go through a limiter, so at most a fixed number of them are
+ * running at any time while any number of addresses can be in flight; the
+ * others wait in a queue without holding a thread. Each lookup has its own
+ * timeout, and the whole address has a deadline after which its future
+ * completes with an {@link UnableToGetDNSRecord} error. A timed out A or MX
+ * lookup counts as a failed lookup, while a timed out AAAA lookup is
+ * ignored, as failed AAAA lookups are by {@link DNSCheckValidation}.
+ * </p>
+ * <p>
+ * With a {@link NativeDNSGetRecordWrapper}, lookups are sent through its
+ * resolver and hold no thread while they wait. Other wrappers block, so
+ * their lookups run on the given executor, by default a shared pool of
+ * {@link #DEFAULT_MAX_CONCURRENT_LOOKUPS} daemon threads. A lookup frees its
+ * slot in the limiter as soon as it completes, times out or is cancelled,
+ * and its thread is interrupted; a wrapper ignoring interrupts keeps the
+ * thread until it returns, and once every thread of the pool is stuck,
+ * lookups wait in the pool's queue until they time out.
+ * </p>
+ * <p>
+ * Instances are thread-safe and meant to be shared.
+ * </p>
+ *
+ * <pre>{@code
+ * AsyncDNSCheckValidation dns = new AsyncDNSCheckValidation();
+ * dns.validate("user@example.com").thenAccept(result -> ...);
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class AsyncDNSCheckValidation {
+
+    /**
+     * Default maximum number of lookups running at the same time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_LOOKUPS = 256;
+
+    /**
+     * Default timeout of a single lookup.
+     */
+    public static final Duration DEFAULT_LOOKUP_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Default deadline for checking a whole address.
+     */
+    public static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(15);
+
+    /**
+     * The wrapper performing the lookups.
+     */
+    private final DNSGetRecordWrapper wrapper;
+
+    /**
+     * Runs the lookups of blocking wrappers.
+     */
+    private final Executor executor;
+
+    /**
+     * Limits the number of lookups running at the same time.
+     */
+    private final Limiter limiter;
+
+    private final long lookupTimeoutNanos;
+    private final long deadlineNanos;
+
+    /**
+     * Creates an asynchronous DNS validation with the default limits, running
+     * lookups on a shared, bounded pool of daemon threads.
+     */
+    public AsyncDNSCheckValidation() {
+        this(new DNSGetRecordWrapper());
+    }
+
+    /**
+     * Creates an asynchronous DNS validation with the default limits, running
+     * lookups on a shared, bounded pool of daemon threads.
+     *
+     * @param wrapper the wrapper performing the lookups
+     */
+    public AsyncDNSCheckValidation(DNSGetRecordWrapper wrapper) {
+        this(wrapper, DefaultExecutor.INSTANCE, DEFAULT_MAX_CONCURRENT_LOOKUPS, DEFAULT_LOOKUP_TIMEOUT, DEFAULT_DEADLINE);
+    }
+
+    /**
+     * Creates an asynchronous DNS validation.
+     *
+     * @param wrapper the wrapper performing the lookups
+     * @param executor the executor running the lookups, unused with a {@link NativeDNSGetRecordWrapper}
+     * @param maxConcurrentLookups the maximum number of lookups running at the same time
+     * @param lookupTimeout the timeout of a single lookup
+     * @param deadline the deadline for checking a whole address
+     * @throws NullPointerException if an argument is null
+     * @throws IllegalArgumentException if the maximum number of lookups is not positive
+     */
+    public AsyncDNSCheckValidation(DNSGetRecordWrapper wrapper, Executor executor, int maxConcurrentLookups,
+                                   Duration lookupTimeout, Duration deadline) {
+        if (maxConcurrentLookups <= 0) {
+            throw new IllegalArgumentException("maxConcurrentLookups must be positive: " + maxConcurrentLookups);
+        }
+
+        this.wrapper = Objects.requireNonNull(wrapper, "wrapper");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.limiter = new Limiter(maxConcurrentLookups);
+        this.lookupTimeoutNanos = lookupTimeout.toNanos();
+        this.deadlineNanos = deadline.toNanos();
+    }
+
+    /**
+     * Checks the domain of an email address.
+     * <p>
+     * The returned future always completes normally; lookup failures and
+     * timeouts are reported through the error of the result.
+     * </p>
+     *
+     * @param email the email address to validate
+     * @return a future completed with the outcome of the validation
+     */
+    public CompletableFuture<ValidationResult> validate(String email) {
+        Check check = new Check(email);
+        String host = check.state.begin(email);
+        if (host == null) {
+            check.complete(false);
+            return check.result;
+        }
+
+        ValidationListener listener = Instrumentation.listener();
+        long start = (listener != null) ? System.nanoTime() : 0;
+        check.next(DNSCheckValidation.candidateHosts(host), 0);
+
+        check.result
+                .orTimeout(this.deadlineNanos, TimeUnit.NANOSECONDS)
+                .whenComplete((result, e) -> {
+                    check.cancelLookups();
+                    if (listener != null) {
+                        listener.onStage(ValidationListener.STAGE_DNS, System.nanoTime() - start);
+                    }
+                });
+        return check.result.exceptionally(e ->
+                ValidationResult.ofUnparsed(email, false, new InvalidEmail(new UnableToGetDNSRecord(), ""), List.of()));
+    }
+
+    /**
+     * Returns the number of lookups waiting for a free slot.
+     *
+     * @return the number of queued lookups
+     */
+    public int getQueuedLookupCount() {
+        return this.limiter.queued();
+    }
+
+    /**
+     * The check of one address, walking its host levels one after another.
+     */
+    private final class Check {
+
+        private final String email;
+        private final CompletableFuture<ValidationResult> result = new CompletableFuture<>();
+
+        /**
+         * Collects the error and warnings, as it does for synchronous validations.
+         */
+        private final DNSCheckValidation state = new DNSCheckValidation(wrapper);
+
+        /**
+         * The lookups started for the address, cancelled once it is checked.
+         */
+        private final List<CompletableFuture<DNSRecords>> lookups = new ArrayList<>(3);
+
+        Check(String email) {
+            this.email = email;
+        }
+
+        void next(List<String> hosts, int index) {
+            if (index == hosts.size() || this.result.isDone()) {
+                this.complete(false);
+                return;
+            }
+
+            String host = hosts.get(index);
+            CompletableFuture<DNSRecords> mx = this.lookup(host, DNSGetRecordWrapper.DNS_MX);
+            CompletableFuture<DNSRecords> a = this.lookup(host, DNSGetRecordWrapper.DNS_A);
+            CompletableFuture<DNSRecords> aaaa = this.lookup(host, DNSGetRecordWrapper.DNS_AAAA);
+
+            CompletableFuture.allOf(mx, a, aaaa).whenComplete((ignored, e) -> {
+                DNSRecords mxRecords = mx.exceptionally(Check::failed).join();
+                DNSRecords aRecords = a.exceptionally(Check::failed).join();
+                DNSRecords aaaaRecords = aaaa.exceptionally(Check::failed).join();
+
+                boolean valid;
+                synchronized (this) {
+                    if (mxRecords.withError() || aRecords.withError()) {
+                        this.state.lookupFailed();
+                        valid = false;
+                    } else {
+                        List<Map<String, Object>> records = new ArrayList<>(mxRecords.getRecords());
+                        records.addAll(aRecords.getRecords());
+                        if (!aaaaRecords.withError()) {
+                            records.addAll(aaaaRecords.getRecords());
+                        }
+                        valid = this.state.checkRecords(records);
+                    }
+                }
+
+                if (valid) {
+                    this.complete(true);
+                } else {
+                    this.next(hosts, index + 1);
+                }
+            });
+        }
+
+        private CompletableFuture<DNSRecords> lookup(String host, int type) {
+            CompletableFuture<DNSRecords> lookup = limiter.submit(() -> start(host, type), lookupTimeoutNanos);
+            synchronized (this) {
+                this.lookups.add(lookup);
+            }
+            return lookup;
+        }
+
+        /**
+         * Starts a lookup, through the resolver of a native wrapper or on the
+         * executor for other wrappers.
+         */
+        private CompletableFuture<DNSRecords> start(String host, int type) {
+            if (wrapper instanceof NativeDNSGetRecordWrapper resolving) {
+                ValidationListener listener = Instrumentation.listener();
+                CompletableFuture<DNSRecords> records = resolving.getRecordsAsync(host, type);
+                if (listener != null) {
+                    long start = System.nanoTime();
+                    records.whenComplete((value, e) ->
+                            listener.onDnsLookup(type, System.nanoTime() - start, e != null || value.withError()));
+                }
+                return records;
+            }
+
+            CompletableFuture<DNSRecords> records = new CompletableFuture<>();
+            FutureTask<DNSRecords> task = new FutureTask<>(() -> DNSCheckValidation.lookup(wrapper, host, type)) {
+                @Override
+                protected void done() {
+                    if (this.isCancelled()) {
+                        return;
+                    }
+                    try {
+                        records.complete(this.get());
+                    } catch (ExecutionException e) {
+                        records.completeExceptionally(e.getCause());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+            // interrupts the lookup when it times out or is cancelled
+            records.whenComplete((value, e) -> task.cancel(true));
+            executor.execute(task);
+            return records;
+        }
+
+        private static DNSRecords failed(Throwable e) {
+            return new DNSRecords(List.of(), true);
+        }
+
+        synchronized void complete(boolean valid) {
+            this.result.complete(ValidationResult.ofUnparsed(
+                    this.email, valid, this.state.getError(), this.state.getWarnings()));
+        }
+
+        synchronized void cancelLookups() {
+            for (CompletableFuture<DNSRecords> lookup : this.lookups) {
+                lookup.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Starts tasks, at most a fixed number at a time, queueing the others.
+     */
+    private static final class Limiter {
+
+        private final int permits;
+        private final ArrayDeque<BooleanSupplier> queue = new ArrayDeque<>();
+        private int running;
+
+        /**
+         * Slots freed but not yet handed over, and whether a thread is
+         * handing them over. Tasks that complete while they are started free
+         * their slot to the thread already handing slots over instead of
+         * starting the next task on their own stack, so that a queue of
+         * lookups completing synchronously does not nest one call per task.
+         */
+        private int released;
+        private boolean draining;
+
+        Limiter(int permits) {
+            this.permits = permits;
+        }
+
+        /**
+         * Starts a task once a slot is free.
+         * <p>
+         * The slot is held until the returned future completes, normally,
+         * by timeout or by cancellation, even if the task is still running.
+         * The future of the task is then cancelled.
+         * </p>
+         */
+        <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task, long timeoutNanos) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            BooleanSupplier start = () -> {
+                if (result.isDone()) {
+                    // cancelled while queued, hand the slot to the next task
+                    return false;
+                }
+
+                result.orTimeout(timeoutNanos, TimeUnit.NANOSECONDS);
+                result.whenComplete((value, e) -> this.release());
+                try {
+                    CompletableFuture<T> started = task.get();
+                    started.whenComplete((value, e) -> {
+                        if (e != null) {
+                            result.completeExceptionally(e);
+                        } else {
+                            result.complete(value);
+                        }
+                    });
+                    result.whenComplete((value, e) -> started.cancel(true));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+                return true;
+            };
+
+            boolean startNow;
+            synchronized (this) {
+                startNow = this.running < this.permits;
+                if (startNow) {
+                    this.running++;
+                } else {
+                    this.queue.add(start);
+                }
+            }
+            if (startNow && !start.getAsBoolean()) {
+                this.release();
+            }
+            return result;
+        }
+
+        /**
+         * Frees the slot of a finished task, starting the next queued task in it.
+         */
+        private void release() {
+            synchronized (this) {
+                this.released++;
+                if (this.draining) {
+                    return;
+                }
+                this.draining = true;
+            }
+
+            while (true) {
+                BooleanSupplier next;
+                synchronized (this) {
+                    if (this.released == 0) {
+                        this.draining = false;
+                        return;
+                    }
+                    this.released--;
+                    next = this.queue.poll();
+                    if (next == null) {
+                        this.running--;
+                        continue;
+                    }
+                }
+                if (!next.getAsBoolean()) {
+                    synchronized (this) {
+                        this.released++;
+                    }
+                }
+            }
+        }
+
+        synchronized int queued() {
+            return this.queue.size();
+        }
+    }
+
+    /**
+     * Shared pool of daemon threads used when no executor is given, with
+     * one thread per default lookup slot, stopped after a minute idle.
+     */
+    static final class DefaultExecutor {
+        static final ExecutorService INSTANCE;
+
+        static {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    DEFAULT_MAX_CONCURRENT_LOOKUPS, DEFAULT_MAX_CONCURRENT_LOOKUPS, 1, TimeUnit.MINUTES,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "email-validator-dns");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            INSTANCE = executor;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.rigsto.emailvalidator.validation;
+
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.ValidationResult;
+import io.github.rigsto.emailvalidator.warning.Warning;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Checks the domains of large batches of email addresses, resolving each
+ * distinct domain once.
+ * <p>
+ * Validating a mailing list with {@link DNSCheckValidation} resolves the
+ * domain of every address, although most addresses share a few domains. This
+ * validation works in four stages instead:
+ * </p>
+ * <ol>
+ *     <li>the domain of each address is extracted and converted to its
+ *     lowercase ASCII form, so that {@code BÜCHER.example} and
+ *     {@code xn--bcher-kva.example} are the same domain;</li>
+ *     <li>the domains are deduplicated, local and reserved domains being
+ *     rejected on the spot;</li>
+ *     <li>each distinct domain is checked once, by a bounded number of
+ *     workers running on the executor, while parent domains shared by
+ *     several of them, such as {@code example.com} for
+ *     {@code mail.example.com} and {@code www.example.com}, are looked up
+ *     once per batch;</li>
+ *     <li>the verdict, error and warnings of each domain are handed to every
+ *     address having it.</li>
+ * </ol>
+ * <p>
+ * The number of lookups thus depends on the number of distinct domains, not
+ * on the number of addresses, and each address gets the same outcome as with
+ * {@link DNSCheckValidation}. Failed lookups are not shared, each domain
+ * needing them trying again. Instances are thread-safe and meant to be
+ * reused across batches; wrap the resolver in a
+ * {@link CachingDNSGetRecordWrapper} to also share lookups between batches.
+ * </p>
+ *
+ * <pre>{@code
+ * BulkDNSCheckValidation dns = new BulkDNSCheckValidation(new CachingDNSGetRecordWrapper(new DNSGetRecordWrapper()));
+ * List<ValidationResult> results = dns.validate(addresses);
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class BulkDNSCheckValidation {
+
+    /**
+     * Default number of domains checked at the same time.
+     */
+    public static final int DEFAULT_PARALLELISM = 32;
+
+    /**
+     * How long lookups are kept within a batch, longer than any batch takes.
+     */
+    private static final Duration BATCH_TTL = Duration.ofDays(365);
+
+    /**
+     * Lookups made for each host checked, one for its A and MX records and
+     * one for its AAAA records.
+     */
+    private static final int LOOKUPS_PER_HOST = 2;
+
+    /**
+     * The wrapper performing the lookups.
+     */
+    private final DNSGetRecordWrapper wrapper;
+
+    /**
+     * The executor running the workers.
+     */
+    private final Executor executor;
+
+    /**
+     * The maximum number of domains checked at the same time.
+     */
+    private final int parallelism;
+
+    /**
+     * Creates a bulk DNS validation checking {@link #DEFAULT_PARALLELISM}
+     * domains at a time on a shared pool of daemon threads.
+     *
+     * @param wrapper the wrapper performing the lookups
+     * @throws NullPointerException if the wrapper is null
+     */
+    public BulkDNSCheckValidation(DNSGetRecordWrapper wrapper) {
+        this(wrapper, AsyncDNSCheckValidation.DefaultExecutor.INSTANCE, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Creates a bulk DNS validation.
+     *
+     * @param wrapper the wrapper performing the lookups
+     * @param executor the executor running the workers
+     * @param parallelism the maximum number of domains checked at the same time
+     * @throws NullPointerException if the wrapper or the executor is null
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public BulkDNSCheckValidation(DNSGetRecordWrapper wrapper, Executor executor, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+
+        this.wrapper = Objects.requireNonNull(wrapper, "wrapper");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Checks the domains of a list of email addresses.
+     *
+     * @param emails the addresses to validate
+     * @return the results, in the order of the addresses
+     */
+    public List<ValidationResult> validate(List<String> emails) {
+        int size = emails.size();
+        ValidationResult[] results = new ValidationResult[size];
+
+        // stages 1 and 2: extract, normalize and deduplicate the domains
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> domains = new ArrayList<>();
+        int[] domainOf = new int[size];
+
+        DNSCheckValidation state = new DNSCheckValidation(this.wrapper);
+        int index = 0;
+        for (String email : emails) {
+            String host = state.begin(email);
+            if (host == null) {
+                results[index] = ValidationResult.ofUnparsed(email, false, state.getError(), state.getWarnings());
+                domainOf[index++] = -1;
+                continue;
+            }
+
+            String ascii = DNSCheckValidation.asciiHost(host);
+            // domains that cannot be converted keep their own key, never matching a converted one
+            String key = (ascii == null) ? "\0" + host : ascii;
+            Integer id = ids.get(key);
+            if (id == null) {
+                id = domains.size();
+                ids.put(key, id);
+                domains.add(host);
+            }
+            domainOf[index++] = id;
+        }
+
+        // stage 3: check each domain once
+        Outcome[] outcomes = this.check(domains);
+
+        // stage 4: fan the outcomes out to the addresses
+        index = 0;
+        for (String email : emails) {
+            int id = domainOf[index];
+            if (id != -1) {
+                Outcome outcome = outcomes[id];
+                results[index] = ValidationResult.ofUnparsed(email, outcome.valid(), outcome.error(), outcome.warnings());
+            }
+            index++;
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    /**
+     * Checks the domains of an array of email addresses.
+     *
+     * @param emails the addresses to validate
+     * @return the results, in the order of the addresses
+     */
+    public List<ValidationResult> validate(String[] emails) {
+        return this.validate(Arrays.asList(emails));
+    }
+
+    /**
+     * Checks the domains of a stream of email addresses.
+     * <p>
+     * The stream is drained before the first lookup, since all domains must
+     * be known to deduplicate them.
+     * </p>
+     *
+     * @param emails the addresses to validate
+     * @return the results, in the encounter order of the addresses
+     */
+    public List<ValidationResult> validate(Stream<String> emails) {
+        return this.validate(emails.toArray(String[]::new));
+    }
+
+    /**
+     * Checks distinct domains with at most {@link #parallelism} workers, each
+     * taking the next unchecked domain until none is left. The lookups are
+     * shared by the workers for the duration of the batch, in a cache sized
+     * for the hosts of these domains; failed lookups are not kept, so a
+     * parent domain that timed out for one domain is looked up again for
+     * the next.
+     */
+    private Outcome[] check(List<String> domains) {
+        Outcome[] outcomes = new Outcome[domains.size()];
+        AtomicInteger next = new AtomicInteger();
+        long hosts = 0;
+        for (String domain : domains) {
+            hosts += DNSCheckValidation.candidateHosts(domain).size();
+        }
+        int maximumSize = (int) Math.min(Integer.MAX_VALUE, Math.max(1, LOOKUPS_PER_HOST * hosts));
+        DNSGetRecordWrapper lookups = new CachingDNSGetRecordWrapper(
+                this.wrapper, maximumSize, BATCH_TTL, BATCH_TTL, Duration.ZERO);
+        Runnable worker = () -> {
+            DNSCheckValidation validation = new DNSCheckValidation(lookups);
+            for (int id = next.getAndIncrement(); id < outcomes.length; id = next.getAndIncrement()) {
+                boolean valid = validation.checkHost(domains.get(id));
+                outcomes[id] = new Outcome(valid, valid ? null : validation.getError(), List.copyOf(validation.getWarnings()));
+            }
+        };
+
+        int workers = Math.min(this.parallelism, outcomes.length);
+        if (workers <= 1) {
+            worker.run();
+            return outcomes;
+        }
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            futures[i] = CompletableFuture.runAsync(worker, this.executor);
+        }
+        try {
+            // also makes the outcomes written by the workers visible
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return outcomes;
+    }
+
+    /**
+     * Outcome of checking one domain, shared by all its addresses.
+     */
+    private record Outcome(boolean valid, InvalidEmail error, List<Warning> warnings) {
+    }
+}
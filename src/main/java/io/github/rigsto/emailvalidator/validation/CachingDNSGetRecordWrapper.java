@@ -0,0 +1,320 @@
+package io.github.rigsto.emailvalidator.validation;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * DNS wrapper caching the lookups of another wrapper.
+ * <p>
+ * Results are cached by host and record types in a size-bounded,
+ * least-recently-used map. Each entry expires after a time to live that
+ * depends on the outcome of the lookup:
+ * </p>
+ * <ul>
+ *   <li>lookups returning records use the positive time to live,</li>
+ *   <li>lookups returning no records, as for a non-existent domain, use the
+ *       negative time to live,</li>
+ *   <li>lookups that failed use the error time to live, usually the shortest
+ *       so that transient failures are retried soon.</li>
+ * </ul>
+ * <p>
+ * Concurrent lookups of the same uncached key are coalesced: the first
+ * caller queries the delegate and the others wait for its result, so a
+ * burst of addresses on one domain costs a single network round trip.
+ * </p>
+ * <p>
+ * Lookups returning records that carry their own time to live, as those of
+ * {@link NativeDNSGetRecordWrapper} do, expire with the shortest of them
+ * instead of the configured positive time to live. The JNDI resolver used by
+ * {@link DNSGetRecordWrapper} does not expose the time to live of the
+ * records it returns, so its lookups use the configured one.
+ * </p>
+ * <p>
+ * Instances are thread-safe and are meant to be shared by every
+ * {@link DNSCheckValidation}:
+ * </p>
+ * <pre>{@code
+ * DNSGetRecordWrapper dns = new CachingDNSGetRecordWrapper(new DNSGetRecordWrapper());
+ * DNSCheckValidation validation = new DNSCheckValidation(dns);
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class CachingDNSGetRecordWrapper extends DNSGetRecordWrapper {
+
+    /**
+     * Default maximum number of cached lookups.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    /**
+     * Default time to live of lookups returning records.
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    /**
+     * Default time to live of lookups returning no records.
+     */
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofMinutes(1);
+
+    /**
+     * Default time to live of failed lookups.
+     */
+    public static final Duration DEFAULT_ERROR_TTL = Duration.ofSeconds(10);
+
+    /**
+     * The wrapper performing the actual lookups.
+     */
+    private final DNSGetRecordWrapper delegate;
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final long errorTtlNanos;
+
+    /**
+     * Source of the current time, in nanoseconds.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * The cached lookups in access order, guarded by itself.
+     */
+    private final LinkedHashMap<Key, Entry> entries;
+
+    /**
+     * Lookups currently running, used to coalesce concurrent requests.
+     */
+    private final ConcurrentHashMap<Key, CompletableFuture<DNSRecords>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a caching wrapper with the default size and times to live.
+     *
+     * @param delegate the wrapper performing the actual lookups
+     * @throws NullPointerException if the delegate is null
+     */
+    public CachingDNSGetRecordWrapper(DNSGetRecordWrapper delegate) {
+        this(delegate, DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL, DEFAULT_NEGATIVE_TTL, DEFAULT_ERROR_TTL);
+    }
+
+    /**
+     * Creates a caching wrapper.
+     *
+     * @param delegate the wrapper performing the actual lookups
+     * @param maximumSize the maximum number of cached lookups
+     * @param ttl the time to live of lookups returning records
+     * @param negativeTtl the time to live of lookups returning no records
+     * @param errorTtl the time to live of failed lookups
+     * @throws NullPointerException if the delegate or a time to live is null
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public CachingDNSGetRecordWrapper(DNSGetRecordWrapper delegate, int maximumSize,
+                                      Duration ttl, Duration negativeTtl, Duration errorTtl) {
+        this(delegate, maximumSize, ttl, negativeTtl, errorTtl, System::nanoTime);
+    }
+
+    CachingDNSGetRecordWrapper(DNSGetRecordWrapper delegate, int maximumSize,
+                               Duration ttl, Duration negativeTtl, Duration errorTtl, LongSupplier clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.errorTtlNanos = errorTtl.toNanos();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > CachingDNSGetRecordWrapper.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Retrieves DNS records, from the cache when a live entry exists.
+     *
+     * @param host the hostname to query
+     * @param type bitwise combination of DNS record type constants
+     * @return DNSRecords containing the query results
+     */
+    @Override
+    public DNSRecords getRecords(String host, int type) {
+        Key key = new Key(host.toLowerCase(Locale.ROOT), type);
+
+        DNSRecords cached = this.lookup(key);
+        if (cached != null) {
+            this.hits.increment();
+            return cached;
+        }
+
+        CompletableFuture<DNSRecords> lookup = new CompletableFuture<>();
+        CompletableFuture<DNSRecords> running = this.inFlight.putIfAbsent(key, lookup);
+        if (running != null) {
+            this.hits.increment();
+            return await(running);
+        }
+
+        try {
+            DNSRecords records = this.lookup(key);
+            if (records != null) {
+                // stored by a lookup that completed since the first check
+                this.hits.increment();
+                lookup.complete(records);
+                return records;
+            }
+
+            this.misses.increment();
+            records = this.delegate.getRecords(host, type);
+            records = new DNSRecords(List.copyOf(records.getRecords()), records.withError());
+            this.store(key, records);
+            lookup.complete(records);
+            return records;
+        } catch (RuntimeException e) {
+            lookup.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(key, lookup);
+        }
+    }
+
+    private DNSRecords lookup(Key key) {
+        synchronized (this.entries) {
+            Entry entry = this.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (this.clock.getAsLong() - entry.expiresAt >= 0) {
+                this.entries.remove(key);
+                return null;
+            }
+            return entry.records;
+        }
+    }
+
+    private void store(Key key, DNSRecords records) {
+        long ttl;
+        if (records.withError()) {
+            ttl = this.errorTtlNanos;
+        } else if (records.getRecords().isEmpty()) {
+            ttl = this.negativeTtlNanos;
+        } else {
+            long recordTtl = recordTtlNanos(records.getRecords());
+            ttl = (recordTtl >= 0) ? recordTtl : this.ttlNanos;
+        }
+
+        if (ttl <= 0) {
+            return;
+        }
+
+        synchronized (this.entries) {
+            this.entries.put(key, new Entry(records, this.clock.getAsLong() + ttl));
+        }
+    }
+
+    /**
+     * Returns the shortest time to live of the records, or -1 if one of them has none.
+     */
+    private static long recordTtlNanos(List<Map<String, Object>> records) {
+        long seconds = Long.MAX_VALUE;
+        for (Map<String, Object> record : records) {
+            if (!(record.get(NativeDNSGetRecordWrapper.TTL) instanceof Number ttl)) {
+                return -1;
+            }
+            seconds = Math.min(seconds, ttl.longValue());
+        }
+        return TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    private static DNSRecords await(CompletableFuture<DNSRecords> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Removes every cached lookup.
+     */
+    public void invalidateAll() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached lookups, including expired ones not yet removed.
+     *
+     * @return the number of cached lookups
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * Returns the number of lookups answered without querying the delegate,
+     * either from the cache or by waiting for a concurrent lookup of the same key.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that queried the delegate.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the number of cached lookups removed to keep the cache within its maximum size.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Cache key: a lower-cased host and the requested record types.
+     */
+    private record Key(String host, int type) {
+    }
+
+    /**
+     * Cached lookup with its expiry time.
+     */
+    private record Entry(DNSRecords records, long expiresAt) {
+    }
+}
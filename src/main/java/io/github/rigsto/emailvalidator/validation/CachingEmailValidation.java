@@ -0,0 +1,161 @@
+package io.github.rigsto.emailvalidator.validation;
+
+import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.MultipleErrors;
+import io.github.rigsto.emailvalidator.result.reason.ExceptionFound;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
+import io.github.rigsto.emailvalidator.result.reason.UnableToGetDNSRecord;
+import io.github.rigsto.emailvalidator.warning.Warning;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validation strategy answering repeated addresses from a {@link ValidationCache}.
+ * <p>
+ * The first time an address is seen it is validated by the wrapped
+ * validation, and its verdict, error and warnings are stored in the cache,
+ * unless the error is transient: an address rejected because a DNS lookup
+ * failed ({@link UnableToGetDNSRecord}) or an exception was thrown
+ * ({@link ExceptionFound}) is validated again the next time. Later validations of the same address, by this or any other instance
+ * sharing the cache, return the stored outcome without running the
+ * wrapped validation.
+ * </p>
+ * <p>
+ * Like other validations, instances keep the outcome of the last call and
+ * must not be shared between threads, while the cache is thread-safe and
+ * meant to be shared. After a valid address {@link #getError()} returns
+ * null.
+ * </p>
+ *
+ * <pre>{@code
+ * ValidationCache cache = new ValidationCache(100_000, Duration.ofMinutes(10), Duration.ofMinutes(1));
+ * EmailValidation validation = new CachingEmailValidation(new DNSCheckValidation(), cache);
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class CachingEmailValidation implements EmailValidation {
+
+    /**
+     * The validation run for addresses not in the cache.
+     */
+    private final EmailValidation delegate;
+
+    /**
+     * The cache of outcomes, possibly shared.
+     */
+    private final ValidationCache cache;
+
+    /**
+     * The error from the last validation, if any.
+     */
+    private InvalidEmail error = null;
+
+    /**
+     * The warnings from the last validation.
+     */
+    private List<Warning> warnings = List.of();
+
+    /**
+     * Creates a caching validation.
+     *
+     * @param delegate the validation run for addresses not in the cache
+     * @param cache the cache of outcomes, shared only by validations configured the same way
+     * @throws NullPointerException if an argument is null
+     */
+    public CachingEmailValidation(EmailValidation delegate, ValidationCache cache) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.cache = Objects.requireNonNull(cache, "cache");
+    }
+
+    /**
+     * Validates an email address, from the cache when it holds its outcome.
+     *
+     * @param email the email address to validate
+     * @param emailLexer the lexer to use for tokenization
+     * @return true if the email is valid, false otherwise
+     */
+    @Override
+    public boolean isValid(String email, EmailLexer emailLexer) {
+        ValidationCache.Outcome outcome = this.cache.get(email);
+
+        if (outcome == null) {
+            boolean valid = this.delegate.isValid(email, emailLexer);
+            outcome = new ValidationCache.Outcome(
+                    valid,
+                    valid ? null : this.delegate.getError(),
+                    List.copyOf(this.delegate.getWarnings())
+            );
+            if (!isTransient(outcome.error())) {
+                this.cache.put(email, outcome);
+            }
+        }
+
+        this.error = outcome.error();
+        this.warnings = outcome.warnings();
+        return outcome.valid();
+    }
+
+    /**
+     * Checks if an error may not happen again for the same address, such as
+     * a DNS lookup that failed or timed out, or an unexpected exception.
+     */
+    private static boolean isTransient(InvalidEmail error) {
+        if (error instanceof MultipleErrors errors) {
+            for (Reason reason : errors.getReasons()) {
+                if (isTransient(reason)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return error != null && isTransient(error.getReason());
+    }
+
+    private static boolean isTransient(Reason reason) {
+        return reason instanceof UnableToGetDNSRecord || reason instanceof ExceptionFound;
+    }
+
+    /**
+     * Returns the error from the last validation, if any.
+     *
+     * @return the InvalidEmail error, or null if the address was valid
+     */
+    @Override
+    public InvalidEmail getError() {
+        return this.error;
+    }
+
+    /**
+     * Returns the warnings generated during the last validation.
+     *
+     * @return a list of warnings
+     */
+    @Override
+    public List<Warning> getWarnings() {
+        return new ArrayList<>(this.warnings);
+    }
+
+    /**
+     * Returns the cost of the wrapped validation.
+     *
+     * @return the cost of the wrapped validation
+     */
+    @Override
+    public int cost() {
+        return this.delegate.cost();
+    }
+
+    /**
+     * Returns the cache used by this validation.
+     *
+     * @return the cache
+     */
+    public ValidationCache getCache() {
+        return this.cache;
+    }
+}
@@ -1,6 +1,8 @@
 package io.github.rigsto.emailvalidator.validation;
 
 import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.metrics.Instrumentation;
+import io.github.rigsto.emailvalidator.metrics.ValidationListener;
 import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.result.reason.DomainAcceptsNoMail;
 import io.github.rigsto.emailvalidator.result.reason.LocalOrReservedDomain;
@@ -8,8 +10,8 @@ import io.github.rigsto.emailvalidator.result.reason.NoDNSRecord;
 import io.github.rigsto.emailvalidator.result.reason.UnableToGetDNSRecord;
 import io.github.rigsto.emailvalidator.warning.NoDNSMXRecord;
 import io.github.rigsto.emailvalidator.warning.Warning;
+import io.github.rigsto.emailvalidator.warning.WarningSet;
 
-import java.net.IDN;
 import java.util.*;
 
 /**
@@ -41,7 +43,7 @@ public class DNSCheckValidation implements EmailValidation {
     /**
      * Set of warnings collected during DNS validation.
      */
-    private final Set<Warning> warnings = new HashSet<>();
+    private final WarningSet warnings = new WarningSet();
     
     /**
      * The error from the last validation, if any.
@@ -76,24 +78,56 @@ public class DNSCheckValidation implements EmailValidation {
 
     @Override
     public boolean isValid(String email, EmailLexer emailLexer) {
-        String host = email;
-        int at = email.lastIndexOf('@');
-
-        if (at != -1 && at < email.length() - 1) {
-            host = email.substring(at + 1);
+        String host = this.begin(email);
+        if (host == null) {
+            return false;
         }
 
-        String[] hostParts = host.split("\\.");
-        boolean isLocalDomain = hostParts.length <= 1;
-        String lastLabel = hostParts.length == 0 ? "" : hostParts[hostParts.length - 1].toLowerCase(Locale.ROOT);
+        return this.timedCheckDns(host);
+    }
+
+    /**
+     * Clears the outcome of the previous validation and extracts the host to check.
+     *
+     * @param email the email address to validate
+     * @return the host of the address, or null if it is a local or reserved domain
+     */
+    String begin(String email) {
+        this.warnings.clear();
+        this.mxRecords.clear();
+        this.error = null;
+
+        String host = hostOf(email);
+        int end = host.length();
+        while (end > 0 && host.charAt(end - 1) == '.') {
+            end--;
+        }
+        int lastDot = host.lastIndexOf('.', end - 1);
+        boolean isLocalDomain = lastDot == -1;
+        String lastLabel = host.substring(lastDot + 1, end).toLowerCase(Locale.ROOT);
         boolean isReservedTopLevel = RESERVED_DNS_TOP_LEVEL_NAMES.contains(lastLabel);
 
         if (isLocalDomain || isReservedTopLevel) {
             this.error = new InvalidEmail(new LocalOrReservedDomain(), host);
-            return false;
+            return null;
         }
 
-        return checkDns(host);
+        return host;
+    }
+
+    /**
+     * Returns the host of an email address, the whole input if it has no domain part.
+     *
+     * @param email the email address
+     * @return the part after the last @
+     */
+    static String hostOf(String email) {
+        int at = email.lastIndexOf('@');
+
+        if (at != -1 && at < email.length() - 1) {
+            return email.substring(at + 1);
+        }
+        return email;
     }
 
     @Override
@@ -113,50 +147,136 @@ public class DNSCheckValidation implements EmailValidation {
      * @return true if the host has valid DNS records, false otherwise
      */
     protected boolean checkDns(String host) {
-        String ascii = "";
-
-        try {
-            ascii = IDN.toASCII(host, IDN.USE_STD3_ASCII_RULES);
-        } catch (IllegalArgumentException e) {
-            return false;
+        for (String current : candidateHosts(host)) {
+            if (validateDnsRecords(current)) {
+                return true;
+            }
         }
 
-        ascii = ascii.replaceAll("\\.$", "");
+        return false;
+    }
 
-        Deque<String> parts = new ArrayDeque<>(Arrays.asList(ascii.split("\\.")));
-        if (parts.isEmpty()) {
-            return false;
+    /**
+     * Returns the hosts to look up for a domain, in the order they are checked.
+     * <p>
+     * The domain is converted to ASCII, then checked from its registrable
+     * part up to the full host, e.g. {@code example.com} then
+     * {@code mail.example.com}.
+     * </p>
+     *
+     * @param host the domain part of the address
+     * @return the hosts to look up, empty if the domain cannot be converted to ASCII
+     */
+    static List<String> candidateHosts(String host) {
+        String ascii = asciiHost(host);
+        if (ascii == null) {
+            return List.of();
         }
 
-        String current = parts.removeLast();
+        // the top-level label alone is never looked up, unless it is the whole domain
+        List<String> hosts = new ArrayList<>();
+        int dot = ascii.lastIndexOf('.');
         do {
-            if (!parts.isEmpty()) {
-                current = parts.removeLast() + "." + current;
-            }
+            dot = (dot > 0) ? ascii.lastIndexOf('.', dot - 1) : -1;
+            hosts.add(ascii.substring(dot + 1));
+        } while (dot > 0);
 
-            if (validateDnsRecords(current)) {
-                return true;
-            }
+        return hosts;
+    }
+
+    /**
+     * Converts a domain to the lowercase ASCII form looked up in the DNS.
+     * <p>
+     * Domains with the same form are checked with the same lookups and get
+     * the same verdict.
+     * </p>
+     *
+     * @param host the domain part of the address
+     * @return the domain in ASCII without trailing dot, or null if it cannot be converted
+     * @see DomainNormalizer#toAscii(String)
+     */
+    static String asciiHost(String host) {
+        return DomainNormalizer.shared().toAscii(host);
+    }
 
-        } while (!parts.isEmpty());
+    /**
+     * Clears the outcome of the previous validation and checks a domain
+     * already known not to be local or reserved.
+     *
+     * @param host the domain to check
+     * @return true if the domain has valid DNS records, false otherwise
+     */
+    boolean checkHost(String host) {
+        this.warnings.clear();
+        this.mxRecords.clear();
+        this.error = null;
 
-        return false;
+        return this.timedCheckDns(host);
+    }
+
+    private boolean timedCheckDns(String host) {
+        ValidationListener listener = Instrumentation.listener();
+        if (listener == null) {
+            return checkDns(host);
+        }
+
+        long start = System.nanoTime();
+        boolean valid = checkDns(host);
+        listener.onStage(ValidationListener.STAGE_DNS, System.nanoTime() - start);
+        return valid;
     }
 
     private boolean validateDnsRecords(String host) {
-        DNSRecords dnsRecordsResult = this.wrapper.getRecords(host, DNSGetRecordWrapper.DNS_A | DNSGetRecordWrapper.DNS_MX);
+        DNSRecords dnsRecordsResult = lookup(this.wrapper, host, DNSGetRecordWrapper.DNS_A | DNSGetRecordWrapper.DNS_MX);
         if (dnsRecordsResult.withError()) {
-            this.error = new InvalidEmail(new UnableToGetDNSRecord(), "");
+            this.lookupFailed();
             return false;
         }
 
         List<Map<String, Object>> dnsRecords = new ArrayList<>(dnsRecordsResult.getRecords());
 
-        DNSRecords aaaaRecordsResult = this.wrapper.getRecords(host, DNSGetRecordWrapper.DNS_AAAA);
+        DNSRecords aaaaRecordsResult = lookup(this.wrapper, host, DNSGetRecordWrapper.DNS_AAAA);
         if (!aaaaRecordsResult.withError()) {
             dnsRecords.addAll(aaaaRecordsResult.getRecords());
         }
 
+        return checkRecords(dnsRecords);
+    }
+
+    /**
+     * Looks up the records of a host, reporting the latency of the lookup.
+     *
+     * @param wrapper the wrapper performing the lookup
+     * @param host the hostname to query
+     * @param type bitwise combination of DNS record type constants
+     * @return the records of the host
+     */
+    static DNSRecords lookup(DNSGetRecordWrapper wrapper, String host, int type) {
+        ValidationListener listener = Instrumentation.listener();
+        if (listener == null) {
+            return wrapper.getRecords(host, type);
+        }
+
+        long start = System.nanoTime();
+        DNSRecords records = wrapper.getRecords(host, type);
+        listener.onDnsLookup(type, System.nanoTime() - start, records.withError());
+        return records;
+    }
+
+    /**
+     * Records a failed lookup of the A and MX records of a host.
+     */
+    void lookupFailed() {
+        this.error = new InvalidEmail(new UnableToGetDNSRecord(), "");
+    }
+
+    /**
+     * Checks the records found for a host.
+     *
+     * @param dnsRecords the MX, A and AAAA records of the host
+     * @return true if the host accepts mail, false otherwise
+     */
+    boolean checkRecords(List<Map<String, Object>> dnsRecords) {
         if (dnsRecords.isEmpty()) {
             this.error = new InvalidEmail(new NoDNSRecord(), "");
             return false;
@@ -200,4 +320,14 @@ public class DNSCheckValidation implements EmailValidation {
         this.mxRecords.add(dnsRecord);
         return true;
     }
+
+    /**
+     * Returns the cost of this validation, which looks up DNS records.
+     *
+     * @return {@link #COST_NETWORK}
+     */
+    @Override
+    public int cost() {
+        return COST_NETWORK;
+    }
 }
@@ -4,6 +4,7 @@ import javax.naming.NamingEnumeration;
 import javax.naming.directory.Attribute;
 import javax.naming.directory.Attributes;
 import javax.naming.directory.InitialDirContext;
+import java.time.Duration;
 import java.util.*;
 
 /**
@@ -13,6 +14,12 @@ import java.util.*;
  * for domain names using Java's JNDI DNS context. It handles the
  * conversion of DNS records into a standardized format.
  * </p>
+ * <p>
+ * Lookups block the calling thread. By default they use the timeouts of the
+ * JNDI DNS provider, one second doubled on each of four retries; a wrapper
+ * created with {@link #DNSGetRecordWrapper(Duration, int)} bounds each query
+ * instead, so that an unresponsive server ties a thread up for a known time.
+ * </p>
  * 
  * @author EmailValidator Team
  * @since 0.0.1
@@ -34,6 +41,52 @@ public class DNSGetRecordWrapper {
      */
     public static final int DNS_MX = 4;
 
+    /**
+     * Timeout of the first query in milliseconds, null for the provider default.
+     */
+    private final String timeoutMillis;
+
+    /**
+     * Number of retries of a query, null for the provider default.
+     */
+    private final String retries;
+
+    /**
+     * Creates a wrapper using the default timeouts of the JNDI DNS provider.
+     */
+    public DNSGetRecordWrapper() {
+        this.timeoutMillis = null;
+        this.retries = null;
+    }
+
+    /**
+     * Creates a wrapper bounding the time spent on each query.
+     * <p>
+     * The JNDI DNS provider doubles the timeout on each retry, so a query
+     * to an unresponsive server gives up after
+     * {@code timeout * (2^(retries + 1) - 1)}; with no retries, after the
+     * timeout.
+     * </p>
+     *
+     * @param timeout the timeout of the first attempt of a query, at least one millisecond
+     * @param retries the number of retries of a query
+     * @throws NullPointerException if the timeout is null
+     * @throws IllegalArgumentException if the timeout is shorter than a millisecond or the retries are negative
+     * @since 1.1.0
+     */
+    public DNSGetRecordWrapper(Duration timeout, int retries) {
+        long millis = timeout.toMillis();
+        if (millis <= 0) {
+            throw new IllegalArgumentException("timeout must be at least one millisecond: " + timeout);
+        }
+        if (retries < 0) {
+            throw new IllegalArgumentException("retries must not be negative: " + retries);
+        }
+
+        this.timeoutMillis = String.valueOf(Math.min(millis, Integer.MAX_VALUE));
+        this.retries = String.valueOf(retries);
+    }
+
     /**
      * Retrieves DNS records for the specified host and record types.
      * <p>
@@ -50,6 +103,10 @@ public class DNSGetRecordWrapper {
             List<Map<String, Object>> out = new ArrayList<>();
             Map<String, String> env = new HashMap<>();
             env.put("java.naming.factory.initial", "com.sun.jndi.dns.DnsContextFactory");
+            if (this.timeoutMillis != null) {
+                env.put("com.sun.jndi.dns.timeout.initial", this.timeoutMillis);
+                env.put("com.sun.jndi.dns.timeout.retries", this.retries);
+            }
 
             InitialDirContext idc = new InitialDirContext(new Hashtable<>(env));
 
@@ -0,0 +1,266 @@
+package io.github.rigsto.emailvalidator.validation;
+
+import com.ibm.icu.text.IDNA;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converts domains between their Unicode and ASCII forms.
+ * <p>
+ * Conversions follow UTS #46 with nontransitional processing, as
+ * implemented by ICU, with the STD3 rules, the bidi and CONTEXTJ checks
+ * applied when converting to ASCII. Labels with hyphens in their third and
+ * fourth positions and domains over the DNS length limit are accepted, the
+ * parser already reporting long domains.
+ * </p>
+ * <p>
+ * Domains made of ASCII letters, digits and hyphens, by far the most
+ * common, are converted by a single pass over their characters. Other
+ * domains go through ICU and their forms are kept in a size-bounded,
+ * least-recently-used map, so traffic dominated by a few internationalized
+ * domains converts each of them once.
+ * </p>
+ * <p>
+ * Instances are thread-safe. {@link DNSCheckValidation} and
+ * {@link io.github.rigsto.emailvalidator.validation.extra.LookalikeValidation}
+ * share the instance returned by {@link #shared()}.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public final class DomainNormalizer {
+
+    /**
+     * Default maximum number of cached domains, for each direction.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private static final IDNA TO_ASCII = IDNA.getUTS46Instance(IDNA.USE_STD3_RULES | IDNA.CHECK_BIDI
+            | IDNA.CHECK_CONTEXTJ | IDNA.NONTRANSITIONAL_TO_ASCII);
+
+    private static final IDNA TO_UNICODE = IDNA.getUTS46Instance(IDNA.NONTRANSITIONAL_TO_UNICODE);
+
+    /**
+     * Errors that do not make a domain unusable.
+     */
+    private static final Set<IDNA.Error> IGNORED_ERRORS = Set.of(IDNA.Error.HYPHEN_3_4, IDNA.Error.DOMAIN_NAME_TOO_LONG);
+
+    /**
+     * Cached value of domains that cannot be converted.
+     */
+    private static final String NOT_CONVERTIBLE = "";
+
+    private static final int LABEL_MAX_LENGTH = 63;
+
+    private static final DomainNormalizer SHARED = new DomainNormalizer(DEFAULT_MAXIMUM_SIZE);
+
+    /**
+     * The ASCII forms of internationalized domains, guarded by itself.
+     */
+    private final Forms asciiForms;
+
+    /**
+     * The Unicode forms of ASCII-compatible domains, guarded by itself.
+     */
+    private final Forms unicodeForms;
+
+    /**
+     * Creates a normalizer caching up to the given number of domains in each direction.
+     *
+     * @param maximumSize the maximum number of cached domains
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public DomainNormalizer(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.asciiForms = new Forms(maximumSize);
+        this.unicodeForms = new Forms(maximumSize);
+    }
+
+    /**
+     * Returns the normalizer shared by the validations.
+     *
+     * @return the shared normalizer
+     */
+    public static DomainNormalizer shared() {
+        return SHARED;
+    }
+
+    /**
+     * Converts a domain to the lowercase ASCII form looked up in the DNS.
+     *
+     * @param domain the domain, in Unicode or ASCII
+     * @return the domain in A-labels without trailing dot, or null if it cannot be converted
+     */
+    public String toAscii(String domain) {
+        String ascii = asciiFastPath(domain);
+        if (ascii != null) {
+            return ascii;
+        }
+
+        ascii = this.asciiForms.get(domain);
+        if (ascii == null) {
+            IDNA.Info info = new IDNA.Info();
+            StringBuilder converted = TO_ASCII.nameToASCII(domain, new StringBuilder(domain.length() + 16), info);
+            if (hasErrors(info)) {
+                ascii = NOT_CONVERTIBLE;
+            } else {
+                int length = converted.length();
+                ascii = converted.substring(0, (length > 0 && converted.charAt(length - 1) == '.') ? length - 1 : length);
+            }
+            this.asciiForms.put(domain, ascii);
+        }
+
+        return ascii.isEmpty() ? null : ascii;
+    }
+
+    /**
+     * Converts a domain to its Unicode form, decoding ASCII-compatible labels.
+     *
+     * @param domain the domain, in Unicode or ASCII
+     * @return the domain in U-labels, or the domain itself if it cannot be converted
+     */
+    public String toUnicode(String domain) {
+        if (isPlainAscii(domain)) {
+            return domain;
+        }
+
+        String unicode = this.unicodeForms.get(domain);
+        if (unicode == null) {
+            IDNA.Info info = new IDNA.Info();
+            StringBuilder converted = TO_UNICODE.nameToUnicode(domain, new StringBuilder(domain.length()), info);
+            unicode = hasErrors(info) ? NOT_CONVERTIBLE : converted.toString();
+            this.unicodeForms.put(domain, unicode);
+        }
+
+        return unicode.isEmpty() ? domain : unicode;
+    }
+
+    /**
+     * Returns the number of cached domains, in both directions.
+     *
+     * @return the number of cached domains
+     */
+    public int size() {
+        synchronized (this.asciiForms) {
+            synchronized (this.unicodeForms) {
+                return this.asciiForms.size() + this.unicodeForms.size();
+            }
+        }
+    }
+
+    /**
+     * Converts a domain of letters, digits and hyphens without going
+     * through ICU.
+     *
+     * @return the lowercase domain without trailing dot, or null if ICU must convert it
+     */
+    private static String asciiFastPath(String domain) {
+        int length = domain.length();
+        if (length > 0 && domain.charAt(length - 1) == '.') {
+            length--;
+        }
+
+        int labelStart = 0;
+        boolean upperCase = false;
+        for (int i = 0; i <= length; i++) {
+            char c = (i < length) ? domain.charAt(i) : '.';
+            if (c == '.') {
+                int labelLength = i - labelStart;
+                if (labelLength == 0 || labelLength > LABEL_MAX_LENGTH
+                        || domain.charAt(labelStart) == '-' || domain.charAt(i - 1) == '-'
+                        || isAcePrefixed(domain, labelStart, labelLength)) {
+                    return null;
+                }
+                labelStart = i + 1;
+            } else if (c >= 'A' && c <= 'Z') {
+                upperCase = true;
+            } else if (!((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-')) {
+                return null;
+            }
+        }
+
+        String ascii = (length == domain.length()) ? domain : domain.substring(0, length);
+        return upperCase ? toLowerCase(ascii) : ascii;
+    }
+
+    /**
+     * Checks whether a domain is ASCII without ASCII-compatible labels,
+     * its own Unicode form.
+     */
+    private static boolean isPlainAscii(String domain) {
+        int labelStart = 0;
+        for (int i = 0; i < domain.length(); i++) {
+            char c = domain.charAt(i);
+            if (c >= 0x80) {
+                return false;
+            }
+            if (i == labelStart && isAcePrefixed(domain, i, domain.length() - i)) {
+                return false;
+            }
+            if (c == '.') {
+                labelStart = i + 1;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAcePrefixed(String domain, int start, int length) {
+        return length >= 4 && domain.regionMatches(true, start, "xn--", 0, 4);
+    }
+
+    private static String toLowerCase(String ascii) {
+        char[] chars = ascii.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= 'A' && chars[i] <= 'Z') {
+                chars[i] += 'a' - 'A';
+            }
+        }
+        return new String(chars);
+    }
+
+    private static boolean hasErrors(IDNA.Info info) {
+        if (!info.hasErrors()) {
+            return false;
+        }
+        for (IDNA.Error error : info.getErrors()) {
+            if (!IGNORED_ERRORS.contains(error)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converted forms in access order, evicting the least recently used
+     * one over the maximum size.
+     */
+    private static final class Forms extends LinkedHashMap<String, String> {
+
+        private final int maximumSize;
+
+        Forms(int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        public synchronized String get(Object key) {
+            return super.get(key);
+        }
+
+        @Override
+        public synchronized String put(String key, String value) {
+            return super.put(key, value);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > this.maximumSize;
+        }
+    }
+}
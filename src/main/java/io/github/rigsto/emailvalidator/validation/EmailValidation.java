@@ -1,9 +1,11 @@
 package io.github.rigsto.emailvalidator.validation;
 
+import io.github.rigsto.emailvalidator.EmailBytes;
 import io.github.rigsto.emailvalidator.EmailLexer;
 import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.warning.Warning;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
@@ -19,6 +21,27 @@ import java.util.List;
  * @since 0.0.1
  */
 public interface EmailValidation {
+    /**
+     * Cost of validations working on the address alone.
+     *
+     * @since 1.1.0
+     */
+    int COST_SYNTAX = 0;
+
+    /**
+     * Cost of validations doing heavier computations on the address.
+     *
+     * @since 1.1.0
+     */
+    int COST_COMPUTE = 10;
+
+    /**
+     * Cost of validations doing network lookups.
+     *
+     * @since 1.1.0
+     */
+    int COST_NETWORK = 100;
+
     /**
      * Validates an email address using the specified lexer.
      * 
@@ -27,6 +50,48 @@ public interface EmailValidation {
      * @return true if the email is valid, false otherwise
      */
     boolean isValid(String email, EmailLexer emailLexer);
+
+    /**
+     * Validates a UTF-8 encoded email address using the specified lexer.
+     * <p>
+     * The default implementation decodes the address with
+     * {@link EmailBytes#decode(byte[], int, int)} and validates the string.
+     * Implementations able to check some inputs on their bytes override it;
+     * the outcome must be the same as for the decoded string.
+     * </p>
+     *
+     * @param email the encoded email address
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @param emailLexer the lexer to use for tokenization
+     * @return true if the email is valid, false otherwise
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     * @since 1.1.0
+     */
+    default boolean isValid(byte[] email, int offset, int length, EmailLexer emailLexer) {
+        return isValid(EmailBytes.decode(email, offset, length), emailLexer);
+    }
+
+    /**
+     * Validates the remaining UTF-8 bytes of a buffer using the specified lexer.
+     * <p>
+     * The position of the buffer is left unchanged. Buffers without an
+     * accessible array are copied first.
+     * </p>
+     *
+     * @param email the encoded email address
+     * @param emailLexer the lexer to use for tokenization
+     * @return true if the email is valid, false otherwise
+     * @since 1.1.0
+     */
+    default boolean isValid(ByteBuffer email, EmailLexer emailLexer) {
+        if (email.hasArray()) {
+            return isValid(email.array(), email.arrayOffset() + email.position(), email.remaining(), emailLexer);
+        }
+        byte[] bytes = new byte[email.remaining()];
+        email.get(email.position(), bytes);
+        return isValid(bytes, 0, bytes.length, emailLexer);
+    }
     
     /**
      * Returns the error from the last validation, if any.
@@ -41,4 +106,18 @@ public interface EmailValidation {
      * @return a list of warnings
      */
     List<Warning> getWarnings();
+
+    /**
+     * Returns the relative cost of this validation.
+     * <p>
+     * {@link MultipleValidationWithAnd} uses it to run cheap validations
+     * first when asked to. The default is {@link #COST_SYNTAX}.
+     * </p>
+     *
+     * @return the cost, such as {@link #COST_SYNTAX}, {@link #COST_COMPUTE} or {@link #COST_NETWORK}
+     * @since 1.1.0
+     */
+    default int cost() {
+        return COST_SYNTAX;
+    }
 }
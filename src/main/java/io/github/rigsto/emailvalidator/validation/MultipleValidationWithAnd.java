@@ -1,15 +1,25 @@
 package io.github.rigsto.emailvalidator.validation;
 
 import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.ValidationContext;
 import io.github.rigsto.emailvalidator.exception.EmptyValidationList;
 import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.result.MultipleErrors;
+import io.github.rigsto.emailvalidator.result.reason.ExceptionFound;
 import io.github.rigsto.emailvalidator.warning.Warning;
+import io.github.rigsto.emailvalidator.warning.WarningSet;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Validation strategy that combines multiple validation strategies using AND logic.
@@ -18,6 +28,35 @@ import java.util.Set;
  * true only if all validations pass. It can be configured to stop on the first
  * error or collect all errors from all validations.
  * </p>
+ * <p>
+ * With {@link #ORDER_BY_COST}, the validations run by increasing
+ * {@link EmailValidation#cost()}, so that cheap syntactic checks run before
+ * network lookups and, with {@link #STOP_ON_ERROR}, an address rejected by
+ * the former never reaches the latter.
+ * </p>
+ * <p>
+ * When an executor is given, all the validations start at once on it, each
+ * with the lexer of the {@link ValidationContext} of the thread running it,
+ * and the total latency becomes that of the slowest one instead of the sum,
+ * whatever their costs. With {@link #STOP_ON_ERROR} the remaining
+ * validations are cancelled, and interrupted, as soon as one of them fails,
+ * so a cheap syntactic check rejecting an address cuts short the network
+ * lookups running beside it; unlike a sequential run, those lookups may
+ * already have been sent. With {@link #ORDER_BY_COST} as well, the run
+ * stops at the first failure in cost order, once the cheaper validations
+ * have passed, and the outcome is the one of a sequential run. Whatever the
+ * order in which they complete, the warnings and errors of the validations
+ * that completed are merged in execution order. The
+ * executor must not be the one running the caller if it may have no other
+ * free thread, since the caller waits for the validations.
+ * </p>
+ *
+ * <pre>{@code
+ * EmailValidation validation = new MultipleValidationWithAnd(
+ *         List.of(new DNSCheckValidation(), new RFCValidation(), new SpoofCheckValidation()),
+ *         MultipleValidationWithAnd.STOP_ON_ERROR | MultipleValidationWithAnd.ORDER_BY_COST,
+ *         executor);
+ * }</pre>
  * 
  * @author EmailValidator Team
  * @since 0.0.1
@@ -34,10 +73,18 @@ public class MultipleValidationWithAnd implements EmailValidation {
      */
     public static final int ALLOW_ALL_ERRORS = 1;
 
+    /**
+     * Flag running the validations by increasing cost, to combine with
+     * {@link #STOP_ON_ERROR} or {@link #ALLOW_ALL_ERRORS}.
+     *
+     * @since 1.1.0
+     */
+    public static final int ORDER_BY_COST = 2;
+
     /**
      * Set of warnings collected from all validations.
      */
-    private final Set<Warning> warnings = new HashSet<>();
+    private final WarningSet warnings = new WarningSet();
     
     /**
      * Combined error from multiple validations.
@@ -50,10 +97,23 @@ public class MultipleValidationWithAnd implements EmailValidation {
     private final List<EmailValidation> validations;
     
     /**
-     * The validation mode (stop on error or collect all errors).
+     * The validation mode (stop on error or collect all errors) and flags.
      */
     private final int mode;
 
+    /**
+     * The executor running the validations concurrently, null to run them
+     * one after another on the calling thread.
+     */
+    private final Executor executor;
+
+    /**
+     * One lock per validation, held while it runs on the executor. Locks
+     * rather than monitors, since validations may block on network lookups
+     * and a monitor held while blocking pins a virtual thread to its carrier.
+     */
+    private final ReentrantLock[] locks;
+
     /**
      * Creates a new MultipleValidationWithAnd with the specified validations and mode.
      * 
@@ -66,8 +126,52 @@ public class MultipleValidationWithAnd implements EmailValidation {
             throw new EmptyValidationList();
         }
 
-        this.validations = validations;
+        this.validations = ((mode & ORDER_BY_COST) != 0) ? byCost(validations) : validations;
         this.mode = mode;
+        this.executor = null;
+        this.locks = null;
+    }
+
+    /**
+     * Creates a new MultipleValidationWithAnd running all the validations
+     * concurrently on the given executor.
+     * <p>
+     * The validations must not be shared with other validations, as they
+     * can still be running for a short time after being cancelled.
+     * </p>
+     *
+     * @param validations the list of validation strategies to run
+     * @param mode the validation mode (STOP_ON_ERROR or ALLOW_ALL_ERRORS), optionally with ORDER_BY_COST
+     * @param executor the executor running the validations
+     * @throws EmptyValidationList if the validations list is null or empty
+     * @throws NullPointerException if the executor is null
+     * @since 1.1.0
+     */
+    public MultipleValidationWithAnd(List<EmailValidation> validations, int mode, Executor executor)
+            throws EmptyValidationList {
+        if (validations == null || validations.isEmpty()) {
+            throw new EmptyValidationList();
+        }
+
+        this.validations = ((mode & ORDER_BY_COST) != 0) ? byCost(validations) : List.copyOf(validations);
+        this.mode = mode;
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.locks = new ReentrantLock[this.validations.size()];
+        for (int i = 0; i < this.locks.length; i++) {
+            // a validation listed twice gets the same lock
+            int first = 0;
+            while (this.validations.get(first) != this.validations.get(i)) {
+                first++;
+            }
+            this.locks[i] = (first < i) ? this.locks[first] : new ReentrantLock();
+        }
+    }
+
+    private static List<EmailValidation> byCost(List<EmailValidation> validations) {
+        List<EmailValidation> sorted = new ArrayList<>(validations);
+        // stable, so validations of the same cost keep their order
+        sorted.sort(Comparator.comparingInt(EmailValidation::cost));
+        return List.copyOf(sorted);
     }
 
     /**
@@ -85,6 +189,13 @@ public class MultipleValidationWithAnd implements EmailValidation {
 
     @Override
     public boolean isValid(String email, EmailLexer emailLexer) {
+        this.warnings.clear();
+        this.error = null;
+
+        if (this.executor != null) {
+            return this.isValidConcurrently(email, emailLexer);
+        }
+
         boolean result = true;
 
         for (EmailValidation validation : validations) {
@@ -96,7 +207,7 @@ public class MultipleValidationWithAnd implements EmailValidation {
             this.warnings.addAll(validation.getWarnings());
 
             if (!validationResult) {
-                processError(validation);
+                processError(validation.getError());
             }
 
             if (shouldStop(result)) {
@@ -107,8 +218,109 @@ public class MultipleValidationWithAnd implements EmailValidation {
         return result;
     }
 
-    private void processError(EmailValidation validation) {
-        InvalidEmail ve = validation.getError();
+    private boolean isValidConcurrently(String email, EmailLexer emailLexer) {
+        Outcome[] outcomes = new Outcome[this.validations.size()];
+        boolean result;
+
+        try {
+            result = this.runConcurrently(email, outcomes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.merge(outcomes);
+            processError(new InvalidEmail(new ExceptionFound(e), ""));
+            return false;
+        }
+
+        this.merge(outcomes);
+        return result;
+    }
+
+    /**
+     * Runs all the validations concurrently, storing the outcome of each
+     * validation that completes.
+     *
+     * @return true if all of them passed
+     */
+    private boolean runConcurrently(String email, Outcome[] outcomes) throws InterruptedException {
+        int count = outcomes.length;
+        CompletionService<Outcome> completion = new ExecutorCompletionService<>(this.executor);
+        List<Future<Outcome>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            futures.add(completion.submit(() -> this.run(index, email, ValidationContext.current().lexer())));
+        }
+
+        boolean ordered = (this.mode & ORDER_BY_COST) != 0;
+        boolean result = true;
+        // outcomes before this index are all known and valid
+        int settled = 0;
+        try {
+            for (int done = 0; done < count; done++) {
+                Future<Outcome> future = completion.take();
+                Outcome outcome = future.get();
+                outcomes[futures.indexOf(future)] = outcome;
+
+                result = result && outcome.valid();
+                if (ordered) {
+                    // a failure only stops the run once every cheaper validation passed
+                    while (settled < count && outcomes[settled] != null && outcomes[settled].valid()) {
+                        settled++;
+                    }
+                    if (settled < count && outcomes[settled] != null && shouldStop(false)) {
+                        Arrays.fill(outcomes, settled + 1, count, null);
+                        break;
+                    }
+                } else if (shouldStop(result)) {
+                    break;
+                }
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            for (Future<Outcome> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Runs a validation, holding it so that a run cancelled by a previous
+     * call is over before it runs again.
+     */
+    private Outcome run(int index, String email, EmailLexer lexer) {
+        EmailValidation validation = this.validations.get(index);
+        ReentrantLock lock = this.locks[index];
+        lock.lock();
+        try {
+            lexer.reset();
+            boolean valid = validation.isValid(email, lexer);
+            return new Outcome(valid, valid ? null : validation.getError(), validation.getWarnings());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void merge(Outcome[] outcomes) {
+        for (Outcome outcome : outcomes) {
+            if (outcome == null) {
+                continue;
+            }
+
+            this.warnings.addAll(outcome.warnings());
+            if (!outcome.valid()) {
+                processError(outcome.error());
+            }
+        }
+    }
+
+    private void processError(InvalidEmail ve) {
         if (ve != null) {
             initErrorStorage();
             this.error.addReason(ve.getReason());
@@ -122,7 +334,7 @@ public class MultipleValidationWithAnd implements EmailValidation {
     }
 
     private boolean shouldStop(boolean currentResult) {
-        return !currentResult && this.mode == STOP_ON_ERROR;
+        return !currentResult && (this.mode & ALLOW_ALL_ERRORS) == 0;
     }
 
     @Override
@@ -134,4 +346,24 @@ public class MultipleValidationWithAnd implements EmailValidation {
     public List<Warning> getWarnings() {
         return new ArrayList<>(this.warnings);
     }
+
+    /**
+     * Returns the cost of the most expensive validation.
+     *
+     * @return the highest cost of the validations
+     */
+    @Override
+    public int cost() {
+        int cost = COST_SYNTAX;
+        for (EmailValidation validation : this.validations) {
+            cost = Math.max(cost, validation.cost());
+        }
+        return cost;
+    }
+
+    /**
+     * Outcome of one validation.
+     */
+    private record Outcome(boolean valid, InvalidEmail error, List<Warning> warnings) {
+    }
 }
@@ -0,0 +1,152 @@
+package io.github.rigsto.emailvalidator.validation;
+
+import io.github.rigsto.emailvalidator.dns.AAAARecord;
+import io.github.rigsto.emailvalidator.dns.ARecord;
+import io.github.rigsto.emailvalidator.dns.DNSRecord;
+import io.github.rigsto.emailvalidator.dns.DNSResolver;
+import io.github.rigsto.emailvalidator.dns.DNSResponse;
+import io.github.rigsto.emailvalidator.dns.MXRecord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * DNS wrapper performing lookups with the built-in {@link DNSResolver}
+ * instead of JNDI.
+ * <p>
+ * The queries for the requested record types are sent together over the
+ * resolver's socket and their answers are converted to the record maps
+ * expected by {@link DNSCheckValidation}, with the same keys as
+ * {@link DNSGetRecordWrapper}. A non-existent domain yields no records, while
+ * a server failure or a timeout yields an error, so that
+ * {@link DNSCheckValidation} reports it as a failed lookup rather than as a
+ * domain without records. Each record map also holds the time to live of
+ * the record, in seconds, under {@link #TTL}, which
+ * {@link CachingDNSGetRecordWrapper} uses to expire its entries.
+ * </p>
+ * <p>
+ * {@link #getRecordsAsync(String, int)} returns the same records without
+ * waiting for them, and is used by {@link AsyncDNSCheckValidation} so that
+ * its lookups hold no thread.
+ * </p>
+ *
+ * <pre>{@code
+ * DNSResolver resolver = DNSResolver.system();
+ * DNSCheckValidation validation = new DNSCheckValidation(new NativeDNSGetRecordWrapper(resolver));
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class NativeDNSGetRecordWrapper extends DNSGetRecordWrapper {
+
+    /**
+     * Key of the time to live of a record, a {@code Long} number of seconds.
+     */
+    public static final String TTL = "ttl";
+
+    /**
+     * The resolver performing the queries.
+     */
+    private final DNSResolver resolver;
+
+    /**
+     * Creates a wrapper querying through the given resolver.
+     *
+     * @param resolver the resolver performing the queries, shared and closed by the caller
+     * @throws NullPointerException if the resolver is null
+     */
+    public NativeDNSGetRecordWrapper(DNSResolver resolver) {
+        this.resolver = Objects.requireNonNull(resolver, "resolver");
+    }
+
+    /**
+     * Retrieves DNS records for the specified host and record types.
+     *
+     * @param host the hostname to query
+     * @param type bitwise combination of DNS record type constants
+     * @return DNSRecords containing the query results
+     */
+    @Override
+    public DNSRecords getRecords(String host, int type) {
+        try {
+            return this.getRecordsAsync(host, type).get();
+        } catch (ExecutionException e) {
+            return new DNSRecords(List.of(), true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new DNSRecords(List.of(), true);
+        }
+    }
+
+    /**
+     * Retrieves DNS records for the specified host and record types without
+     * blocking the calling thread.
+     * <p>
+     * The returned future completes normally, with an error when
+     * {@link #getRecords(String, int)} would return one, once the resolver
+     * has received or given up on every response.
+     * </p>
+     *
+     * @param host the hostname to query
+     * @param type bitwise combination of DNS record type constants
+     * @return a future completed with the query results
+     */
+    public CompletableFuture<DNSRecords> getRecordsAsync(String host, int type) {
+        CompletableFuture<DNSResponse> mx = ((type & DNS_MX) != 0) ? this.resolver.query(host, DNSRecord.TYPE_MX) : null;
+        CompletableFuture<DNSResponse> a = ((type & DNS_A) != 0) ? this.resolver.query(host, DNSRecord.TYPE_A) : null;
+        CompletableFuture<DNSResponse> aaaa = ((type & DNS_AAAA) != 0) ? this.resolver.query(host, DNSRecord.TYPE_AAAA) : null;
+
+        List<CompletableFuture<DNSResponse>> queries = new ArrayList<>(3);
+        for (CompletableFuture<DNSResponse> query : Arrays.asList(mx, a, aaaa)) {
+            if (query != null) {
+                queries.add(query);
+            }
+        }
+
+        return CompletableFuture.allOf(queries.toArray(new CompletableFuture<?>[0]))
+                .handle((ignored, e) -> (e != null) ? new DNSRecords(List.of(), true) : toRecords(queries));
+    }
+
+    /**
+     * Converts the responses of completed queries.
+     */
+    private static DNSRecords toRecords(List<CompletableFuture<DNSResponse>> queries) {
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (CompletableFuture<DNSResponse> query : queries) {
+            DNSResponse response = query.join();
+            if (!response.isAnswered()) {
+                return new DNSRecords(List.of(), true);
+            }
+            for (DNSRecord record : response.records()) {
+                out.add(toMap(record));
+            }
+        }
+        return new DNSRecords(out, false);
+    }
+
+    private static Map<String, Object> toMap(DNSRecord record) {
+        Map<String, Object> map = new HashMap<>();
+        map.put(TTL, record.ttl());
+        if (record instanceof MXRecord mx) {
+            String target = mx.exchange() + ".";
+            map.put("type", "MX");
+            map.put("exchange", mx.preference() + " " + target);
+            map.put("target", target);
+            map.put("pri", String.valueOf(mx.preference()));
+        } else if (record instanceof ARecord address) {
+            map.put("type", "A");
+            map.put("ip", address.address().getHostAddress());
+        } else if (record instanceof AAAARecord address) {
+            map.put("type", "AAAA");
+            map.put("ipv6", address.address().getHostAddress());
+        }
+        return map;
+    }
+}
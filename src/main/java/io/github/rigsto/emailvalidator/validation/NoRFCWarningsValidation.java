@@ -1,6 +1,7 @@
 package io.github.rigsto.emailvalidator.validation;
 
 import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.Prefilter;
 import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.result.reason.RFCWarnings;
 
@@ -21,6 +22,23 @@ public class NoRFCWarningsValidation extends RFCValidation {
      */
     private InvalidEmail error = null;
 
+    /**
+     * Creates a validation without prefilter.
+     */
+    public NoRFCWarningsValidation() {
+    }
+
+    /**
+     * Creates a validation rejecting the inputs refused by a prefilter
+     * before parsing them.
+     *
+     * @param prefilter the checks to run before lexing, or null for none
+     * @since 1.1.0
+     */
+    public NoRFCWarningsValidation(Prefilter prefilter) {
+        super(prefilter);
+    }
+
     /**
      * Validates an email address for RFC compliance without warnings.
      * <p>
@@ -34,11 +52,29 @@ public class NoRFCWarningsValidation extends RFCValidation {
      */
     @Override
     public boolean isValid(String email, EmailLexer emailLexer) {
-        if (!super.isValid(email, emailLexer)) {
-            return false;
-        }
+        this.error = null;
+        return super.isValid(email, emailLexer) && this.hasNoWarnings();
+    }
+
+    /**
+     * Validates a UTF-8 encoded email address for RFC compliance without warnings.
+     *
+     * @param email the encoded email address
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @param emailLexer the lexer to use for tokenization
+     * @return true if the email is RFC-compliant with no warnings, false otherwise
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     * @since 1.1.0
+     */
+    @Override
+    public boolean isValid(byte[] email, int offset, int length, EmailLexer emailLexer) {
+        this.error = null;
+        return super.isValid(email, offset, length, emailLexer) && this.hasNoWarnings();
+    }
 
-        if (this.getWarnings().isEmpty()) {
+    private boolean hasNoWarnings() {
+        if (!this.hasWarnings()) {
             return true;
         }
 
@@ -2,15 +2,18 @@ package io.github.rigsto.emailvalidator.validation;
 
 import io.github.rigsto.emailvalidator.EmailLexer;
 import io.github.rigsto.emailvalidator.EmailParser;
+import io.github.rigsto.emailvalidator.Prefilter;
+import io.github.rigsto.emailvalidator.ValidationContext;
+import io.github.rigsto.emailvalidator.result.Failure;
 import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.result.Result;
 import io.github.rigsto.emailvalidator.result.reason.ExceptionFound;
 import io.github.rigsto.emailvalidator.warning.Warning;
+import io.github.rigsto.emailvalidator.warning.WarningSet;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
 
 /**
  * Validation strategy for RFC-compliant email address validation.
@@ -19,6 +22,23 @@ import java.util.Set;
  * to validate email syntax according to RFC standards. It collects warnings
  * and errors from the parsing process.
  * </p>
+ * <p>
+ * The parser is taken from the {@link ValidationContext} of the calling
+ * thread, so repeated validations reuse the same parser graph and lexer
+ * buffers instead of rebuilding them on every call.
+ * </p>
+ * <p>
+ * A failure is kept as its reason and the offset of the offending token.
+ * The {@link InvalidEmail} and its description are only built when
+ * {@link #getError()} is called, so rejecting an address allocates
+ * nothing on the common failure paths.
+ * </p>
+ * <p>
+ * A {@link Prefilter} given to the constructor checks the length, the
+ * {@code @} and the characters of each input before it is lexed, so that
+ * oversized or malformed inputs are rejected at a cost bounded by the
+ * prefilter's maximum length.
+ * </p>
  * 
  * @author EmailValidator Team
  * @since 0.0.1
@@ -28,12 +48,35 @@ public class RFCValidation implements EmailValidation {
     /**
      * Set of warnings collected during validation.
      */
-    private Set<Warning> warnings = new HashSet<>();
+    private final WarningSet warnings = new WarningSet();
     
     /**
-     * The error from the last validation, if any.
+     * The error from the last validation, if any, in its compact form.
      */
-    private InvalidEmail error = null;
+    private final Failure error = new Failure();
+
+    /**
+     * Checks run before lexing, null if there are none.
+     */
+    private final Prefilter prefilter;
+
+    /**
+     * Creates a validation without prefilter.
+     */
+    public RFCValidation() {
+        this(null);
+    }
+
+    /**
+     * Creates a validation rejecting the inputs refused by a prefilter
+     * before parsing them.
+     *
+     * @param prefilter the checks to run before lexing, or null for none
+     * @since 1.1.0
+     */
+    public RFCValidation(Prefilter prefilter) {
+        this.prefilter = prefilter;
+    }
 
     /**
      * Validates an email address for RFC compliance.
@@ -48,19 +91,64 @@ public class RFCValidation implements EmailValidation {
      */
     @Override
     public boolean isValid(String email, EmailLexer emailLexer) {
-        EmailParser parser = new EmailParser(emailLexer);
+        if (this.prefilter != null && this.prefilter.check(email, this.error).isInvalid()) {
+            this.warnings.clear();
+            return false;
+        }
+        EmailParser parser = ValidationContext.current().emailParser(emailLexer);
 
         try {
-            Result result = parser.parse(email);
-            this.warnings = parser.getWarnings();
+            return this.collect(parser, parser.parseCompact(email));
+        } catch (Exception e) {
+            this.error.set(new InvalidEmail(new ExceptionFound(e), ""));
+            return false;
+        }
+    }
 
-            if (result.isInvalid()) {
-                this.error = (InvalidEmail) result;
-                return false;
-            }
+    /**
+     * Validates a UTF-8 encoded email address for RFC compliance.
+     * <p>
+     * Plain dot-atom addresses are validated on their bytes without being
+     * decoded, other addresses are decoded and validated as strings. The
+     * outcome is the same as for the decoded string. Subclasses overriding
+     * {@link #isValid(String, EmailLexer)} should override this method too.
+     * </p>
+     *
+     * @param email the encoded email address
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @param emailLexer the lexer to use for tokenization
+     * @return true if the email is RFC-compliant, false otherwise
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     * @since 1.1.0
+     */
+    @Override
+    public boolean isValid(byte[] email, int offset, int length, EmailLexer emailLexer) {
+        Objects.checkFromIndexSize(offset, length, email.length);
+        if (this.prefilter != null && this.prefilter.check(email, offset, length, this.error).isInvalid()) {
+            this.warnings.clear();
+            return false;
+        }
+        EmailParser parser = ValidationContext.current().emailParser(emailLexer);
 
+        try {
+            return this.collect(parser, parser.parseCompact(email, offset, length));
         } catch (Exception e) {
-            this.error = new InvalidEmail(new ExceptionFound(e), "");
+            this.error.set(new InvalidEmail(new ExceptionFound(e), ""));
+            return false;
+        }
+    }
+
+    private boolean collect(EmailParser parser, Result result) {
+        this.warnings.clear();
+        this.warnings.addAll(parser.getWarnings());
+
+        if (result instanceof Failure failure) {
+            this.error.copyFrom(failure);
+            return false;
+        }
+        if (result.isInvalid()) {
+            this.error.set((InvalidEmail) result);
             return false;
         }
 
@@ -69,12 +157,15 @@ public class RFCValidation implements EmailValidation {
 
     /**
      * Returns the error from the last validation, if any.
+     * <p>
+     * The error is built on the first call after a failure.
+     * </p>
      * 
      * @return the InvalidEmail error, or null if no error occurred
      */
     @Override
     public InvalidEmail getError() {
-        return this.error;
+        return this.error.isSet() ? this.error.toInvalidEmail() : null;
     }
 
     /**
@@ -86,4 +177,17 @@ public class RFCValidation implements EmailValidation {
     public List<Warning> getWarnings() {
         return new ArrayList<>(this.warnings);
     }
+
+    /**
+     * Checks if the last validation generated any warnings.
+     * <p>
+     * Unlike {@link #getWarnings()}, this does not copy the warnings: it
+     * compares the mask of the warnings against zero.
+     * </p>
+     * 
+     * @return true if warnings were generated, false otherwise
+     */
+    public boolean hasWarnings() {
+        return !this.warnings.isEmpty();
+    }
 }
@@ -0,0 +1,113 @@
+package io.github.rigsto.emailvalidator.validation;
+
+import io.github.rigsto.emailvalidator.dns.DNSSnapshot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * DNS wrapper answering lookups from a {@link DNSSnapshot} instead of the
+ * network.
+ * <p>
+ * Meant for batch jobs and air-gapped environments, it lets
+ * {@link DNSCheckValidation} run against a snapshot built ahead of time with
+ * {@link io.github.rigsto.emailvalidator.dns.DNSSnapshotBuilder}. The
+ * snapshot is authoritative: a domain it does not have yields no records,
+ * never an error. Records are converted to the maps of
+ * {@link DNSGetRecordWrapper}; as the snapshot only keeps the presence of A
+ * and AAAA records, their maps have a type but no address.
+ * </p>
+ * <p>
+ * Finding a domain is a binary search over the mapped file. Lookups without
+ * MX records return shared, unmodifiable results, so only MX records cause
+ * allocations. Instances are thread-safe.
+ * </p>
+ *
+ * <pre>{@code
+ * DNSSnapshot snapshot = DNSSnapshot.open(Path.of("mx.snapshot"));
+ * DNSCheckValidation validation = new DNSCheckValidation(new SnapshotDNSGetRecordWrapper(snapshot));
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class SnapshotDNSGetRecordWrapper extends DNSGetRecordWrapper {
+
+    private static final Map<String, Object> A_RECORD = Map.of("type", "A");
+    private static final Map<String, Object> AAAA_RECORD = Map.of("type", "AAAA");
+
+    /**
+     * Results of lookups without MX records, indexed by their A and AAAA flags.
+     */
+    private static final DNSRecords[] ADDRESS_RESULTS = {
+            new DNSRecords(List.of(), false),
+            new DNSRecords(List.of(A_RECORD), false),
+            new DNSRecords(List.of(AAAA_RECORD), false),
+            new DNSRecords(List.of(A_RECORD, AAAA_RECORD), false)
+    };
+
+    /**
+     * The snapshot answering the lookups.
+     */
+    private final DNSSnapshot snapshot;
+
+    /**
+     * Creates a wrapper answering from a snapshot.
+     *
+     * @param snapshot the snapshot answering the lookups
+     * @throws NullPointerException if the snapshot is null
+     */
+    public SnapshotDNSGetRecordWrapper(DNSSnapshot snapshot) {
+        this.snapshot = Objects.requireNonNull(snapshot, "snapshot");
+    }
+
+    /**
+     * Retrieves the records of a host from the snapshot.
+     *
+     * @param host the hostname to query, in ASCII
+     * @param type bitwise combination of DNS record type constants
+     * @return DNSRecords containing the records of the snapshot
+     */
+    @Override
+    public DNSRecords getRecords(String host, int type) {
+        int entry = this.snapshot.find(host);
+        if (entry == -1) {
+            return ADDRESS_RESULTS[0];
+        }
+
+        int flags = this.snapshot.flags(entry);
+        // DNS_A and DNS_AAAA have the values of FLAG_A and FLAG_AAAA
+        int addresses = flags & type & (DNSSnapshot.FLAG_A | DNSSnapshot.FLAG_AAAA);
+        int mxCount = ((type & DNS_MX) != 0) ? this.snapshot.mxCount(entry) : 0;
+        if (mxCount == 0) {
+            return ADDRESS_RESULTS[addresses];
+        }
+
+        List<Map<String, Object>> records = new ArrayList<>(mxCount + 2);
+        for (int i = 0; i < mxCount; i++) {
+            String preference = String.valueOf(this.snapshot.mxPreference(entry, i));
+            String target = this.snapshot.mxExchange(entry, i) + ".";
+
+            Map<String, Object> map = new HashMap<>();
+            map.put("type", "MX");
+            map.put("exchange", preference + " " + target);
+            map.put("target", target);
+            map.put("pri", preference);
+            records.add(map);
+        }
+        records.addAll(ADDRESS_RESULTS[addresses].getRecords());
+        return new DNSRecords(records, false);
+    }
+
+    /**
+     * Returns the snapshot answering the lookups.
+     *
+     * @return the snapshot
+     */
+    public DNSSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+}
@@ -0,0 +1,500 @@
+package io.github.rigsto.emailvalidator.validation;
+
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.warning.Warning;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Size-bounded store of validation outcomes, shared by
+ * {@link CachingEmailValidation} instances.
+ * <p>
+ * Outcomes are cached by input string, as given: no case folding or
+ * trimming is applied since both can change the outcome of a validation.
+ * A cache must only be shared by validations configured the same way.
+ * </p>
+ * <p>
+ * The cache is split into stripes selected by the hash of the address, each
+ * with its own lock, so threads validating different addresses rarely wait
+ * for each other. Each stripe applies a W-TinyLFU policy: new entries enter
+ * a small LRU window, and when the window overflows its oldest entry only
+ * replaces the least recently used entry of the main space if it has been
+ * requested more often, as estimated by a count-min sketch of recent
+ * requests. Main space entries requested again are promoted to a protected
+ * segment. Addresses seen only once thus cannot flush a working set of
+ * frequently validated addresses.
+ * </p>
+ * <p>
+ * Outcomes that depend on time, such as those of {@link DNSCheckValidation},
+ * can be given a time to live, separately for valid and invalid outcomes.
+ * Without one, entries stay until evicted. {@link CachingEmailValidation}
+ * does not store transient errors, such as failed DNS lookups, at all.
+ * </p>
+ *
+ * <pre>{@code
+ * ValidationCache cache = new ValidationCache(100_000);
+ * StatelessEmailValidator validator = new StatelessEmailValidator(
+ *         () -> new CachingEmailValidation(new RFCValidation(), cache));
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class ValidationCache {
+
+    /**
+     * Time to live of entries that never expire.
+     */
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    /**
+     * Smallest number of entries held by a stripe.
+     */
+    private static final int MIN_STRIPE_CAPACITY = 64;
+
+    private final Stripe[] stripes;
+    private final long ttlNanos;
+    private final long invalidTtlNanos;
+
+    /**
+     * Source of the current time, in nanoseconds.
+     */
+    private final LongSupplier clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache whose entries never expire.
+     *
+     * @param maximumSize the maximum number of cached outcomes
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public ValidationCache(int maximumSize) {
+        this(maximumSize, NO_EXPIRY, NO_EXPIRY, System::nanoTime);
+    }
+
+    /**
+     * Creates a cache whose entries expire.
+     * <p>
+     * Outcomes with a time to live of zero are not cached.
+     * </p>
+     *
+     * @param maximumSize the maximum number of cached outcomes
+     * @param ttl the time to live of valid outcomes
+     * @param invalidTtl the time to live of invalid outcomes
+     * @throws NullPointerException if a time to live is null
+     * @throws IllegalArgumentException if the maximum size is not positive or a time to live is negative
+     */
+    public ValidationCache(int maximumSize, Duration ttl, Duration invalidTtl) {
+        this(maximumSize, ttl, invalidTtl, System::nanoTime);
+    }
+
+    ValidationCache(int maximumSize, Duration ttl, Duration invalidTtl, LongSupplier clock) {
+        this(maximumSize, toNanos(ttl), toNanos(invalidTtl), clock);
+    }
+
+    private ValidationCache(int maximumSize, long ttlNanos, long invalidTtlNanos, LongSupplier clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(
+                Runtime.getRuntime().availableProcessors() * 4, maximumSize / MIN_STRIPE_CAPACITY)));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            // spread the remainder so that the capacities add up to the maximum size
+            int capacity = maximumSize / stripeCount + ((i < maximumSize % stripeCount) ? 1 : 0);
+            this.stripes[i] = new Stripe(capacity);
+        }
+
+        this.ttlNanos = ttlNanos;
+        this.invalidTtlNanos = invalidTtlNanos;
+        this.clock = clock;
+    }
+
+    private static long toNanos(Duration ttl) {
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("Time to live must not be negative: " + ttl);
+        }
+        return ttl.toNanos();
+    }
+
+    /**
+     * Returns the cached outcome of an address, if any and not expired.
+     *
+     * @param email the address
+     * @return the cached outcome, or null
+     */
+    Outcome get(String email) {
+        int hash = spread(email.hashCode());
+        Outcome outcome = this.stripe(hash).get(email, hash, this.clock.getAsLong());
+
+        if (outcome != null) {
+            this.hits.increment();
+        } else {
+            this.misses.increment();
+        }
+        return outcome;
+    }
+
+    /**
+     * Caches the outcome of an address.
+     *
+     * @param email the address
+     * @param outcome its outcome
+     */
+    void put(String email, Outcome outcome) {
+        long ttl = outcome.valid() ? this.ttlNanos : this.invalidTtlNanos;
+        if (ttl <= 0) {
+            return;
+        }
+
+        long expiresAt = (ttl == NO_EXPIRY) ? 0 : this.clock.getAsLong() + ttl;
+        int hash = spread(email.hashCode());
+        if (this.stripe(hash).put(email, hash, outcome, ttl != NO_EXPIRY, expiresAt)) {
+            this.evictions.increment();
+        }
+    }
+
+    private Stripe stripe(int hash) {
+        return this.stripes[hash & (this.stripes.length - 1)];
+    }
+
+    private static int spread(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Removes every cached outcome.
+     */
+    public void invalidateAll() {
+        for (Stripe stripe : this.stripes) {
+            stripe.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached outcomes, including expired ones not yet removed.
+     *
+     * @return the number of cached outcomes
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : this.stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of validations answered from the cache.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of validations not found in the cache.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the number of outcomes removed to keep the cache within its maximum size.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Returns the ratio of validations answered from the cache.
+     *
+     * @return the hit ratio, between 0 and 1, or 1 if nothing was requested yet
+     */
+    public double getHitRatio() {
+        long hits = this.hits.sum();
+        long requests = hits + this.misses.sum();
+        return (requests == 0) ? 1.0 : (double) hits / requests;
+    }
+
+    /**
+     * Cached outcome of a validation.
+     *
+     * @param valid whether the address is valid
+     * @param error the error of an invalid address, null otherwise
+     * @param warnings the warnings of the validation
+     */
+    record Outcome(boolean valid, InvalidEmail error, List<Warning> warnings) {
+    }
+
+    /**
+     * A part of the cache with its own lock, map and eviction policy.
+     */
+    private static final class Stripe {
+
+        private static final byte WINDOW = 0;
+        private static final byte PROBATION = 1;
+        private static final byte PROTECTED = 2;
+
+        private final HashMap<String, Node> map = new HashMap<>();
+        private final FrequencySketch sketch;
+        private final int capacity;
+        private final int windowCapacity;
+        private final int protectedCapacity;
+
+        /**
+         * Sentinels of the circular LRU lists, oldest entry first.
+         */
+        private final Node window = Node.sentinel();
+        private final Node probation = Node.sentinel();
+        private final Node protectedList = Node.sentinel();
+
+        private int windowSize;
+        private int protectedSize;
+
+        Stripe(int capacity) {
+            this.capacity = Math.max(1, capacity);
+            this.windowCapacity = Math.max(1, this.capacity / 100);
+            this.protectedCapacity = (this.capacity - this.windowCapacity) * 4 / 5;
+            this.sketch = new FrequencySketch(this.capacity);
+        }
+
+        synchronized Outcome get(String key, int hash, long now) {
+            this.sketch.increment(hash);
+
+            Node node = this.map.get(key);
+            if (node == null) {
+                return null;
+            }
+            if (node.expires && now - node.expiresAt >= 0) {
+                this.remove(node);
+                return null;
+            }
+
+            this.onAccess(node);
+            return node.outcome;
+        }
+
+        /**
+         * Adds or replaces an entry.
+         *
+         * @return true if another entry was evicted to make room for it
+         */
+        synchronized boolean put(String key, int hash, Outcome outcome, boolean expires, long expiresAt) {
+            Node node = this.map.get(key);
+            if (node != null) {
+                node.outcome = outcome;
+                node.expires = expires;
+                node.expiresAt = expiresAt;
+                this.onAccess(node);
+                return false;
+            }
+
+            node = new Node(key, hash, outcome, expires, expiresAt);
+            this.map.put(key, node);
+            node.queue = WINDOW;
+            node.linkBefore(this.window);
+            this.windowSize++;
+
+            if (this.windowSize <= this.windowCapacity) {
+                return false;
+            }
+
+            // the oldest window entry moves to the main space, on probation
+            Node candidate = this.window.next;
+            candidate.unlink();
+            this.windowSize--;
+            candidate.queue = PROBATION;
+            candidate.linkBefore(this.probation);
+
+            if (this.map.size() <= this.capacity) {
+                return false;
+            }
+
+            Node victim = (this.probation.next != candidate) ? this.probation.next : this.protectedList.next;
+            if (victim == this.protectedList || victim == candidate) {
+                this.remove(candidate);
+            } else if (this.sketch.frequency(candidate.hash) > this.sketch.frequency(victim.hash)) {
+                this.remove(victim);
+            } else {
+                this.remove(candidate);
+            }
+            return true;
+        }
+
+        private void onAccess(Node node) {
+            switch (node.queue) {
+                case WINDOW -> {
+                    node.unlink();
+                    node.linkBefore(this.window);
+                }
+                case PROBATION -> {
+                    node.unlink();
+                    node.queue = PROTECTED;
+                    node.linkBefore(this.protectedList);
+                    this.protectedSize++;
+
+                    if (this.protectedSize > this.protectedCapacity) {
+                        Node demoted = this.protectedList.next;
+                        demoted.unlink();
+                        this.protectedSize--;
+                        demoted.queue = PROBATION;
+                        demoted.linkBefore(this.probation);
+                    }
+                }
+                default -> {
+                    node.unlink();
+                    node.linkBefore(this.protectedList);
+                }
+            }
+        }
+
+        private void remove(Node node) {
+            this.map.remove(node.key);
+            node.unlink();
+            if (node.queue == WINDOW) {
+                this.windowSize--;
+            } else if (node.queue == PROTECTED) {
+                this.protectedSize--;
+            }
+        }
+
+        synchronized void clear() {
+            this.map.clear();
+            for (Node sentinel : new Node[] {this.window, this.probation, this.protectedList}) {
+                sentinel.next = sentinel;
+                sentinel.prev = sentinel;
+            }
+            this.windowSize = 0;
+            this.protectedSize = 0;
+        }
+
+        synchronized int size() {
+            return this.map.size();
+        }
+    }
+
+    /**
+     * Entry of a stripe, linked in the LRU list of its segment.
+     */
+    private static final class Node {
+
+        final String key;
+        final int hash;
+        Outcome outcome;
+        boolean expires;
+        long expiresAt;
+        byte queue;
+        Node prev;
+        Node next;
+
+        Node(String key, int hash, Outcome outcome, boolean expires, long expiresAt) {
+            this.key = key;
+            this.hash = hash;
+            this.outcome = outcome;
+            this.expires = expires;
+            this.expiresAt = expiresAt;
+        }
+
+        static Node sentinel() {
+            Node sentinel = new Node(null, 0, null, false, 0);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+
+        /**
+         * Links this node as the newest entry of the list of the given sentinel.
+         */
+        void linkBefore(Node sentinel) {
+            this.prev = sentinel.prev;
+            this.next = sentinel;
+            sentinel.prev.next = this;
+            sentinel.prev = this;
+        }
+
+        void unlink() {
+            this.prev.next = this.next;
+            this.next.prev = this.prev;
+            this.prev = null;
+            this.next = null;
+        }
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters estimating how often keys were
+     * requested recently. Counters are halved periodically so that old
+     * popularity fades.
+     */
+    private static final class FrequencySketch {
+
+        private static final long[] SEEDS = {
+                0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L
+        };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        /**
+         * Counters, 16 per long.
+         */
+        private final long[] table;
+        private final int counterMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+            int longs = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+            this.table = new long[Math.max(1, longs / 4)];
+            this.counterMask = this.table.length * 16 - 1;
+            this.sampleSize = 10 * capacity;
+        }
+
+        int frequency(int hash) {
+            int frequency = 15;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = this.indexOf(hash, i);
+                int count = (int) ((this.table[index >>> 4] >>> ((index & 15) << 2)) & 0xF);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = this.indexOf(hash, i);
+                int shift = (index & 15) << 2;
+                if (((this.table[index >>> 4] >>> shift) & 0xF) != 0xF) {
+                    this.table[index >>> 4] += 1L << shift;
+                    added = true;
+                }
+            }
+
+            if (added && ++this.additions >= this.sampleSize) {
+                for (int i = 0; i < this.table.length; i++) {
+                    this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+                }
+                this.additions >>>= 1;
+            }
+        }
+
+        private int indexOf(int hash, int i) {
+            long x = (hash + SEEDS[i]) * SEEDS[i];
+            x += x >>> 32;
+            return (int) x & this.counterMask;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.rigsto.emailvalidator.validation.extra;
+
+import com.ibm.icu.text.SpoofChecker;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Index of protected names by confusable skeleton.
+ * <p>
+ * Two strings that look alike, such as {@code paypal} and {@code pаypаl}
+ * written with Cyrillic {@code а}, have the same skeleton as defined by
+ * Unicode Technical Standard #39. The skeletons of the protected names are
+ * computed once when the index is built, so checking a candidate only costs
+ * computing its skeleton and a single hash lookup.
+ * </p>
+ * <p>
+ * Names are compared case-insensitively: the skeleton is lower-cased and
+ * folded again, so {@code PayPal} and {@code paypaI} (capital i) both match
+ * {@code paypal}. A candidate equal to a protected name, ignoring case, is
+ * not a lookalike of it.
+ * </p>
+ * <p>
+ * Instances are immutable and safe to share between threads.
+ * </p>
+ *
+ * <pre>{@code
+ * ConfusableIndex index = new ConfusableIndex(List.of("paypal.com", "example.com"));
+ * index.findLookalike("pаypal.com"); // "paypal.com"
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public final class ConfusableIndex {
+
+    /**
+     * The checker computing skeletons.
+     */
+    private final SpoofChecker spoofChecker;
+
+    /**
+     * Lower-cased protected names by skeleton.
+     */
+    private final Map<String, List<String>> bySkeleton;
+
+    /**
+     * Creates an index of the given names using the shared default checker.
+     *
+     * @param protectedNames the names to protect against lookalikes
+     */
+    public ConfusableIndex(Collection<String> protectedNames) {
+        this(protectedNames, SpoofCheckValidation.defaultChecker());
+    }
+
+    /**
+     * Creates an index of the given names.
+     *
+     * @param protectedNames the names to protect against lookalikes
+     * @param spoofChecker the checker computing skeletons
+     */
+    public ConfusableIndex(Collection<String> protectedNames, SpoofChecker spoofChecker) {
+        this.spoofChecker = spoofChecker;
+
+        Map<String, List<String>> index = new HashMap<>();
+        for (String name : protectedNames) {
+            String normalized = name.toLowerCase(Locale.ROOT);
+            List<String> names = index.computeIfAbsent(this.skeleton(name), s -> new ArrayList<>(1));
+            if (!names.contains(normalized)) {
+                names.add(normalized);
+            }
+        }
+
+        index.replaceAll((skeleton, names) -> List.copyOf(names));
+        this.bySkeleton = Map.copyOf(index);
+    }
+
+    /**
+     * Returns the skeleton of a name, as used by this index.
+     *
+     * @param name the name
+     * @return the case-insensitive skeleton of the name
+     */
+    public String skeleton(String name) {
+        String skeleton = this.spoofChecker.getSkeleton(name);
+        return this.spoofChecker.getSkeleton(skeleton.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Finds the protected name a candidate is a lookalike of.
+     *
+     * @param candidate the name to check
+     * @return the lower-cased protected name the candidate is confusable with,
+     *         or null if there is none or the candidate is itself protected
+     */
+    public String findLookalike(String candidate) {
+        String normalized = candidate.toLowerCase(Locale.ROOT);
+        List<String> names = this.bySkeleton.get(this.skeleton(candidate));
+
+        if (names == null || names.contains(normalized)) {
+            return null;
+        }
+        return names.get(0);
+    }
+
+    /**
+     * Checks if a candidate is a lookalike of a protected name.
+     *
+     * @param candidate the name to check
+     * @return true if the candidate is confusable with a protected name it is not equal to
+     */
+    public boolean isLookalike(String candidate) {
+        return this.findLookalike(candidate) != null;
+    }
+
+    /**
+     * Returns the number of distinct skeletons in the index.
+     *
+     * @return the number of skeletons
+     */
+    public int size() {
+        return this.bySkeleton.size();
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.rigsto.emailvalidator.validation.extra;
+
+import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.metrics.Instrumentation;
+import io.github.rigsto.emailvalidator.metrics.ValidationListener;
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.reason.SpoofEmail;
+import io.github.rigsto.emailvalidator.validation.DomainNormalizer;
+import io.github.rigsto.emailvalidator.validation.EmailValidation;
+import io.github.rigsto.emailvalidator.warning.Warning;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validation strategy rejecting addresses that imitate protected names.
+ * <p>
+ * The local part, the domain part or both are looked up in a
+ * {@link ConfusableIndex}; an address is invalid when one of them is
+ * confusable with, but not equal to, a protected name. ASCII-compatible
+ * domains ({@code xn--}) are converted to Unicode before the lookup so that
+ * encoded lookalikes are caught as well.
+ * </p>
+ *
+ * <pre>{@code
+ * ConfusableIndex domains = new ConfusableIndex(List.of("paypal.com"));
+ * new LookalikeValidation(domains, LookalikeValidation.DOMAIN).isValid("user@pаypal.com", lexer); // false
+ * }</pre>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public class LookalikeValidation implements EmailValidation {
+
+    /**
+     * Flag checking the local part of addresses.
+     */
+    public static final int LOCAL_PART = 1;
+
+    /**
+     * Flag checking the domain part of addresses.
+     */
+    public static final int DOMAIN = 2;
+
+    /**
+     * The index of protected names.
+     */
+    private final ConfusableIndex index;
+
+    /**
+     * Bitwise combination of the parts to check.
+     */
+    private final int parts;
+
+    /**
+     * The error from the last validation, if any.
+     */
+    private InvalidEmail error;
+
+    /**
+     * The protected name matched by the last validation, if any.
+     */
+    private String matchedName;
+
+    /**
+     * Creates a validation checking the given parts of addresses.
+     *
+     * @param index the index of protected names
+     * @param parts bitwise combination of {@link #LOCAL_PART} and {@link #DOMAIN}
+     */
+    public LookalikeValidation(ConfusableIndex index, int parts) {
+        this.index = Objects.requireNonNull(index, "index");
+        this.parts = parts;
+    }
+
+    @Override
+    public boolean isValid(String email, EmailLexer emailLexer) {
+        this.error = null;
+        this.matchedName = null;
+
+        ValidationListener listener = Instrumentation.listener();
+        long start = (listener != null) ? System.nanoTime() : 0;
+        int at = email.lastIndexOf('@');
+        String localPart = (at == -1) ? email : email.substring(0, at);
+        String domain = (at == -1) ? "" : email.substring(at + 1);
+
+        if ((this.parts & LOCAL_PART) != 0 && !localPart.isEmpty()) {
+            this.check(localPart);
+        }
+        if (this.error == null && (this.parts & DOMAIN) != 0 && !domain.isEmpty()) {
+            this.check(DomainNormalizer.shared().toUnicode(domain));
+        }
+        if (listener != null) {
+            listener.onStage(ValidationListener.STAGE_SPOOF, System.nanoTime() - start);
+        }
+
+        return this.error == null;
+    }
+
+    private void check(String part) {
+        String name = this.index.findLookalike(part);
+        if (name != null) {
+            this.matchedName = name;
+            this.error = new InvalidEmail(new SpoofEmail(), part);
+        }
+    }
+
+    /**
+     * Returns the protected name imitated by the last validated address.
+     *
+     * @return the matched protected name, or null if the address was valid
+     */
+    public String getMatchedName() {
+        return this.matchedName;
+    }
+
+    @Override
+    public InvalidEmail getError() {
+        return this.error;
+    }
+
+    /**
+     * Returns the warnings generated during the last validation.
+     * <p>
+     * Lookalike validation doesn't generate warnings.
+     * </p>
+     *
+     * @return an empty list of warnings
+     */
+    @Override
+    public List<Warning> getWarnings() {
+        return new ArrayList<>();
+    }
+
+    /**
+     * Returns the cost of this validation, which computes confusable skeletons.
+     *
+     * @return {@link #COST_COMPUTE}
+     */
+    @Override
+    public int cost() {
+        return COST_COMPUTE;
+    }
+}
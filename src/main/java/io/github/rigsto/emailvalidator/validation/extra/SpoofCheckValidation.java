@@ -2,6 +2,8 @@ package io.github.rigsto.emailvalidator.validation.extra;
 
 import com.ibm.icu.text.SpoofChecker;
 import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.metrics.Instrumentation;
+import io.github.rigsto.emailvalidator.metrics.ValidationListener;
 import io.github.rigsto.emailvalidator.result.InvalidEmail;
 import io.github.rigsto.emailvalidator.result.SpoofEmail;
 import io.github.rigsto.emailvalidator.validation.EmailValidation;
@@ -9,6 +11,7 @@ import io.github.rigsto.emailvalidator.warning.Warning;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Validation strategy for detecting potentially spoofed email addresses.
@@ -26,11 +29,61 @@ import java.util.List;
  * @since 0.0.1
  */
 public class SpoofCheckValidation implements EmailValidation {
+
+    /**
+     * Checker with ICU's default configuration, shared by every instance.
+     * <p>
+     * Building a checker loads the confusables data, so it is done once;
+     * a built SpoofChecker is immutable and safe to use from any thread.
+     * </p>
+     */
+    private static final SpoofChecker DEFAULT_CHECKER = new SpoofChecker.Builder().build();
+
+    /**
+     * The checker used by this validation.
+     */
+    private final SpoofChecker spoofChecker;
+
     /**
      * The error from the last validation, if any.
      */
     private InvalidEmail error;
 
+    /**
+     * Creates a spoof check validation using the shared default checker.
+     */
+    public SpoofCheckValidation() {
+        this(DEFAULT_CHECKER);
+    }
+
+    /**
+     * Creates a spoof check validation using a custom checker.
+     *
+     * @param spoofChecker a checker configured for the checks to perform
+     * @throws NullPointerException if the checker is null
+     * @since 1.1.0
+     */
+    public SpoofCheckValidation(SpoofChecker spoofChecker) {
+        this.spoofChecker = Objects.requireNonNull(spoofChecker, "spoofChecker");
+    }
+
+    /**
+     * Returns the shared checker with ICU's default configuration.
+     *
+     * @return the default checker, safe to use from any thread
+     * @since 1.1.0
+     */
+    public static SpoofChecker defaultChecker() {
+        return DEFAULT_CHECKER;
+    }
+
+    /**
+     * Returns the checker used by this validation.
+     */
+    SpoofChecker spoofChecker() {
+        return this.spoofChecker;
+    }
+
     /**
      * Validates an email address for potential spoofing.
      * <p>
@@ -44,12 +97,16 @@ public class SpoofCheckValidation implements EmailValidation {
      */
     @Override
     public boolean isValid(String email, EmailLexer emailLexer) {
-        SpoofChecker.Builder builder = new SpoofChecker.Builder();
-        SpoofChecker spoofChecker = builder.build();
+        this.error = null;
 
-        if (spoofChecker.failsChecks(email)) {
+        ValidationListener listener = Instrumentation.listener();
+        long start = (listener != null) ? System.nanoTime() : 0;
+        if (this.spoofChecker.failsChecks(email)) {
             this.error = new SpoofEmail();
         }
+        if (listener != null) {
+            listener.onStage(ValidationListener.STAGE_SPOOF, System.nanoTime() - start);
+        }
 
         return this.error == null;
     }
@@ -76,4 +133,14 @@ public class SpoofCheckValidation implements EmailValidation {
     public List<Warning> getWarnings() {
         return new ArrayList<>();
     }
+
+    /**
+     * Returns the cost of this validation, which runs the ICU spoof checks.
+     *
+     * @return {@link #COST_COMPUTE}
+     */
+    @Override
+    public int cost() {
+        return COST_COMPUTE;
+    }
 }
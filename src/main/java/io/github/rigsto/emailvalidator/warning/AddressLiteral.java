@@ -16,6 +16,16 @@ public class AddressLiteral extends Warning {
      */
     public static final int CODE = 12;
 
+    /**
+     * Returns the unique code for address literal warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new address literal warning.
      * <p>
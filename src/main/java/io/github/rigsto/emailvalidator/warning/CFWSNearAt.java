@@ -16,6 +16,16 @@ public class CFWSNearAt extends Warning {
      */
     public static final int CODE = 49;
 
+    /**
+     * Returns the unique code for CFWS near @ warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new CFWS near @ warning.
      * <p>
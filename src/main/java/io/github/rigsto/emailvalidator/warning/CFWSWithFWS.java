@@ -16,6 +16,16 @@ public class CFWSWithFWS extends Warning {
      */
     public static final int CODE = 18;
 
+    /**
+     * Returns the unique code for CFWS with FWS warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new CFWS with FWS warning.
      * <p>
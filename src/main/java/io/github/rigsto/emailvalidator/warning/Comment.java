@@ -14,16 +14,26 @@ public class Comment extends Warning {
     /**
      * The unique warning code for comment warnings.
      */
-    public static final int CODE = 12;
+    public static final int CODE = 17;
+
+    /**
+     * Returns the unique code for comment warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
 
     /**
      * Creates a new comment warning.
      * <p>
-     * Initializes the warning with a message about address literal
-     * found in domain part.
+     * Initializes the warning with a message about comments found
+     * in the address.
      * </p>
      */
     public Comment() {
-        this.message = "Address literal in domain part";
+        this.message = "Comments found in this email";
     }
 }
@@ -16,6 +16,16 @@ public class DeprecatedComment extends Warning {
      */
     public static final int CODE = 37;
 
+    /**
+     * Returns the unique code for deprecated comment warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new deprecated comment warning.
      * <p>
@@ -16,6 +16,16 @@ public class DomainLiteral extends Warning {
      */
     public static final int CODE = 70;
 
+    /**
+     * Returns the unique code for domain literal warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new domain literal warning.
      * <p>
@@ -18,6 +18,16 @@ public class EmailTooLong extends Warning {
      */
     public static final int CODE = 66;
 
+    /**
+     * Returns the unique code for email too long warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new email too long warning.
      * <p>
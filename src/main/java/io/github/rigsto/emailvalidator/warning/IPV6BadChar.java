@@ -16,6 +16,16 @@ public class IPV6BadChar extends Warning {
      */
     public static final int CODE = 74;
 
+    /**
+     * Returns the unique code for IPv6 bad character warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new IPv6 bad character warning.
      * <p>
@@ -16,6 +16,16 @@ public class IPV6ColonEnd extends Warning {
      */
     public static final int CODE = 77;
 
+    /**
+     * Returns the unique code for IPv6 colon end warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new IPv6 colon end warning.
      * <p>
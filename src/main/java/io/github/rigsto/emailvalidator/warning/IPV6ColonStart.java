@@ -16,6 +16,16 @@ public class IPV6ColonStart extends Warning {
      */
     public static final int CODE = 76;
 
+    /**
+     * Returns the unique code for IPv6 colon start warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new IPv6 colon start warning.
      * <p>
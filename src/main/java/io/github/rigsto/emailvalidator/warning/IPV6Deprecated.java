@@ -16,6 +16,16 @@ public class IPV6Deprecated extends Warning {
      */
     public static final int CODE = 13;
 
+    /**
+     * Returns the unique code for deprecated IPv6 warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new deprecated IPv6 warning.
      * <p>
@@ -16,6 +16,16 @@ public class IPV6DoubleColon extends Warning {
      */
     public static final int CODE = 73;
 
+    /**
+     * Returns the unique code for IPv6 double colon warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new IPv6 double colon warning.
      * <p>
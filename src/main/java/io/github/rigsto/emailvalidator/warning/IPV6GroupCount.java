@@ -16,6 +16,16 @@ public class IPV6GroupCount extends Warning {
      */
     public static final int CODE = 72;
 
+    /**
+     * Returns the unique code for IPv6 group count warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new IPv6 group count warning.
      * <p>
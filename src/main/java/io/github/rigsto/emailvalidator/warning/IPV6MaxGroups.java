@@ -16,6 +16,16 @@ public class IPV6MaxGroups extends Warning {
      */
     public static final int CODE = 75;
 
+    /**
+     * Returns the unique code for IPv6 max groups warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new IPv6 max groups warning.
      * <p>
@@ -16,6 +16,16 @@ public class LocalTooLong extends Warning {
      */
     public static final int CODE = 64;
 
+    /**
+     * Returns the unique code for local too long warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new local too long warning.
      * <p>
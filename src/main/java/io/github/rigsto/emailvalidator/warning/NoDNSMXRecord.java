@@ -16,6 +16,16 @@ public class NoDNSMXRecord extends Warning {
      */
     public static final int CODE = 6;
 
+    /**
+     * Returns the unique code for no DNS MX record warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new no DNS MX record warning.
      * <p>
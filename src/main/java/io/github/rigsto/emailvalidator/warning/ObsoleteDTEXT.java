@@ -16,6 +16,16 @@ public class ObsoleteDTEXT extends Warning {
      */
     public static final int CODE = 71;
 
+    /**
+     * Returns the unique code for obsolete DTEXT warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new obsolete DTEXT warning.
      * <p>
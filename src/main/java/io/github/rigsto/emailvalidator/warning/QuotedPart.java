@@ -16,6 +16,16 @@ public class QuotedPart extends Warning {
      */
     public static final int CODE = 36;
 
+    /**
+     * Returns the unique code for quoted part warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new quoted part warning.
      * <p>
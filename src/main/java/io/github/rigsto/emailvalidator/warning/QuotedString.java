@@ -16,6 +16,16 @@ public class QuotedString extends Warning {
      */
     public static final int CODE = 11;
 
+    /**
+     * Returns the unique code for quoted string warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new quoted string warning.
      * <p>
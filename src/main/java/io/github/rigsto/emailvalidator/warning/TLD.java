@@ -16,6 +16,16 @@ public class TLD extends Warning {
      */
     public static final int CODE = 9;
 
+    /**
+     * Returns the unique code for TLD warnings.
+     *
+     * @return the warning code {@value #CODE}
+     */
+    @Override
+    public int code() {
+        return CODE;
+    }
+
     /**
      * Creates a new TLD warning.
      * <p>
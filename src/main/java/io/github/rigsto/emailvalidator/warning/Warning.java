@@ -23,6 +23,20 @@ public abstract class Warning {
      */
     public static final int CODE = 0;
 
+    /**
+     * The CODE field of subclasses that do not override {@link #code()}.
+     */
+    private static final ClassValue<Integer> DECLARED_CODES = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            try {
+                return (int) type.getField("CODE").get(null);
+            } catch (Exception e) {
+                return CODE;
+            }
+        }
+    };
+
     /**
      * The descriptive message explaining the warning.
      */
@@ -46,18 +60,16 @@ public abstract class Warning {
     /**
      * Returns the unique code for this warning type.
      * <p>
-     * This method uses reflection to get the CODE field from the actual
-     * subclass, falling back to the default CODE if reflection fails.
+     * The warnings of the library override this method to return their
+     * {@code CODE}. For other subclasses, the {@code CODE} field of the
+     * actual subclass is read once per class, falling back to the default
+     * CODE if it cannot be read.
      * </p>
      * 
      * @return the warning code
      */
     public int code() {
-        try {
-            return (int) this.getClass().getField("CODE").get(null);
-        } catch (Exception e) {
-            return CODE;
-        }
+        return DECLARED_CODES.get(this.getClass());
     }
 
     /**
@@ -0,0 +1,237 @@
+package io.github.rigsto.emailvalidator.warning;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Set of warnings stored as a bit mask of {@link WarningType} indexes.
+ * <p>
+ * Like a {@code HashSet<Warning>}, two warnings with the same code are the
+ * same element and the first one added is kept, with its message. Adding a
+ * warning is a table lookup and a bit test, merging two sets is an OR of
+ * their masks, and {@link #isEmpty()} compares the mask against zero, all
+ * without hashing or calling {@link Warning#equals(Object)}.
+ * </p>
+ * <p>
+ * Warnings are iterated by increasing code. Warnings whose code belongs to
+ * no {@link WarningType}, from subclasses outside the library, are kept in
+ * a list after them. Instances are not thread-safe.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public final class WarningSet extends AbstractSet<Warning> {
+
+    /**
+     * The {@link WarningType} indexes of the warnings of the set.
+     */
+    private long mask;
+
+    /**
+     * The warning kept for each index of the mask, allocated on the first add.
+     */
+    private Warning[] warnings;
+
+    /**
+     * Warnings of no warning type, null until the first one is added.
+     */
+    private List<Warning> others;
+
+    /**
+     * Creates an empty set.
+     */
+    public WarningSet() {
+    }
+
+    /**
+     * Returns the {@link WarningType} indexes of the warnings of the set.
+     * <p>
+     * Warnings of no warning type are not part of the mask.
+     * </p>
+     *
+     * @return a mask where bit {@code i} is set if a warning of index {@code i} is in the set
+     */
+    public long mask() {
+        return this.mask;
+    }
+
+    /**
+     * Checks whether the set contains a warning of the given type.
+     *
+     * @param type a warning type
+     * @return true if a warning with the code of the type is in the set
+     */
+    public boolean contains(WarningType type) {
+        return (this.mask & type.mask()) != 0;
+    }
+
+    @Override
+    public boolean add(Warning warning) {
+        int index = WarningType.indexOf(warning.code());
+        if (index == -1) {
+            return this.addOther(warning);
+        }
+
+        long bit = 1L << index;
+        if ((this.mask & bit) != 0) {
+            return false;
+        }
+
+        if (this.warnings == null) {
+            this.warnings = new Warning[WarningType.COUNT];
+        }
+        this.warnings[index] = warning;
+        this.mask |= bit;
+        return true;
+    }
+
+    private boolean addOther(Warning warning) {
+        if (this.others == null) {
+            this.others = new ArrayList<>(2);
+        } else if (this.others.contains(warning)) {
+            return false;
+        }
+        return this.others.add(warning);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Warning> warnings) {
+        if (warnings instanceof WarningSet set) {
+            return this.addAll(set);
+        }
+        return super.addAll(warnings);
+    }
+
+    /**
+     * Adds the warnings of another set, keeping the warnings already present.
+     *
+     * @param set the warnings to add
+     * @return true if the set changed
+     */
+    public boolean addAll(WarningSet set) {
+        long added = set.mask & ~this.mask;
+        if (added != 0) {
+            if (this.warnings == null) {
+                this.warnings = new Warning[WarningType.COUNT];
+            }
+            for (long bits = added; bits != 0; bits &= bits - 1) {
+                int index = Long.numberOfTrailingZeros(bits);
+                this.warnings[index] = set.warnings[index];
+            }
+            this.mask |= added;
+        }
+
+        boolean changed = (added != 0);
+        if (set.others != null) {
+            for (Warning warning : set.others) {
+                changed |= this.addOther(warning);
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Warning warning)) {
+            return false;
+        }
+
+        int index = WarningType.indexOf(warning.code());
+        if (index == -1) {
+            return this.others != null && this.others.contains(warning);
+        }
+        return (this.mask & (1L << index)) != 0;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Warning warning)) {
+            return false;
+        }
+
+        int index = WarningType.indexOf(warning.code());
+        if (index == -1) {
+            return this.others != null && this.others.remove(warning);
+        }
+
+        long bit = 1L << index;
+        if ((this.mask & bit) == 0) {
+            return false;
+        }
+        this.mask &= ~bit;
+        this.warnings[index] = null;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        for (long bits = this.mask; bits != 0; bits &= bits - 1) {
+            this.warnings[Long.numberOfTrailingZeros(bits)] = null;
+        }
+        this.mask = 0;
+        if (this.others != null) {
+            this.others.clear();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.mask == 0 && (this.others == null || this.others.isEmpty());
+    }
+
+    @Override
+    public int size() {
+        return Long.bitCount(this.mask) + ((this.others == null) ? 0 : this.others.size());
+    }
+
+    @Override
+    public Iterator<Warning> iterator() {
+        return new Iterator<>() {
+            private long remaining = mask;
+            private int other;
+            private int lastIndex = -1;
+            private boolean removable;
+
+            @Override
+            public boolean hasNext() {
+                return this.remaining != 0 || (others != null && this.other < others.size());
+            }
+
+            @Override
+            public Warning next() {
+                if (this.remaining != 0) {
+                    this.lastIndex = Long.numberOfTrailingZeros(this.remaining);
+                    this.remaining &= this.remaining - 1;
+                    this.removable = true;
+                    return warnings[this.lastIndex];
+                }
+                if (others != null && this.other < others.size()) {
+                    this.lastIndex = -1;
+                    this.removable = true;
+                    return others.get(this.other++);
+                }
+                throw new NoSuchElementException();
+            }
+
+            @Override
+            public void remove() {
+                if (!this.removable) {
+                    throw new IllegalStateException();
+                }
+
+                if (this.lastIndex == -1) {
+                    others.remove(--this.other);
+                } else {
+                    mask &= ~(1L << this.lastIndex);
+                    warnings[this.lastIndex] = null;
+                }
+                this.removable = false;
+            }
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.rigsto.emailvalidator.warning;
+
+import java.util.Arrays;
+
+/**
+ * Registry of the warnings of the library.
+ * <p>
+ * Each warning type gets a compact index, its ordinal, from 0 to
+ * {@link #COUNT} - 1 in increasing order of {@code CODE}. Indexes fit in a
+ * {@code long}, so that a set of warnings is a bit mask, as in
+ * {@link WarningSet}, and per-warning data is an array rather than a map.
+ * Codes are mapped to indexes with a table lookup, without reflection.
+ * </p>
+ *
+ * @author EmailValidator Team
+ * @since 1.1.0
+ */
+public enum WarningType {
+    NO_DNS_MX_RECORD(NoDNSMXRecord.CODE, NoDNSMXRecord.class),
+    TLD(io.github.rigsto.emailvalidator.warning.TLD.CODE, io.github.rigsto.emailvalidator.warning.TLD.class),
+    QUOTED_STRING(QuotedString.CODE, QuotedString.class),
+    ADDRESS_LITERAL(AddressLiteral.CODE, AddressLiteral.class),
+    IPV6_DEPRECATED(IPV6Deprecated.CODE, IPV6Deprecated.class),
+    COMMENT(Comment.CODE, Comment.class),
+    CFWS_WITH_FWS(CFWSWithFWS.CODE, CFWSWithFWS.class),
+    QUOTED_PART(QuotedPart.CODE, QuotedPart.class),
+    DEPRECATED_COMMENT(DeprecatedComment.CODE, DeprecatedComment.class),
+    CFWS_NEAR_AT(CFWSNearAt.CODE, CFWSNearAt.class),
+    LOCAL_TOO_LONG(LocalTooLong.CODE, LocalTooLong.class),
+    EMAIL_TOO_LONG(EmailTooLong.CODE, EmailTooLong.class),
+    DOMAIN_LITERAL(DomainLiteral.CODE, DomainLiteral.class),
+    OBSOLETE_DTEXT(ObsoleteDTEXT.CODE, ObsoleteDTEXT.class),
+    IPV6_GROUP_COUNT(IPV6GroupCount.CODE, IPV6GroupCount.class),
+    IPV6_DOUBLE_COLON(IPV6DoubleColon.CODE, IPV6DoubleColon.class),
+    IPV6_BAD_CHAR(IPV6BadChar.CODE, IPV6BadChar.class),
+    IPV6_MAX_GROUPS(IPV6MaxGroups.CODE, IPV6MaxGroups.class),
+    IPV6_COLON_START(IPV6ColonStart.CODE, IPV6ColonStart.class),
+    IPV6_COLON_END(IPV6ColonEnd.CODE, IPV6ColonEnd.class);
+
+    /**
+     * Number of warning types, at most 64.
+     */
+    public static final int COUNT = values().length;
+
+    private static final WarningType[] VALUES = values();
+
+    /**
+     * Index of each code, -1 for codes of no warning type.
+     */
+    private static final byte[] INDEXES;
+
+    static {
+        int max = 0;
+        for (WarningType type : VALUES) {
+            max = Math.max(max, type.code);
+        }
+
+        INDEXES = new byte[max + 1];
+        Arrays.fill(INDEXES, (byte) -1);
+        for (WarningType type : VALUES) {
+            if (INDEXES[type.code] != -1) {
+                throw new IllegalStateException("duplicate warning code " + type.code);
+            }
+            INDEXES[type.code] = (byte) type.ordinal();
+        }
+    }
+
+    private final int code;
+    private final Class<? extends Warning> type;
+
+    WarningType(int code, Class<? extends Warning> type) {
+        this.code = code;
+        this.type = type;
+    }
+
+    /**
+     * Returns the code of the warnings of this type.
+     *
+     * @return the {@code CODE} of the warning class
+     */
+    public int code() {
+        return this.code;
+    }
+
+    /**
+     * Returns the class of the warnings of this type.
+     *
+     * @return the warning class
+     */
+    public Class<? extends Warning> type() {
+        return this.type;
+    }
+
+    /**
+     * Returns the bit of this type in a warning mask.
+     *
+     * @return {@code 1L << ordinal()}
+     */
+    public long mask() {
+        return 1L << this.ordinal();
+    }
+
+    /**
+     * Returns the index of the warning type with the given code.
+     *
+     * @param code a warning code
+     * @return the index of the type, or -1 if no warning type has this code
+     */
+    public static int indexOf(int code) {
+        return (code >= 0 && code < INDEXES.length) ? INDEXES[code] : -1;
+    }
+
+    /**
+     * Returns the warning type with the given code.
+     *
+     * @param code a warning code
+     * @return the type, or null if no warning type has this code
+     */
+    public static WarningType of(int code) {
+        int index = indexOf(code);
+        return (index == -1) ? null : VALUES[index];
+    }
+
+    /**
+     * Returns the type of a warning.
+     *
+     * @param warning a warning
+     * @return the type with the code of the warning, or null if there is none
+     */
+    public static WarningType of(Warning warning) {
+        return of(warning.code());
+    }
+}
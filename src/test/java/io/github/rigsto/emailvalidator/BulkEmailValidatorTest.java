@@ -0,0 +1,112 @@
+package io.github.rigsto.emailvalidator;
+
+import io.github.rigsto.emailvalidator.result.ValidationResult;
+import io.github.rigsto.emailvalidator.validation.NoRFCWarningsValidation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkEmailValidatorTest {
+
+    private static final String[] SAMPLES = {
+            "example@example.com",
+            "a(comment)@example.com",
+            "\"quoted\"@example.com",
+            "x@[127.0.0.1]",
+            "example",
+            "example@",
+            "user..name@example.com",
+            "first.last+tag@sub.example.co.uk"
+    };
+
+    private static List<String> batch(int size) {
+        List<String> emails = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            emails.add(SAMPLES[i % SAMPLES.length].replace("example", "example" + i));
+        }
+        return emails;
+    }
+
+    private static void assertSameResult(ValidationResult expected, ValidationResult actual, String email) {
+        assertEquals(expected.valid(), actual.valid(), email);
+        assertEquals(expected.warnings().size(), actual.warnings().size(), email);
+        assertEquals(expected.localPart(), actual.localPart(), email);
+        assertEquals(expected.domainPart(), actual.domainPart(), email);
+    }
+
+    @Test
+    void testResultsAreInInputOrder() {
+        List<String> emails = batch(10_000);
+        List<ValidationResult> results = new BulkEmailValidator().validate(emails);
+
+        StatelessEmailValidator sequential = new StatelessEmailValidator();
+        assertEquals(emails.size(), results.size());
+        for (int i = 0; i < emails.size(); i++) {
+            assertSameResult(sequential.validate(emails.get(i)), results.get(i), emails.get(i));
+        }
+    }
+
+    @Test
+    void testArrayStreamAndLinkedListGiveSameResults() {
+        List<String> emails = batch(3_000);
+        BulkEmailValidator validator = new BulkEmailValidator();
+
+        List<ValidationResult> fromList = validator.validate(emails);
+        List<ValidationResult> fromArray = validator.validate(emails.toArray(new String[0]));
+        List<ValidationResult> fromStream = validator.validate(emails.stream());
+        List<ValidationResult> fromLinkedList = validator.validate(new LinkedList<>(emails));
+
+        for (int i = 0; i < emails.size(); i++) {
+            assertSameResult(fromList.get(i), fromArray.get(i), emails.get(i));
+            assertSameResult(fromList.get(i), fromStream.get(i), emails.get(i));
+            assertSameResult(fromList.get(i), fromLinkedList.get(i), emails.get(i));
+        }
+    }
+
+    @Test
+    void testCallbackReceivesEveryIndexOnce() {
+        List<String> emails = batch(5_000);
+        AtomicIntegerArray calls = new AtomicIntegerArray(emails.size());
+        AtomicIntegerArray valid = new AtomicIntegerArray(emails.size());
+
+        new BulkEmailValidator().validate(emails, (result, index) -> {
+            calls.incrementAndGet(index);
+            valid.set(index, result.valid() ? 1 : 0);
+        });
+
+        boolean[] expected = new BulkEmailValidator().isValid(emails);
+        for (int i = 0; i < emails.size(); i++) {
+            assertEquals(1, calls.get(i), emails.get(i));
+            assertEquals(expected[i], valid.get(i) == 1, emails.get(i));
+        }
+    }
+
+    @Test
+    void testCustomPoolAndValidation() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            BulkEmailValidator validator = new BulkEmailValidator(NoRFCWarningsValidation::new, pool);
+            boolean[] valid = validator.isValid(List.of("example@example.com", "a(comment)@example.com"));
+
+            assertArrayEquals(new boolean[] {true, false}, valid);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testEmptyBatch() {
+        BulkEmailValidator validator = new BulkEmailValidator();
+
+        assertTrue(validator.validate(List.of()).isEmpty());
+        assertTrue(validator.validate(Stream.empty()).isEmpty());
+        assertEquals(0, validator.isValid(List.of()).length);
+    }
+}
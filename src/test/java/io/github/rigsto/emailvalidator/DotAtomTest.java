@@ -0,0 +1,166 @@
+package io.github.rigsto.emailvalidator;
+
+import io.github.rigsto.emailvalidator.result.Result;
+import io.github.rigsto.emailvalidator.warning.EmailTooLong;
+import io.github.rigsto.emailvalidator.warning.LocalTooLong;
+import io.github.rigsto.emailvalidator.warning.TLD;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DotAtomTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "test@example.com",
+            "john.doe+tag@example.co.uk",
+            "a!#$%&'*+-/=?^_`{|}~z@x-y.com",
+            "user@localhost",
+            "user@123.com",
+            "IPv6@example.com"
+    })
+    void testAcceptsPlainDotAtom(String email) {
+        assertTrue(DotAtom.scan(email) >= 0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "@example.com",
+            "example.com",
+            ".user@example.com",
+            "user.@example.com",
+            "us..er@example.com",
+            "\"user\"@example.com",
+            "user(comment)@example.com",
+            "user@[127.0.0.1]",
+            "user@-example.com",
+            "user@example-.com",
+            "user@example..com",
+            "user@example.com.",
+            "user@exa_mple.com",
+            "user@@example.com",
+            "us er@example.com",
+            "usér@example.com",
+            "user@IPv6.com"
+    })
+    void testLeavesOtherInputsToFullParser(String email) {
+        assertEquals(-1, DotAtom.scan(email));
+    }
+
+    @Test
+    void testWarnings() {
+        EmailParser parser = new EmailParser(new EmailLexer());
+
+        assertTrue(parser.parse("user@localhost").isValid());
+        assertEquals(Set.of(new TLD()), parser.getWarnings());
+
+        assertTrue(parser.parse("a".repeat(65) + "@example.com").isValid());
+        assertEquals(Set.of(new LocalTooLong()), parser.getWarnings());
+
+        String label = "a".repeat(62);
+        assertTrue(parser.parse("a".repeat(64) + "@" + label + "." + label + "." + label + ".com").isValid());
+        assertEquals(Set.of(new EmailTooLong()), parser.getWarnings());
+
+        assertTrue(parser.parse("user@example.com").isValid());
+        assertTrue(parser.getWarnings().isEmpty());
+    }
+
+    @Test
+    void testPartsAfterFullParse() {
+        EmailParser parser = new EmailParser(new EmailLexer());
+
+        parser.parse("\"quoted\"@example.com");
+        assertEquals("\"quoted\"", parser.getLocalPart());
+
+        String plain = "plain@example.org";
+        parser.parse(plain);
+        assertTrue(parser.hasParsed(plain));
+        assertEquals("plain", parser.getLocalPart());
+        assertEquals("example.org", parser.getDomainPart());
+
+        parser.parse("user@[127.0.0.1]");
+        assertEquals("user", parser.getLocalPart());
+        assertEquals("[127.0.0.1]", parser.getDomainPart());
+    }
+
+    @Test
+    void testSameOutcomeAsFullGrammar() {
+        String alphabet = "aZ09.-@_+IPv6\"( é";
+        Random random = new Random(42);
+        EmailParser fast = new EmailParser(new EmailLexer());
+        EmailParser full = new EmailParser(new EmailLexer(), false);
+
+        for (int n = 0; n < 50_000; n++) {
+            StringBuilder email = new StringBuilder();
+            int length = 1 + random.nextInt(24);
+            for (int i = 0; i < length; i++) {
+                email.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            if (random.nextBoolean()) {
+                email.setCharAt(random.nextInt(length), '@');
+            }
+            assertSameOutcome(fast, full, email.toString());
+        }
+
+        String label = "b".repeat(62);
+        assertSameOutcome(fast, full, "a@" + label + ".com");
+        assertSameOutcome(fast, full, "a@" + label + "c.com");
+        assertSameOutcome(fast, full, "a@c." + label);
+        assertSameOutcome(fast, full, "a".repeat(70) + "@" + label + "." + label + "." + label + ".com");
+    }
+
+    @Test
+    void testIncrementalScanMatchesScan() {
+        String alphabet = "aZ09.-@_+IPv6\"( é";
+        String label = "b".repeat(62);
+        Random random = new Random(42);
+        DotAtom.Scan scan = new DotAtom.Scan();
+        String email = "";
+
+        for (int n = 0; n < 50_000; n++) {
+            int start = random.nextInt(email.length() + 1);
+            int end = (random.nextInt(3) == 0) ? start + random.nextInt(email.length() - start + 1) : start;
+            String inserted;
+            if (random.nextInt(50) == 0) {
+                inserted = label;
+            } else if (email.length() > 300 || random.nextInt(4) == 0) {
+                inserted = "";
+            } else {
+                inserted = String.valueOf(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            email = email.substring(0, start) + inserted + email.substring(end);
+
+            scan.rewind(email, start);
+            assertEquals(DotAtom.scan(email), scan.advance(email), email);
+        }
+    }
+
+    private static void assertSameOutcome(EmailParser fast, EmailParser full, String email) {
+        Result fastResult = fast.parse(email);
+        Set<Object> fastWarnings = new HashSet<>(fast.getWarnings());
+        Result fullResult = full.parse(email);
+
+        byte[] bytes = email.getBytes(StandardCharsets.UTF_8);
+        int at = DotAtom.scan(email);
+        assertEquals(at, DotAtom.scan(bytes, 0, bytes.length), email);
+        if (at >= 0) {
+            assertEquals(DotAtom.isTLDMissing(email, at), DotAtom.isTLDMissing(bytes, 0, bytes.length, at), email);
+        }
+
+        assertEquals(fullResult.isValid(), fastResult.isValid(), email);
+        assertEquals(new HashSet<>(full.getWarnings()), fastWarnings, email);
+        if (DotAtom.scan(email) >= 0) {
+            assertTrue(fullResult.isValid(), email);
+            assertEquals(full.getLocalPart(), fast.getLocalPart(), email);
+            assertEquals(full.getDomainPart(), fast.getDomainPart(), email);
+        }
+    }
+}
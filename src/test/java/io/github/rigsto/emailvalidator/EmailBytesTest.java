@@ -0,0 +1,127 @@
+package io.github.rigsto.emailvalidator;
+
+import io.github.rigsto.emailvalidator.validation.EmailValidation;
+import io.github.rigsto.emailvalidator.validation.NoRFCWarningsValidation;
+import io.github.rigsto.emailvalidator.validation.RFCValidation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmailBytesTest {
+
+    static Stream<String> emails() {
+        return Stream.of(
+                "test@example.com",
+                "john.doe+tag@example.co.uk",
+                "user@localhost",
+                "a".repeat(65) + "@example.com",
+                "\"quoted\"@example.com",
+                "a(comment)@example.com",
+                "user@[127.0.0.1]",
+                "usér@exämple.com",
+                "用户@例子.广告",
+                "user@example..com",
+                ".user@example.com",
+                "user\u0001@example.com",
+                "user@exa\u007fmple.com",
+                "user║@example.com",
+                "😀@example.com",
+                "example",
+                "example@",
+                ""
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("emails")
+    void testSameOutcomeAsString(String email) {
+        byte[] bytes = email.getBytes(StandardCharsets.UTF_8);
+
+        assertSameOutcome(RFCValidation::new, email, bytes);
+        assertSameOutcome(NoRFCWarningsValidation::new, email, bytes);
+    }
+
+    @Test
+    void testMalformedBytesAreReplaced() {
+        byte[] truncated = {'u', (byte) 0xC3, '@', 'e', 'x', '.', 'c', 'o', 'm'};
+        byte[] overlong = {'u', (byte) 0xC0, (byte) 0xAF, '@', 'e', 'x', '.', 'c', 'o', 'm'};
+
+        for (byte[] bytes : new byte[][] {truncated, overlong}) {
+            assertEquals(new String(bytes, StandardCharsets.UTF_8), EmailBytes.decode(bytes, 0, bytes.length));
+            assertTrue(EmailBytes.decode(bytes, 0, bytes.length).contains("\uFFFD"));
+            assertSameOutcome(RFCValidation::new, new String(bytes, StandardCharsets.UTF_8), bytes);
+        }
+    }
+
+    @Test
+    void testOffsetAndLength() {
+        byte[] bytes = "xxuser@example.comyy".getBytes(StandardCharsets.US_ASCII);
+
+        EmailParser parser = new EmailParser(new EmailLexer());
+        assertTrue(parser.parse(bytes, 2, bytes.length - 4).isValid());
+        assertEquals("user", parser.getLocalPart());
+        assertEquals("example.com", parser.getDomainPart());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> parser.parse(bytes, 2, bytes.length));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> new EmailValidator().isValid(bytes, -1, 3, new RFCValidation()));
+    }
+
+    @Test
+    void testByteBuffers() {
+        byte[] bytes = "--user@example.com".getBytes(StandardCharsets.US_ASCII);
+        EmailValidator validator = new EmailValidator();
+
+        ByteBuffer heap = ByteBuffer.wrap(bytes).position(2);
+        assertTrue(validator.isValid(heap, new RFCValidation()));
+        assertEquals(2, heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().position(2);
+        assertTrue(validator.isValid(direct, new RFCValidation()));
+        assertEquals(2, direct.position());
+
+        ByteBuffer readOnly = ByteBuffer.wrap("user@@example.com".getBytes(StandardCharsets.US_ASCII)).asReadOnlyBuffer();
+        assertFalse(validator.isValid(readOnly, new RFCValidation()));
+        assertEquals("user@@example.com", EmailBytes.decode(readOnly));
+    }
+
+    @Test
+    void testStatelessValidator() {
+        StatelessEmailValidator validator = new StatelessEmailValidator();
+
+        assertTrue(validator.isValid("user@example.com".getBytes(StandardCharsets.UTF_8), 0, 16));
+        assertFalse(validator.isValid(ByteBuffer.wrap("user@".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void testDecode() {
+        byte[] bytes = "usér@example.com".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals("usér@example.com", EmailBytes.decode(bytes, 0, bytes.length));
+        assertEquals("example", EmailBytes.decode(bytes, 6, 7));
+        assertTrue(EmailBytes.isAscii(bytes, 6, 7));
+        assertFalse(EmailBytes.isAscii(bytes, 0, bytes.length));
+    }
+
+    private static void assertSameOutcome(Supplier<EmailValidation> validations, String email, byte[] bytes) {
+        EmailValidator fromString = new EmailValidator();
+        EmailValidator fromBytes = new EmailValidator();
+
+        boolean expected = fromString.isValid(email, validations.get());
+        boolean actual = fromBytes.isValid(bytes, 0, bytes.length, validations.get());
+
+        assertEquals(expected, actual, email);
+        assertEquals(new HashSet<>(fromString.getWarnings()), new HashSet<>(fromBytes.getWarnings()), email);
+        if (!expected) {
+            assertEquals(fromString.getError().reason.getClass(), fromBytes.getError().reason.getClass(), email);
+        }
+    }
+}
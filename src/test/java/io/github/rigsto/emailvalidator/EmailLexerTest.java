@@ -1,6 +1,7 @@
 package io.github.rigsto.emailvalidator;
 
 import io.github.rigsto.emailvalidator.lexer.AbstractLexer;
+import io.github.rigsto.emailvalidator.lexer.Token;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -8,6 +9,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static io.github.rigsto.emailvalidator.constant.LexerConstant.*;
@@ -112,6 +114,170 @@ public class EmailLexerTest {
         assertEquals("", lexer.getAccumulatedValues());
     }
 
+    @ParameterizedTest
+    @MethodSource("scannerEquivalenceProvider")
+    void testTableScannerMatchesRegexScanner(String input) {
+        assertSameTokens(input);
+    }
+
+    @Test
+    void testTableScannerMatchesRegexScannerForAllCodePoints() {
+        StringBuilder chunk = new StringBuilder();
+
+        for (int cp = 0; cp <= Character.MAX_CODE_POINT; cp++) {
+            chunk.appendCodePoint(cp);
+
+            if (chunk.length() >= 512) {
+                assertSameTokens(chunk.toString());
+                chunk.setLength(0);
+            }
+        }
+
+        assertSameTokens(chunk.toString());
+    }
+
+    @Test
+    void testTableScannerMatchesRegexScannerForRandomInput() {
+        String alphabet = "aZ46IPv9:@.\\\"()[]- \t\r\n\0\u001f\u0085\u00a0\u00bf\u00e2\u0130\u0131\u017f\u212a\u2551\ud83d\ude00\ud800";
+        Random random = new Random(42);
+
+        for (int n = 0; n < 2000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(24);
+
+            for (int i = 0; i < length; i++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+
+            assertSameTokens(sb.toString());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("scannerEquivalenceProvider")
+    void testPrimitiveTokensMatchObjectTokens(String input) {
+        EmailLexer objects = new EmailLexer();
+        EmailLexer primitives = new EmailLexer(EmailLexer.PRIMITIVE_TOKENS);
+        objects.setInput(input);
+        primitives.setInput(input);
+        objects.startRecording();
+        primitives.startRecording();
+
+        boolean hasNext;
+        do {
+            hasNext = objects.moveNext();
+            assertEquals(hasNext, primitives.moveNext());
+            assertEquals(objects.current.type, primitives.currentType());
+            assertEquals(objects.current.value, primitives.currentValue());
+            assertEquals(objects.current.value.length(), primitives.currentLength());
+            assertEquals(objects.getPrevious().type, primitives.previousType());
+            assertEquals(objects.getPrevious().value, primitives.previousValue());
+            assertEquals(objects.getPrevious().toString(), primitives.getPrevious().toString());
+            assertEquals(objects.peekType(), primitives.peekType());
+            objects.resetPeek();
+            primitives.resetPeek();
+            assertEquals(objects.getAccumulatedValues(), primitives.getAccumulatedValues());
+        } while (hasNext);
+    }
+
+    @Test
+    void testPrimitiveTokensRecord() {
+        EmailLexer lexer = new EmailLexer(EmailLexer.PRIMITIVE_TOKENS);
+        lexer.setInput("foo-bar@baz");
+        lexer.startRecording();
+        lexer.moveNext();
+        lexer.moveNext();
+        assertEquals("foo", lexer.getAccumulatedValues());
+
+        lexer.stopRecording();
+        lexer.moveNext();
+        lexer.startRecording();
+        lexer.moveNext();
+        assertEquals("foobar", lexer.getAccumulatedValues());
+
+        lexer.clearRecorded();
+        assertEquals("", lexer.getAccumulatedValues());
+    }
+
+    @Test
+    void testIncrementalInputMatchesFullScan() {
+        String alphabet = "aZ46IPv9:@.\\\"()[]- \t\r\n\0\u00e2\u2551\ud83d\ude00\ud800";
+        Random random = new Random(42);
+
+        for (int flags : new int[] {0, EmailLexer.PRIMITIVE_TOKENS}) {
+            EmailLexer incremental = new EmailLexer(flags);
+            String text = "";
+            incremental.setInput(text);
+
+            for (int n = 0; n < 5000; n++) {
+                int start = random.nextInt(text.length() + 1);
+                int end = (random.nextInt(4) == 0) ? start + random.nextInt(text.length() - start + 1) : start;
+                StringBuilder inserted = new StringBuilder();
+                int count = (text.length() > 30) ? 0 : random.nextInt(3);
+                for (int i = 0; i < count; i++) {
+                    inserted.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                if (count == 0 && end == start && start < text.length()) {
+                    end++;
+                }
+                text = text.substring(0, start) + inserted + text.substring(end);
+
+                EmailLexer full = new EmailLexer(flags);
+                full.setInput(text);
+                incremental.setInput(text, start);
+
+                assertEquals(tokensOf(full), tokensOf(incremental), "Token stream differs for input: " + text);
+                assertEquals(full.hasInvalidTokens(), incremental.hasInvalidTokens(), "Invalid token flag differs for input: " + text);
+            }
+        }
+    }
+
+    private static void assertSameTokens(String input) {
+        EmailLexer table = new EmailLexer();
+        EmailLexer regex = new EmailLexer(EmailLexer.REGEX_SCANNER);
+        table.setInput(input);
+        regex.setInput(input);
+
+        assertEquals(tokensOf(regex), tokensOf(table), "Token stream differs for input: " + input);
+        assertEquals(regex.hasInvalidTokens(), table.hasInvalidTokens(), "Invalid token flag differs for input: " + input);
+    }
+
+    private static List<String> tokensOf(EmailLexer lexer) {
+        List<String> out = new ArrayList<>();
+        Token<Integer, String> token;
+
+        while ((token = lexer.peek()) != null) {
+            out.add(token.toString());
+        }
+
+        return out;
+    }
+
+    static Stream<String> scannerEquivalenceProvider() {
+        return Stream.of(
+                "",
+                "test@example.com",
+                "john.doe+tag@example.co.uk",
+                "\"user@name\"@example.com",
+                "validipv6@[IPv6:2001:db8:1ff::a0b:dbd0]",
+                "validipv4@[127.0.0.0]",
+                "ipv6@[ipv6:::1]",
+                "abc46def@ab4c6",
+                "a:::b@c::d",
+                "(comment)local@(comment)domain.com",
+                "fold\r\n ing@\r\rcr\n\nlf",
+                "tab\tand space @domain",
+                "nul\0char@domain",
+                "\u0080\u0081\u0082@\u0083\u0084\u0085.\u0086\u0087\u0088",
+                "\u00bfque\u00a1@\u00e2\u00c7.com",
+                "\u0130stanbul\u0131@\u017fk\u212aelvin.org",
+                "\u0438\u043d\u0444\u043e@\u043f\u0440\u0438\u043c\u0435\u0440.\u0440\u0444",
+                "emoji\ud83d\ude00@\ud835\udc9c.com",
+                "lone\ud800surrogate@\udc00.com",
+                "private\ue000use@\uDB80\uDC00.com"
+        );
+    }
+
     static Stream<String> invalidUTF8CharsProvider() {
         List<String> out = new ArrayList<>();
         for (int cp = 0; cp < 0x100; cp++) {
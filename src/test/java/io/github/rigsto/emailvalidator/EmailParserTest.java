@@ -1,5 +1,8 @@
 package io.github.rigsto.emailvalidator;
 
+import io.github.rigsto.emailvalidator.result.Failure;
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.Result;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -7,7 +10,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.stream.Stream;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class EmailParserTest {
 
@@ -35,6 +38,44 @@ public class EmailParserTest {
         assertEquals("another.example.com", parser.getDomainPart());
     }
 
+    @ParameterizedTest
+    @MethodSource("invalidEmailProvider")
+    void testCompactFailureMatchesInvalidEmail(String email, String token, int offset) {
+        EmailParser parser = new EmailParser(new EmailLexer());
+        InvalidEmail expected = assertInstanceOf(InvalidEmail.class, parser.parse(email));
+
+        Result result = parser.parseCompact(email);
+        Failure failure = assertInstanceOf(Failure.class, result);
+        assertEquals(expected.getReason().getClass(), failure.reason().getClass());
+        assertEquals(expected.code(), failure.code());
+        assertEquals(token, failure.token());
+        assertEquals(offset, failure.tokenOffset());
+        assertEquals(expected.description(), failure.description());
+        assertSame(failure.toInvalidEmail(), failure.toInvalidEmail());
+    }
+
+    @Test
+    void testParseReturnsInvalidEmailThatIsNotReused() {
+        EmailParser parser = new EmailParser(new EmailLexer());
+        Result first = parser.parse("user@@example.com");
+        Result second = parser.parse("user.@example.com");
+
+        assertInstanceOf(InvalidEmail.class, first);
+        assertNotSame(first, second);
+        assertNotEquals(first.code(), second.code());
+    }
+
+    static Stream<Arguments> invalidEmailProvider() {
+        return Stream.of(
+                Arguments.of("user@@example.com", "@", 5),
+                Arguments.of(".user@example.com", ".", 0),
+                Arguments.of("user@example.com-", "-", 16),
+                Arguments.of("user@exam,ple.com", ",", 9),
+                Arguments.of("user@[127.0.0.1", "1", 14),
+                Arguments.of("example.com", "", -1)
+        );
+    }
+
     static Stream<Arguments> emailPartsProvider() {
         return Stream.of(
                 Arguments.of("test@foo.com", "test", "foo.com"),
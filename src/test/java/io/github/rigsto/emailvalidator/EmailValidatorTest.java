@@ -76,4 +76,24 @@ public class EmailValidatorTest {
         assertEquals(List.of(), validator.getWarnings());
         assertSame(invalidEmail, validator.getError());
     }
+
+    @Test
+    void testDefaultLexerKeepsTokenObjects() {
+        String[] lookahead = new String[1];
+        StubValidation v = new StubValidation(true) {
+            @Override
+            public boolean isValid(String email, EmailLexer emailLexer) {
+                emailLexer.setInput(email);
+                emailLexer.moveNext();
+                lookahead[0] = (emailLexer.lookahead == null) ? null : emailLexer.lookahead.value;
+                return super.isValid(email, emailLexer);
+            }
+        };
+
+        assertTrue(new EmailValidator().isValid("user@example.com", v));
+        assertEquals("user", lookahead[0]);
+
+        assertTrue(new EmailValidator(EmailLexer.PRIMITIVE_TOKENS).isValid("user@example.com", v));
+        assertNull(lookahead[0]);
+    }
 }
@@ -0,0 +1,172 @@
+package io.github.rigsto.emailvalidator;
+
+import io.github.rigsto.emailvalidator.result.FileValidationSummary;
+import io.github.rigsto.emailvalidator.result.ValidationResult;
+import io.github.rigsto.emailvalidator.result.reason.InputTooLong;
+import io.github.rigsto.emailvalidator.warning.Warning;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileEmailValidatorTest {
+
+    private static final String[] SAMPLES = {
+            "example@example.com",
+            "a(comment)@example.com",
+            "\"quoted\"@example.com",
+            "x@[127.0.0.1]",
+            "example",
+            "example@",
+            "user..name@example.com",
+            "jörg@bücher.example",
+            ""
+    };
+
+    @TempDir
+    Path tempDir;
+
+    private static String expectedLine(String email) {
+        ValidationResult result = new StatelessEmailValidator().validate(email);
+        String warnings = result.warnings().stream()
+                .map(Warning::code)
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        return (result.valid() ? "1" : "0") + "\t" + (result.valid() ? 0 : result.error().code()) + "\t" + warnings;
+    }
+
+    private static List<String> expectedLines(List<String> emails) {
+        List<String> lines = new ArrayList<>();
+        for (String email : emails) {
+            lines.add(expectedLine(email));
+        }
+        return lines;
+    }
+
+    @Test
+    void testMappedFileWritesOneVerdictPerLine() throws IOException {
+        List<String> emails = List.of(SAMPLES);
+        Path input = this.tempDir.resolve("in.txt");
+        Path output = this.tempDir.resolve("out.txt");
+        Files.write(input, emails, StandardCharsets.UTF_8);
+
+        FileValidationSummary summary = new FileEmailValidator().validate(input, output);
+
+        assertEquals(expectedLines(emails), Files.readAllLines(output, StandardCharsets.UTF_8));
+        assertEquals(emails.size(), summary.lines());
+        assertEquals(emails.stream().filter(e -> new StatelessEmailValidator().isValid(e)).count(), summary.valid());
+    }
+
+    @Test
+    void testChannelInputMatchesMappedInput() throws IOException {
+        StringBuilder content = new StringBuilder();
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            String email = SAMPLES[i % SAMPLES.length];
+            emails.add(email);
+            content.append(email).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        assertTrue(bytes.length > FileEmailValidator.BUFFER_SIZE);
+
+        Path input = this.tempDir.resolve("in.txt");
+        Files.write(input, bytes);
+        Path mapped = this.tempDir.resolve("mapped.txt");
+        FileValidationSummary mappedSummary = new FileEmailValidator().validate(input, mapped);
+
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        FileValidationSummary readSummary = new FileEmailValidator().validate(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), Channels.newChannel(read));
+
+        assertEquals(expectedLines(emails), Files.readAllLines(mapped, StandardCharsets.UTF_8));
+        assertEquals(new String(Files.readAllBytes(mapped), StandardCharsets.UTF_8), read.toString(StandardCharsets.UTF_8));
+        assertEquals(mappedSummary, readSummary);
+        assertEquals(emails.size(), readSummary.lines());
+        assertEquals(emails.stream().filter(e -> new StatelessEmailValidator().isValid(e)).count(), readSummary.valid());
+    }
+
+    @Test
+    void testLastLineWithoutNewline() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] bytes = "example@example.com\nexample".getBytes(StandardCharsets.UTF_8);
+
+        FileValidationSummary summary = new FileEmailValidator().validate(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), Channels.newChannel(out));
+
+        assertEquals(expectedLine("example@example.com") + "\n" + expectedLine("example") + "\n",
+                out.toString(StandardCharsets.UTF_8));
+        assertEquals(new FileValidationSummary(2, 1), summary);
+        assertEquals(1, summary.invalid());
+    }
+
+    @Test
+    void testOverlongLinesAreSkippedInConstantMemory() throws IOException {
+        long hugeLength = 64L << 20;
+        String longest = "a".repeat(FileEmailValidator.MAX_LINE_LENGTH - 12) + "@example.com";
+        byte[] tail = ("\nexample@example.com\n" + longest + "\r\n" + longest + "aa\nb").getBytes(StandardCharsets.UTF_8);
+
+        ReadableByteChannel input = new ReadableByteChannel() {
+            private long remaining = hugeLength;
+            private int tailPosition;
+
+            @Override
+            public int read(ByteBuffer dst) {
+                if (this.remaining > 0) {
+                    int count = (int) Math.min(dst.remaining(), this.remaining);
+                    for (int i = 0; i < count; i++) {
+                        dst.put((byte) 'a');
+                    }
+                    this.remaining -= count;
+                    return count;
+                }
+                if (this.tailPosition == tail.length) {
+                    return -1;
+                }
+                int count = Math.min(dst.remaining(), tail.length - this.tailPosition);
+                dst.put(tail, this.tailPosition, count);
+                this.tailPosition += count;
+                return count;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FileValidationSummary summary = new FileEmailValidator().validate(input, Channels.newChannel(out));
+
+        String tooLong = "0\t" + new InputTooLong().code() + "\t";
+        assertEquals(List.of(tooLong, expectedLine("example@example.com"), expectedLine(longest), tooLong, expectedLine("b")),
+                List.of(out.toString(StandardCharsets.UTF_8).split("\n", -1)).subList(0, 5));
+        assertEquals(5, summary.lines());
+    }
+
+    @Test
+    void testEmptyInput() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FileValidationSummary summary = new FileEmailValidator().validate(
+                Channels.newChannel(new ByteArrayInputStream(new byte[0])), Channels.newChannel(out));
+
+        assertEquals(0, out.size());
+        assertEquals(new FileValidationSummary(0, 0), summary);
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.rigsto.emailvalidator;
+
+import io.github.rigsto.emailvalidator.result.Failure;
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.Result;
+import io.github.rigsto.emailvalidator.result.reason.CharNotAllowed;
+import io.github.rigsto.emailvalidator.result.reason.DomainTooLong;
+import io.github.rigsto.emailvalidator.result.reason.InputTooLong;
+import io.github.rigsto.emailvalidator.result.reason.LocalPartTooLong;
+import io.github.rigsto.emailvalidator.result.reason.NoDomainPart;
+import io.github.rigsto.emailvalidator.result.reason.NoLocalPart;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
+import io.github.rigsto.emailvalidator.validation.RFCValidation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrefilterTest {
+
+    private static final String LABEL = "d".repeat(63);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "user@example.com",
+            "\"user@name\"@example.com",
+            "user@[127.0.0.1]",
+            "user\r\n @example.com",
+            "用户@例子.广告"
+    })
+    void testAcceptsAddresses(String email) {
+        Prefilter prefilter = new Prefilter();
+        assertTrue(prefilter.check(email).isValid(), email);
+
+        byte[] bytes = email.getBytes(StandardCharsets.UTF_8);
+        assertTrue(prefilter.check(bytes, 0, bytes.length, new Failure()).isValid(), email);
+    }
+
+    @ParameterizedTest
+    @MethodSource("rejectedProvider")
+    void testRejectsWithReason(String email, Class<? extends Reason> reason) {
+        Prefilter prefilter = new Prefilter();
+        InvalidEmail error = assertInstanceOf(InvalidEmail.class, prefilter.check(email));
+        assertInstanceOf(reason, error.getReason(), email);
+
+        byte[] bytes = email.getBytes(StandardCharsets.UTF_8);
+        Result result = prefilter.check(bytes, 0, bytes.length, new Failure());
+        assertInstanceOf(reason, ((Failure) result).reason(), email);
+    }
+
+    static Stream<Arguments> rejectedProvider() {
+        return Stream.of(
+                Arguments.of("example.com", NoLocalPart.class),
+                Arguments.of("@example.com", NoLocalPart.class),
+                Arguments.of("user@", NoDomainPart.class),
+                Arguments.of("a".repeat(65) + "@example.com", LocalPartTooLong.class),
+                Arguments.of("user@" + LABEL + "." + LABEL + "." + LABEL + "." + LABEL + ".com", DomainTooLong.class),
+                Arguments.of("user\u0000@example.com", CharNotAllowed.class),
+                Arguments.of("user@exam\u007Fple.com", CharNotAllowed.class),
+                Arguments.of("a".repeat(Prefilter.DEFAULT_MAX_LENGTH) + "\u0000@example.com", InputTooLong.class),
+                Arguments.of("é".repeat(Prefilter.DEFAULT_MAX_LENGTH) + "@example.com", InputTooLong.class)
+        );
+    }
+
+    @Test
+    void testOptionalChecks() {
+        Prefilter lenient = new Prefilter(1000, false, false);
+        assertTrue(lenient.check("a".repeat(100) + "@example.com").isValid());
+        assertTrue(lenient.check("user\u0001@example.com").isValid());
+        assertFalse(lenient.check("a".repeat(1000) + "@example.com").isValid());
+        assertThrows(IllegalArgumentException.class, () -> new Prefilter(0, true, true));
+    }
+
+    @Test
+    void testRFCValidationRejectsHugeInputBeforeLexing() {
+        RFCValidation validation = new RFCValidation(new Prefilter());
+        EmailLexer lexer = new EmailLexer(EmailLexer.PRIMITIVE_TOKENS);
+        String huge = "a".repeat(5_000_000) + "@example.com";
+
+        assertFalse(validation.isValid(huge, lexer));
+        assertInstanceOf(InputTooLong.class, validation.getError().getReason());
+        assertTrue(validation.getWarnings().isEmpty());
+        assertNotSame(huge, lexer.getInput());
+
+        assertTrue(validation.isValid("user@example.com", lexer));
+        assertTrue(new RFCValidation().isValid("a".repeat(65) + "@example.com", lexer));
+        assertFalse(validation.isValid("a".repeat(65) + "@example.com", lexer));
+    }
+}
@@ -0,0 +1,222 @@
+package io.github.rigsto.emailvalidator;
+
+import io.github.rigsto.emailvalidator.exception.EmptyValidationList;
+import io.github.rigsto.emailvalidator.metrics.Instrumentation;
+import io.github.rigsto.emailvalidator.metrics.ValidationListener;
+import io.github.rigsto.emailvalidator.result.ValidationResult;
+import io.github.rigsto.emailvalidator.result.reason.NoDomainPart;
+import io.github.rigsto.emailvalidator.validation.CachingEmailValidation;
+import io.github.rigsto.emailvalidator.validation.EmailValidation;
+import io.github.rigsto.emailvalidator.validation.MultipleValidationWithAnd;
+import io.github.rigsto.emailvalidator.validation.RFCValidation;
+import io.github.rigsto.emailvalidator.validation.ValidationCache;
+import io.github.rigsto.emailvalidator.validation.extra.SpoofCheckValidation;
+import io.github.rigsto.emailvalidator.warning.Warning;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatelessEmailValidatorTest {
+
+    private static final String[] EMAILS = {
+            "example@example.com",
+            "a(comment)@example.com",
+            "\"quoted\"@example.com",
+            "x@[127.0.0.1]",
+            "example",
+            "example@",
+            "user..name@example.com",
+            "first.last+tag@sub.example.co.uk"
+    };
+
+    @Test
+    void testValidResult() {
+        ValidationResult result = new StatelessEmailValidator().validate("example@example.com");
+
+        assertTrue(result.valid());
+        assertNull(result.error());
+        assertNull(result.reason());
+        assertFalse(result.hasWarnings());
+        assertEquals("example", result.localPart());
+        assertEquals("example.com", result.domainPart());
+    }
+
+    @Test
+    void testInvalidResult() {
+        ValidationResult result = new StatelessEmailValidator().validate("example@");
+
+        assertFalse(result.valid());
+        assertNotNull(result.error());
+        assertInstanceOf(NoDomainPart.class, result.reason());
+    }
+
+    @Test
+    void testWarningsAreImmutable() {
+        ValidationResult result = new StatelessEmailValidator().validate("a(comment)@example.com");
+
+        assertTrue(result.valid());
+        assertTrue(result.hasWarnings());
+        List<Warning> warnings = result.warnings();
+        assertThrows(UnsupportedOperationException.class, warnings::clear);
+    }
+
+    @Test
+    void testResultIsNotAffectedByLaterCalls() {
+        StatelessEmailValidator validator = new StatelessEmailValidator();
+        ValidationResult first = validator.validate("a(comment)@example.com");
+        validator.validate("example@example.com");
+
+        assertTrue(first.hasWarnings());
+        assertEquals("a(comment)", first.localPart());
+    }
+
+    @Test
+    void testPartsAreSplitWithoutParsingForNonRfcValidation() {
+        AtomicIntegerArray stages = new AtomicIntegerArray(ValidationListener.STAGE_COUNT);
+        ValidationListener listener = new ValidationListener() {
+            @Override
+            public void onStage(int stage, long nanos) {
+                stages.incrementAndGet(stage);
+            }
+        };
+        Instrumentation.register(listener);
+        try {
+            ValidationResult result = new StatelessEmailValidator(SpoofCheckValidation::new).validate("user@example.com");
+
+            assertTrue(result.valid());
+            assertEquals("user", result.localPart());
+            assertEquals("example.com", result.domainPart());
+            assertEquals(0, stages.get(ValidationListener.STAGE_LEXING));
+            assertEquals(0, stages.get(ValidationListener.STAGE_LOCAL_PART));
+
+            // a cache hit does not parse the address either
+            ValidationCache cache = new ValidationCache(16);
+            StatelessEmailValidator cached = new StatelessEmailValidator(
+                    () -> new CachingEmailValidation(new RFCValidation(), cache));
+            cached.validate("user@example.com");
+            result = cached.validate("user@example.com");
+
+            assertTrue(result.valid());
+            assertEquals("example.com", result.domainPart());
+            assertEquals(1, stages.get(ValidationListener.STAGE_LEXING));
+        } finally {
+            Instrumentation.unregister(listener);
+        }
+    }
+
+    @Test
+    void testMultipleValidationDoesNotLeakBetweenCalls() {
+        StatelessEmailValidator validator = new StatelessEmailValidator(
+                StatelessEmailValidatorTest::rfcAndSpoofCheck);
+
+        assertFalse(validator.validate("example").valid());
+        assertTrue(validator.validate("a(comment)@example.com").hasWarnings());
+
+        ValidationResult result = validator.validate("example@example.com");
+        assertTrue(result.valid());
+        assertNull(result.error());
+        assertFalse(result.hasWarnings());
+    }
+
+    @Test
+    void testDefaultValidatorMatchesRfcValidation() {
+        StatelessEmailValidator validator = new StatelessEmailValidator();
+        for (String email : EMAILS) {
+            RFCValidation validation = new RFCValidation();
+            boolean valid = validation.isValid(email, new EmailLexer());
+            ValidationResult result = validator.validate(email);
+
+            assertEquals(valid, result.valid(), email);
+            assertEquals(valid, validator.isValid(email), email);
+            assertEquals(valid, validator.isValid(email.getBytes(StandardCharsets.UTF_8), 0, email.length()), email);
+            assertEquals(new HashSet<>(validation.getWarnings()), new HashSet<>(result.warnings()), email);
+            if (!valid) {
+                assertEquals(validation.getError().getReason().getClass(), result.reason().getClass(), email);
+                assertEquals(validation.getError().getToken(), result.error().getToken(), email);
+            }
+        }
+    }
+
+    @Test
+    void testValidationsAreReleasedWithTheirValidator() throws Exception {
+        List<WeakReference<EmailValidation>> created = new ArrayList<>();
+        StatelessEmailValidator validator = new StatelessEmailValidator(() -> {
+            RFCValidation validation = new RFCValidation();
+            created.add(new WeakReference<>(validation));
+            return validation;
+        });
+        assertTrue(validator.isValid("example@example.com"));
+        assertTrue(validator.validate("example@example.com").valid());
+        assertEquals(1, created.size());
+
+        validator = null;
+        StatelessEmailValidator other = new StatelessEmailValidator(RFCValidation::new);
+        for (int i = 0; i < 50 && created.get(0).get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+            other.isValid("example@example.com");
+        }
+        assertNull(created.get(0).get());
+    }
+
+    @Test
+    void testConcurrentUseMatchesSequentialUse() throws Exception {
+        StatelessEmailValidator validator = new StatelessEmailValidator();
+        List<ValidationResult> expected = new ArrayList<>();
+        for (String email : EMAILS) {
+            expected.add(validator.validate(email));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<ValidationResult>>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    List<ValidationResult> results = new ArrayList<>();
+                    for (int round = 0; round < 200; round++) {
+                        results.clear();
+                        for (String email : EMAILS) {
+                            results.add(validator.validate(email));
+                        }
+                    }
+                    return results;
+                }));
+            }
+
+            for (Future<List<ValidationResult>> future : futures) {
+                List<ValidationResult> actual = future.get();
+                for (int i = 0; i < EMAILS.length; i++) {
+                    assertEquals(expected.get(i).valid(), actual.get(i).valid(), EMAILS[i]);
+                    assertEquals(reasonClass(expected.get(i)), reasonClass(actual.get(i)), EMAILS[i]);
+                    assertEquals(expected.get(i).warnings().size(), actual.get(i).warnings().size(), EMAILS[i]);
+                    assertEquals(expected.get(i).localPart(), actual.get(i).localPart(), EMAILS[i]);
+                    assertEquals(expected.get(i).domainPart(), actual.get(i).domainPart(), EMAILS[i]);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Class<?> reasonClass(ValidationResult result) {
+        return (result.reason() == null) ? null : result.reason().getClass();
+    }
+
+    private static MultipleValidationWithAnd rfcAndSpoofCheck() {
+        try {
+            return new MultipleValidationWithAnd(List.of(new RFCValidation(), new SpoofCheckValidation()));
+        } catch (EmptyValidationList e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.rigsto.emailvalidator;
+
+import io.github.rigsto.emailvalidator.validation.RFCValidation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class ValidationContextTest {
+
+    @Test
+    void testParserIsReusedForSameLexer() {
+        ValidationContext context = ValidationContext.current();
+        EmailLexer lexer = new EmailLexer();
+
+        assertSame(context.emailParser(lexer), context.emailParser(lexer));
+        assertNotSame(context.emailParser(lexer), context.emailParser(new EmailLexer()));
+    }
+
+    @Test
+    void testContextIsPerThread() throws InterruptedException {
+        ValidationContext[] other = new ValidationContext[1];
+        Thread thread = new Thread(() -> other[0] = ValidationContext.current());
+        thread.start();
+        thread.join();
+
+        assertSame(ValidationContext.current(), ValidationContext.current());
+        assertNotSame(ValidationContext.current(), other[0]);
+    }
+
+    @ParameterizedTest
+    @MethodSource("mixedEmails")
+    void testReusedParserMatchesFreshParser(String email) {
+        EmailLexer lexer = ValidationContext.current().lexer();
+        EmailParser reused = ValidationContext.current().emailParser(lexer);
+
+        for (String previous : new String[] {"a(comment)@example.com", "\"quoted\"@[127.0.0.1]", "@invalid", email}) {
+            reused.parse(previous);
+        }
+
+        EmailParser fresh = new EmailParser(new EmailLexer());
+        assertEquals(fresh.parse(email).isValid(), reused.parse(email).isValid());
+        assertEquals(fresh.getWarnings(), reused.getWarnings());
+        assertEquals(fresh.getLocalPart(), reused.getLocalPart());
+        assertEquals(fresh.getDomainPart(), reused.getDomainPart());
+    }
+
+    @Test
+    void testPlainAddressDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeAllocationTracking(threads);
+
+        RFCValidation validation = new RFCValidation();
+        EmailLexer lexer = ValidationContext.current().lexer();
+        String email = "first.last+tag@sub.example.co.uk";
+
+        for (int i = 0; i < 50_000; i++) {
+            assertTrue(validation.isValid(email, lexer));
+        }
+
+        int calls = 10_000;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < calls; i++) {
+            validation.isValid(email, lexer);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(allocated < calls, "Expected no allocation per call, got " + allocated + " bytes for " + calls + " calls");
+    }
+
+    private static void assumeAllocationTracking(com.sun.management.ThreadMXBean threads) {
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    static Stream<String> mixedEmails() {
+        return Stream.of(
+                "user.name@example.com",
+                "a(comment)@example.com",
+                "\"quoted\"@example.com",
+                "x@[127.0.0.1]",
+                "example@localhost",
+                "test@example.com.",
+                "élève@école.fr",
+                "@example.com"
+        );
+    }
+}
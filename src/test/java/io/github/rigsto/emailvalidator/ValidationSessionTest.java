@@ -0,0 +1,73 @@
+package io.github.rigsto.emailvalidator;
+
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.reason.ConsecutiveAt;
+import io.github.rigsto.emailvalidator.validation.RFCValidation;
+import io.github.rigsto.emailvalidator.warning.Warning;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidationSessionTest {
+
+    @Test
+    void testTypingAnAddress() {
+        ValidationSession session = new ValidationSession();
+        assertFalse(session.isValid());
+        assertEquals("", session.text());
+
+        String email = "user@example.com";
+        for (int i = 0; i < email.length(); i++) {
+            session.append(email.substring(i, i + 1));
+        }
+        assertTrue(session.isValid());
+        assertNull(session.getError());
+        assertEquals(email, session.text());
+
+        assertFalse(session.edit(4, 4, "@"));
+        InvalidEmail error = session.getError();
+        assertInstanceOf(ConsecutiveAt.class, error.getReason());
+        assertSame(error, session.getError());
+
+        assertTrue(session.edit(4, 5, ""));
+        assertTrue(session.edit(0, 4, "admin"));
+        assertEquals("admin@example.com", session.text());
+        assertTrue(session.update("admin@example.org"));
+        assertThrows(IndexOutOfBoundsException.class, () -> session.edit(3, 100, ""));
+    }
+
+    @Test
+    void testSameOutcomeAsRFCValidation() {
+        String alphabet = "aZ09.-@_+IPv6\"()[]\\: é\r\n";
+        Random random = new Random(42);
+        ValidationSession session = new ValidationSession();
+        EmailLexer lexer = new EmailLexer();
+        String text = "";
+
+        for (int n = 0; n < 20_000; n++) {
+            int start = random.nextInt(text.length() + 1);
+            int end = (random.nextInt(4) == 0) ? start + random.nextInt(text.length() - start + 1) : start;
+            String inserted = (text.length() > 40 || random.nextInt(5) == 0)
+                    ? ""
+                    : String.valueOf(alphabet.charAt(random.nextInt(alphabet.length())));
+            String edited = text.substring(0, start) + inserted + text.substring(end);
+
+            boolean valid = (random.nextInt(10) == 0) ? session.update(edited) : session.edit(start, end, inserted);
+            text = edited;
+
+            RFCValidation validation = new RFCValidation();
+            assertEquals(validation.isValid(text, lexer), valid, text);
+            assertEquals(text, session.text());
+            assertEquals(new HashSet<Warning>(validation.getWarnings()), new HashSet<>(session.getWarnings()), text);
+            if (!valid) {
+                InvalidEmail expected = validation.getError();
+                InvalidEmail actual = session.getError();
+                assertEquals(expected.getReason().getClass(), actual.getReason().getClass(), text);
+                assertEquals(expected.getToken(), actual.getToken(), text);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.rigsto.emailvalidator.constant;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static io.github.rigsto.emailvalidator.constant.LexerConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LexerConstantTest {
+
+    /**
+     * The map and regex based classification the lexer used before the tables.
+     */
+    private static final Pattern VALID_CHARS = Pattern.compile(
+            "[^\\p{S}\\p{C}\\p{Cc}]+",
+            Pattern.UNICODE_CHARACTER_CLASS | Pattern.CASE_INSENSITIVE
+    );
+
+    private static int referenceType(String value) {
+        if (charValue.containsKey(value)) {
+            return charValue.get(value);
+        }
+        if (value.length() == 1) {
+            char c = value.charAt(0);
+            if (Character.getType(c) == Character.CONTROL) {
+                return INVALID;
+            }
+            if (c > 0x7F) {
+                return GENERIC;
+            }
+        }
+        return VALID_CHARS.matcher(value).matches() ? GENERIC : INVALID;
+    }
+
+    @Test
+    void testMatchesMapAndRegexClassification() {
+        for (int cp = 0; cp <= Character.MAX_CODE_POINT; cp++) {
+            String value = new String(Character.toChars(cp));
+            assertEquals(referenceType(value), typeOf(cp), () -> "U+" + Integer.toHexString(value.codePointAt(0)));
+        }
+    }
+
+    @Test
+    void testSpecialCharacters() {
+        assertEquals(S_AT, typeOf('@'));
+        assertEquals(S_DOT, typeOf('.'));
+        assertEquals(C_NUL, typeOf(0));
+        assertEquals(S_CR, typeOf('\r'));
+        assertEquals(GENERIC, typeOf('a'));
+        assertEquals(GENERIC, typeOf('7'));
+        assertEquals(INVERT_EXCLAMATION, typeOf('¡'));
+        assertEquals(INVERT_QUESTIONMARK, typeOf('¿'));
+        assertEquals(GENERIC, typeOf('é'));
+        assertEquals(GENERIC, typeOf('║'));
+    }
+
+    @Test
+    void testInvalidCharacters() {
+        assertTrue(isInvalid(0x01));
+        assertTrue(isInvalid(0x7F));
+        assertTrue(isInvalid(0x85));
+        assertTrue(isInvalid(0x1F600));
+        assertTrue(isInvalid(0xE0001));
+        assertTrue(isInvalid(-1));
+        assertTrue(isInvalid(Character.MAX_CODE_POINT + 1));
+        assertFalse(isInvalid('a'));
+        assertFalse(isInvalid(0x20000));
+    }
+}
@@ -0,0 +1,234 @@
+package io.github.rigsto.emailvalidator.dns;
+
+import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.exception.DNSException;
+import io.github.rigsto.emailvalidator.result.reason.DomainAcceptsNoMail;
+import io.github.rigsto.emailvalidator.result.ValidationResult;
+import io.github.rigsto.emailvalidator.result.reason.UnableToGetDNSRecord;
+import io.github.rigsto.emailvalidator.validation.AsyncDNSCheckValidation;
+import io.github.rigsto.emailvalidator.validation.DNSCheckValidation;
+import io.github.rigsto.emailvalidator.validation.DNSGetRecordWrapper;
+import io.github.rigsto.emailvalidator.validation.DNSRecords;
+import io.github.rigsto.emailvalidator.validation.NativeDNSGetRecordWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DNSResolverTest {
+
+    private StubDNSServer server;
+    private DNSResolver resolver;
+
+    @BeforeEach
+    void start() throws IOException {
+        this.server = new StubDNSServer();
+        this.server.add("example.com", "MX", "10 mail.example.com");
+        this.server.add("example.com", "MX", "20 backup.example.com");
+        this.server.add("example.com", "A", "192.0.2.1");
+        this.server.add("example.com", "AAAA", "2001:db8::1");
+        this.server.add("nullmx.com", "MX", "0 ");
+        this.server.add("nullmx.com", "A", "192.0.2.2");
+        this.resolver = new DNSResolver(this.server.address(), Duration.ofMillis(200), 2);
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        this.resolver.close();
+        this.server.close();
+    }
+
+    @Test
+    void testMxRecords() throws DNSException {
+        DNSResponse response = this.resolver.resolve("example.com", DNSRecord.TYPE_MX);
+
+        assertEquals(DNSResponse.NO_ERROR, response.responseCode());
+        assertEquals(List.of(new MXRecord(10, "mail.example.com", 300), new MXRecord(20, "backup.example.com", 300)),
+                response.records());
+    }
+
+    @Test
+    void testAddressRecords() throws Exception {
+        DNSResponse a = this.resolver.resolve("EXAMPLE.com.", DNSRecord.TYPE_A);
+        DNSResponse aaaa = this.resolver.resolve("example.com", DNSRecord.TYPE_AAAA);
+
+        assertEquals(List.of(new ARecord((java.net.Inet4Address) InetAddress.getByName("192.0.2.1"), 300)), a.records());
+        assertEquals(1, aaaa.records().size());
+        assertEquals(InetAddress.getByName("2001:db8::1"), ((AAAARecord) aaaa.records().get(0)).address());
+    }
+
+    @Test
+    void testTrailingDotName() throws DNSException {
+        DNSResponse response = this.resolver.resolve("example.com.", DNSRecord.TYPE_MX);
+
+        assertEquals(DNSResponse.NO_ERROR, response.responseCode());
+        assertEquals(2, response.records().size());
+    }
+
+    @Test
+    void testNullMx() throws DNSException {
+        MXRecord mx = (MXRecord) this.resolver.resolve("nullmx.com", DNSRecord.TYPE_MX).records().get(0);
+
+        assertTrue(mx.isNullMX());
+    }
+
+    @Test
+    void testNonExistentDomain() throws DNSException {
+        DNSResponse response = this.resolver.resolve("missing.com", DNSRecord.TYPE_MX);
+
+        assertTrue(response.isNameError());
+        assertTrue(response.isAnswered());
+        assertTrue(response.records().isEmpty());
+    }
+
+    @Test
+    void testTruncatedResponseIsRetriedOverTcp() throws DNSException {
+        this.server.truncated.put("example.com", true);
+
+        DNSResponse response = this.resolver.resolve("example.com", DNSRecord.TYPE_MX);
+
+        assertEquals(2, response.records().size());
+        assertEquals(1, this.server.tcpQueries.get());
+    }
+
+    @Test
+    void testPipelinedQueriesAreMatchedById() throws Exception {
+        int count = 30;
+        for (int i = 0; i < count; i++) {
+            this.server.add("host" + i + ".com", "A", "192.0.2." + i);
+        }
+        this.server.holdUntil = count;
+
+        List<CompletableFuture<DNSResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            futures.add(this.resolver.query("host" + i + ".com", DNSRecord.TYPE_A));
+        }
+
+        for (int i = 0; i < count; i++) {
+            ARecord record = (ARecord) futures.get(i).get(5, TimeUnit.SECONDS).records().get(0);
+            assertEquals("192.0.2." + i, record.address().getHostAddress());
+        }
+        assertEquals(count, this.server.udpQueries.get(), "each query sent once over the shared socket");
+        assertEquals(0, this.resolver.getPendingQueryCount());
+    }
+
+    @Test
+    void testLostQueryIsSentAgain() throws DNSException {
+        this.server.dropFirst = 1;
+
+        DNSResponse response = this.resolver.resolve("example.com", DNSRecord.TYPE_A);
+
+        assertEquals(1, response.records().size());
+        assertEquals(2, this.server.udpQueries.get());
+    }
+
+    @Test
+    void testMismatchedResponsesAreDropped() throws DNSException {
+        this.server.spoofFirst = true;
+
+        DNSResponse response = this.resolver.resolve("example.com", DNSRecord.TYPE_MX);
+
+        assertEquals(2, response.records().size());
+        assertEquals(1, this.server.udpQueries.get(), "answered by the first query, not a retry");
+        assertEquals(0, this.server.tcpQueries.get(), "a spoofed truncated answer does not switch to TCP");
+        assertEquals(0, this.resolver.getPendingQueryCount());
+    }
+
+    @Test
+    void testMismatchedResponsesDoNotFailUnansweredQuery() {
+        this.server.spoofFirst = true;
+        this.server.silent.put("example.com", true);
+
+        DNSException e = assertThrows(DNSException.class, () -> this.resolver.resolve("example.com", DNSRecord.TYPE_A));
+        assertTrue(e.getMessage().contains("Timed out"));
+        assertEquals(0, this.server.tcpQueries.get());
+    }
+
+    @Test
+    void testUnansweredQueryTimesOut() {
+        this.server.silent.put("example.com", true);
+
+        DNSException e = assertThrows(DNSException.class, () -> this.resolver.resolve("example.com", DNSRecord.TYPE_A));
+        assertTrue(e.getMessage().contains("Timed out"));
+        assertEquals(2, this.server.udpQueries.get());
+    }
+
+    @Test
+    void testClosedResolverFailsQueries() {
+        this.resolver.close();
+
+        assertThrows(DNSException.class, () -> this.resolver.resolve("example.com", DNSRecord.TYPE_A));
+    }
+
+    @Test
+    void testInvalidName() {
+        assertThrows(DNSException.class, () -> this.resolver.resolve("a..b", DNSRecord.TYPE_A));
+    }
+
+    @Test
+    void testCompressionLoopIsRejected() {
+        ByteBuffer message = ByteBuffer.allocate(14);
+        message.position(12);
+        message.putShort((short) 0xC00C);
+        message.position(12);
+
+        assertThrows(DNSException.class, () -> DNSMessage.readName(message));
+    }
+
+    @Test
+    void testWrapperMapsRecordsLikeJndi() {
+        DNSRecords records = new NativeDNSGetRecordWrapper(this.resolver)
+                .getRecords("example.com", DNSGetRecordWrapper.DNS_MX | DNSGetRecordWrapper.DNS_A);
+
+        assertFalse(records.withError());
+        List<Map<String, Object>> list = records.getRecords();
+        assertEquals(3, list.size());
+        assertEquals(Map.of("type", "MX", "exchange", "10 mail.example.com.", "target", "mail.example.com.", "pri", "10",
+                NativeDNSGetRecordWrapper.TTL, 300L), list.get(0));
+        assertEquals(Map.of("type", "A", "ip", "192.0.2.1", NativeDNSGetRecordWrapper.TTL, 300L), list.get(2));
+    }
+
+    @Test
+    void testAsyncValidationQueriesTheResolverWithoutThreads() throws Exception {
+        NativeDNSGetRecordWrapper wrapper = new NativeDNSGetRecordWrapper(this.resolver);
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("lookups must not block a thread");
+        };
+        AsyncDNSCheckValidation validation = new AsyncDNSCheckValidation(wrapper, rejecting, 4,
+                Duration.ofSeconds(5), Duration.ofSeconds(10));
+
+        assertTrue(validation.validate("user@example.com").get(10, TimeUnit.SECONDS).valid());
+        ValidationResult nullMx = validation.validate("user@nullmx.com").get(10, TimeUnit.SECONDS);
+        assertInstanceOf(DomainAcceptsNoMail.class, nullMx.reason());
+
+        DNSRecords records = wrapper.getRecordsAsync("example.com", DNSGetRecordWrapper.DNS_MX).get(10, TimeUnit.SECONDS);
+        assertEquals(2, records.getRecords().size());
+    }
+
+    @Test
+    void testDnsCheckValidationWithNativeResolver() {
+        this.server.responseCodes.put("failing.com", 2);
+        DNSCheckValidation validation = new DNSCheckValidation(new NativeDNSGetRecordWrapper(this.resolver));
+
+        assertTrue(validation.isValid("user@example.com", new EmailLexer()));
+
+        assertFalse(validation.isValid("user@nullmx.com", new EmailLexer()));
+        assertInstanceOf(DomainAcceptsNoMail.class, validation.getError().getReason());
+
+        assertFalse(validation.isValid("user@failing.com", new EmailLexer()));
+        assertInstanceOf(UnableToGetDNSRecord.class, validation.getError().getReason());
+    }
+}
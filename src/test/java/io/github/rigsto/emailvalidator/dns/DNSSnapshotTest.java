@@ -0,0 +1,187 @@
+package io.github.rigsto.emailvalidator.dns;
+
+import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.result.reason.DomainAcceptsNoMail;
+import io.github.rigsto.emailvalidator.result.reason.NoDNSRecord;
+import io.github.rigsto.emailvalidator.validation.DNSCheckValidation;
+import io.github.rigsto.emailvalidator.validation.DNSGetRecordWrapper;
+import io.github.rigsto.emailvalidator.validation.DNSRecords;
+import io.github.rigsto.emailvalidator.validation.SnapshotDNSGetRecordWrapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DNSSnapshotTest {
+
+    private static final String ZONE = """
+            ; test zone
+            $ORIGIN example.com.
+            $TTL 3600
+            @           IN  MX  20 backup
+                        IN  MX  10 mail.example.com.
+                        IN  A   192.0.2.1
+            www     300 IN  A   192.0.2.2
+                            AAAA 2001:db8::1
+            nomail          MX  0 .
+            text            TXT "v=spf1 -all"
+            Other.ORG.  IN  MX  5 mx.other.org. ; absolute name
+            """;
+
+    @Test
+    void testReadZone() throws IOException {
+        DNSSnapshot snapshot = new DNSSnapshotBuilder().readZone(new StringReader(ZONE)).build();
+
+        assertEquals(5, snapshot.size());
+
+        int example = snapshot.find("example.com");
+        assertEquals("example.com", snapshot.name(example));
+        assertEquals(DNSSnapshot.FLAG_A | DNSSnapshot.FLAG_MX, snapshot.flags(example));
+        assertEquals(2, snapshot.mxCount(example));
+        assertEquals(10, snapshot.mxPreference(example, 0));
+        assertEquals("mail.example.com", snapshot.mxExchange(example, 0));
+        assertEquals(20, snapshot.mxPreference(example, 1));
+        assertEquals("backup.example.com", snapshot.mxExchange(example, 1));
+
+        int www = snapshot.find("WWW.Example.com.");
+        assertEquals(DNSSnapshot.FLAG_A | DNSSnapshot.FLAG_AAAA, snapshot.flags(www));
+        assertEquals(0, snapshot.mxCount(www));
+
+        int nomail = snapshot.find("nomail.example.com");
+        assertEquals(0, snapshot.mxExchangeLength(nomail, 0));
+        assertEquals("", snapshot.mxExchange(nomail, 0));
+
+        assertEquals(0, snapshot.flags(snapshot.find("text.example.com")));
+        assertEquals("mx.other.org", snapshot.mxExchange(snapshot.find("other.org"), 0));
+        assertEquals(-1, snapshot.find("missing.example.com"));
+        assertEquals(-1, snapshot.find("example.co"));
+        assertEquals(-1, snapshot.find("exämple.com"));
+    }
+
+    @Test
+    void testMalformedZone() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new DNSSnapshotBuilder().readZone(new StringReader("example.com. MX 10\n")));
+        assertTrue(e.getMessage().contains("line 1"), e.getMessage());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new DNSSnapshotBuilder().readZone(new StringReader("  IN A 192.0.2.1\n")));
+    }
+
+    @Test
+    void testMappedFile(@TempDir Path directory) throws IOException {
+        DNSSnapshotBuilder builder = new DNSSnapshotBuilder()
+                .addMX("bücher.example", 10, "mail.bücher.example")
+                .addAAAA("bücher.example");
+        Path file = directory.resolve("mx.snapshot");
+        builder.write(file);
+
+        DNSSnapshot snapshot = DNSSnapshot.open(file);
+        int entry = snapshot.find("xn--bcher-kva.example");
+        assertEquals("mail.xn--bcher-kva.example", snapshot.mxExchange(entry, 0));
+        assertEquals(DNSSnapshot.FLAG_MX | DNSSnapshot.FLAG_AAAA, snapshot.flags(entry));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        builder.write(out);
+        assertEquals(1, DNSSnapshot.wrap(ByteBuffer.wrap(out.toByteArray())).size());
+    }
+
+    @Test
+    void testFindMatchesSortedSet() {
+        Random random = new Random(42);
+        TreeSet<String> names = new TreeSet<>();
+        DNSSnapshotBuilder builder = new DNSSnapshotBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            String name = "d" + Integer.toString(random.nextInt(100_000), 36) + ".example";
+            names.add(name);
+            builder.addA(name);
+        }
+        DNSSnapshot snapshot = builder.build();
+
+        assertEquals(names.size(), snapshot.size());
+        int index = 0;
+        for (String name : names) {
+            assertEquals(index++, snapshot.find(name), name);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            String name = "e" + i + ".example";
+            assertEquals(-1, snapshot.find(name), name);
+        }
+    }
+
+    @Test
+    void testResolverRecords() throws Exception {
+        DNSSnapshot snapshot = new DNSSnapshotBuilder()
+                .add("example.com", List.of(
+                        new MXRecord(10, "mail.example.com", 300),
+                        new ARecord((Inet4Address) InetAddress.getByName("192.0.2.1"), 300)))
+                .add("empty.example.com", List.of())
+                .build();
+
+        assertEquals(DNSSnapshot.FLAG_MX | DNSSnapshot.FLAG_A, snapshot.flags(snapshot.find("example.com")));
+        assertEquals(0, snapshot.flags(snapshot.find("empty.example.com")));
+    }
+
+    @Test
+    void testInvalidSnapshot() {
+        assertThrows(IllegalArgumentException.class, () -> DNSSnapshot.wrap(ByteBuffer.allocate(16)));
+        assertThrows(IllegalArgumentException.class, () -> DNSSnapshot.wrap(ByteBuffer.allocate(4)));
+        assertThrows(IllegalArgumentException.class, () -> new DNSSnapshotBuilder().addMX("example.com", 70_000, "mail"));
+    }
+
+    @Test
+    void testDeviationCharactersAreKept() {
+        DNSSnapshot snapshot = new DNSSnapshotBuilder()
+                .addMX("straße.de", 10, "mail.straße.de")
+                .addMX("ελλάς.gr", 10, "mail.ελλάς.gr")
+                .build();
+
+        assertEquals(-1, snapshot.find("strasse.de"));
+        assertEquals("mail.xn--strae-oqa.de", snapshot.mxExchange(snapshot.find("xn--strae-oqa.de"), 0));
+        assertTrue(snapshot.find("xn--hxarsa0b.gr") >= 0);
+        assertEquals(-1, snapshot.find("xn--hxarsa5b.gr"));
+
+        SnapshotDNSGetRecordWrapper wrapper = new SnapshotDNSGetRecordWrapper(snapshot);
+        assertTrue(new DNSCheckValidation(wrapper).isValid("user@straße.de", new EmailLexer()));
+        assertTrue(new DNSCheckValidation(wrapper).isValid("user@ελλάς.gr", new EmailLexer()));
+        assertThrows(IllegalArgumentException.class, () -> new DNSSnapshotBuilder().addA("a_b.example"));
+    }
+
+    @Test
+    void testDNSCheckValidationFromSnapshot() throws IOException {
+        DNSSnapshot snapshot = new DNSSnapshotBuilder()
+                .readZone(new StringReader(ZONE))
+                .addMX("nomail.net", 0, ".")
+                .build();
+        SnapshotDNSGetRecordWrapper wrapper = new SnapshotDNSGetRecordWrapper(snapshot);
+
+        assertTrue(new DNSCheckValidation(wrapper).isValid("user@example.com", new EmailLexer()));
+        assertTrue(new DNSCheckValidation(wrapper).isValid("user@www.example.com", new EmailLexer()));
+
+        DNSCheckValidation nomail = new DNSCheckValidation(wrapper);
+        assertFalse(nomail.isValid("user@nomail.net", new EmailLexer()));
+        assertInstanceOf(DomainAcceptsNoMail.class, nomail.getError().reason);
+
+        DNSCheckValidation missing = new DNSCheckValidation(wrapper);
+        assertFalse(missing.isValid("user@missing.org", new EmailLexer()));
+        assertInstanceOf(NoDNSRecord.class, missing.getError().reason);
+
+        DNSRecords records = wrapper.getRecords("example.com", DNSGetRecordWrapper.DNS_MX | DNSGetRecordWrapper.DNS_A);
+        assertFalse(records.withError());
+        assertEquals(3, records.getRecords().size());
+        assertEquals("mail.example.com.", records.getRecords().get(0).get("target"));
+        assertSame(wrapper.getRecords("www.example.com", DNSGetRecordWrapper.DNS_A),
+                wrapper.getRecords("www.example.com", DNSGetRecordWrapper.DNS_A));
+    }
+}
@@ -0,0 +1,227 @@
+package io.github.rigsto.emailvalidator.dns;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DNS server bound to the loopback interface, answering from a fixed zone.
+ * <p>
+ * Names listed as truncated are answered over UDP with the TC flag and no
+ * records, and in full over TCP. Names listed as silent are never answered.
+ * The first UDP queries can be dropped to exercise retries, and UDP
+ * responses can be held back until a number of queries have arrived and
+ * then sent in reverse order, to exercise transaction ID matching. UDP
+ * responses, or their absence for silent names, can also be preceded by
+ * datagrams with the same transaction ID but another question or a corrupt
+ * body, as spoofed or stray answers would be. Queries with bytes after
+ * their question are answered with FORMERR.
+ * </p>
+ */
+class StubDNSServer implements AutoCloseable {
+
+    /**
+     * Records of the zone by lower-cased name, each as {type, value} where the
+     * value is an address for A/AAAA and "preference exchange" for MX.
+     */
+    final Map<String, List<String[]>> zone = new ConcurrentHashMap<>();
+    final Map<String, Boolean> truncated = new ConcurrentHashMap<>();
+    final Map<String, Boolean> silent = new ConcurrentHashMap<>();
+    final Map<String, Integer> responseCodes = new ConcurrentHashMap<>();
+    final AtomicInteger udpQueries = new AtomicInteger();
+    final AtomicInteger tcpQueries = new AtomicInteger();
+    volatile int dropFirst;
+    volatile int holdUntil;
+    volatile boolean spoofFirst;
+
+    private final DatagramSocket udp;
+    private final ServerSocket tcp;
+    private final List<DatagramPacket> held = new ArrayList<>();
+
+    StubDNSServer() throws IOException {
+        this.udp = new DatagramSocket(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        this.tcp = new ServerSocket(this.udp.getLocalPort(), 50, InetAddress.getLoopbackAddress());
+
+        Thread udpThread = new Thread(this::serveUdp, "stub-dns-udp");
+        udpThread.setDaemon(true);
+        udpThread.start();
+        Thread tcpThread = new Thread(this::serveTcp, "stub-dns-tcp");
+        tcpThread.setDaemon(true);
+        tcpThread.start();
+    }
+
+    InetSocketAddress address() {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), this.udp.getLocalPort());
+    }
+
+    void add(String name, String type, String value) {
+        this.zone.computeIfAbsent(name.toLowerCase(), n -> new ArrayList<>()).add(new String[] {type, value});
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.udp.close();
+        this.tcp.close();
+    }
+
+    private void serveUdp() {
+        byte[] buffer = new byte[512];
+        while (!this.udp.isClosed()) {
+            try {
+                DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+                this.udp.receive(packet);
+                int count = this.udpQueries.incrementAndGet();
+                if (count <= this.dropFirst) {
+                    continue;
+                }
+
+                byte[] query = java.util.Arrays.copyOf(packet.getData(), packet.getLength());
+                if (this.spoofFirst) {
+                    for (byte[] spoofed : spoofed(query)) {
+                        this.udp.send(new DatagramPacket(spoofed, spoofed.length, packet.getSocketAddress()));
+                    }
+                }
+
+                byte[] response = this.answer(query, true);
+                if (response == null) {
+                    continue;
+                }
+
+                DatagramPacket reply = new DatagramPacket(response, response.length, packet.getSocketAddress());
+                if (this.holdUntil > 0) {
+                    this.held.add(reply);
+                    if (this.held.size() >= this.holdUntil) {
+                        for (int i = this.held.size() - 1; i >= 0; i--) {
+                            this.udp.send(this.held.get(i));
+                        }
+                        this.held.clear();
+                    }
+                } else {
+                    this.udp.send(reply);
+                }
+            } catch (IOException e) {
+                // closed
+            }
+        }
+    }
+
+    private void serveTcp() {
+        while (!this.tcp.isClosed()) {
+            try (Socket socket = this.tcp.accept()) {
+                this.tcpQueries.incrementAndGet();
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                byte[] query = new byte[in.readUnsignedShort()];
+                in.readFully(query);
+
+                byte[] response = this.answer(query, false);
+                DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+                out.writeShort(response.length);
+                out.write(response);
+                out.flush();
+            } catch (IOException e) {
+                // closed
+            }
+        }
+    }
+
+    /**
+     * Builds datagrams sharing the transaction ID of a query: a truncated
+     * response to another record type, the query itself and a response whose
+     * answers exceed the message.
+     */
+    private static List<byte[]> spoofed(byte[] query) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(query);
+        in.position(12);
+        DNSMessage.readName(in);
+        int typePosition = in.position();
+        int type = in.getShort(typePosition) & 0xFFFF;
+
+        byte[] otherType = query.clone();
+        ByteBuffer.wrap(otherType).putShort(2, (short) (0x8000 | 0x0200)).putShort(typePosition,
+                (short) (type == DNSRecord.TYPE_A ? DNSRecord.TYPE_MX : DNSRecord.TYPE_A));
+
+        byte[] corrupt = query.clone();
+        ByteBuffer.wrap(corrupt).putShort(2, (short) 0x8000).putShort(6, (short) 5);
+
+        return List.of(otherType, query, corrupt);
+    }
+
+    /**
+     * Builds the response to a query, compressing answer names with a pointer to the question.
+     */
+    private byte[] answer(byte[] query, boolean udp) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(query);
+        int id = in.getShort(0) & 0xFFFF;
+        in.position(12);
+        String name = DNSMessage.readName(in);
+        int questionEnd = in.position() + 4;
+        int type = in.getShort(in.position()) & 0xFFFF;
+        String key = name.toLowerCase();
+
+        if (this.silent.containsKey(key)) {
+            return null;
+        }
+
+        // like strict servers, reject queries with bytes after the question
+        boolean malformed = questionEnd != query.length;
+        boolean truncate = udp && this.truncated.containsKey(key);
+        List<String[]> records = malformed ? null : this.zone.get(key);
+        int responseCode = malformed ? 1 : this.responseCodes.getOrDefault(key, records == null ? 3 : 0);
+
+        ByteBuffer out = ByteBuffer.allocate(4096);
+        out.putShort((short) id);
+        out.putShort((short) (0x8000 | 0x0100 | 0x0080 | (truncate ? 0x0200 : 0) | responseCode));
+        out.putShort((short) 1);
+        int answerCountPosition = out.position();
+        out.putShort((short) 0).putShort((short) 0).putShort((short) 0);
+        out.put(query, 12, questionEnd - 12);
+
+        int answers = 0;
+        if (records != null && !truncate) {
+            for (String[] record : records) {
+                int recordType = switch (record[0]) {
+                    case "A" -> DNSRecord.TYPE_A;
+                    case "AAAA" -> DNSRecord.TYPE_AAAA;
+                    default -> DNSRecord.TYPE_MX;
+                };
+                if (recordType != type) {
+                    continue;
+                }
+
+                out.putShort((short) 0xC00C).putShort((short) recordType).putShort((short) 1).putInt(300);
+                if (recordType == DNSRecord.TYPE_MX) {
+                    String[] parts = record[1].split(" ", -1);
+                    ByteBuffer rdata = ByteBuffer.allocate(512);
+                    rdata.putShort(Short.parseShort(parts[0]));
+                    if (!parts[1].isEmpty()) {
+                        for (String label : parts[1].split("\\.")) {
+                            byte[] bytes = label.getBytes(StandardCharsets.US_ASCII);
+                            rdata.put((byte) bytes.length).put(bytes);
+                        }
+                    }
+                    rdata.put((byte) 0);
+                    out.putShort((short) rdata.position()).put(rdata.array(), 0, rdata.position());
+                } else {
+                    byte[] address = InetAddress.getByName(record[1]).getAddress();
+                    out.putShort((short) address.length).put(address);
+                }
+                answers++;
+            }
+        }
+        out.putShort(answerCountPosition, (short) answers);
+        return java.util.Arrays.copyOf(out.array(), out.position());
+    }
+}
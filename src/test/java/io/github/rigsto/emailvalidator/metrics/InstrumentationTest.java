@@ -0,0 +1,143 @@
+package io.github.rigsto.emailvalidator.metrics;
+
+import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.EmailParser;
+import io.github.rigsto.emailvalidator.EmailValidator;
+import io.github.rigsto.emailvalidator.StatelessEmailValidator;
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.validation.DNSCheckValidation;
+import io.github.rigsto.emailvalidator.validation.DNSGetRecordWrapper;
+import io.github.rigsto.emailvalidator.validation.DNSRecords;
+import io.github.rigsto.emailvalidator.validation.RFCValidation;
+import io.github.rigsto.emailvalidator.validation.extra.SpoofCheckValidation;
+import io.github.rigsto.emailvalidator.warning.Warning;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InstrumentationTest {
+
+    /**
+     * Listener counting the reports it receives.
+     */
+    private static class RecordingListener implements ValidationListener {
+        final AtomicIntegerArray stages = new AtomicIntegerArray(STAGE_COUNT);
+        final List<Boolean> results = new ArrayList<>();
+        final List<InvalidEmail> errors = new ArrayList<>();
+        final List<Integer> lookups = new ArrayList<>();
+
+        @Override
+        public void onStage(int stage, long nanos) {
+            assertTrue(nanos >= 0);
+            this.stages.incrementAndGet(stage);
+        }
+
+        @Override
+        public synchronized void onResult(boolean valid, InvalidEmail error, List<Warning> warnings) {
+            this.results.add(valid);
+            this.errors.add(error);
+        }
+
+        @Override
+        public synchronized void onDnsLookup(int type, long nanos, boolean error) {
+            this.lookups.add(type);
+        }
+    }
+
+    private final RecordingListener listener = new RecordingListener();
+
+    @AfterEach
+    void unregister() {
+        Instrumentation.unregister(this.listener);
+    }
+
+    @Test
+    void testNothingIsReportedWithoutListener() {
+        assertNull(Instrumentation.listener());
+
+        new EmailValidator().isValid("\"quoted\"@example.com", new RFCValidation());
+        assertEquals(0, this.listener.stages.get(ValidationListener.STAGE_LEXING));
+    }
+
+    @Test
+    void testParserStages() {
+        Instrumentation.register(this.listener);
+        EmailValidator validator = new EmailValidator();
+
+        assertTrue(validator.isValid("\"quoted\"@example.com", new RFCValidation()));
+        assertFalse(validator.isValid("example@", new RFCValidation()));
+
+        assertEquals(2, this.listener.stages.get(ValidationListener.STAGE_VALIDATION));
+        assertEquals(2, this.listener.stages.get(ValidationListener.STAGE_LEXING));
+        assertEquals(2, this.listener.stages.get(ValidationListener.STAGE_LOCAL_PART));
+        assertEquals(2, this.listener.stages.get(ValidationListener.STAGE_DOMAIN_PART));
+        assertEquals(List.of(true, false), this.listener.results);
+        assertNull(this.listener.errors.get(0));
+        assertNotNull(this.listener.errors.get(1));
+    }
+
+    @Test
+    void testDotAtomFastPathReportsLexing() {
+        Instrumentation.register(this.listener);
+        EmailValidator validator = new EmailValidator();
+
+        assertTrue(validator.isValid("user@example.com", new RFCValidation()));
+        assertTrue(new EmailParser(new EmailLexer()).parse("user@example.com".getBytes(StandardCharsets.UTF_8), 0, 16).isValid());
+
+        assertEquals(2, this.listener.stages.get(ValidationListener.STAGE_LEXING));
+        assertEquals(0, this.listener.stages.get(ValidationListener.STAGE_LOCAL_PART));
+        assertEquals(0, this.listener.stages.get(ValidationListener.STAGE_DOMAIN_PART));
+    }
+
+    @Test
+    void testStatelessValidatorAndSpoofCheck() {
+        Instrumentation.register(this.listener);
+        StatelessEmailValidator validator = new StatelessEmailValidator(SpoofCheckValidation::new);
+
+        validator.validate("user@example.com");
+        validator.isValid("user@example.com");
+
+        assertEquals(2, this.listener.stages.get(ValidationListener.STAGE_VALIDATION));
+        assertEquals(2, this.listener.stages.get(ValidationListener.STAGE_SPOOF));
+        assertEquals(2, this.listener.results.size());
+    }
+
+    @Test
+    void testDnsLookups() {
+        Instrumentation.register(this.listener);
+        DNSGetRecordWrapper wrapper = new DNSGetRecordWrapper() {
+            @Override
+            public DNSRecords getRecords(String host, int type) {
+                return new DNSRecords(List.of(Map.of("type", "MX", "target", "mail.example.com.")), false);
+            }
+        };
+
+        assertTrue(new DNSCheckValidation(wrapper).isValid("user@example.com", new EmailLexer()));
+
+        assertEquals(1, this.listener.stages.get(ValidationListener.STAGE_DNS));
+        assertEquals(List.of(DNSGetRecordWrapper.DNS_A | DNSGetRecordWrapper.DNS_MX, DNSGetRecordWrapper.DNS_AAAA),
+                this.listener.lookups);
+    }
+
+    @Test
+    void testSeveralListeners() {
+        RecordingListener other = new RecordingListener();
+        Instrumentation.register(this.listener);
+        Instrumentation.register(other);
+        try {
+            new EmailValidator().isValid("user@example.com", new RFCValidation());
+            assertEquals(1, this.listener.results.size());
+            assertEquals(1, other.results.size());
+        } finally {
+            assertTrue(Instrumentation.unregister(other));
+        }
+        assertSame(this.listener, Instrumentation.listener());
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.rigsto.emailvalidator.metrics;
+
+import io.github.rigsto.emailvalidator.EmailValidator;
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.MultipleErrors;
+import io.github.rigsto.emailvalidator.result.reason.NoDomainPart;
+import io.github.rigsto.emailvalidator.result.reason.SpoofEmail;
+import io.github.rigsto.emailvalidator.validation.DNSGetRecordWrapper;
+import io.github.rigsto.emailvalidator.validation.RFCValidation;
+import io.github.rigsto.emailvalidator.warning.TLD;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MicrometerValidationListenerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerValidationListener listener = new MicrometerValidationListener(this.registry);
+
+    @AfterEach
+    void unregister() {
+        Instrumentation.unregister(this.listener);
+    }
+
+    @Test
+    void testValidationMeters() {
+        Instrumentation.register(this.listener);
+        EmailValidator validator = new EmailValidator();
+
+        validator.isValid("user@localhost", new RFCValidation());
+        validator.isValid("example@", new RFCValidation());
+
+        assertEquals(2, this.registry.get("emailvalidator.stage").tag("stage", "validation").timer().count());
+        assertEquals(1, this.registry.get("emailvalidator.results").tag("valid", "true").counter().count());
+        assertEquals(1, this.registry.get("emailvalidator.results").tag("valid", "false").counter().count());
+        assertEquals(1, this.registry.get("emailvalidator.reasons")
+                .tag("reason", "NoDomainPart")
+                .tag("code", String.valueOf(new NoDomainPart().code()))
+                .counter().count());
+        assertEquals(1, this.registry.get("emailvalidator.warnings")
+                .tag("warning", "TLD")
+                .tag("code", String.valueOf(TLD.CODE))
+                .counter().count());
+    }
+
+    @Test
+    void testMultipleErrorsAreCountedByReason() {
+        MultipleErrors errors = new MultipleErrors();
+        errors.addReason(new NoDomainPart());
+        errors.addReason(new SpoofEmail());
+
+        this.listener.onResult(false, errors, List.of());
+        this.listener.onResult(false, new InvalidEmail(new NoDomainPart(), ""), List.of());
+
+        assertEquals(2, this.registry.get("emailvalidator.reasons").tag("reason", "NoDomainPart").counter().count());
+        assertEquals(1, this.registry.get("emailvalidator.reasons").tag("reason", "SpoofEmail").counter().count());
+    }
+
+    @Test
+    void testDnsLookupHistogram() {
+        this.listener.onDnsLookup(DNSGetRecordWrapper.DNS_A | DNSGetRecordWrapper.DNS_MX, 2_000_000, false);
+        this.listener.onDnsLookup(DNSGetRecordWrapper.DNS_A | DNSGetRecordWrapper.DNS_MX, 4_000_000, false);
+        this.listener.onDnsLookup(DNSGetRecordWrapper.DNS_AAAA, 1_000_000, true);
+
+        assertEquals(2, this.registry.get("emailvalidator.dns.lookups")
+                .tag("type", "MX+A").tag("outcome", "success").timer().count());
+        assertEquals(1, this.registry.get("emailvalidator.dns.lookups")
+                .tag("type", "AAAA").tag("outcome", "error").timer().count());
+        assertEquals(6.0, this.registry.get("emailvalidator.dns.lookups").tag("type", "MX+A").timer()
+                .totalTime(TimeUnit.MILLISECONDS), 1e-9);
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.rigsto.emailvalidator.result;
 
 import io.github.rigsto.emailvalidator.result.reason.CharNotAllowed;
+import io.github.rigsto.emailvalidator.result.reason.DotAtEnd;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,4 +33,29 @@ public class ResultTest {
         assertEquals(expectedCode, result.code());
         assertEquals(expectedDescription, result.description());
     }
+
+    @Test
+    void testFailureIsMaterializedOnDemand() {
+        CharNotAllowed reason = new CharNotAllowed();
+        Failure failure = new Failure();
+        assertFalse(failure.isSet());
+
+        failure.set(reason, "user@ex%ample.com", 7, 1);
+        assertTrue(failure.isInvalid());
+        assertEquals(reason.code(), failure.code());
+        assertEquals(7, failure.tokenOffset());
+
+        InvalidEmail error = failure.toInvalidEmail();
+        assertSame(reason, error.getReason());
+        assertEquals("%", error.getToken());
+        assertEquals(new InvalidEmail(reason, "%").description(), failure.description());
+        assertSame(error, failure.toInvalidEmail());
+
+        Failure copy = new Failure().copyFrom(failure);
+        failure.set(new DotAtEnd(), "user.@example.com", 4, 1);
+        assertSame(reason, copy.reason());
+        assertEquals("%", copy.token());
+        assertNotSame(error, failure.toInvalidEmail());
+        assertSame(failure.toInvalidEmail(), Failure.materialize(failure));
+    }
 }
@@ -0,0 +1,321 @@
+package io.github.rigsto.emailvalidator.validation;
+
+import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.result.ValidationResult;
+import io.github.rigsto.emailvalidator.result.reason.LocalOrReservedDomain;
+import io.github.rigsto.emailvalidator.result.reason.UnableToGetDNSRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncDNSCheckValidationTest {
+
+    /**
+     * Answers by host prefix: "mx" has an MX record, "a" only an A record,
+     * "nullmx" a null MX, "none" nothing and "error" fails.
+     */
+    private static class FakeWrapper extends DNSGetRecordWrapper {
+        @Override
+        public DNSRecords getRecords(String host, int type) {
+            if (host.startsWith("error")) {
+                return new DNSRecords(Collections.emptyList(), true);
+            }
+
+            List<Map<String, Object>> records = new ArrayList<>();
+            if ((type & DNS_MX) != 0 && host.startsWith("mx")) {
+                records.add(Map.of("type", "MX", "target", "mail." + host, "pri", "10"));
+            }
+            if ((type & DNS_MX) != 0 && host.startsWith("nullmx")) {
+                records.add(Map.of("type", "MX", "target", ".", "pri", "0"));
+            }
+            if ((type & DNS_A) != 0 && (host.startsWith("mx") || host.startsWith("a"))) {
+                records.add(Map.of("type", "A", "ip", "192.0.2.1"));
+            }
+            return new DNSRecords(records, false);
+        }
+    }
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    private AsyncDNSCheckValidation validation(DNSGetRecordWrapper wrapper, int maxConcurrentLookups,
+                                               Duration lookupTimeout, Duration deadline) {
+        return new AsyncDNSCheckValidation(wrapper, this.executor, maxConcurrentLookups, lookupTimeout, deadline);
+    }
+
+    private static ValidationResult get(CompletableFuture<ValidationResult> future) throws Exception {
+        return future.get(10, TimeUnit.SECONDS);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "user@mx.example.com",
+            "user@a.example.com",
+            "user@nullmx.example.com",
+            "user@none.example.com",
+            "user@error.example.com",
+            "user@sub.mx.example.com",
+            "user@localhost",
+            "user@domain.test",
+            "user@bücher.example.com"
+    })
+    void testSameOutcomeAsDnsCheckValidation(String email) throws Exception {
+        DNSCheckValidation sync = new DNSCheckValidation(new FakeWrapper());
+        boolean expected = sync.isValid(email, new EmailLexer());
+
+        ValidationResult result = get(new AsyncDNSCheckValidation(new FakeWrapper()).validate(email));
+
+        assertEquals(expected, result.valid());
+        assertEquals(sync.getWarnings(), result.warnings());
+        if (expected) {
+            assertNull(result.error());
+        } else if (sync.getError() != null) {
+            assertEquals(sync.getError().getReason().getClass(), result.reason().getClass());
+        }
+    }
+
+    @Test
+    void testLocalDomainCompletesImmediately() throws Exception {
+        CompletableFuture<ValidationResult> future = new AsyncDNSCheckValidation(new FakeWrapper()).validate("user@localhost");
+
+        assertTrue(future.isDone());
+        assertInstanceOf(LocalOrReservedDomain.class, get(future).reason());
+        assertEquals("user", get(future).localPart());
+        assertEquals("localhost", get(future).domainPart());
+    }
+
+    @Test
+    void testAddressWithoutDomainPartHasEmptyDomainPart() throws Exception {
+        AsyncDNSCheckValidation validation = new AsyncDNSCheckValidation(new FakeWrapper());
+
+        ValidationResult noAt = get(validation.validate("foo"));
+        assertFalse(noAt.valid());
+        assertEquals("", noAt.localPart());
+        assertEquals("", noAt.domainPart());
+
+        ValidationResult trailingAt = get(validation.validate("foo@"));
+        assertFalse(trailingAt.valid());
+        assertEquals("foo", trailingAt.localPart());
+        assertEquals("", trailingAt.domainPart());
+    }
+
+    @Test
+    void testQueriesOfAHostRunConcurrently() throws Exception {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        DNSGetRecordWrapper wrapper = new FakeWrapper() {
+            @Override
+            public DNSRecords getRecords(String host, int type) {
+                allStarted.countDown();
+                try {
+                    if (!allStarted.await(5, TimeUnit.SECONDS)) {
+                        return new DNSRecords(Collections.emptyList(), true);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getRecords(host, type);
+            }
+        };
+
+        ValidationResult result = get(this.validation(wrapper, 3, Duration.ofSeconds(10), Duration.ofSeconds(10))
+                .validate("user@mx.example.com"));
+
+        assertTrue(result.valid());
+    }
+
+    @Test
+    void testConcurrentLookupsAreBounded() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        DNSGetRecordWrapper wrapper = new FakeWrapper() {
+            @Override
+            public DNSRecords getRecords(String host, int type) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return super.getRecords(host, type);
+            }
+        };
+        AsyncDNSCheckValidation validation = this.validation(wrapper, 4, Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+        List<CompletableFuture<ValidationResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(validation.validate("user" + i + "@mx" + i + ".example.com"));
+        }
+        assertTrue(validation.getQueuedLookupCount() > 0);
+
+        for (CompletableFuture<ValidationResult> future : futures) {
+            assertTrue(get(future).valid());
+        }
+        assertTrue(maxRunning.get() <= 4, "at most 4 lookups at a time, saw " + maxRunning.get());
+        assertEquals(0, validation.getQueuedLookupCount());
+    }
+
+    @Test
+    void testTimedOutMxLookupFailsTheAddress() throws Exception {
+        DNSGetRecordWrapper wrapper = new FakeWrapper() {
+            @Override
+            public DNSRecords getRecords(String host, int type) {
+                if (type == DNS_MX) {
+                    sleep(2_000);
+                }
+                return super.getRecords(host, type);
+            }
+        };
+
+        ValidationResult result = get(this.validation(wrapper, 8, Duration.ofMillis(50), Duration.ofSeconds(10))
+                .validate("user@mx.example.com"));
+
+        assertFalse(result.valid());
+        assertInstanceOf(UnableToGetDNSRecord.class, result.reason());
+    }
+
+    @Test
+    void testTimedOutAaaaLookupIsIgnored() throws Exception {
+        DNSGetRecordWrapper wrapper = new FakeWrapper() {
+            @Override
+            public DNSRecords getRecords(String host, int type) {
+                if (type == DNS_AAAA) {
+                    sleep(2_000);
+                }
+                return super.getRecords(host, type);
+            }
+        };
+
+        ValidationResult result = get(this.validation(wrapper, 8, Duration.ofMillis(50), Duration.ofSeconds(10))
+                .validate("user@mx.example.com"));
+
+        assertTrue(result.valid());
+    }
+
+    @Test
+    void testSynchronousLookupsDrainTheQueueWithoutNesting() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        DNSGetRecordWrapper wrapper = new FakeWrapper() {
+            @Override
+            public DNSRecords getRecords(String host, int type) {
+                if (host.startsWith("block")) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.getRecords(host, type);
+            }
+        };
+        // the first lookup blocks on its own thread, the others run and complete in the caller
+        AtomicInteger executed = new AtomicInteger();
+        Executor callerRuns = task -> {
+            if (executed.getAndIncrement() == 0) {
+                this.executor.execute(task);
+            } else {
+                task.run();
+            }
+        };
+        AsyncDNSCheckValidation validation = new AsyncDNSCheckValidation(
+                wrapper, callerRuns, 1, Duration.ofSeconds(30), Duration.ofSeconds(60));
+
+        CompletableFuture<ValidationResult> blocked = validation.validate("user@block.example.com");
+        List<CompletableFuture<ValidationResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            futures.add(validation.validate("user" + i + "@mx.example.com"));
+        }
+        assertTrue(validation.getQueuedLookupCount() > 10_000);
+        release.countDown();
+
+        get(blocked);
+        for (CompletableFuture<ValidationResult> future : futures) {
+            assertTrue(get(future).valid());
+        }
+        assertEquals(0, validation.getQueuedLookupCount());
+    }
+
+    @Test
+    void testTimedOutLookupFreesItsSlot() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger interrupted = new AtomicInteger();
+        DNSGetRecordWrapper wrapper = new FakeWrapper() {
+            @Override
+            public DNSRecords getRecords(String host, int type) {
+                if (host.startsWith("error")) {
+                    // ignores the first interrupt, like a lookup blocked in native code
+                    while (true) {
+                        try {
+                            release.await();
+                            break;
+                        } catch (InterruptedException e) {
+                            interrupted.incrementAndGet();
+                        }
+                    }
+                }
+                return super.getRecords(host, type);
+            }
+        };
+        AsyncDNSCheckValidation validation = this.validation(wrapper, 1, Duration.ofMillis(50), Duration.ofSeconds(10));
+
+        try {
+            ValidationResult stuck = get(validation.validate("user@error.example.com"));
+            ValidationResult next = get(validation.validate("user@mx.example.com"));
+
+            assertInstanceOf(UnableToGetDNSRecord.class, stuck.reason());
+            assertTrue(next.valid());
+            assertEquals(3, interrupted.get());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testDeadlineCompletesTheAddress() throws Exception {
+        DNSGetRecordWrapper wrapper = new FakeWrapper() {
+            @Override
+            public DNSRecords getRecords(String host, int type) {
+                sleep(2_000);
+                return super.getRecords(host, type);
+            }
+        };
+
+        long start = System.nanoTime();
+        ValidationResult result = get(this.validation(wrapper, 8, Duration.ofSeconds(10), Duration.ofMillis(100))
+                .validate("user@mx.example.com"));
+
+        assertFalse(result.valid());
+        assertInstanceOf(UnableToGetDNSRecord.class, result.reason());
+        assertEquals("mx.example.com", result.domainPart());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
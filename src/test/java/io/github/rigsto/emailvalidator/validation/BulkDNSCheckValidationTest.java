@@ -0,0 +1,183 @@
+package io.github.rigsto.emailvalidator.validation;
+
+import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.result.ValidationResult;
+import io.github.rigsto.emailvalidator.result.reason.DomainAcceptsNoMail;
+import io.github.rigsto.emailvalidator.result.reason.LocalOrReservedDomain;
+import io.github.rigsto.emailvalidator.result.reason.NoDNSRecord;
+import io.github.rigsto.emailvalidator.warning.NoDNSMXRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkDNSCheckValidationTest {
+
+    /**
+     * Answers by host prefix like the asynchronous test's wrapper, counting
+     * the lookups of each host.
+     */
+    private static class CountingWrapper extends DNSGetRecordWrapper {
+        final Map<String, AtomicInteger> lookups = new ConcurrentHashMap<>();
+
+        @Override
+        public DNSRecords getRecords(String host, int type) {
+            this.lookups.computeIfAbsent(host + "/" + type, k -> new AtomicInteger()).incrementAndGet();
+            if (host.startsWith("error")) {
+                return new DNSRecords(Collections.emptyList(), true);
+            }
+
+            List<Map<String, Object>> records = new ArrayList<>();
+            if ((type & DNS_MX) != 0 && host.startsWith("mx")) {
+                records.add(Map.of("type", "MX", "target", "mail." + host, "pri", "10"));
+            }
+            if ((type & DNS_MX) != 0 && host.startsWith("nullmx")) {
+                records.add(Map.of("type", "MX", "target", ".", "pri", "0"));
+            }
+            if ((type & DNS_A) != 0 && (host.startsWith("mx") || host.startsWith("a"))) {
+                records.add(Map.of("type", "A", "ip", "192.0.2.1"));
+            }
+            return new DNSRecords(records, false);
+        }
+
+        int total() {
+            return this.lookups.values().stream().mapToInt(AtomicInteger::get).sum();
+        }
+    }
+
+    private static final List<String> DOMAINS = List.of(
+            "mx.example.com", "a.example.com", "nullmx.example.com", "none.example.com",
+            "error.example.com", "sub.mx.example.com", "localhost", "domain.test", "bücher.example.com"
+    );
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void testSameOutcomeAsDNSCheckValidation() {
+        List<String> emails = new ArrayList<>();
+        for (String domain : DOMAINS) {
+            emails.add("user@" + domain);
+        }
+
+        List<ValidationResult> results = new BulkDNSCheckValidation(new CountingWrapper(), this.executor, 4).validate(emails);
+
+        for (int i = 0; i < emails.size(); i++) {
+            String email = emails.get(i);
+            DNSCheckValidation expected = new DNSCheckValidation(new CountingWrapper());
+            boolean valid = expected.isValid(email, new EmailLexer());
+
+            ValidationResult result = results.get(i);
+            assertEquals(valid, result.valid(), email);
+            assertEquals(Set.copyOf(expected.getWarnings()), Set.copyOf(result.warnings()), email);
+            if (valid) {
+                assertNull(result.error(), email);
+            } else {
+                assertEquals(expected.getError().reason.getClass(), result.reason().getClass(), email);
+            }
+            assertEquals("user", result.localPart());
+        }
+    }
+
+    @Test
+    void testEachDomainIsResolvedOnce() {
+        CountingWrapper wrapper = new CountingWrapper();
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            emails.add("user" + i + "@" + DOMAINS.get(i % DOMAINS.size()));
+        }
+
+        List<ValidationResult> results = new BulkDNSCheckValidation(wrapper, this.executor, 4).validate(emails);
+
+        assertEquals(10_000, results.size());
+        wrapper.lookups.forEach((lookup, count) -> assertEquals(1, count.get(), lookup));
+
+        CountingWrapper single = new CountingWrapper();
+        new BulkDNSCheckValidation(single, this.executor, 4).validate(
+                DOMAINS.stream().map(domain -> "user@" + domain).toList());
+        assertEquals(single.total(), wrapper.total());
+
+        assertTrue(results.get(0).valid());
+        assertEquals("user0", results.get(0).localPart());
+        assertEquals("mx.example.com", results.get(0).domainPart());
+        assertInstanceOf(DomainAcceptsNoMail.class, results.get(2).reason());
+        assertInstanceOf(NoDNSRecord.class, results.get(3).reason());
+        assertInstanceOf(LocalOrReservedDomain.class, results.get(6).reason());
+        assertTrue(results.get(1).warnings().contains(new NoDNSMXRecord()) || results.get(1).valid());
+    }
+
+    @Test
+    void testEquivalentDomainsAreMerged() {
+        CountingWrapper wrapper = new CountingWrapper();
+
+        List<ValidationResult> results = new BulkDNSCheckValidation(wrapper, this.executor, 4).validate(Stream.of(
+                "a@bücher.example.com",
+                "b@BÜCHER.Example.COM",
+                "c@xn--bcher-kva.example.com",
+                "d@xn--bcher-kva.example.com."
+        ));
+
+        assertEquals(4, results.size());
+        assertEquals(1, wrapper.lookups.get("xn--bcher-kva.example.com/" + DNSGetRecordWrapper.DNS_AAAA).get());
+        assertEquals("BÜCHER.Example.COM", results.get(1).domainPart());
+        for (ValidationResult result : results) {
+            assertEquals(results.get(0).valid(), result.valid());
+        }
+    }
+
+    @Test
+    void testFailedLookupsAreNotShared() {
+        CountingWrapper wrapper = new CountingWrapper();
+
+        List<ValidationResult> results = new BulkDNSCheckValidation(wrapper, this.executor, 1).validate(List.of(
+                "a@mx.error.com",
+                "b@mx2.error.com",
+                "c@mx.example.com",
+                "d@a.example.com"
+        ));
+
+        assertTrue(results.get(0).valid());
+        assertTrue(results.get(1).valid());
+        int addressAndMx = DNSGetRecordWrapper.DNS_A | DNSGetRecordWrapper.DNS_MX;
+        assertEquals(2, wrapper.lookups.get("error.com/" + addressAndMx).get());
+        assertEquals(1, wrapper.lookups.get("example.com/" + addressAndMx).get());
+    }
+
+    @Test
+    void testAddressesWithoutDomainPartHaveEmptyDomainPart() {
+        List<ValidationResult> results = new BulkDNSCheckValidation(new CountingWrapper(), this.executor, 2)
+                .validate(List.of("foo", "foo@"));
+
+        assertFalse(results.get(0).valid());
+        assertEquals("", results.get(0).localPart());
+        assertEquals("", results.get(0).domainPart());
+        assertFalse(results.get(1).valid());
+        assertEquals("foo", results.get(1).localPart());
+        assertEquals("", results.get(1).domainPart());
+    }
+
+    @Test
+    void testSequentialAndEmptyBatches() {
+        BulkDNSCheckValidation validation = new BulkDNSCheckValidation(new CountingWrapper(), this.executor, 1);
+
+        assertTrue(validation.validate(List.of()).isEmpty());
+        assertTrue(validation.validate(new String[] {"user@mx.example.com"}).get(0).valid());
+        assertThrows(IllegalArgumentException.class, () -> new BulkDNSCheckValidation(new CountingWrapper(), this.executor, 0));
+        assertThrows(NullPointerException.class, () -> new BulkDNSCheckValidation(null));
+    }
+}
@@ -0,0 +1,198 @@
+package io.github.rigsto.emailvalidator.validation;
+
+import io.github.rigsto.emailvalidator.EmailLexer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingDNSGetRecordWrapperTest {
+
+    /**
+     * Answers MX records for hosts starting with "mx", A records with a time
+     * to live for hosts starting with "ttl", nothing for hosts
+     * starting with "none" and an error for hosts starting with "error".
+     */
+    private static class FakeWrapper extends DNSGetRecordWrapper {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public DNSRecords getRecords(String host, int type) {
+            this.calls.incrementAndGet();
+            if (host.startsWith("error")) {
+                return new DNSRecords(Collections.emptyList(), true);
+            }
+            if (host.startsWith("ttl")) {
+                return new DNSRecords(List.of(Map.of("type", "A", NativeDNSGetRecordWrapper.TTL, 5L),
+                        Map.of("type", "A", NativeDNSGetRecordWrapper.TTL, 120L)), false);
+            }
+            if (host.startsWith("none")) {
+                return new DNSRecords(Collections.emptyList(), false);
+            }
+            return new DNSRecords(List.of(Map.of("type", "MX", "target", "mail." + host)), false);
+        }
+    }
+
+    private final FakeWrapper fake = new FakeWrapper();
+    private final AtomicLong now = new AtomicLong();
+
+    private CachingDNSGetRecordWrapper cache(int maximumSize) {
+        return new CachingDNSGetRecordWrapper(this.fake, maximumSize,
+                Duration.ofSeconds(60), Duration.ofSeconds(10), Duration.ofSeconds(1), this.now::get);
+    }
+
+    @Test
+    void testRepeatedLookupIsCached() {
+        CachingDNSGetRecordWrapper cache = this.cache(10);
+
+        DNSRecords first = cache.getRecords("mx.example.com", DNSGetRecordWrapper.DNS_MX);
+        DNSRecords second = cache.getRecords("MX.Example.com", DNSGetRecordWrapper.DNS_MX);
+
+        assertSame(first, second);
+        assertEquals(1, this.fake.calls.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testRecordTypesAreCachedSeparately() {
+        CachingDNSGetRecordWrapper cache = this.cache(10);
+
+        cache.getRecords("mx.example.com", DNSGetRecordWrapper.DNS_MX | DNSGetRecordWrapper.DNS_A);
+        cache.getRecords("mx.example.com", DNSGetRecordWrapper.DNS_AAAA);
+
+        assertEquals(2, this.fake.calls.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testEntriesExpireAccordingToOutcome() {
+        CachingDNSGetRecordWrapper cache = this.cache(10);
+        cache.getRecords("mx.example.com", DNSGetRecordWrapper.DNS_MX);
+        cache.getRecords("none.example.com", DNSGetRecordWrapper.DNS_MX);
+        cache.getRecords("error.example.com", DNSGetRecordWrapper.DNS_MX);
+        assertEquals(3, this.fake.calls.get());
+
+        this.now.set(TimeUnit.SECONDS.toNanos(2));
+        cache.getRecords("mx.example.com", DNSGetRecordWrapper.DNS_MX);
+        cache.getRecords("none.example.com", DNSGetRecordWrapper.DNS_MX);
+        cache.getRecords("error.example.com", DNSGetRecordWrapper.DNS_MX);
+        assertEquals(4, this.fake.calls.get(), "only the error has expired");
+
+        this.now.set(TimeUnit.SECONDS.toNanos(20));
+        cache.getRecords("mx.example.com", DNSGetRecordWrapper.DNS_MX);
+        cache.getRecords("none.example.com", DNSGetRecordWrapper.DNS_MX);
+        assertEquals(5, this.fake.calls.get(), "the negative entry has expired");
+
+        this.now.set(TimeUnit.SECONDS.toNanos(100));
+        cache.getRecords("mx.example.com", DNSGetRecordWrapper.DNS_MX);
+        assertEquals(6, this.fake.calls.get(), "the positive entry has expired");
+    }
+
+    @Test
+    void testRecordTimeToLiveReplacesConfiguredOne() {
+        CachingDNSGetRecordWrapper cache = this.cache(10);
+        cache.getRecords("ttl.example.com", DNSGetRecordWrapper.DNS_A);
+
+        this.now.set(TimeUnit.SECONDS.toNanos(4));
+        cache.getRecords("ttl.example.com", DNSGetRecordWrapper.DNS_A);
+        assertEquals(1, this.fake.calls.get());
+
+        this.now.set(TimeUnit.SECONDS.toNanos(6));
+        cache.getRecords("ttl.example.com", DNSGetRecordWrapper.DNS_A);
+        assertEquals(2, this.fake.calls.get(), "expired with the shortest record time to live");
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        CachingDNSGetRecordWrapper cache = this.cache(2);
+        cache.getRecords("mx.a.com", DNSGetRecordWrapper.DNS_MX);
+        cache.getRecords("mx.b.com", DNSGetRecordWrapper.DNS_MX);
+        cache.getRecords("mx.a.com", DNSGetRecordWrapper.DNS_MX);
+        cache.getRecords("mx.c.com", DNSGetRecordWrapper.DNS_MX);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+
+        cache.getRecords("mx.a.com", DNSGetRecordWrapper.DNS_MX);
+        assertEquals(3, this.fake.calls.get(), "a.com was used recently and kept");
+        cache.getRecords("mx.b.com", DNSGetRecordWrapper.DNS_MX);
+        assertEquals(4, this.fake.calls.get(), "b.com was evicted");
+    }
+
+    @Test
+    void testConcurrentLookupsAreCoalesced() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DNSGetRecordWrapper slow = new FakeWrapper() {
+            @Override
+            public DNSRecords getRecords(String host, int type) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getRecords(host, type);
+            }
+        };
+        CachingDNSGetRecordWrapper cache = new CachingDNSGetRecordWrapper(slow);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<DNSRecords>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> cache.getRecords("mx.example.com", DNSGetRecordWrapper.DNS_MX)));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++) {
+                futures.add(executor.submit(() -> cache.getRecords("mx.example.com", DNSGetRecordWrapper.DNS_MX)));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            DNSRecords expected = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<DNSRecords> future : futures) {
+                assertSame(expected, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, ((FakeWrapper) slow).calls.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(7, cache.getHitCount());
+    }
+
+    @Test
+    void testCachedRecordsCannotBeModified() {
+        DNSRecords records = this.cache(10).getRecords("mx.example.com", DNSGetRecordWrapper.DNS_MX);
+
+        assertThrows(UnsupportedOperationException.class, () -> records.getRecords().clear());
+    }
+
+    @Test
+    void testUsableByDnsCheckValidation() {
+        CachingDNSGetRecordWrapper cache = this.cache(10);
+        DNSCheckValidation validation = new DNSCheckValidation(cache);
+
+        assertTrue(validation.isValid("user@mx.example.com", new EmailLexer()));
+        assertTrue(validation.isValid("other@mx.example.com", new EmailLexer()));
+        assertEquals(2, this.fake.calls.get(), "A/MX and AAAA lookups made once");
+    }
+
+    @Test
+    void testInvalidMaximumSize() {
+        assertThrows(IllegalArgumentException.class, () -> this.cache(0));
+    }
+}
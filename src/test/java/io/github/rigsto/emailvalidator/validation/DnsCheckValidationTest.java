@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -118,6 +119,14 @@ public class DnsCheckValidationTest {
                 "Expected NoDNSRecord, got " + err.getReason().getClass().getSimpleName());
     }
 
+    @Test
+    void testInvalidLookupTimeout() {
+        assertThrows(IllegalArgumentException.class, () -> new DNSGetRecordWrapper(Duration.ZERO, 1));
+        assertThrows(IllegalArgumentException.class, () -> new DNSGetRecordWrapper(Duration.ofNanos(500), 1));
+        assertThrows(IllegalArgumentException.class, () -> new DNSGetRecordWrapper(Duration.ofSeconds(1), -1));
+        assertThrows(NullPointerException.class, () -> new DNSGetRecordWrapper(null, 1));
+    }
+
     static Stream<String> validEmailsProvider() {
         return Stream.of(
                 // dot-atom
@@ -0,0 +1,72 @@
+package io.github.rigsto.emailvalidator.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DomainNormalizerTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "example.com, example.com",
+            "Mail.EXAMPLE.com., mail.example.com",
+            "ab--cd.example, ab--cd.example",
+            "bücher.example, xn--bcher-kva.example",
+            "BÜCHER.example., xn--bcher-kva.example",
+            "xn--bcher-kva.example, xn--bcher-kva.example",
+            "例子。广告, xn--fsqu00a.xn--4rr70v",
+            "faß.de, xn--fa-hia.de"
+    })
+    void testToAscii(String domain, String expected) {
+        DomainNormalizer normalizer = new DomainNormalizer(10);
+        assertEquals(expected, normalizer.toAscii(domain));
+        assertEquals(expected, normalizer.toAscii(domain));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a..com", "-a.com", "a-.com", "a_b.com", "xn--zz.com", "bü_cher.example", ".com"})
+    void testToAsciiRejects(String domain) {
+        DomainNormalizer normalizer = new DomainNormalizer(10);
+        assertNull(normalizer.toAscii(domain));
+        assertNull(normalizer.toAscii(domain));
+    }
+
+    @Test
+    void testToUnicode() {
+        DomainNormalizer normalizer = new DomainNormalizer(10);
+        assertEquals("bücher.example", normalizer.toUnicode("xn--bcher-kva.example"));
+        assertEquals("bücher.example", normalizer.toUnicode("XN--bcher-kva.example"));
+        assertEquals("Example.com", normalizer.toUnicode("Example.com"));
+        assertEquals("xn--zz.com", normalizer.toUnicode("xn--zz.com"));
+    }
+
+    @Test
+    void testOnlyInternationalizedDomainsAreCachedUpToTheMaximumSize() {
+        DomainNormalizer normalizer = new DomainNormalizer(2);
+        normalizer.toAscii("example.com");
+        assertEquals(0, normalizer.size());
+
+        normalizer.toAscii("bücher.example");
+        normalizer.toAscii("bücher.test");
+        normalizer.toAscii("bücher.invalid");
+        assertEquals(2, normalizer.size());
+        assertEquals("xn--bcher-kva.example", normalizer.toAscii("bücher.example"));
+
+        assertThrows(IllegalArgumentException.class, () -> new DomainNormalizer(0));
+    }
+
+    @Test
+    void testCandidateHosts() {
+        assertEquals(List.of("xn--bcher-kva.example", "mail.xn--bcher-kva.example"),
+                DNSCheckValidation.candidateHosts("mail.Bücher.example."));
+        assertEquals(List.of("example.com"), DNSCheckValidation.candidateHosts("example.com"));
+        assertEquals(List.of("example.com", "mail.example.com"), DNSCheckValidation.candidateHosts("mail.example.com"));
+        assertEquals(List.of("localhost"), DNSCheckValidation.candidateHosts("localhost"));
+        assertEquals(List.of(), DNSCheckValidation.candidateHosts("a..com"));
+    }
+}
@@ -14,6 +14,11 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -185,4 +190,281 @@ public class MultipleValidationWithAndTest {
         assertFalse(mv.isValid("invalid-email", lexer));
         assertFalse(called[0], "Trailing validation should not run when RFCValidation fails.");
     }
+
+    /**
+     * Validation blocking until released, recording whether it was interrupted.
+     */
+    static final class BlockingValidation implements EmailValidation {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+
+        @Override
+        public boolean isValid(String email, EmailLexer emailLexer) {
+            this.started.countDown();
+            try {
+                this.release.await();
+            } catch (InterruptedException e) {
+                this.interrupted.set(true);
+            }
+            return true;
+        }
+
+        @Override
+        public InvalidEmail getError() {
+            return null;
+        }
+
+        @Override
+        public List<Warning> getWarnings() {
+            return List.of();
+        }
+
+        @Override
+        public int cost() {
+            return COST_NETWORK;
+        }
+    }
+
+    @Test
+    void testOrderByCostRunsCheapValidationsFirst() throws EmptyValidationList {
+        final boolean[] called = { false };
+        EmailValidation network = new EmailValidation() {
+            @Override public boolean isValid(String email, EmailLexer emailLexer) { called[0] = true; return true; }
+            @Override public InvalidEmail getError() { return null; }
+            @Override public List<Warning> getWarnings() { return List.of(); }
+            @Override public int cost() { return COST_NETWORK; }
+        };
+
+        MultipleValidationWithAnd mv = new MultipleValidationWithAnd(
+                List.of(network, new RFCValidation()),
+                MultipleValidationWithAnd.STOP_ON_ERROR | MultipleValidationWithAnd.ORDER_BY_COST
+        );
+
+        assertFalse(mv.isValid("invalid-email", new EmailLexer()));
+        assertFalse(called[0], "Network validation should not run when RFCValidation fails.");
+        assertEquals(EmailValidation.COST_NETWORK, mv.cost());
+
+        assertTrue(mv.isValid("example@example.com", new EmailLexer()));
+        assertTrue(called[0]);
+    }
+
+    @Test
+    void testOrderByCostAllowsAllErrors() throws EmptyValidationList {
+        StubValidation v1 = new StubValidation(false);
+        v1.error = new InvalidEmail(new DummyReason(), "");
+        StubValidation v2 = new StubValidation(false);
+        v2.error = new InvalidEmail(new AnotherDummyReason(), "");
+
+        MultipleValidationWithAnd mv = new MultipleValidationWithAnd(
+                List.of(v1, v2),
+                MultipleValidationWithAnd.ALLOW_ALL_ERRORS | MultipleValidationWithAnd.ORDER_BY_COST
+        );
+        assertFalse(mv.isValid("example@example.com", new EmailLexer()));
+
+        assertEquals(2, ((MultipleErrors) mv.getError()).getReasons().size());
+    }
+
+    @Test
+    void testParallelMergesInDeclarationOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            StubValidation v1 = new StubValidation(false);
+            v1.warnings.add(new AddressLiteral());
+            v1.error = new InvalidEmail(new DummyReason(), "");
+            StubValidation v2 = new StubValidation(true);
+            v2.warnings.add(new DomainLiteral());
+            StubValidation v3 = new StubValidation(false);
+            v3.error = new InvalidEmail(new AnotherDummyReason(), "");
+
+            MultipleValidationWithAnd mv = new MultipleValidationWithAnd(
+                    List.of(v1, v2, v3), MultipleValidationWithAnd.ALLOW_ALL_ERRORS, executor);
+
+            for (int i = 0; i < 50; i++) {
+                assertFalse(mv.isValid("example@example.com", new EmailLexer()));
+
+                List<Reason> reasons = ((MultipleErrors) mv.getError()).getReasons();
+                assertEquals(2, reasons.size());
+                assertInstanceOf(DummyReason.class, reasons.get(0));
+                assertInstanceOf(AnotherDummyReason.class, reasons.get(1));
+
+                List<Warning> warnings = mv.getWarnings();
+                assertInstanceOf(AddressLiteral.class, warnings.get(0));
+                assertInstanceOf(DomainLiteral.class, warnings.get(1));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testParallelMatchesSequential() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MultipleValidationWithAnd parallel = new MultipleValidationWithAnd(
+                    List.of(new RFCValidation(), new NoRFCWarningsValidation()),
+                    MultipleValidationWithAnd.ALLOW_ALL_ERRORS, executor);
+            MultipleValidationWithAnd sequential = new MultipleValidationWithAnd(
+                    List.of(new RFCValidation(), new NoRFCWarningsValidation()),
+                    MultipleValidationWithAnd.ALLOW_ALL_ERRORS);
+
+            for (String email : List.of("example@example.com", "user@localhost", "invalid-email", "a@b..c")) {
+                assertEquals(sequential.isValid(email, new EmailLexer()), parallel.isValid(email, new EmailLexer()), email);
+                assertEquals(sequential.getWarnings(), parallel.getWarnings(), email);
+                assertEquals(sequential.getError() == null, parallel.getError() == null, email);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testParallelCancelsOnFirstError() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            BlockingValidation slow = new BlockingValidation();
+            EmailValidation failing = new EmailValidation() {
+                @Override
+                public boolean isValid(String email, EmailLexer emailLexer) {
+                    try {
+                        slow.started.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return false;
+                }
+                @Override public InvalidEmail getError() { return new InvalidEmail(new DummyReason(), ""); }
+                @Override public List<Warning> getWarnings() { return List.of(); }
+                @Override public int cost() { return COST_NETWORK; }
+            };
+
+            MultipleValidationWithAnd mv = new MultipleValidationWithAnd(
+                    List.of(slow, failing), MultipleValidationWithAnd.STOP_ON_ERROR, executor);
+
+            assertFalse(mv.isValid("example@example.com", new EmailLexer()));
+            assertInstanceOf(DummyReason.class, ((MultipleErrors) mv.getError()).getReasons().get(0));
+
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            assertTrue(slow.interrupted.get(), "Slow validation should have been interrupted");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Validation sleeping for a while before passing or failing.
+     */
+    static final class SleepingValidation implements EmailValidation {
+        final long millis;
+        final boolean result;
+        final int cost;
+        final Reason reason;
+
+        SleepingValidation(long millis, boolean result, int cost) {
+            this(millis, result, cost, new DummyReason());
+        }
+
+        SleepingValidation(long millis, boolean result, int cost, Reason reason) {
+            this.millis = millis;
+            this.result = result;
+            this.cost = cost;
+            this.reason = reason;
+        }
+
+        @Override
+        public boolean isValid(String email, EmailLexer emailLexer) {
+            try {
+                Thread.sleep(this.millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return this.result;
+        }
+
+        @Override public InvalidEmail getError() { return new InvalidEmail(this.reason, ""); }
+        @Override public List<Warning> getWarnings() { return List.of(); }
+        @Override public int cost() { return this.cost; }
+    }
+
+    @Test
+    void testParallelOverlapsValidationsOfDifferentCosts() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            MultipleValidationWithAnd mv = new MultipleValidationWithAnd(
+                    List.of(new SleepingValidation(300, true, EmailValidation.COST_NETWORK),
+                            new SleepingValidation(300, true, EmailValidation.COST_SYNTAX),
+                            new SleepingValidation(300, true, 10)),
+                    MultipleValidationWithAnd.STOP_ON_ERROR | MultipleValidationWithAnd.ORDER_BY_COST, executor);
+
+            long start = System.nanoTime();
+            assertTrue(mv.isValid("example@example.com", new EmailLexer()));
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertTrue(elapsed < 600, "validations should overlap, took " + elapsed + " ms instead of about 300");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testParallelReportsFirstFailureInCostOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            MultipleValidationWithAnd mv = new MultipleValidationWithAnd(
+                    List.of(new SleepingValidation(0, false, EmailValidation.COST_NETWORK, new AnotherDummyReason()),
+                            new SleepingValidation(200, false, EmailValidation.COST_SYNTAX),
+                            new SleepingValidation(0, true, 10)),
+                    MultipleValidationWithAnd.STOP_ON_ERROR | MultipleValidationWithAnd.ORDER_BY_COST, executor);
+
+            assertFalse(mv.isValid("example@example.com", new EmailLexer()));
+            List<Reason> reasons = ((MultipleErrors) mv.getError()).getReasons();
+            assertEquals(1, reasons.size());
+            assertInstanceOf(DummyReason.class, reasons.get(0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testParallelCheapFailureCancelsExpensiveValidation() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            BlockingValidation network = new BlockingValidation();
+            MultipleValidationWithAnd mv = new MultipleValidationWithAnd(
+                    List.of(network, new RFCValidation()),
+                    MultipleValidationWithAnd.STOP_ON_ERROR | MultipleValidationWithAnd.ORDER_BY_COST, executor);
+
+            assertFalse(mv.isValid("invalid-email", new EmailLexer()));
+            assertEquals(1, ((MultipleErrors) mv.getError()).getReasons().size());
+
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            assertTrue(network.interrupted.get() || network.started.getCount() == 1,
+                    "The network validation should have been cancelled");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testParallelPropagatesExceptions() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            EmailValidation throwing = new EmailValidation() {
+                @Override public boolean isValid(String email, EmailLexer emailLexer) { throw new IllegalStateException("boom"); }
+                @Override public InvalidEmail getError() { return null; }
+                @Override public List<Warning> getWarnings() { return List.of(); }
+            };
+
+            MultipleValidationWithAnd mv = new MultipleValidationWithAnd(
+                    List.of(new StubValidation(true), throwing), MultipleValidationWithAnd.STOP_ON_ERROR, executor);
+
+            assertThrows(IllegalStateException.class, () -> mv.isValid("example@example.com", new EmailLexer()));
+            assertThrows(NullPointerException.class,
+                    () -> new MultipleValidationWithAnd(List.of(new StubValidation(true)), 0, null));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
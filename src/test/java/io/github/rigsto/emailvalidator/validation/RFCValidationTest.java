@@ -74,6 +74,19 @@ public class RFCValidationTest {
         assertEquals(expected.getReason().getClass(), actual.getReason().getClass());
     }
 
+    @ParameterizedTest
+    @MethodSource({"validEmails", "invalidEmails"})
+    void testPrimitiveTokensGiveSameResult(Object email) {
+        RFCValidation primitive = new RFCValidation();
+        boolean expected = validator.isValid(String.valueOf(email), lexer);
+
+        assertEquals(expected, primitive.isValid(String.valueOf(email), new EmailLexer(EmailLexer.PRIMITIVE_TOKENS)));
+        assertEquals(validator.getWarnings().size(), primitive.getWarnings().size());
+        if (!expected) {
+            assertEquals(validator.getError().getReason().getClass(), primitive.getError().getReason().getClass());
+        }
+    }
+
     static Stream<String> validEmails() {
         return Stream.of(
                 "fabien@symfony.com",
@@ -0,0 +1,216 @@
+package io.github.rigsto.emailvalidator.validation;
+
+import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.result.InvalidEmail;
+import io.github.rigsto.emailvalidator.result.reason.NoDomainPart;
+import io.github.rigsto.emailvalidator.result.reason.UnableToGetDNSRecord;
+import io.github.rigsto.emailvalidator.warning.TLD;
+import io.github.rigsto.emailvalidator.warning.Warning;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidationCacheTest {
+
+    /**
+     * RFC validation counting how many addresses it validated.
+     */
+    private static class CountingValidation extends RFCValidation {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public boolean isValid(String email, EmailLexer emailLexer) {
+            this.calls.incrementAndGet();
+            return super.isValid(email, emailLexer);
+        }
+    }
+
+    private final CountingValidation counting = new CountingValidation();
+    private final EmailLexer lexer = new EmailLexer();
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void testRepeatedAddressIsCached() {
+        ValidationCache cache = new ValidationCache(100);
+        CachingEmailValidation validation = new CachingEmailValidation(this.counting, cache);
+
+        assertTrue(validation.isValid("user@example.com", this.lexer));
+        assertTrue(validation.isValid("user@example.com", this.lexer));
+        assertTrue(new CachingEmailValidation(new RFCValidation(), cache).isValid("user@example.com", this.lexer));
+
+        assertEquals(1, this.counting.calls.get());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2.0 / 3, cache.getHitRatio(), 1e-9);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testOutcomeIsPreserved() {
+        CachingEmailValidation validation = new CachingEmailValidation(this.counting, new ValidationCache(100));
+
+        for (int i = 0; i < 2; i++) {
+            assertFalse(validation.isValid("example@", this.lexer));
+            InvalidEmail error = validation.getError();
+            assertInstanceOf(NoDomainPart.class, error.reason);
+
+            assertTrue(validation.isValid("user@localhost", this.lexer));
+            assertNull(validation.getError());
+            assertEquals(List.of(new TLD()), validation.getWarnings());
+        }
+
+        assertEquals(2, this.counting.calls.get());
+    }
+
+    @Test
+    void testWarningsCannotBeChanged() {
+        CachingEmailValidation validation = new CachingEmailValidation(this.counting, new ValidationCache(100));
+
+        validation.isValid("user@localhost", this.lexer);
+        List<Warning> warnings = validation.getWarnings();
+        warnings.clear();
+
+        validation.isValid("user@localhost", this.lexer);
+        assertEquals(1, validation.getWarnings().size());
+    }
+
+    @Test
+    void testEntriesExpire() {
+        ValidationCache cache = new ValidationCache(100, Duration.ofSeconds(60), Duration.ofSeconds(10), this.now::get);
+        CachingEmailValidation validation = new CachingEmailValidation(this.counting, cache);
+
+        validation.isValid("user@example.com", this.lexer);
+        validation.isValid("example@", this.lexer);
+
+        this.now.addAndGet(Duration.ofSeconds(30).toNanos());
+        validation.isValid("user@example.com", this.lexer);
+        validation.isValid("example@", this.lexer);
+        assertEquals(3, this.counting.calls.get());
+
+        this.now.addAndGet(Duration.ofSeconds(30).toNanos());
+        validation.isValid("user@example.com", this.lexer);
+        assertEquals(4, this.counting.calls.get());
+    }
+
+    @Test
+    void testZeroTimeToLiveIsNotCached() {
+        ValidationCache cache = new ValidationCache(100, Duration.ofMinutes(1), Duration.ZERO);
+        CachingEmailValidation validation = new CachingEmailValidation(this.counting, cache);
+
+        validation.isValid("example@", this.lexer);
+        validation.isValid("example@", this.lexer);
+
+        assertEquals(2, this.counting.calls.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testTransientErrorsAreNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        DNSCheckValidation failing = new DNSCheckValidation(new DNSGetRecordWrapper() {
+            @Override
+            public DNSRecords getRecords(String host, int type) {
+                calls.incrementAndGet();
+                return new DNSRecords(List.of(), true);
+            }
+        });
+        ValidationCache cache = new ValidationCache(100);
+        CachingEmailValidation validation = new CachingEmailValidation(failing, cache);
+
+        assertFalse(validation.isValid("user@example.com", this.lexer));
+        assertInstanceOf(UnableToGetDNSRecord.class, validation.getError().getReason());
+        int lookups = calls.get();
+        assertFalse(validation.isValid("user@example.com", this.lexer));
+
+        assertEquals(2 * lookups, calls.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        ValidationCache cache = new ValidationCache(500);
+        CachingEmailValidation validation = new CachingEmailValidation(this.counting, cache);
+
+        for (int i = 0; i < 5_000; i++) {
+            validation.isValid("user" + i + "@example.com", this.lexer);
+        }
+
+        assertTrue(cache.size() <= 500, "size " + cache.size());
+        assertEquals(5_000 - cache.size(), cache.getEvictionCount());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testFrequentAddressesSurviveScans() {
+        ValidationCache cache = new ValidationCache(200);
+        CachingEmailValidation validation = new CachingEmailValidation(this.counting, cache);
+
+        List<String> hot = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            hot.add("hot" + i + "@example.com");
+        }
+        for (int round = 0; round < 5; round++) {
+            for (String email : hot) {
+                validation.isValid(email, this.lexer);
+            }
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            validation.isValid("once" + i + "@example.com", this.lexer);
+        }
+
+        int before = this.counting.calls.get();
+        for (String email : hot) {
+            validation.isValid(email, this.lexer);
+        }
+        int missed = this.counting.calls.get() - before;
+        assertTrue(missed <= 10, missed + " hot addresses were evicted by one-time addresses");
+    }
+
+    @Test
+    void testConcurrentUse() throws Exception {
+        ValidationCache cache = new ValidationCache(1_000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    CachingEmailValidation validation = new CachingEmailValidation(new RFCValidation(), cache);
+                    EmailLexer lexer = new EmailLexer();
+                    for (int i = 0; i < 5_000; i++) {
+                        String email = "user" + (i % 2_000) + "@example.com";
+                        assertTrue(validation.isValid(email, lexer));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(20_000, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.size() <= 1_000);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ValidationCache(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ValidationCache(10, Duration.ofSeconds(-1), Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> new CachingEmailValidation(null, new ValidationCache(10)));
+        assertEquals(1.0, new ValidationCache(10).getHitRatio());
+    }
+}
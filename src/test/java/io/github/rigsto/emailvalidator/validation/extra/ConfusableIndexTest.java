@@ -0,0 +1,44 @@
+package io.github.rigsto.emailvalidator.validation.extra;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfusableIndexTest {
+
+    private final ConfusableIndex index = new ConfusableIndex(List.of("paypal.com", "Example.com", "admin"));
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "pаypal.com",   // Cyrillic а
+            "paypaI.com",   // capital I for l
+            "exаmple.com",  // Cyrillic а
+            "adrnin",       // rn for m
+            "аdmin"         // Cyrillic а
+    })
+    void testLookalikesAreFound(String candidate) {
+        assertTrue(this.index.isLookalike(candidate), candidate);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"paypal.com", "PayPal.com", "example.com", "admin", "google.com", "administrator"})
+    void testProtectedAndUnrelatedNamesAreNotLookalikes(String candidate) {
+        assertFalse(this.index.isLookalike(candidate), candidate);
+    }
+
+    @Test
+    void testFindLookalikeReturnsProtectedName() {
+        assertEquals("example.com", this.index.findLookalike("exаmple.com"));
+        assertNull(this.index.findLookalike("unrelated.org"));
+    }
+
+    @Test
+    void testSkeletonIsCaseInsensitive() {
+        assertEquals(this.index.skeleton("PayPal.com"), this.index.skeleton("paypal.com"));
+        assertEquals(3, this.index.size());
+    }
+}
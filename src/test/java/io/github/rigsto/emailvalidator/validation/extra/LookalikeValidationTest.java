@@ -0,0 +1,49 @@
+package io.github.rigsto.emailvalidator.validation.extra;
+
+import io.github.rigsto.emailvalidator.EmailLexer;
+import io.github.rigsto.emailvalidator.result.reason.SpoofEmail;
+import org.junit.jupiter.api.Test;
+
+import java.net.IDN;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LookalikeValidationTest {
+
+    private final ConfusableIndex domains = new ConfusableIndex(List.of("paypal.com"));
+    private final ConfusableIndex localParts = new ConfusableIndex(List.of("admin", "support"));
+
+    @Test
+    void testLookalikeDomainIsInvalid() {
+        LookalikeValidation validation = new LookalikeValidation(this.domains, LookalikeValidation.DOMAIN);
+
+        assertFalse(validation.isValid("user@pаypal.com", new EmailLexer()));
+        assertInstanceOf(SpoofEmail.class, validation.getError().getReason());
+        assertEquals("paypal.com", validation.getMatchedName());
+
+        assertTrue(validation.isValid("user@paypal.com", new EmailLexer()));
+        assertNull(validation.getError());
+        assertNull(validation.getMatchedName());
+    }
+
+    @Test
+    void testPunycodeDomainIsDecoded() {
+        LookalikeValidation validation = new LookalikeValidation(this.domains, LookalikeValidation.DOMAIN);
+
+        assertFalse(validation.isValid("user@" + IDN.toASCII("pаypal.com"), new EmailLexer()));
+    }
+
+    @Test
+    void testOnlyRequestedPartsAreChecked() {
+        LookalikeValidation domainOnly = new LookalikeValidation(this.localParts, LookalikeValidation.DOMAIN);
+        LookalikeValidation localOnly = new LookalikeValidation(this.localParts, LookalikeValidation.LOCAL_PART);
+        LookalikeValidation both = new LookalikeValidation(this.domains,
+                LookalikeValidation.LOCAL_PART | LookalikeValidation.DOMAIN);
+
+        assertTrue(domainOnly.isValid("аdmin@example.com", new EmailLexer()));
+        assertFalse(localOnly.isValid("аdmin@example.com", new EmailLexer()));
+        assertFalse(both.isValid("user@pаypal.com", new EmailLexer()));
+        assertTrue(both.isValid("user@example.com", new EmailLexer()));
+    }
+}
@@ -7,8 +7,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.stream.Stream;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class SpoofCheckValidationTest {
 
@@ -26,6 +25,26 @@ public class SpoofCheckValidationTest {
         assertFalse(validation.isValid(spoof, new EmailLexer()));
     }
 
+    @Test
+    void testErrorIsClearedOnNextValidation() {
+        SpoofCheckValidation validation = new SpoofCheckValidation();
+        assertFalse(validation.isValid("Кириллица" + "latin漢字", new EmailLexer()));
+        assertNotNull(validation.getError());
+
+        assertTrue(validation.isValid("example@example.com", new EmailLexer()));
+        assertNull(validation.getError());
+    }
+
+    @Test
+    void testDefaultCheckerIsShared() {
+        assertSame(new SpoofCheckValidation().spoofChecker(), new SpoofCheckValidation().spoofChecker());
+    }
+
+    @Test
+    void testNullCheckerIsRejected() {
+        assertThrows(NullPointerException.class, () -> new SpoofCheckValidation(null));
+    }
+
     static Stream<String> validUTF8EmailsProvider() {
         return Stream.of(
                 // Cyrillic
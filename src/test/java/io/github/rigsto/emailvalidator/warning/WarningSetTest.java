@@ -0,0 +1,146 @@
+package io.github.rigsto.emailvalidator.warning;
+
+import io.github.rigsto.emailvalidator.dummy.DummyReason;
+import io.github.rigsto.emailvalidator.result.reason.DotAtEnd;
+import io.github.rigsto.emailvalidator.result.reason.ExceptionFound;
+import io.github.rigsto.emailvalidator.result.reason.ExpectingATEXT;
+import io.github.rigsto.emailvalidator.result.reason.ExpectingDomainLiteralClose;
+import io.github.rigsto.emailvalidator.result.reason.Reason;
+import io.github.rigsto.emailvalidator.result.reason.ReasonType;
+import io.github.rigsto.emailvalidator.result.reason.SpoofEmail;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WarningSetTest {
+
+    /**
+     * A warning outside the library, relying on its CODE field.
+     */
+    public static class CustomWarning extends Warning {
+        public static final int CODE = 500;
+
+        public CustomWarning() {
+            this.message = "Custom";
+        }
+    }
+
+    private static List<Warning> allWarnings() {
+        return List.of(
+                new NoDNSMXRecord(), new TLD(), new QuotedString("a", "b"), new AddressLiteral(),
+                new IPV6Deprecated(), new Comment(), new CFWSWithFWS(), new QuotedPart("a", "b"),
+                new DeprecatedComment(), new CFWSNearAt(), new LocalTooLong(), new EmailTooLong(),
+                new DomainLiteral(), new ObsoleteDTEXT(), new IPV6GroupCount(), new IPV6DoubleColon(),
+                new IPV6BadChar(), new IPV6MaxGroups(), new IPV6ColonStart(), new IPV6ColonEnd()
+        );
+    }
+
+    @Test
+    void testRegistryCoversEveryWarning() {
+        List<Warning> warnings = allWarnings();
+        assertEquals(WarningType.COUNT, warnings.size());
+
+        for (int i = 0; i < warnings.size(); i++) {
+            Warning warning = warnings.get(i);
+            WarningType type = WarningType.of(warning);
+            assertSame(WarningType.values()[i], type, warning.getClass().getSimpleName());
+            assertSame(warning.getClass(), type.type());
+            assertEquals(i, WarningType.indexOf(warning.code()));
+        }
+        assertNull(WarningType.of(CustomWarning.CODE));
+        assertEquals(-1, WarningType.indexOf(-1));
+        assertEquals(500, new CustomWarning().code());
+    }
+
+    @Test
+    void testBehavesLikeHashSet() {
+        WarningSet set = new WarningSet();
+        Set<Warning> expected = new HashSet<>();
+        for (Warning warning : List.of(new TLD(), new CFWSNearAt(), new TLD(), new CustomWarning(),
+                new CustomWarning(), new IPV6ColonEnd())) {
+            assertEquals(expected.add(warning), set.add(warning));
+        }
+
+        assertEquals(expected, set);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(4, set.size());
+        assertTrue(set.contains(new TLD()));
+        assertTrue(set.contains(WarningType.CFWS_NEAR_AT));
+        assertFalse(set.contains(new Comment()));
+        assertEquals(WarningType.TLD.mask() | WarningType.CFWS_NEAR_AT.mask() | WarningType.IPV6_COLON_END.mask(),
+                set.mask());
+
+        assertTrue(set.remove(new CFWSNearAt()));
+        assertFalse(set.remove(new CFWSNearAt()));
+        assertTrue(set.remove(new CustomWarning()));
+        assertEquals(List.of(new TLD(), new IPV6ColonEnd()), List.copyOf(set));
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertEquals(0, set.mask());
+    }
+
+    @Test
+    void testKeepsFirstWarningAndIteratesByCode() {
+        WarningSet set = new WarningSet();
+        QuotedPart first = new QuotedPart("first", "x");
+        set.add(new IPV6ColonEnd());
+        set.add(first);
+        set.add(new QuotedPart("second", "x"));
+        set.add(new NoDNSMXRecord());
+
+        Iterator<Warning> iterator = set.iterator();
+        assertInstanceOf(NoDNSMXRecord.class, iterator.next());
+        assertSame(first, iterator.next());
+        assertInstanceOf(IPV6ColonEnd.class, iterator.next());
+        assertFalse(iterator.hasNext());
+
+        iterator.remove();
+        assertEquals(2, set.size());
+        assertThrows(IllegalStateException.class, iterator::remove);
+    }
+
+    @Test
+    void testAddAllIsAnOr() {
+        WarningSet local = new WarningSet();
+        local.add(new LocalTooLong());
+        local.add(new CustomWarning());
+        QuotedString kept = new QuotedString("kept", "x");
+        local.add(kept);
+
+        WarningSet merged = new WarningSet();
+        merged.add(new QuotedString("other", "x"));
+        assertTrue(merged.addAll((Set<Warning>) local));
+        assertFalse(merged.addAll(local));
+
+        assertEquals(local.mask(), merged.mask());
+        assertEquals(3, merged.size());
+        assertTrue(merged.contains(new CustomWarning()));
+        assertNotSame(kept, merged.iterator().next());
+
+        WarningSet empty = new WarningSet();
+        assertFalse(empty.addAll(new WarningSet()));
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    void testReasonRegistry() {
+        Reason[] reasons = {new DotAtEnd(), new ExpectingATEXT("x"), new ExpectingDomainLiteralClose(),
+                new SpoofEmail(), new ExceptionFound(new Exception())};
+        for (Reason reason : reasons) {
+            ReasonType type = ReasonType.of(reason);
+            assertNotNull(type, reason.getClass().getSimpleName());
+            assertSame(reason.getClass(), type.type());
+            assertEquals(reason.code(), type.code());
+            assertEquals(type.ordinal(), ReasonType.indexOf(reason));
+        }
+        assertNotSame(ReasonType.of(reasons[1]), ReasonType.of(reasons[2]));
+        assertNull(ReasonType.of(new DummyReason()));
+        assertEquals(-1, ReasonType.indexOf(new DummyReason()));
+    }
+}